@@ -0,0 +1,113 @@
+package searching_program.search_product.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import searching_program.search_product.controller.support.CatalogETag;
+import searching_program.search_product.dto.ItemDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.service.catalog.CatalogVersionTracker;
+import searching_program.search_product.service.coalescing.ItemReadCoalescer;
+
+import java.util.Map;
+
+/**
+ * 상품/카테고리 조회에 버전 기반 ETag를 붙이고
+ * If-None-Match 가 일치하면 서비스 호출 전에 304로 응답한다.
+ * 상품 상세는 상세 캐시에서 꺼낸 본문의 version 으로 ETag를 만든다 (본문과 ETag가 같은 스냅샷, DB 조회 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogETagInterceptor implements HandlerInterceptor {
+
+    private final CatalogVersionTracker catalogVersionTracker;
+    private final ItemReadCoalescer itemReadCoalescer;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+
+        CatalogETag catalogETag = handlerMethod.getMethodAnnotation(CatalogETag.class);
+        if (catalogETag == null) {
+            return true;
+        }
+
+        String eTag = resolveETag(catalogETag.value(), request);
+        if (eTag == null) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        // 캐시는 하되 매번 재검증
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    private String resolveETag(CatalogETag.Scope scope, HttpServletRequest request) {
+        return switch (scope) {
+            case CATALOG -> catalogVersionTracker.catalogETag();
+            case CATEGORY -> catalogVersionTracker.categoryETag();
+            case ITEM -> {
+                Long itemId = pathId(request);
+                yield itemId != null ? itemETag(itemId) : null;
+            }
+        };
+    }
+
+    // 없는 상품이면 ETag 없이 핸들러가 오류 응답
+    private String itemETag(Long itemId) {
+        try {
+            ItemDto itemDto = itemReadCoalescer.getItemWithPromotion(itemId);
+            return catalogVersionTracker.itemETag(itemId, itemDto.getVersion());
+        } catch (CustomError e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long pathId(HttpServletRequest request) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || variables.get("id") == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(variables.get("id"));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 압축 시 서버가 ETag를 W/ 로 바꿀 수 있으므로 약한 비교
+    private boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
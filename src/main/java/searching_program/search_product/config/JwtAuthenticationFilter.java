@@ -36,7 +36,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String requestURI = request.getRequestURI();
 
 
-        if ("/api/auth/login".equals(requestURI) || "/login/register".equals(requestURI)) {
+        if ("/api/auth/login".equals(requestURI) || "/login/register".equals(requestURI)
+                || "/actuator/health".equals(requestURI)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -44,7 +45,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             if (jwt != null && jwtTokenUtil.validateToken(jwt)) {
                 String userId = jwtTokenUtil.getUserIdFromToken(jwt);
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(userId);
+                UserDetails userDetails = customUserDetailsService.loadAuthenticatedUser(userId);
 
 
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
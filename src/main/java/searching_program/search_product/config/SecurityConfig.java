@@ -15,6 +15,9 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import searching_program.search_product.config.ratelimit.LoadShedder;
+import searching_program.search_product.config.ratelimit.RateLimitFilter;
+import searching_program.search_product.config.ratelimit.RateLimiter;
 import searching_program.search_product.service.CustomUserDetailsService;
 
 @Configuration
@@ -58,12 +61,17 @@ public class SecurityConfig {
 
 
     @Bean
-    public SecurityFilterChain filter(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
+    public SecurityFilterChain filter(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter,
+                                      RateLimiter rateLimiter, LoadShedder loadShedder) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/login", "/login/register").permitAll()
                         .requestMatchers("/api/auth/logout").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        // 지표(prometheus/metrics)는 내부 구조가 드러나므로 관리자 토큰으로만 수집
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+                        .requestMatchers("/admin/**").hasRole("ADMIN")
                         .requestMatchers("/members/**", "/items/**", "/orders/**", "/payment/**",
                                 "/favorite/**", "/review/**", "/category/**","/bucket/**").permitAll()
                         .anyRequest().authenticated());
@@ -76,6 +84,8 @@ public class SecurityConfig {
 
         http
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                //인증 실패(401) 요청도 제한되도록 JWT 필터 앞에서 요청 제한/부하 차단
+                .addFilterBefore(new RateLimitFilter(rateLimiter, loadShedder, jwtTokenUtil), JwtAuthenticationFilter.class)
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
@@ -4,6 +4,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
 import org.springframework.web.filter.HiddenHttpMethodFilter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -17,10 +18,13 @@ public class WebConfig implements WebMvcConfigurer {
     }
 
     private final StringToLocalDatTimeConverter stringToLocalDatTimeConverter;
+    private final CatalogETagInterceptor catalogETagInterceptor;
 
 
-    public WebConfig(StringToLocalDatTimeConverter stringToLocalDatTimeConverter) {
+    public WebConfig(StringToLocalDatTimeConverter stringToLocalDatTimeConverter,
+                     CatalogETagInterceptor catalogETagInterceptor) {
         this.stringToLocalDatTimeConverter = stringToLocalDatTimeConverter;
+        this.catalogETagInterceptor = catalogETagInterceptor;
     }
 
     @Override
@@ -28,6 +32,13 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addConverter(stringToLocalDatTimeConverter);
     }
 
+    //상품/카테고리 조회 조건부 GET (ETag)
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(catalogETagInterceptor)
+                .addPathPatterns("/items/**", "/category/**");
+    }
+
     //특정 경로에 대한 Get 요청을 처리 하기 위한 방법
 //    @Override
 //    public void addViewControllers(ViewControllerRegistry registry) {
@@ -0,0 +1,73 @@
+package searching_program.search_product.config.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쓰기 직후 일정 시간 동안 해당 회원의 읽기 요청을 primary로 고정한다.
+ * replica 복제 지연 때문에 방금 만든 주문/장바구니가 조회되지 않는 문제 방지 (read-your-writes)
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(@Value("${app.datasource.replica.read-your-writes-window-ms:5000}") long windowMillis) {
+        this.windowNanos = windowMillis * 1_000_000L;
+    }
+
+    /**
+     * 쓰기 발생 기록
+     * 트랜잭션 안에서 호출되면 커밋 시점부터 다시 window를 계산한다.
+     * @param userId 회원 userId
+     */
+    public void markWrite(String userId) {
+        if (userId == null) {
+            return;
+        }
+
+        pin(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pin(userId);
+                }
+            });
+        }
+    }
+
+    public boolean isPinnedToPrimary(String userId) {
+        if (userId == null) {
+            return false;
+        }
+
+        Long deadline = pinnedUntil.get(userId);
+        if (deadline == null) {
+            return false;
+        }
+
+        if (System.nanoTime() - deadline > 0) {
+            pinnedUntil.remove(userId, deadline);
+            return false;
+        }
+        return true;
+    }
+
+    private void pin(String userId) {
+        pinnedUntil.put(userId, System.nanoTime() + windowNanos);
+
+        if (pinnedUntil.size() > CLEANUP_THRESHOLD) {
+            long now = System.nanoTime();
+            pinnedUntil.entrySet().removeIf(entry -> now - entry.getValue() > 0);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package searching_program.search_product.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import searching_program.search_product.config.datasource.ReplicaRoutingDataSource.Replica;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * primary + replica 라우팅 구성
+ * 서비스의 @Transactional(readOnly = true) 조회는 replica로, 쓰기는 primary로 전달된다.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             ReplicaDataSourceProperties replicaProperties,
+                                                             ReadYourWritesTracker readYourWritesTracker,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+
+        List<Replica> replicas = new ArrayList<>();
+        List<ReplicaDataSourceProperties.Node> nodes = replicaProperties.getNodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            replicas.add(new Replica("replica-" + i, createReplica(i, nodes.get(i), dataSourceProperties)));
+        }
+
+        // 라우팅 데이터소스 안쪽 풀은 actuator가 자동으로 찾지 못하므로 직접 hikaricp.* 지표 등록
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            MicrometerMetricsTrackerFactory trackerFactory = new MicrometerMetricsTrackerFactory(registry);
+            primary.setMetricsTrackerFactory(trackerFactory);
+            for (Replica replica : replicas) {
+                ((HikariDataSource) replica.getDataSource()).setMetricsTrackerFactory(trackerFactory);
+            }
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, replicaProperties.getBalance(), readYourWritesTracker);
+    }
+
+    // 실제 커넥션은 첫 쿼리 실행 시점에 획득 -> 그때는 트랜잭션의 readOnly 여부가 결정되어 있음
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicationLagMonitor replicationLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                                       ReplicaDataSourceProperties replicaProperties) {
+        return new ReplicationLagMonitor(replicaRoutingDataSource,
+                replicaProperties.getLagQuery(), replicaProperties.getMaxLagSeconds());
+    }
+
+    private HikariDataSource createReplica(int index, ReplicaDataSourceProperties.Node node, DataSourceProperties primary) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica-" + index);
+        replica.setJdbcUrl(node.getUrl());
+        replica.setUsername(node.getUsername() != null ? node.getUsername() : primary.determineUsername());
+        replica.setPassword(node.getPassword() != null ? node.getPassword() : primary.determinePassword());
+        replica.setMaximumPoolSize(node.getMaximumPoolSize());
+        replica.setReadOnly(true);
+        return replica;
+    }
+}
@@ -0,0 +1,45 @@
+package searching_program.search_product.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(replica) 설정
+ * app.datasource.replica.enabled=true 일 때만 라우팅 데이터소스가 구성된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled;
+
+    // ROUND_ROBIN 또는 LEAST_CONNECTIONS
+    private BalanceStrategy balance = BalanceStrategy.ROUND_ROBIN;
+
+    // 이 값을 넘는 복제 지연이 감지되면 해당 replica는 라우팅 대상에서 제외
+    private long maxLagSeconds = 5;
+
+    // 지연 측정 쿼리 (H2 등 테스트 환경에서는 "SELECT 0" 처럼 숫자 하나를 반환하는 쿼리 사용)
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    private List<Node> nodes = new ArrayList<>();
+
+    public enum BalanceStrategy {
+        ROUND_ROBIN,
+        LEAST_CONNECTIONS
+    }
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username; // 비어 있으면 primary 계정 사용
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
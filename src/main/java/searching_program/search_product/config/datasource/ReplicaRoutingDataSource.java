@@ -0,0 +1,149 @@
+package searching_program.search_product.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import searching_program.search_product.config.datasource.ReplicaDataSourceProperties.BalanceStrategy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * readOnly 트랜잭션은 replica로, 나머지는 primary로 보내는 라우팅 데이터소스
+ * 실제 커넥션 획득 시점에 readOnly 여부를 알 수 있도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final BalanceStrategy balanceStrategy;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas,
+                                    BalanceStrategy balanceStrategy, ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.balanceStrategy = balanceStrategy;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : this.replicas) {
+            targets.put(replica.getKey(), replica.getDataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        if (readYourWritesTracker.isPinnedToPrimary(currentUserId())) {
+            return PRIMARY;
+        }
+
+        Replica replica = balanceStrategy == BalanceStrategy.LEAST_CONNECTIONS
+                ? leastConnections()
+                : roundRobin();
+        return replica != null ? replica.getKey() : PRIMARY;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    private Replica roundRobin() {
+        int size = replicas.size();
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get(Math.floorMod(roundRobin.getAndIncrement(), size));
+            if (candidate.isHealthy()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private Replica leastConnections() {
+        Replica selected = null;
+        int min = Integer.MAX_VALUE;
+        for (Replica candidate : replicas) {
+            if (!candidate.isHealthy()) {
+                continue;
+            }
+            int active = candidate.activeConnections();
+            if (active < min) {
+                min = active;
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+
+    private String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(primary);
+        for (Replica replica : replicas) {
+            closeQuietly(replica.getDataSource());
+        }
+    }
+
+    private void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            hikari.close();
+        }
+    }
+
+    @Getter
+    public static class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        public Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+
+        public void markHealthy(boolean healthy) {
+            if (this.healthy != healthy) {
+                log.warn("replica 상태 변경: key = {}, healthy = {}", key, healthy);
+            }
+            this.healthy = healthy;
+        }
+
+        int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool != null ? pool.getActiveConnections() : 0;
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package searching_program.search_product.config.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import searching_program.search_product.config.datasource.ReplicaRoutingDataSource.Replica;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * replica 복제 지연 감시
+ * 지연이 maxLagSeconds를 넘거나 복제가 멈춘 replica는 정상화될 때까지 라우팅에서 제외한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicationLagMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:2000}")
+    public void checkLag() {
+        for (Replica replica : routingDataSource.getReplicas()) {
+            replica.markHealthy(isWithinLag(replica));
+        }
+    }
+
+    boolean isWithinLag(Replica replica) {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+
+            // 복제 상태 행이 없으면 지연 없음으로 간주
+            if (!rs.next()) {
+                return true;
+            }
+
+            Object lag = rs.getObject(lagColumn(rs));
+            if (lag == null) {
+                log.warn("replica 복제가 중단된 상태입니다: key = {}", replica.getKey());
+                return false;
+            }
+
+            long lagSeconds = ((Number) lag).longValue();
+            if (lagSeconds > maxLagSeconds) {
+                log.warn("replica 복제 지연 초과: key = {}, lag = {}s, max = {}s", replica.getKey(), lagSeconds, maxLagSeconds);
+                return false;
+            }
+            return true;
+        } catch (SQLException | ClassCastException e) {
+            log.error("replica 지연 확인 실패: key = {}, {}", replica.getKey(), e.getMessage());
+            return false;
+        }
+    }
+
+    private int lagColumn(ResultSet rs) {
+        for (String column : new String[]{"Seconds_Behind_Source", "Seconds_Behind_Master"}) {
+            try {
+                return rs.findColumn(column);
+            } catch (SQLException ignored) {
+                // MySQL 버전에 따라 컬럼 이름이 다름
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,34 @@
+package searching_program.search_product.config.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * 메트릭 / 느린 쿼리 로그 설정
+ * 엔드포인트 지연 히스토그램, repository 호출 지표, HikariCP, JVM 지표는 actuator가 등록하고
+ * /actuator/prometheus 로 수집한다 (ADMIN 권한 JWT 필요).
+ */
+@Configuration
+public class MonitoringConfig {
+
+    // 모든 repository에 느린 호출 로거를 등록
+    @Bean
+    public static BeanPostProcessor slowRepositoryInvocationLoggerPostProcessor(Environment environment) {
+        long thresholdMillis = environment.getProperty("app.monitoring.slow-query-threshold-ms", Long.class, 200L);
+        double sampleRate = environment.getProperty("app.monitoring.slow-query-sample-rate", Double.class, 1.0);
+        SlowRepositoryInvocationLogger logger = new SlowRepositoryInvocationLogger(thresholdMillis, sampleRate);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(logger));
+                }
+                return bean;
+            }
+        };
+    }
+}
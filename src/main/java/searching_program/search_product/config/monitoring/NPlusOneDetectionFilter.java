@@ -0,0 +1,55 @@
+package searching_program.search_product.config.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 단위로 SQL을 기록하고, 같은 SQL이 반복되면(N+1) 호출 위치와 함께 경고 로그를 남긴다.
+ * 로그는 sample-rate 비율로만 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "app.monitoring.n-plus-one.enabled", havingValue = "true", matchIfMissing = true)
+public class NPlusOneDetectionFilter extends OncePerRequestFilter {
+
+    private final int repeatThreshold;
+    private final double sampleRate;
+
+    public NPlusOneDetectionFilter(@Value("${app.monitoring.n-plus-one.repeat-threshold:5}") int repeatThreshold,
+                                   @Value("${app.monitoring.n-plus-one.sample-rate:0.1}") double sampleRate) {
+        this.repeatThreshold = repeatThreshold;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (QueryRecorder.isActive() || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        QueryRecorder.start(repeatThreshold);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryRecorder.Recording recording = QueryRecorder.stop();
+            for (Map.Entry<String, String> entry : recording.getRepeatedStatements().entrySet()) {
+                log.warn("N+1 의심: {} {} - 같은 쿼리 {}회 (전체 {}회), 호출 위치 = {}, sql = {}",
+                        request.getMethod(), request.getRequestURI(),
+                        recording.getCounts().get(entry.getKey()), recording.getTotal(),
+                        entry.getValue(), entry.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package searching_program.search_product.config.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 모든 SQL을 QueryRecorder에 전달한다.
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public String inspect(String sql) {
+        QueryRecorder.record(sql);
+        return sql;
+    }
+}
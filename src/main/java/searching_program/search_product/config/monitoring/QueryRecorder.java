@@ -0,0 +1,94 @@
+package searching_program.search_product.config.monitoring;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 현재 스레드(요청 / 테스트)에서 실행된 SQL을 기록한다.
+ * 같은 SQL이 파라미터만 바뀌어 반복되면 N+1 로 본다.
+ */
+public final class QueryRecorder {
+
+    private static final String APP_PACKAGE = "searching_program.search_product.";
+    private static final String MONITORING_PACKAGE = APP_PACKAGE + "config.monitoring.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private QueryRecorder() {
+    }
+
+    public static Recording start(int repeatThreshold) {
+        Recording recording = new Recording(repeatThreshold);
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    public static Recording stop() {
+        Recording recording = CURRENT.get();
+        CURRENT.remove();
+        return recording;
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void record(String sql) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.add(sql);
+        }
+    }
+
+    // 프레임워크 / 모니터링 코드를 건너뛴 첫 번째 애플리케이션 호출 위치
+    private static String findCallSite() {
+        Optional<StackWalker.StackFrame> frame = STACK_WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APP_PACKAGE))
+                .filter(f -> !f.getClassName().startsWith(MONITORING_PACKAGE))
+                .filter(f -> !f.getClassName().contains("$$"))
+                .findFirst());
+        return frame.map(f -> f.getClassName() + "." + f.getMethodName() + ":" + f.getLineNumber())
+                .orElse("unknown");
+    }
+
+    public static class Recording {
+
+        private final int repeatThreshold;
+        private final Map<String, Integer> counts = new LinkedHashMap<>();
+        private final Map<String, String> callSites = new LinkedHashMap<>();
+        private int total;
+
+        private Recording(int repeatThreshold) {
+            this.repeatThreshold = repeatThreshold;
+        }
+
+        private void add(String sql) {
+            total++;
+            int count = counts.merge(sql, 1, Integer::sum);
+            // 임계값에 처음 도달했을 때만 스택을 확인
+            if (count == repeatThreshold) {
+                callSites.put(sql, findCallSite());
+            }
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public Map<String, Integer> getCounts() {
+            return Collections.unmodifiableMap(counts);
+        }
+
+        public int getMaxRepeats() {
+            return counts.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+
+        // 임계값 이상 반복된 SQL -> 호출 위치
+        public Map<String, String> getRepeatedStatements() {
+            return Collections.unmodifiableMap(callSites);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package searching_program.search_product.config.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임계값을 넘는 repository 메서드 호출만 샘플링하여 로그로 남긴다.
+ * 전체 SQL/바인딩 파라미터 로그(hibernate.SQL DEBUG, BasicBinder TRACE) 대체용
+ */
+@Slf4j
+public class SlowRepositoryInvocationLogger implements RepositoryMethodInvocationListener {
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+
+    public SlowRepositoryInvocationLogger(long thresholdMillis, double sampleRate) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        long elapsed = invocation.getDuration(TimeUnit.NANOSECONDS);
+        if (elapsed < thresholdNanos) {
+            return;
+        }
+
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        log.warn("느린 쿼리 감지: {}.{} - {}ms, 결과 = {}",
+                invocation.getRepositoryInterface().getSimpleName(),
+                invocation.getMethod().getName(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed),
+                invocation.getResult() != null ? invocation.getResult().getState() : "UNKNOWN");
+    }
+}
@@ -0,0 +1,120 @@
+package searching_program.search_product.config.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지연 기반 적응형 부하 차단 (CoDel 방식)
+ * - 구간(interval) 동안 가장 빠른 요청의 처리 시간도 목표치를 넘으면 대기열이 쌓인 것으로 본다
+ * - 초과 정도에 따라 우선순위가 낮은 요청부터 거절, 주문/결제/인증은 거절하지 않는다
+ * - 요청이 없던 구간은 0 으로 보아 자동으로 다시 받기 시작한다
+ */
+@Slf4j
+@Component
+public class LoadShedder {
+
+    public enum Priority {
+        CRITICAL, NORMAL, LOW
+    }
+
+    private final long targetNanos;
+    private final long intervalNanos;
+
+    private final AtomicLong windowStart;
+    private final AtomicLong windowMin = new AtomicLong(Long.MAX_VALUE);
+    private volatile long standingLatencyNanos;
+
+    private final Map<Priority, Counter> shed = new EnumMap<>(Priority.class);
+
+    public LoadShedder(MeterRegistry meterRegistry,
+                       @Value("${app.load-shedding.target-latency-ms:200}") long targetLatencyMs,
+                       @Value("${app.load-shedding.interval-ms:1000}") long intervalMs) {
+        this.targetNanos = targetLatencyMs * 1_000_000L;
+        this.intervalNanos = intervalMs * 1_000_000L;
+        this.windowStart = new AtomicLong(System.nanoTime());
+        for (Priority priority : Priority.values()) {
+            shed.put(priority, Counter.builder("http.server.shed")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("http.server.standing.latency", this, s -> s.standingLatencyNanos / 1_000_000.0)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 경로로 우선순위 결정
+     */
+    public Priority classify(String uri) {
+        if (uri.startsWith("/orders") || uri.startsWith("/payment") || uri.startsWith("/api/auth/")
+                || uri.startsWith("/actuator/")) {
+            return Priority.CRITICAL;
+        }
+        if (uri.startsWith("/items/search") || uri.endsWith("/stream")) {
+            return Priority.LOW;
+        }
+        return Priority.NORMAL;
+    }
+
+    public boolean admit(Priority priority) {
+        return admit(priority, System.nanoTime());
+    }
+
+    boolean admit(Priority priority, long nowNanos) {
+        roll(nowNanos);
+        if (priority == Priority.CRITICAL) {
+            return true;
+        }
+
+        long standing = standingLatencyNanos;
+        boolean overloaded = priority == Priority.LOW
+                ? standing > targetNanos
+                : standing > targetNanos * 2;
+        if (overloaded) {
+            shed.get(priority).increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 처리가 끝난 요청의 소요 시간 기록
+     */
+    public void record(long latencyNanos) {
+        record(latencyNanos, System.nanoTime());
+    }
+
+    void record(long latencyNanos, long nowNanos) {
+        windowMin.accumulateAndGet(latencyNanos, Math::min);
+        roll(nowNanos);
+    }
+
+    long getStandingLatencyNanos() {
+        return standingLatencyNanos;
+    }
+
+    private void roll(long nowNanos) {
+        long start = windowStart.get();
+        if (nowNanos - start < intervalNanos || !windowStart.compareAndSet(start, nowNanos)) {
+            return;
+        }
+
+        long min = windowMin.getAndSet(Long.MAX_VALUE);
+        long previous = standingLatencyNanos;
+        standingLatencyNanos = min == Long.MAX_VALUE ? 0 : min;
+
+        if (previous <= targetNanos && standingLatencyNanos > targetNanos) {
+            log.warn("요청 대기 지연 목표 초과, 낮은 우선순위 요청 차단 시작: standing = {}ms", standingLatencyNanos / 1_000_000);
+        } else if (previous > targetNanos && standingLatencyNanos <= targetNanos) {
+            log.info("요청 대기 지연 정상화, 차단 해제: standing = {}ms", standingLatencyNanos / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package searching_program.search_product.config.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import searching_program.search_product.config.JwtTokenUtil;
+import searching_program.search_product.type.ErrorCode;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static searching_program.search_product.type.ErrorCode.SERVICE_OVERLOADED;
+import static searching_program.search_product.type.ErrorCode.TOO_MANY_REQUESTS;
+
+/**
+ * 부하 차단 + 클라이언트별 요청 제한 필터
+ * - 키: JWT 가 유효하면 회원 ID, 아니면 IP
+ * - 제한 초과 429, 과부하 503 (둘 다 Retry-After 포함)
+ * - Bean 으로 등록하지 않고 SecurityConfig 에서 생성 (서블릿 필터 중복 등록 방지)
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final long OVERLOAD_RETRY_AFTER_SECONDS = 1;
+
+    private final RateLimiter rateLimiter;
+    private final LoadShedder loadShedder;
+    private final JwtTokenUtil jwtTokenUtil;
+
+    public RateLimitFilter(RateLimiter rateLimiter, LoadShedder loadShedder, JwtTokenUtil jwtTokenUtil) {
+        this.rateLimiter = rateLimiter;
+        this.loadShedder = loadShedder;
+        this.jwtTokenUtil = jwtTokenUtil;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String uri = request.getRequestURI();
+        if (uri.startsWith("/actuator/")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!loadShedder.admit(loadShedder.classify(uri))) {
+            reject(response, SERVICE_OVERLOADED, OVERLOAD_RETRY_AFTER_SECONDS);
+            return;
+        }
+
+        RateLimiter.Policy policy = rateLimiter.resolve(uri);
+        long waitNanos = rateLimiter.tryAcquire(policy, clientKey(request));
+        if (waitNanos > 0) {
+            log.debug("요청 제한 초과: policy = {}, uri = {}", policy, uri);
+            reject(response, TOO_MANY_REQUESTS, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            loadShedder.record(System.nanoTime() - start);
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String token = request.getHeader("Authorization");
+        if (token != null && token.startsWith("Bearer ")) {
+            try {
+                String jwt = token.substring(7);
+                if (jwtTokenUtil.validateToken(jwt)) {
+                    return "user:" + jwtTokenUtil.getUserIdFromToken(jwt);
+                }
+            } catch (RuntimeException e) {
+                // 잘못된 토큰은 IP 기준으로 제한
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, ErrorCode errorCode, long retryAfterSeconds) throws IOException {
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(errorCode.getMessage());
+    }
+}
@@ -0,0 +1,85 @@
+package searching_program.search_product.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 클라이언트(회원 ID 또는 IP) + 정책 단위 요청 제한
+ * - 버킷은 최대 크기와 유휴 만료가 있는 Caffeine 캐시에 보관 (메모리 상한)
+ */
+@Component
+public class RateLimiter {
+
+    public enum Policy {
+        AUTH, SEARCH, DEFAULT
+    }
+
+    private record Limit(double permitsPerSecond, int burst) {
+    }
+
+    private final Map<Policy, Limit> limits = new EnumMap<>(Policy.class);
+    private final Map<Policy, Counter> rejected = new EnumMap<>(Policy.class);
+    private final Cache<String, GcraTokenBucket> buckets;
+
+    public RateLimiter(MeterRegistry meterRegistry,
+                       @Value("${app.rate-limit.auth.per-second:0.2}") double authRate,
+                       @Value("${app.rate-limit.auth.burst:5}") int authBurst,
+                       @Value("${app.rate-limit.search.per-second:10}") double searchRate,
+                       @Value("${app.rate-limit.search.burst:20}") int searchBurst,
+                       @Value("${app.rate-limit.default.per-second:50}") double defaultRate,
+                       @Value("${app.rate-limit.default.burst:100}") int defaultBurst,
+                       @Value("${app.rate-limit.max-clients:100000}") long maxClients,
+                       @Value("${app.rate-limit.idle-expire-minutes:10}") long idleExpireMinutes) {
+        limits.put(Policy.AUTH, new Limit(authRate, authBurst));
+        limits.put(Policy.SEARCH, new Limit(searchRate, searchBurst));
+        limits.put(Policy.DEFAULT, new Limit(defaultRate, defaultBurst));
+        for (Policy policy : Policy.values()) {
+            rejected.put(policy, Counter.builder("http.server.rate.limited")
+                    .tag("policy", policy.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofMinutes(idleExpireMinutes))
+                .build();
+    }
+
+    /**
+     * 요청 경로로 정책 결정
+     */
+    public Policy resolve(String uri) {
+        if (uri.startsWith("/api/auth/") || uri.equals("/login/register")) {
+            return Policy.AUTH;
+        }
+        if (uri.startsWith("/items/search")) {
+            return Policy.SEARCH;
+        }
+        return Policy.DEFAULT;
+    }
+
+    /**
+     * @return 0 이면 허용, 양수면 Retry-After 로 안내할 대기 나노초
+     */
+    public long tryAcquire(Policy policy, String clientKey) {
+        return tryAcquire(policy, clientKey, System.nanoTime());
+    }
+
+    long tryAcquire(Policy policy, String clientKey, long nowNanos) {
+        Limit limit = limits.get(policy);
+        GcraTokenBucket bucket = buckets.get(policy.name() + ":" + clientKey,
+                key -> new GcraTokenBucket(limit.permitsPerSecond(), limit.burst(), nowNanos));
+        long waitNanos = bucket.tryAcquire(nowNanos);
+        if (waitNanos > 0) {
+            rejected.get(policy).increment();
+        }
+        return waitNanos;
+    }
+}
@@ -0,0 +1,40 @@
+package searching_program.search_product.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import searching_program.search_product.dto.AnalyticsQueryRequest;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.service.analytics.ColumnarAnalyticsService;
+
+@Slf4j
+@RestController
+@RequestMapping("/admin/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final ColumnarAnalyticsService columnarAnalyticsService;
+
+    /**
+     * 결제 수단별 환불률 - http://localhost:8080/admin/analytics/query
+     * {"source": "PAYMENTS", "groupBy": "PAYMENT_METHOD", "hitStatus": "REFUNDED", "sortBy": "HIT_RATE"}
+     */
+    @PostMapping("/query")
+    public ResponseEntity<?> query(@RequestBody AnalyticsQueryRequest request) {
+        try {
+            return ResponseEntity.ok(columnarAnalyticsService.query(request));
+        } catch (CustomError e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷 즉시 갱신
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<String> refresh() {
+        columnarAnalyticsService.refresh();
+        return ResponseEntity.ok("분석 스냅샷 갱신 완료: " + columnarAnalyticsService.snapshotAt());
+    }
+}
@@ -5,6 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import searching_program.search_product.controller.support.JsonArrayStreamer;
 import searching_program.search_product.dto.BucketDto;
 import searching_program.search_product.error.CustomError;
 import searching_program.search_product.service.BucketService;
@@ -19,6 +21,7 @@ import java.util.List;
 public class BucketController {
 
     private final BucketService bucketService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     @GetMapping("/search/AllBucket")
     public ResponseEntity<List<BucketDto>> findAllBuckets() {
@@ -35,6 +38,15 @@ public class BucketController {
         }
     }
 
+    /**
+     * 전체 장바구니 스트리밍 조회 (목록을 메모리에 모으지 않음)
+     * http://localhost:8080/bucket/search/AllBucket/stream
+     */
+    @GetMapping("/search/AllBucket/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllBuckets() {
+        return jsonArrayStreamer.stream(bucketService::streamAllBuckets);
+    }
+
     /**
      * http://localhost:8080/bucket/search/ItemName?itemName=mac
      */
@@ -6,6 +6,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import searching_program.search_product.controller.support.CatalogETag;
+import searching_program.search_product.controller.support.JsonArrayStreamer;
 import searching_program.search_product.dto.CategoryDto;
 import searching_program.search_product.error.CustomError;
 import searching_program.search_product.service.CategoryService;
@@ -19,11 +22,13 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     /**
      * http://localhost:8080/category/categoryName?categoryName=전자기기
      */
     @GetMapping("/categoryName")
+    @CatalogETag(CatalogETag.Scope.CATEGORY)
     public ResponseEntity<CategoryDto> findByName
             (@RequestParam String categoryName) {
         CategoryDto byName = categoryService.findByName(categoryName);
@@ -34,6 +39,7 @@ public class CategoryController {
      *http://localhost:8080/category/categoryAllName
      */
     @GetMapping("/categoryAllName")
+    @CatalogETag(CatalogETag.Scope.CATEGORY)
     public ResponseEntity<List<CategoryDto>> allCategories() {
         try {
             List<CategoryDto> allCategories = categoryService.getAllCategories();
@@ -44,12 +50,22 @@ public class CategoryController {
         }
     }
 
+    /**
+     *http://localhost:8080/category/categoryAllName/stream
+     */
+    @GetMapping("/categoryAllName/stream")
+    @CatalogETag(CatalogETag.Scope.CATEGORY)
+    public ResponseEntity<StreamingResponseBody> streamAllCategories() {
+        return jsonArrayStreamer.stream(categoryService::streamAllCategories);
+    }
+
     /**
      * http://localhost:8080/category/category/1
      * @param id
      * @return
      */
     @GetMapping("/category/{id}")
+    @CatalogETag(CatalogETag.Scope.CATEGORY)
     public ResponseEntity<CategoryDto> getCategoryById(@PathVariable Long id) {
         try {
             CategoryDto categoryById = categoryService.getCategoryById(id);
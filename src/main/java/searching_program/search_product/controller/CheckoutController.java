@@ -0,0 +1,33 @@
+package searching_program.search_product.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import searching_program.search_product.dto.CheckoutResultDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.service.checkout.CheckoutService;
+
+@Slf4j
+@RestController
+@RequestMapping("/checkout")
+@RequiredArgsConstructor
+public class CheckoutController {
+
+    private final CheckoutService checkoutService;
+
+    /**
+     * 선택된 장바구니 항목으로 주문 생성 (결제는 비동기 승인)
+     * http://localhost:8080/checkout?memberId=1
+     */
+    @PostMapping
+    public ResponseEntity<?> checkout(@RequestParam Long memberId) {
+        try {
+            CheckoutResultDto result = checkoutService.checkout(memberId);
+            return ResponseEntity.ok(result);
+        } catch (CustomError e) {
+            log.error("체크아웃 실패: Member ID = {}, 오류 = {}", memberId, e.getMessage());
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+}
@@ -78,4 +78,13 @@ public class FavoriteItemController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("서버 오류가 발생했습니다.");
         }
     }
+
+    /**
+     * 아이템을 즐겨찾기한 회원 수
+     * http://localhost:8080/favorite/items/1/count
+     */
+    @GetMapping("/items/{itemId}/count")
+    public ResponseEntity<Integer> countFavorites(@PathVariable Long itemId) {
+        return ResponseEntity.ok(favoriteService.countFavorites(itemId));
+    }
 }
@@ -0,0 +1,93 @@
+package searching_program.search_product.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import searching_program.search_product.dto.InventoryMovementDto;
+import searching_program.search_product.dto.InventoryStatusDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.service.inventory.InventoryLedgerService;
+
+/**
+ * 재고 원장 관리 - 재고 변경/원장 재작성이 가능하므로 관리자 전용 (/admin/**)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/inventory")
+@RequiredArgsConstructor
+public class InventoryController {
+
+    private final InventoryLedgerService inventoryLedgerService;
+
+    /**
+     * http://localhost:8080/admin/inventory/1
+     */
+    @GetMapping("/{itemId}")
+    public ResponseEntity<?> getStatus(@PathVariable Long itemId) {
+        try {
+            InventoryStatusDto status = inventoryLedgerService.getStatus(itemId);
+            return ResponseEntity.ok(status);
+        } catch (CustomError e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+
+    /**
+     * http://localhost:8080/admin/inventory/1/movements?page=0&size=20
+     */
+    @GetMapping("/{itemId}/movements")
+    public ResponseEntity<Page<InventoryMovementDto>> getMovements(@PathVariable Long itemId,
+                                                                   @RequestParam(defaultValue = "0") int page,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(inventoryLedgerService.getMovements(itemId, page, size));
+    }
+
+    @PostMapping("/{itemId}/restock")
+    public ResponseEntity<?> restock(@PathVariable Long itemId,
+                                     @RequestParam int quantity,
+                                     @RequestParam(required = false) String reason) {
+        try {
+            return ResponseEntity.ok(inventoryLedgerService.restock(itemId, quantity, reason));
+        } catch (CustomError e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/{itemId}/adjust")
+    public ResponseEntity<?> adjust(@PathVariable Long itemId,
+                                    @RequestParam int delta,
+                                    @RequestParam String reason) {
+        try {
+            return ResponseEntity.ok(inventoryLedgerService.adjust(itemId, delta, reason));
+        } catch (CustomError e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 원장 전체를 다시 더해 재고 재작성
+     */
+    @PostMapping("/{itemId}/rebuild")
+    public ResponseEntity<?> rebuild(@PathVariable Long itemId) {
+        try {
+            return ResponseEntity.ok(inventoryLedgerService.rebuild(itemId));
+        } catch (CustomError e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/snapshot")
+    public ResponseEntity<Integer> snapshot() {
+        return ResponseEntity.ok(inventoryLedgerService.snapshot());
+    }
+
+    /**
+     * 원장 도입 전 아이템의 현재 재고를 시작 잔액으로 기록
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<Integer> backfill() {
+        return ResponseEntity.ok(inventoryLedgerService.backfillOpeningBalances());
+    }
+}
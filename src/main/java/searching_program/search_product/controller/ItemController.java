@@ -7,9 +7,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import searching_program.search_product.controller.support.CatalogETag;
 import searching_program.search_product.domain.Item;
+import searching_program.search_product.dto.AutocompleteDto;
 import searching_program.search_product.dto.ItemDto;
+import searching_program.search_product.dto.RelatedItemDto;
+import searching_program.search_product.error.CustomError;
 import searching_program.search_product.service.ItemService;
+import searching_program.search_product.service.coalescing.ItemReadCoalescer;
+import searching_program.search_product.service.search.ItemSearchIndexService;
+import searching_program.search_product.type.SearchMode;
 
 import java.util.List;
 
@@ -19,18 +26,47 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ItemController {
     private final ItemService itemService;
+    private final ItemReadCoalescer itemReadCoalescer;
+    private final ItemSearchIndexService itemSearchIndexService;
 
     @GetMapping("/search")
+    @CatalogETag(CatalogETag.Scope.CATALOG)
     public ResponseEntity<List<ItemDto>> findByItemName
             (@RequestParam String itemName) {
         List<ItemDto> byItemName = itemService.findByItemName(itemName);
         return ResponseEntity.ok(byItemName);
     }
 
+    /**
+     * 아이템 이름 자동완성 (접두사 + 오타 보정, 한글은 자모 단위로 비교)
+     * http://localhost:8080/items/autocomplete?q=갤럭&limit=10
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteDto>> autocomplete(@RequestParam String q,
+                                                              @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(itemSearchIndexService.suggest(q, limit));
+    }
+
+    /**
+     * 여러 검색어 검색 - 맞은 검색어 수, 인기 순 상위 limit 개
+     * http://localhost:8080/items/search/terms?q=삼성,노트북&mode=AND&limit=20
+     */
+    @GetMapping("/search/terms")
+    public ResponseEntity<?> searchTerms(@RequestParam String q,
+                                         @RequestParam(defaultValue = "OR") SearchMode mode,
+                                         @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(itemSearchIndexService.searchTerms(q, mode, limit));
+        } catch (CustomError e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+
     /**
      http://localhost:8080/items/search/multipleName?itemName1=airpods&itemName2=mac
      */
     @GetMapping("/search/multipleName")
+    @CatalogETag(CatalogETag.Scope.CATALOG)
     public ResponseEntity<List<ItemDto>> findByItemNames
             (@RequestParam String itemName1, @RequestParam String itemName2) {
         log.debug("Received itemName1: {}", itemName1);
@@ -44,6 +80,7 @@ public class ItemController {
      *http://localhost:8080/items/search/multiple?itemName=airpods&minPrice=100&maxPrice=1000&categoryName=전자기기&pageNumber=0&pageSize=10
      */
     @GetMapping("/search/multiple")
+    @CatalogETag(CatalogETag.Scope.CATALOG)
     public ResponseEntity<Page<Item>> multipleSearch
             (@RequestParam(required = false) String itemName,
              @RequestParam(required = false, defaultValue = "0") int minPrice,
@@ -69,6 +106,7 @@ public class ItemController {
      *http://localhost:8080/items/search/itemPrice?price=10000
      */
     @GetMapping("/search/itemPrice")
+    @CatalogETag(CatalogETag.Scope.CATALOG)
     public ResponseEntity<Page<ItemDto>> findByPrice
             (@RequestParam(required = false) Integer price,
              @RequestParam(defaultValue = "0") int pageNumber,
@@ -82,6 +120,7 @@ public class ItemController {
      *http://localhost:8080/items/search/itemPriceRange?minPrice=10000&maxPrice=20000&categoryName=전자기기&pageNumber=0&pageSize=10
      */
     @GetMapping("/search/itemPriceRange")
+    @CatalogETag(CatalogETag.Scope.CATALOG)
     public ResponseEntity<Page<ItemDto>> findPriceRange(
             @RequestParam(required = false, defaultValue = "0") int minPrice,
             @RequestParam(required = false, defaultValue = "1000000") int maxPrice,
@@ -92,11 +131,37 @@ public class ItemController {
     }
 
     @GetMapping("/{id}")
+    @CatalogETag(CatalogETag.Scope.ITEM)
     public ResponseEntity<ItemDto> getItem(@PathVariable Long id) {
-        ItemDto itemDto = itemService.getItemWithPromotion(id);
+        ItemDto itemDto = itemReadCoalescer.getItemWithPromotion(id);
         return ResponseEntity.ok(itemDto);
     }
 
+    /**
+     * 함께 구매된 아이템 (메모리 인덱스에서 바로 응답)
+     * http://localhost:8080/items/1/related?limit=10
+     */
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<RelatedItemDto>> getRelatedItems(@PathVariable Long id,
+                                                                @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(itemService.findRelatedItems(id, limit));
+    }
+
+    /**
+     * 아이템별 저재고 알림 기준 변경 (threshold 생략 시 기본값으로 되돌림)
+     * http://localhost:8080/items/1/stock-threshold?threshold=5
+     */
+    @PutMapping("/{id}/stock-threshold")
+    public ResponseEntity<?> updateStockThreshold(@PathVariable Long id,
+                                                  @RequestParam(required = false) Integer threshold) {
+        try {
+            int applied = itemService.updateStockThreshold(id, threshold);
+            return ResponseEntity.ok(applied);
+        } catch (CustomError e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+
     @PostMapping("/notify")
     public ResponseEntity<?> notification
             (@RequestParam(defaultValue = "10") int stock) {
@@ -7,9 +7,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import searching_program.search_product.controller.support.JsonArrayStreamer;
+import searching_program.search_product.dto.FeedItemDto;
 import searching_program.search_product.dto.MemberDto;
 import searching_program.search_product.error.CustomError;
 import searching_program.search_product.service.MemberService;
+import searching_program.search_product.service.recommend.MemberFeedService;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +24,8 @@ import java.util.Optional;
 public class MemberController {
 
     private final MemberService memberService;
+    private final JsonArrayStreamer jsonArrayStreamer;
+    private final MemberFeedService memberFeedService;
 
     /**
      * 모든 회원 조회 메서드
@@ -32,6 +38,25 @@ public class MemberController {
         return ResponseEntity.ok(members);
     }
 
+    /**
+     * 모든 회원 스트리밍 조회 메서드 (관리/리포트용 대용량 조회)
+     * http://localhost:8080/members/stream
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllMembers() {
+        return jsonArrayStreamer.stream(memberService::streamAllMembers);
+    }
+
+    /**
+     * 회원 맞춤 아이템 피드 (주문/즐겨찾기/리뷰 기반)
+     * http://localhost:8080/members/1/feed?limit=20
+     */
+    @GetMapping("/{id}/feed")
+    public ResponseEntity<List<FeedItemDto>> getFeed(@PathVariable Long id,
+                                                     @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(memberFeedService.feed(id, limit));
+    }
+
     /**
      * 특정 ID의 회원 조회 메서드
      * @param id 회원 ID
@@ -5,16 +5,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import searching_program.search_product.domain.Orders;
 import searching_program.search_product.dto.*;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.service.IdempotencyService;
 import searching_program.search_product.service.ItemService;
 import searching_program.search_product.service.OrderService;
 
 
+import java.security.Principal;
 import java.util.List;
 
 @Slf4j
@@ -24,6 +28,7 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
     private final ItemService itemService;
     private final DtoEntityConverter converter;
 
@@ -45,13 +50,21 @@ public class OrderController {
     }
 
     /**
-     * 주문 상태 조회 메서드
+     * 주문 상태 조회 메서드 (폴링용)
      * http://localhost:8080/orders/1/status
+     * - 주문 version 기반 ETag, If-None-Match 가 일치하면 304
      */
     @GetMapping("/{orderId}/status")
-    public ResponseEntity<OrderDto> findStatus(@PathVariable Long orderId) {
-        OrderDto findStatus = orderService.findOrderById(orderId);
-        return ResponseEntity.ok(findStatus);
+    public ResponseEntity<?> findStatus(@PathVariable Long orderId) {
+        try {
+            OrderStatusDto status = orderService.findOrderStatus(orderId);
+            return ResponseEntity.ok()
+                    .eTag("\"order-" + status.getOrderId() + "-" + status.getVersion() + "\"")
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(status);
+        } catch (CustomError e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
     }
 
     /**
@@ -68,18 +81,28 @@ public class OrderController {
 
     /**
      * 주문 생성 메서드
+     * Idempotency-Key 헤더가 있으면 같은 키의 재요청에 처음 생성된 주문을 그대로 반환
      */
-
     @PostMapping("/create")
-    public ResponseEntity<OrderDto> createOrder(@Valid @RequestBody OrderRequest orderRequest) {
+    public ResponseEntity<?> createOrder(@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                         @Valid @RequestBody OrderRequest orderRequest,
+                                         Principal principal) {
         // OrderRequest에서 OrderDto와 MemberDto 추출
         OrderDto orderDto = orderRequest.getOrderDto();
         MemberDto memberDto = orderRequest.getMemberDto();
 
-        // 서비스 호출하여 주문 생성
-        OrderDto createdOrder = orderService.createOrder(orderDto, memberDto);
-
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
+        try {
+            // 서비스 호출하여 주문 생성
+            OrderDto createdOrder = idempotencyKey == null
+                    ? orderService.createOrder(orderDto, memberDto)
+                    : idempotencyService.execute(principal != null ? principal.getName() : null, idempotencyKey, orderDto,
+                            () -> orderService.createOrder(orderDto, memberDto));
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
+        } catch (CustomError e) {
+            log.error("주문 생성 실패: {}", e.getMessage());
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
     }
 
 
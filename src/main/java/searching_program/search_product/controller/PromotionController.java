@@ -5,6 +5,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import searching_program.search_product.controller.support.JsonArrayStreamer;
+import searching_program.search_product.dto.PromotionDto;
+import searching_program.search_product.dto.PromotionQuoteRequest;
 import searching_program.search_product.dto.PromotionRequest;
 import searching_program.search_product.dto.ItemDto;
 import searching_program.search_product.error.CustomError;
@@ -19,16 +23,17 @@ import java.util.List;
 public class PromotionController {
 
     private final PromotionService promotionService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     @PostMapping("/apply")
     public ResponseEntity<String> applyPromotion(@RequestBody PromotionRequest promotionRequest) {
         try {
-            promotionService.applyPromotion(
+            long discountedPrice = promotionService.applyPromotion(
                     promotionRequest.getItemId(),
                     promotionRequest.getCouponCode()
             );
             log.info("아이탬 ID {}에 대해 프로모션이 성공적으로 적용되었습니다.", promotionRequest.getItemId());
-            return ResponseEntity.ok("프로모션이 성공적으로 적용되었습니다");
+            return ResponseEntity.ok("프로모션이 성공적으로 적용되었습니다. 적용 가격: " + discountedPrice);
         } catch (CustomError e) {
             log.error("프로모션 적용 중 오류 발생 : {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
@@ -75,6 +80,33 @@ public class PromotionController {
         }
     }
 
+    /**
+     * 할인 규칙 생성 (아이템/카테고리/전체, 퍼센트/정액, 등급 전용, 쿠폰 필수)
+     */
+    @PostMapping("/rules")
+    public ResponseEntity<?> createRule(@RequestBody PromotionRequest promotionRequest) {
+        try {
+            PromotionDto promotionDto = promotionService.createRule(promotionRequest);
+            return ResponseEntity.status(HttpStatus.CREATED).body(promotionDto);
+        } catch (CustomError e) {
+            log.error("할인 규칙 생성 중 오류 발생 : {}", e.getMessage());
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 장바구니 할인 견적 - 겹치는 규칙과 입력한 쿠폰을 모두 반영한 줄별/전체 금액
+     */
+    @PostMapping("/quote")
+    public ResponseEntity<?> quote(@RequestBody PromotionQuoteRequest quoteRequest) {
+        try {
+            return ResponseEntity.ok(promotionService.quote(quoteRequest));
+        } catch (CustomError e) {
+            log.warn("할인 견적 계산 실패 : {}", e.getMessage());
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/getActivePromotion")
     public ResponseEntity<List<ItemDto>> activePromotions() {
         try {
@@ -88,4 +120,9 @@ public class PromotionController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
         }
     }
+
+    @GetMapping("/getActivePromotion/stream")
+    public ResponseEntity<StreamingResponseBody> streamActivePromotions() {
+        return jsonArrayStreamer.stream(promotionService::streamItemsWithActivePromotions);
+    }
 }
@@ -0,0 +1,52 @@
+package searching_program.search_product.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.service.analytics.SalesRollupService;
+import searching_program.search_product.type.RollupDimension;
+import searching_program.search_product.type.RollupGranularity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Slf4j
+@RestController
+@RequestMapping("/admin/sales")
+@RequiredArgsConstructor
+public class SalesRollupController {
+
+    private final SalesRollupService salesRollupService;
+
+    /**
+     * http://localhost:8080/admin/sales/rollups?granularity=HOUR&dimension=CATEGORY&from=2024-05-01T00:00:00&to=2024-05-02T00:00:00
+     */
+    @GetMapping("/rollups")
+    public ResponseEntity<?> rollups(@RequestParam RollupGranularity granularity,
+                                     @RequestParam(defaultValue = "TOTAL") RollupDimension dimension,
+                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(salesRollupService.findRollups(granularity, dimension, from, to));
+        } catch (CustomError e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 지난 날짜 집계 재구성 - http://localhost:8080/admin/sales/backfill?from=2024-01-01&to=2024-02-01
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<?> backfill(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            return ResponseEntity.ok(salesRollupService.backfill(from, to));
+        } catch (CustomError e) {
+            log.warn("매출 집계 재구성 실패: {}", e.getMessage());
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package searching_program.search_product.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import searching_program.search_product.dto.ShipmentDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.service.shipment.ShipmentIngestionService;
+import searching_program.search_product.service.shipment.ShipmentService;
+
+import java.io.IOException;
+
+@Slf4j
+@RestController
+@RequestMapping("/admin/shipments")
+@RequiredArgsConstructor
+public class ShipmentController {
+
+    private final ShipmentService shipmentService;
+    private final ShipmentIngestionService shipmentIngestionService;
+
+    /**
+     * 송장 등록 - http://localhost:8080/admin/shipments
+     * {"orderId": 1, "trackingNumber": "CJ123456789", "estimatedDeliveryDate": "2024-05-03T18:00:00"}
+     */
+    @PostMapping
+    public ResponseEntity<?> register(@RequestBody ShipmentDto shipmentDto) {
+        try {
+            return ResponseEntity.ok(shipmentService.register(shipmentDto));
+        } catch (CustomError e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{trackingNumber}")
+    public ResponseEntity<?> find(@PathVariable String trackingNumber) {
+        try {
+            return ResponseEntity.ok(shipmentService.findByTrackingNumber(trackingNumber));
+        } catch (CustomError e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 운송사 배송 상태 일괄 수집 (NDJSON, 한 줄에 한 건) - 접수 후 비동기로 반영
+     * {"trackingNumber": "CJ123456789", "status": "IN_TRANSIT", "location": "옥천 HUB", "eventTime": "2024-05-02T09:12:00"}
+     */
+    @PostMapping(value = "/updates", consumes = {"application/x-ndjson", "text/plain"})
+    public ResponseEntity<?> ingest(HttpServletRequest request) throws IOException {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(shipmentIngestionService.ingest(request.getInputStream()));
+        } catch (CustomError e) {
+            log.warn("배송 상태 수집 거부: {}", e.getMessage());
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(e.getMessage());
+        }
+    }
+}
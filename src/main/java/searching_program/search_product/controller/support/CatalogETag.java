@@ -0,0 +1,23 @@
+package searching_program.search_product.controller.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 조건부 GET(ETag / If-None-Match) 대상 핸들러 표시
+ * ITEM 은 경로 변수 {id} 의 상품 버전을 사용
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CatalogETag {
+
+    Scope value();
+
+    enum Scope {
+        ITEM,
+        CATALOG,
+        CATEGORY
+    }
+}
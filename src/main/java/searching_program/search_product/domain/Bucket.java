@@ -14,13 +14,21 @@ import static jakarta.persistence.GenerationType.IDENTITY;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "tblBucket")
+@Table(name = "tblBucket", uniqueConstraints = {
+        @UniqueConstraint(name = Bucket.MEMBER_ITEM_UNIQUE, columnNames = {"member_id", "bucket_id"})
+}) //회원별 같은 아이템 중복 방지
 public class Bucket {
 
+    public static final String MEMBER_ITEM_UNIQUE = "uk_bucket_member_item";
+
     @Id
     @GeneratedValue(strategy = IDENTITY)
     private Long id;
 
+    // 낙관적 락 - 동시 수정 시 나중 커밋이 실패한다
+    @Version
+    private long version;
+
     @ManyToOne
     @JoinColumn(name = "bucket_id")
     private Item item;
@@ -35,10 +43,6 @@ public class Bucket {
     private boolean isSelected;
     private int itemTotalPrice;
 
-    public int calculateItemTotalPrice() {
-        return quantity * item.getItemPrice();
-    }
-
     public void updateQuantity(int newQuantity) {
         if (newQuantity > 0) {
             quantity = newQuantity;
@@ -0,0 +1,24 @@
+package searching_program.search_product.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 인스턴스 간에 공유하는 카탈로그 버전 카운터 (ETag 계산용)
+ * 카테고리 / 프로모션처럼 드문 변경만 올린다. 상품 변경은 Item.version 으로 계산
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tblCatalogVersion")
+public class CatalogVersion {
+
+    @Id
+    @Column(length = 32)
+    private String name;
+
+    private long version;
+}
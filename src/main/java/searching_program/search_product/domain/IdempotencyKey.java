@@ -0,0 +1,45 @@
+package searching_program.search_product.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 생성 멱등성 키
+ * 같은 키로 재요청하면 저장된 응답(response)을 그대로 돌려준다.
+ * response가 null이면 아직 처리 중인 요청
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tblIdempotencyKey", indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expiresAt"))
+public class IdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 회원 id + ":" + 클라이언트 키
+    @Column(nullable = false, unique = true, length = 150)
+    private String idempotencyKey;
+
+    // 요청 본문 해시 (같은 키로 다른 요청을 보내는 경우 감지)
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    private Long orderId;
+
+    @Column(columnDefinition = "TEXT")
+    private String response;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+
+    public boolean isCompleted() {
+        return response != null;
+    }
+}
@@ -0,0 +1,45 @@
+package searching_program.search_product.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import searching_program.search_product.type.MovementType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 이동 원장 (추가만 하고 수정/삭제하지 않는다)
+ * quantity 는 부호가 있는 증감량, shard 는 itemId 기준 분할 번호
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tblInventoryMovement", indexes = {
+        @Index(name = "idx_movement_item", columnList = "itemId, id"),
+        @Index(name = "idx_movement_shard", columnList = "shard, id")
+})
+public class InventoryMovement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long itemId;
+
+    @Column(nullable = false)
+    private int shard;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MovementType type;
+
+    private int quantity;
+
+    private Long orderId;
+
+    private String reason;
+
+    private LocalDateTime createdAt;
+}
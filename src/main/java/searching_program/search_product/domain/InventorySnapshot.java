@@ -0,0 +1,35 @@
+package searching_program.search_product.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아이템별 재고 스냅샷
+ * lastMovementId 까지 반영된 재고 - 이후 원장만 더하면 현재 재고
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tblInventorySnapshot")
+public class InventorySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long itemId;
+
+    private int shard;
+
+    private int stock;
+
+    private long lastMovementId;
+
+    private LocalDateTime updatedAt;
+}
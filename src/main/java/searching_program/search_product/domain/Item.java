@@ -19,6 +19,10 @@ public class Item {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 낙관적 락 - 동시 수정 시 나중 커밋이 실패한다
+    @Version
+    private long version;
+
     private String itemName;
     private String link;
     private String image;
@@ -27,6 +31,7 @@ public class Item {
     private int maxPrice;
     private int myPrice;
     private int stock;
+    private Integer lowStockThreshold; // 저재고 알림 기준 (null 이면 기본값)
     private Double discountedPrice;
 
     @Enumerated(EnumType.STRING)
@@ -3,6 +3,7 @@ package searching_program.search_product.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import searching_program.search_product.type.OrderStatus;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -21,6 +22,10 @@ public class Orders {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 낙관적 락 - 동시 수정 시 나중 커밋이 실패한다
+    @Version
+    private long version;
+
     private double totalAmount;
 
     @ManyToOne
@@ -31,9 +36,12 @@ public class Orders {
     @JoinColumn(name = "item_id")
     private Item item;
 
+    // 주문 목록을 DTO로 바꿀 때 주문마다 조회하지 않도록 IN 절로 묶어서 로딩
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<OrderItem> orderItems = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<OrderStatusHistory> statusHistory = new ArrayList<>();
 
@@ -2,6 +2,8 @@ package searching_program.search_product.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import searching_program.search_product.type.DiscountType;
+import searching_program.search_product.type.Grade;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -18,12 +20,32 @@ public class Promotion {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 아이템 규칙 (null 이면 카테고리 또는 전체 규칙)
     @ManyToOne(fetch = FetchType.LAZY)
     private Item item;
 
+    // 카테고리 전체 규칙
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id")
+    private Category category;
+
+    @Enumerated(EnumType.STRING)
+    private DiscountType discountType; // null 이면 PERCENTAGE (기존 데이터)
+
     private Long discountRate;
+    private Long discountAmount; // FIXED_AMOUNT 일 때 개당 할인 금액
+
+    @Enumerated(EnumType.STRING)
+    private Grade grade; // 특정 등급 전용 (null 이면 모든 회원)
+
+    private Boolean couponRequired; // true 면 쿠폰 코드를 입력해야 적용
+    private Boolean exclusive; // true 면 다른 할인과 중복되지 않고 단독 적용
+    private Integer priority; // 작을수록 먼저 적용
+
     private LocalDateTime startDate;
     private LocalDateTime endDate;
+
+    @Column(unique = true, length = 32)
     private String couponCode; // 고유 번호(쿠폰 코드) 추가
 
 }
@@ -0,0 +1,46 @@
+package searching_program.search_product.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import searching_program.search_product.type.RollupDimension;
+import searching_program.search_product.type.RollupGranularity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간 구간별 매출 집계 (구간 x 기준 x 기준 id 당 한 행)
+ * orderCount 는 해당 아이템/카테고리가 포함된 주문 수
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tblSalesRollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sales_rollup",
+                columnNames = {"granularity", "dimension", "bucketStart", "dimensionId"})
+})
+public class SalesRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupDimension dimension;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    private long dimensionId;
+
+    private long orderCount;
+    private long units;
+    private long revenue;
+}
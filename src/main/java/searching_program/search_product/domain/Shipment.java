@@ -22,7 +22,14 @@ public class Shipment {
     @JoinColumn(name = "order_id")
     private Orders order;
 
+    // 운송사 송장 번호 - 배송 상태 수집 시 이 값으로 찾는다
+    @Column(unique = true, length = 64)
+    private String trackingNumber;
+
     private String curLocation;
     private ShipmentStatus shipmentStatus;
     private LocalDateTime estimatedDeliveryDate;
+
+    // 마지막으로 반영한 운송사 이벤트 시각 (늦게 도착한 이전 이벤트는 무시)
+    private LocalDateTime lastEventAt;
 }
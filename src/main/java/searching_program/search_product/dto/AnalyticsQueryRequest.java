@@ -0,0 +1,28 @@
+package searching_program.search_product.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import searching_program.search_product.type.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 분석 질의 - 필터(상태/등급/결제 수단/기간) 후 그룹별 건수, 금액 합계/평균, hitStatus 비율
+ * 예) 결제 수단별 환불률: source=PAYMENTS, groupBy=PAYMENT_METHOD, hitStatus=REFUNDED
+ * 예) 지출 상위 회원: source=ORDERS, groupBy=MEMBER, statuses=[ORDERED, SHIPPED, DELIVERED], sortBy=SUM
+ */
+@Getter
+@Setter
+public class AnalyticsQueryRequest {
+    private AnalyticsSource source = AnalyticsSource.ORDERS;
+    private AnalyticsDimension groupBy = AnalyticsDimension.NONE;
+    private List<String> statuses;           // source 의 상태 (OrderStatus / PaymentStatus 이름)
+    private List<Grade> grades;
+    private List<PaymentMethod> paymentMethods;
+    private LocalDateTime from;              // 포함
+    private LocalDateTime to;                // 미포함
+    private String hitStatus;                // 이 상태인 행의 비율을 함께 계산
+    private AnalyticsMetric sortBy = AnalyticsMetric.COUNT;
+    private int limit = 20;
+}
@@ -0,0 +1,22 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 분석 질의 결과 - snapshotAt 시점의 스냅샷 기준
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsResultDto {
+    private LocalDateTime snapshotAt;
+    private long scannedRows;
+    private long matchedRows;
+    private int groups;
+    private List<AnalyticsRowDto> rows;
+}
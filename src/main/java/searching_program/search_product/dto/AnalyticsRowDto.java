@@ -0,0 +1,18 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsRowDto {
+    private String key;
+    private long count;
+    private double sum;
+    private double average;
+    private long units;
+    private long hits;
+    private double hitRate;
+}
@@ -0,0 +1,17 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+
+/**
+ * 자동완성 후보 - corrected 가 true 면 오타 보정으로 찾은 후보
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutocompleteDto {
+    private Long itemId;
+    private String itemName;
+    private boolean corrected;
+}
@@ -0,0 +1,18 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+import searching_program.search_product.type.PaymentStatus;
+
+/**
+ * 체크아웃 결과 - 결제는 비동기로 승인되므로 PENDING 상태로 반환
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckoutResultDto {
+    private OrderDto order;
+    private Long paymentId;
+    private PaymentStatus paymentStatus;
+}
@@ -1,46 +1,27 @@
 package searching_program.search_product.dto;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import searching_program.search_product.domain.*;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
- * TODO -> MapStruct 사용 (자동 변환)
- *
+ * 단일 source 변환은 MapStruct(EntityDtoMapper)가 생성한 코드에 위임
+ * 연관 엔티티를 함께 받는 변환만 직접 작성
  */
 @Component
+@RequiredArgsConstructor
 public class DtoEntityConverter {
 
+    private final EntityDtoMapper mapper;
+
     public Member convertToMemberEntity(MemberDto memberDto) {
-        return Member.builder()
-                .id(memberDto.getId())
-                .userId(memberDto.getUserId())
-                .username(memberDto.getUsername())
-                .age(memberDto.getAge())
-                .address(memberDto.getAddress())
-                .grade(memberDto.getGrade())
-                .paymentMethod(memberDto.getPaymentMethod())
-                .memberStatus(memberDto.getMemberStatus())
-                .password(memberDto.getPassword())
-                .build();
+        return mapper.toMemberEntity(memberDto);
     }
 
     public Item convertToItemEntity(ItemDto itemDto) {
-        return Item.builder()
-                .id(itemDto.getId())
-                .discountedPrice(itemDto.getDiscountedPrice())
-                .itemPrice(itemDto.getItemPrice())
-                .lowPrice(itemDto.getLowPrice())
-                .maxPrice(itemDto.getMaxPrice())
-                .image(itemDto.getImage())
-                .itemName(itemDto.getItemName())
-                .link(itemDto.getLink())
-                .stock(itemDto.getStock())
-                .category(convertToCategoryEntity(itemDto.getCategoryDto()))
-                .build();
+        return mapper.toItemEntity(itemDto);
     }
 
     public ItemFavorite convertToFavoriteEntity(ItemFavoriteDto itemFavoriteDto, Member member, Item item) {
@@ -54,6 +35,7 @@ public class DtoEntityConverter {
 
     public Shipment convertToShipmentEntity(ShipmentDto shipmentDto, Orders order) {
         return Shipment.builder()
+                .trackingNumber(shipmentDto.getTrackingNumber())
                 .curLocation(shipmentDto.getCurLocation())
                 .estimatedDeliveryDate(shipmentDto.getEstimatedDeliveryDate())
                 .shipmentStatus(shipmentDto.getShipmentStatus())
@@ -63,15 +45,7 @@ public class DtoEntityConverter {
     }
 
     public Orders convertToOrderEntity(OrderDto orderDto) {
-        return Orders.builder()
-                .orderDate(orderDto.getOrderDate())
-                .status(orderDto.getStatus())
-                .id(orderDto.getId())
-                .totalAmount(orderDto.getTotalAmount())
-                .statusHistory(new ArrayList<>())
-                .createdDate(orderDto.getCreatedDate())
-                .orderItems(new ArrayList<>())
-                .build();
+        return mapper.toOrderEntity(orderDto);
     }
 
     public OrderItem convertToOrderItemEntity(OrderItemDto orderItemDto, Orders order, Item item) {
@@ -105,141 +79,110 @@ public class DtoEntityConverter {
     }
 
     public Category convertToCategoryEntity(CategoryDto categoryDto) {
-        return Category.builder()
-                .id(categoryDto.getId())
-                .name(categoryDto.getName())
-                .build();
+        return mapper.toCategoryEntity(categoryDto);
     }
 
     public CategoryDto convertToCategoryDto(Category category) {
-        return CategoryDto.builder()
-                .id(category.getId())
-                .name(category.getName())
-                .build();
+        return mapper.toCategoryDto(category);
     }
 
 
     public MemberDto convertToMemberDto(Member member) {
-        return MemberDto.builder()
-                .id(member.getId())
-                .userId(member.getUserId())
-                .password(member.getPassword())
-                .username(member.getUsername())
-                .age(member.getAge())
-                .address(member.getAddress())
-                .grade(member.getGrade())
-                .paymentMethod(member.getPaymentMethod())
-                .memberStatus(member.getMemberStatus())
-                .build();
+        return mapper.toMemberDto(member);
     }
 
     public ItemDto convertToItemDto(Item item) {
-        return ItemDto.builder()
-                .id(item.getId())
-                .discountedPrice(item.getDiscountedPrice())
-                .image(item.getImage())
-                .itemName(item.getItemName())
-                .itemPrice(item.getItemPrice())
-                .maxPrice(item.getMaxPrice())
-                .lowPrice(item.getLowPrice())
-                .link(item.getLink())
-                .stock(item.getStock())
-                .categoryDto(convertToCategoryDto(item.getCategory()))
-                .build();
+        return mapper.toItemDto(item);
     }
 
     public ItemFavoriteDto convertToFavoriteDto(ItemFavorite itemFavorite) {
-        return ItemFavoriteDto.builder()
-                .id(itemFavorite.getId())
-                .memberId(itemFavorite.getMember().getId())
-                .itemId(itemFavorite.getItem().getId())
-                .build();
+        return mapper.toFavoriteDto(itemFavorite);
     }
 
     public OrderStatusHistoryDto convertToOrderStatusHistoryDto(OrderStatusHistory history) {
-        return OrderStatusHistoryDto.builder()
-                .status(history.getStatus())
-                .timestamp(history.getTimestamp())
-                .build();
+        return mapper.toOrderStatusHistoryDto(history);
     }
 
     public OrderDto convertToOrderDto(Orders order) {
-        List<OrderItemDto> orderItemDtos = order.getOrderItems().stream()
-                .map(this::convertToOrderItemDto)
-                .collect(Collectors.toList());
-
-        List<OrderStatusHistoryDto> statusHistoryDtos = order.getStatusHistory().stream()
-                .map(this::convertToOrderStatusHistoryDto)
-                .collect(Collectors.toList());
-
-        return OrderDto.builder()
-                .id(order.getId())
-                .totalAmount(order.getTotalAmount())
-                .orderDate(order.getOrderDate())
-                .orderStatusHistories(statusHistoryDtos)
-                .status(order.getStatus())
-                .createdDate(order.getCreatedDate())
-                .userId(order.getMember().getUserId())
-                .orderItems(orderItemDtos)
-                .build();
+        return mapper.toOrderDto(order);
     }
 
     public BucketDto convertToBucketDto(Bucket bucket) {
-        return BucketDto.builder()
-                .id(bucket.getId())
-                .memberId(bucket.getMember().getId())
-                .itemName(bucket.getItem().getItemName())
-                .itemTotalPrice(bucket.calculateItemTotalPrice())
-                .addedAt(bucket.getAddedAt())
-                .quantity(bucket.getQuantity())
-                .build();
+        return mapper.toBucketDto(bucket);
     }
 
     public PaymentDto convertToPaymentDto(Payment payment) {
-        return PaymentDto.builder()
-                .id(payment.getId())
-                .orderId(payment.getOrder().getId())
-                .amount(payment.getAmount())
-                .status(payment.getPaymentStatus())
-                .paymentDate(payment.getPaymentDate())
-                .build();
+        return mapper.toPaymentDto(payment);
     }
 
     public OrderItemDto convertToOrderItemDto(OrderItem orderItem) {
-        return OrderItemDto.builder()
-                .id(orderItem.getId())
-                .quantity(orderItem.getQuantity())
-                .price(orderItem.getPrice())
-                .itemId(orderItem.getItem().getId())
-                .build();
+        return mapper.toOrderItemDto(orderItem);
     }
 
     public PromotionDto convertToPromotionDto(Promotion promotion) {
-        return PromotionDto.builder()
-                .id(promotion.getId())
-                .startDate(promotion.getStartDate())
-                .endDate(promotion.getEndDate())
-                .discountRate(promotion.getDiscountRate())
-                .itemId(promotion.getItem().getId())
-                .build();
+        return mapper.toPromotionDto(promotion);
     }
 
     public ReviewDto convertToReviewDto(Review review) {
-        return ReviewDto.builder()
-                .id(review.getId())
-                .rate(review.getRate())
-                .reviewText(review.getReviewText())
-                .itemId(review.getItem().getId())
-                .userId(review.getMember().getUserId())
-                .build();
+        return mapper.toReviewDto(review);
     }
 
     public ShipmentDto convertToShipmentDto(Shipment shipment) {
-        return ShipmentDto.builder()
-                .shipmentStatus(shipment.getShipmentStatus())
-                .estimatedDeliveryDate(shipment.getEstimatedDeliveryDate())
-                .id(shipment.getId())
-                .curLocation(shipment.getCurLocation())
-                .build();
+        return mapper.toShipmentDto(shipment);
+    }
+
+    public InventoryMovementDto convertToInventoryMovementDto(InventoryMovement movement) {
+        return mapper.toInventoryMovementDto(movement);
+    }
+
+    // ===== 리스트 변환 (stream 없이 생성된 for 문 사용) =====
+
+    public List<ItemDto> convertToItemDtos(List<Item> items) {
+        return mapper.toItemDtos(items);
+    }
+
+    public List<MemberDto> convertToMemberDtos(List<Member> members) {
+        return mapper.toMemberDtos(members);
+    }
+
+    public List<CategoryDto> convertToCategoryDtos(List<Category> categories) {
+        return mapper.toCategoryDtos(categories);
+    }
+
+    public List<BucketDto> convertToBucketDtos(List<Bucket> buckets) {
+        return mapper.toBucketDtos(buckets);
+    }
+
+    public List<PaymentDto> convertToPaymentDtos(List<Payment> payments) {
+        return mapper.toPaymentDtos(payments);
+    }
+
+    public List<ReviewDto> convertToReviewDtos(List<Review> reviews) {
+        return mapper.toReviewDtos(reviews);
+    }
+
+    public List<PromotionDto> convertToPromotionDtos(List<Promotion> promotions) {
+        return mapper.toPromotionDtos(promotions);
+    }
+
+    public List<OrderStatusHistoryDto> convertToOrderStatusHistoryDtos(List<OrderStatusHistory> histories) {
+        return mapper.toOrderStatusHistoryDtos(histories);
+    }
+
+    // ===== 기존 Dto 재사용 =====
+
+    public ItemDto convertToItemDto(Item item, ItemDto target) {
+        mapper.updateItemDto(item, target);
+        return target;
+    }
+
+    public MemberDto convertToMemberDto(Member member, MemberDto target) {
+        mapper.updateMemberDto(member, target);
+        return target;
+    }
+
+    public BucketDto convertToBucketDto(Bucket bucket, BucketDto target) {
+        mapper.updateBucketDto(bucket, target);
+        return target;
     }
 }
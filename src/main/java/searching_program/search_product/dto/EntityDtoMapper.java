@@ -0,0 +1,117 @@
+package searching_program.search_product.dto;
+
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+import searching_program.search_product.domain.*;
+
+import java.util.List;
+
+/**
+ * MapStruct 컴파일 타임 매핑
+ * Lombok 빌더 대신 기본 생성자 + setter로 대상 객체에 바로 쓰고,
+ * 리스트 변환은 크기를 미리 잡은 ArrayList + for 문으로 생성된다.
+ * 연관 엔티티가 필요한 변환(여러 source)은 DtoEntityConverter에 직접 작성
+ */
+@Mapper(componentModel = "spring",
+        builder = @Builder(disableBuilder = true),
+        unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface EntityDtoMapper {
+
+    // ===== Entity -> Dto =====
+
+    @Mapping(target = "lock", source = "accountLock")
+    MemberDto toMemberDto(Member member);
+
+    @Mapping(target = "categoryDto", source = "category")
+    ItemDto toItemDto(Item item);
+
+    CategoryDto toCategoryDto(Category category);
+
+    @Mapping(target = "memberId", source = "member.id")
+    @Mapping(target = "itemId", source = "item.id")
+    ItemFavoriteDto toFavoriteDto(ItemFavorite itemFavorite);
+
+    OrderStatusHistoryDto toOrderStatusHistoryDto(OrderStatusHistory history);
+
+    @Mapping(target = "userId", source = "member.userId")
+    @Mapping(target = "orderStatusHistories", source = "statusHistory")
+    OrderDto toOrderDto(Orders order);
+
+    @Mapping(target = "memberId", source = "member.id")
+    @Mapping(target = "itemName", source = "item.itemName")
+    @Mapping(target = "selected", ignore = true)
+    BucketDto toBucketDto(Bucket bucket);
+
+    @Mapping(target = "orderId", source = "order.id")
+    @Mapping(target = "status", source = "paymentStatus")
+    PaymentDto toPaymentDto(Payment payment);
+
+    @Mapping(target = "itemId", source = "item.id")
+    OrderItemDto toOrderItemDto(OrderItem orderItem);
+
+    @Mapping(target = "itemId", source = "item.id")
+    @Mapping(target = "categoryId", source = "category.id")
+    @Mapping(target = "couponCode", ignore = true)
+    PromotionDto toPromotionDto(Promotion promotion);
+
+    @Mapping(target = "itemId", source = "item.id")
+    @Mapping(target = "userId", source = "member.userId")
+    ReviewDto toReviewDto(Review review);
+
+    @Mapping(target = "itemId", ignore = true)
+    @Mapping(target = "orderId", source = "order.id")
+    ShipmentDto toShipmentDto(Shipment shipment);
+
+    InventoryMovementDto toInventoryMovementDto(InventoryMovement movement);
+
+    // ===== Dto -> Entity =====
+
+    // 잠금 상태는 클라이언트 입력으로 바꾸지 않는다
+    @Mapping(target = "accountLock", ignore = true)
+    Member toMemberEntity(MemberDto memberDto);
+
+    // 카테고리는 조회한 엔티티를 서비스에서 설정 (변환마다 Category를 새로 만들지 않음)
+    // version 은 JPA가 관리
+    @Mapping(target = "category", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Item toItemEntity(ItemDto itemDto);
+
+    Category toCategoryEntity(CategoryDto categoryDto);
+
+    @Mapping(target = "orderItems", ignore = true)
+    Orders toOrderEntity(OrderDto orderDto);
+
+    // ===== 리스트 =====
+
+    List<ItemDto> toItemDtos(List<Item> items);
+
+    List<MemberDto> toMemberDtos(List<Member> members);
+
+    List<CategoryDto> toCategoryDtos(List<Category> categories);
+
+    List<BucketDto> toBucketDtos(List<Bucket> buckets);
+
+    List<PaymentDto> toPaymentDtos(List<Payment> payments);
+
+    List<ReviewDto> toReviewDtos(List<Review> reviews);
+
+    List<PromotionDto> toPromotionDtos(List<Promotion> promotions);
+
+    List<OrderStatusHistoryDto> toOrderStatusHistoryDtos(List<OrderStatusHistory> histories);
+
+    // ===== 기존 Dto에 덮어쓰기 (재사용) =====
+
+    @Mapping(target = "categoryDto", source = "category")
+    void updateItemDto(Item item, @MappingTarget ItemDto target);
+
+    @Mapping(target = "lock", source = "accountLock")
+    void updateMemberDto(Member member, @MappingTarget MemberDto target);
+
+    @Mapping(target = "memberId", source = "member.id")
+    @Mapping(target = "itemName", source = "item.itemName")
+    @Mapping(target = "selected", ignore = true)
+    void updateBucketDto(Bucket bucket, @MappingTarget BucketDto target);
+}
@@ -0,0 +1,18 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+
+/**
+ * 회원 맞춤 피드 항목 - score 는 회원 선호 벡터와 아이템 특성의 내적
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedItemDto {
+    private Long itemId;
+    private String itemName;
+    private int itemPrice;
+    private float score;
+}
@@ -0,0 +1,21 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+import searching_program.search_product.type.MovementType;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryMovementDto {
+    private Long id;
+    private Long itemId;
+    private MovementType type;
+    private int quantity;
+    private Long orderId;
+    private String reason;
+    private LocalDateTime createdAt;
+}
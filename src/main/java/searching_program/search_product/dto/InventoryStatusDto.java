@@ -0,0 +1,20 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+
+/**
+ * 아이템 재고 상태 - 현재 재고(projection)와 원장 기준 재고 비교
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryStatusDto {
+    private Long itemId;
+    private int stock;          // tblItem.stock (projection)
+    private long ledgerStock;   // 스냅샷 + 이후 원장 합계
+    private int snapshotStock;
+    private long snapshotMovementId;
+    private boolean consistent;
+}
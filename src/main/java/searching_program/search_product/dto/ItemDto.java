@@ -1,5 +1,6 @@
 package searching_program.search_product.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import searching_program.search_product.domain.Category;
 
@@ -21,5 +22,9 @@ public class ItemDto {
     private int stock;
     private CategoryDto categoryDto;
     private Double discountedPrice;
+
+    // Item.version - 상세 ETag 계산용 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private long version;
 }
 
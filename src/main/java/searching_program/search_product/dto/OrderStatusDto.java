@@ -0,0 +1,15 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+import searching_program.search_product.type.OrderStatus;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusDto {
+    private Long orderId;
+    private OrderStatus orderStatus;
+    private long version;
+}
@@ -1,6 +1,8 @@
 package searching_program.search_product.dto;
 
 import lombok.*;
+import searching_program.search_product.type.DiscountType;
+import searching_program.search_product.type.Grade;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -13,7 +15,14 @@ import java.time.LocalDateTime;
 public class PromotionDto {
     private Long id;
     private Long itemId;
+    private Long categoryId;
+    private DiscountType discountType;
     private Long discountRate;
+    private Long discountAmount;
+    private Grade grade;
+    private Boolean couponRequired;
+    private Boolean exclusive;
+    private Integer priority;
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private String couponCode; // 고유 번호(쿠폰 코드) 추가
@@ -0,0 +1,20 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 장바구니 할인 견적 결과 (금액은 원 단위)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PromotionQuoteDto {
+    private List<QuoteLineDto> lines;
+    private long subtotal;
+    private long discount;
+    private long total;
+}
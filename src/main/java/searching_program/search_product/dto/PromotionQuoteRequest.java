@@ -0,0 +1,24 @@
+package searching_program.search_product.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 장바구니 할인 견적 요청 - memberId 가 있으면 등급 전용 할인까지 적용
+ */
+@Getter
+@Setter
+public class PromotionQuoteRequest {
+    private Long memberId;
+    private List<String> couponCodes;
+    private List<Line> lines;
+
+    @Getter
+    @Setter
+    public static class Line {
+        private Long itemId;
+        private int quantity;
+    }
+}
@@ -2,6 +2,8 @@ package searching_program.search_product.dto;
 
 import lombok.Getter;
 import lombok.Setter;
+import searching_program.search_product.type.DiscountType;
+import searching_program.search_product.type.Grade;
 
 import java.time.LocalDateTime;
 
@@ -13,4 +15,13 @@ public class PromotionRequest {
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private String couponCode; // 고유 번호(쿠폰 코드) 추가
+
+    // 할인 규칙 생성용 (/promotion/rules)
+    private Long categoryId;         // 카테고리 전체 할인 (itemId 와 함께 쓸 수 없음)
+    private DiscountType discountType; // 기본 PERCENTAGE
+    private Long discountAmount;     // FIXED_AMOUNT 일 때 개당 할인 금액
+    private Grade grade;             // 특정 등급 전용 (null 이면 모든 회원)
+    private boolean couponRequired;
+    private boolean exclusive;
+    private Integer priority;
 }
@@ -0,0 +1,19 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteLineDto {
+    private Long itemId;
+    private int quantity;
+    private long unitPrice;
+    private long discountedUnitPrice;
+    private long lineTotal;
+    private List<Long> appliedPromotionIds; // 적용된 프로모션 (적용 순서)
+}
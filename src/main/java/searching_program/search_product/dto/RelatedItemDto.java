@@ -0,0 +1,16 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+
+/**
+ * 함께 구매된 아이템 - coPurchaseCount 는 같은 주문에 함께 담긴 횟수
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedItemDto {
+    private Long itemId;
+    private int coPurchaseCount;
+}
@@ -0,0 +1,21 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 매출 집계 재구성 결과
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupBackfillDto {
+    private LocalDate from;
+    private LocalDate to;     // 이 날짜 전까지
+    private long orders;
+    private int rows;
+    private long elapsedMillis;
+}
@@ -0,0 +1,23 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+import searching_program.search_product.type.RollupDimension;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간 구간별 매출 집계 한 행 (dimensionId 는 아이템/카테고리 id, TOTAL 이면 0)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesRollupDto {
+    private LocalDateTime bucketStart;
+    private RollupDimension dimension;
+    private long dimensionId;
+    private long orderCount;
+    private long units;
+    private long revenue;
+}
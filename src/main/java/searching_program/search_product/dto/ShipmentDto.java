@@ -13,7 +13,10 @@ public class ShipmentDto {
 
     private Long id;
     private Long itemId;
+    private Long orderId;
+    private String trackingNumber;
     private String curLocation;
     private ShipmentStatus shipmentStatus;
     private LocalDateTime estimatedDeliveryDate;
+    private LocalDateTime lastEventAt;
 }
@@ -0,0 +1,19 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 배송 상태 수집 요청 결과 - 접수만 한 것이며 반영은 비동기로 이루어진다
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShipmentIngestResultDto {
+    private int accepted;
+    private int rejected;
+    private List<String> errors; // 거부된 줄 (앞부분만)
+}
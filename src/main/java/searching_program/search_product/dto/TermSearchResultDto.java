@@ -0,0 +1,17 @@
+package searching_program.search_product.dto;
+
+import lombok.*;
+
+/**
+ * 다중 검색어 결과 - matchedTerms 는 이름에 포함된 검색어 수
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TermSearchResultDto {
+    private Long itemId;
+    private String itemName;
+    private int matchedTerms;
+}
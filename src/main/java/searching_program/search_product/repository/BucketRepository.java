@@ -1,11 +1,19 @@
 package searching_program.search_product.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import searching_program.search_product.domain.Bucket;
 import searching_program.search_product.domain.Item;
 import searching_program.search_product.domain.Member;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface BucketRepository extends JpaRepository<Bucket, Long> {
     List<Bucket> findByItem_ItemName(String itemName);
@@ -13,4 +21,21 @@ public interface BucketRepository extends JpaRepository<Bucket, Long> {
     List<Bucket> findByMemberId(Long memberId);
 
     Bucket findByMemberAndItem(Member member, Item item);
+
+    // 주문한 아이템들을 장바구니에서 한 번에 제거 (주문 트랜잭션 안에서 호출)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Bucket b where b.member.id = :memberId and b.item.id in :itemIds")
+    int deleteByMemberIdAndItemIds(@Param("memberId") Long memberId, @Param("itemIds") Collection<Long> itemIds);
+
+    // 결제 대상(선택된) 장바구니 + 아이템 한 번에 조회
+    @Query("select b from Bucket b join fetch b.item where b.member.id = :memberId and b.isSelected = true")
+    List<Bucket> findSelectedWithItem(@Param("memberId") Long memberId);
+
+    // 전체 장바구니 스트리밍 조회 (JDBC 커서)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select b from Bucket b join fetch b.item i join fetch b.member left join fetch i.category left join fetch i.member")
+    Stream<Bucket> streamAll();
 }
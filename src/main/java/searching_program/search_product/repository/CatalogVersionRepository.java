@@ -0,0 +1,17 @@
+package searching_program.search_product.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import searching_program.search_product.domain.CatalogVersion;
+
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersion, String> {
+
+    // 변경 트랜잭션 안에서 호출 - 롤백되면 버전도 그대로
+    @Transactional
+    @Modifying
+    @Query("update CatalogVersion v set v.version = v.version + 1 where v.name = :name")
+    int increment(@Param("name") String name);
+}
@@ -1,11 +1,24 @@
 package searching_program.search_product.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import searching_program.search_product.domain.Category;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     Optional<Category> findByName (String categoryName);
+
+    // 전체 카테고리 스트리밍 조회 (JDBC 커서)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Category c")
+    Stream<Category> streamAll();
 }
@@ -0,0 +1,34 @@
+package searching_program.search_product.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import searching_program.search_product.domain.IdempotencyKey;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+
+    Optional<IdempotencyKey> findByIdempotencyKey(String idempotencyKey);
+
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    // 만료된 키 하나만 삭제 (그 사이 다른 요청이 다시 등록했으면 0건)
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.id = :id and k.expiresAt < :now")
+    int deleteIfExpired(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 처리 중 상태로 임대 시간이 지난 키를 넘겨받는다 (여러 인스턴스 중 한 곳만 1건)
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyKey k set k.createdAt = :now, k.expiresAt = :expiresAt " +
+            "where k.id = :id and k.response is null and k.createdAt < :staleBefore")
+    int takeOverStale(@Param("id") Long id, @Param("now") LocalDateTime now,
+                      @Param("expiresAt") LocalDateTime expiresAt, @Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -0,0 +1,35 @@
+package searching_program.search_product.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import searching_program.search_product.domain.InventoryMovement;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface InventoryMovementRepository extends JpaRepository<InventoryMovement, Long> {
+
+    Page<InventoryMovement> findByItemIdOrderByIdDesc(Long itemId, Pageable pageable);
+
+    boolean existsByItemId(Long itemId);
+
+    @Query("select coalesce(sum(m.quantity), 0) from InventoryMovement m where m.itemId = :itemId and m.id > :afterId")
+    long sumQuantityAfter(@Param("itemId") Long itemId, @Param("afterId") long afterId);
+
+    @Query("select coalesce(max(m.id), 0) from InventoryMovement m where m.itemId = :itemId")
+    long findLastIdByItemId(@Param("itemId") Long itemId);
+
+    // 샤드 단위 스냅샷 갱신용 - [itemId, 증감 합계, 마지막 원장 id]
+    @Query("select m.itemId, sum(m.quantity), max(m.id) from InventoryMovement m " +
+            "where m.shard = :shard and m.createdAt < :cutoff " +
+            "and m.id > coalesce((select s.lastMovementId from InventorySnapshot s where s.itemId = m.itemId), 0) " +
+            "group by m.itemId")
+    List<Object[]> sumPendingByShard(@Param("shard") int shard, @Param("cutoff") LocalDateTime cutoff);
+
+    // 원장 도입 전 아이템 - [itemId, 현재 재고]
+    @Query("select i.id, i.stock from Item i where not exists (select m.id from InventoryMovement m where m.itemId = i.id)")
+    List<Object[]> findItemsWithoutMovements();
+}
@@ -0,0 +1,11 @@
+package searching_program.search_product.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import searching_program.search_product.domain.InventorySnapshot;
+
+import java.util.Optional;
+
+public interface InventorySnapshotRepository extends JpaRepository<InventorySnapshot, Long> {
+
+    Optional<InventorySnapshot> findByItemId(Long itemId);
+}
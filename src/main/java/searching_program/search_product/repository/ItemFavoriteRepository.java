@@ -1,6 +1,7 @@
 package searching_program.search_product.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import searching_program.search_product.domain.Item;
@@ -14,4 +15,20 @@ public interface ItemFavoriteRepository extends JpaRepository<ItemFavorite, Long
     List<ItemFavorite> findByMemberUserId(String userId);
 
     Optional<ItemFavorite> findByMemberUserIdAndItemId(String userId, Long itemId);
+
+    // 즐겨찾기 인덱스 적재용 - 엔티티 없이 아이템 id 만 조회
+    @Query("select f.item.id from ItemFavorite f where f.member.id = :memberId")
+    List<Long> findItemIdsByMemberId(@Param("memberId") Long memberId);
+
+    // 아이템별 즐겨찾기 수 - [itemId, count]
+    @Query("select f.item.id, count(f) from ItemFavorite f group by f.item.id")
+    List<Object[]> countByItem();
+
+    // 회원 피드용 즐겨찾기 신호 - [itemId, categoryId, itemPrice]
+    @Query("select i.id, i.category.id, i.itemPrice from ItemFavorite f join f.item i where f.member.id = :memberId")
+    List<Object[]> findFavoriteSignals(@Param("memberId") Long memberId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ItemFavorite f where f.member.id = :memberId and f.item.id = :itemId")
+    int deleteByMemberIdAndItemId(@Param("memberId") Long memberId, @Param("itemId") Long itemId);
 }
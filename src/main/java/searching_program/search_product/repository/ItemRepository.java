@@ -2,12 +2,16 @@ package searching_program.search_product.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import searching_program.search_product.domain.Category;
 import searching_program.search_product.domain.Item;
 import org.springframework.data.domain.Pageable;
 import searching_program.search_product.type.ItemStatus;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 /*
@@ -31,4 +35,33 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     List<Item> findByItemNameContainingOrItemNameContaining(String itemName1, String itemName2);
 
     boolean existsByItemName(String itemName);
+
+    // 저재고 점검용 keyset 조회 - [id, itemName, stock, lowStockThreshold]
+    @Query("select i.id, i.itemName, i.stock, i.lowStockThreshold from Item i " +
+            "where i.id > :lastId and i.itemStatus = :status order by i.id")
+    List<Object[]> findStockBatchAfter(@Param("lastId") Long lastId, @Param("status") ItemStatus status, Pageable pageable);
+
+    // 자동완성 인덱스용 - [id, itemName]
+    @Query("select i.id, i.itemName from Item i where i.itemStatus = :status and i.itemName is not null")
+    List<Object[]> findAutocompleteRows(@Param("status") ItemStatus status);
+
+    // 장바구니 가격 계산용 - [id, categoryId, itemPrice]
+    @Query("select i.id, i.category.id, i.itemPrice from Item i where i.id in :ids")
+    List<Object[]> findPricingRows(@Param("ids") Collection<Long> ids);
+
+    // 피드 카탈로그 행렬용 - [id, categoryId, itemPrice, itemName]
+    @Query("select i.id, i.category.id, i.itemPrice, i.itemName from Item i where i.itemStatus = :status order by i.id")
+    List<Object[]> findFeedFeatures(@Param("status") ItemStatus status);
+
+    @Query("select i.id, i.lowStockThreshold from Item i where i.lowStockThreshold is not null")
+    List<Object[]> findStockThresholds();
+
+    // 재고 증감을 한 문장으로 적용 (음수가 되면 0건) - 읽고 쓰는 사이 경합 없음
+    @Modifying(flushAutomatically = true)
+    @Query("update versioned Item i set i.stock = i.stock + :delta where i.id = :id and i.stock + :delta >= 0")
+    int applyStockDelta(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update versioned Item i set i.stock = :stock where i.id = :id")
+    int overwriteStock(@Param("id") Long id, @Param("stock") int stock);
 }
@@ -1,12 +1,18 @@
 package searching_program.search_product.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import searching_program.search_product.domain.Member;
 import searching_program.search_product.dto.MemberDto;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
@@ -17,4 +23,24 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByUserId(String userId);
 
     Optional<Member> findByUserId(String userId);
+
+    // 식별 캐시 적재용 - 권한까지 한 번에 조회
+    @Query("select m from Member m left join fetch m.roles where m.userId = :userId")
+    Optional<Member> findWithRolesByUserId(@Param("userId") String userId);
+
+    // 로그인 비밀번호 비교용 - 해시는 식별 캐시에 두지 않는다
+    @Query("select m.password from Member m where m.userId = :userId")
+    Optional<String> findPasswordByUserId(@Param("userId") String userId);
+
+    // 전체 회원 스트리밍 조회 (JDBC 커서)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select m from Member m")
+    Stream<Member> streamAll();
+
+    // 분석 스냅샷용 회원 차원 - [id, grade, paymentMethod] (id 오름차순)
+    @Query("select m.id, m.grade, m.paymentMethod from Member m order by m.id")
+    List<Object[]> findAnalyticsRows();
 }
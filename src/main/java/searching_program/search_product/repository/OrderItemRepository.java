@@ -1,7 +1,63 @@
 package searching_program.search_product.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import searching_program.search_product.domain.OrderItem;
+import searching_program.search_product.type.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+
+    @Query("select min(oi.order.id) from OrderItem oi")
+    Long findMinOrderId();
+
+    @Query("select max(oi.order.id) from OrderItem oi")
+    Long findMaxOrderId();
+
+    // 동시 구매 집계용 - [orderId, itemId], 주문 id 범위 단위로 읽는다
+    @Query("select oi.order.id, oi.item.id from OrderItem oi " +
+            "where oi.order.id between :from and :to and oi.order.status <> :excluded " +
+            "order by oi.order.id")
+    List<Object[]> findItemPairsInOrderRange(@Param("from") Long from, @Param("to") Long to,
+                                             @Param("excluded") OrderStatus excluded);
+
+    // 아이템별 판매 수량 - [itemId, 수량 합]
+    @Query("select oi.item.id, sum(oi.quantity) from OrderItem oi group by oi.item.id")
+    List<Object[]> findSoldQuantities();
+
+    // 회원 피드용 구매 신호 - [itemId, categoryId, itemPrice, 수량 합]
+    @Query("select i.id, i.category.id, i.itemPrice, sum(oi.quantity) from OrderItem oi join oi.item i " +
+            "where oi.order.member.id = :memberId and oi.order.status <> :excluded " +
+            "group by i.id, i.category.id, i.itemPrice")
+    List<Object[]> findPurchaseSignals(@Param("memberId") Long memberId, @Param("excluded") OrderStatus excluded);
+
+    // 매출 집계용 주문 한 건 - [itemId, categoryId, quantity, price, 주문 시각]
+    @Query("select i.id, i.category.id, oi.quantity, oi.price, coalesce(o.createdDate, o.orderDate) " +
+            "from OrderItem oi join oi.item i join oi.order o where o.id = :orderId")
+    List<Object[]> findSaleLines(@Param("orderId") Long orderId);
+
+    // 매출 재집계용 - [orderId, itemId, categoryId, quantity, price, 주문 시각], 주문 id 범위 단위로 읽는다
+    @Query("select o.id, i.id, i.category.id, oi.quantity, oi.price, coalesce(o.createdDate, o.orderDate) " +
+            "from OrderItem oi join oi.item i join oi.order o " +
+            "where o.id between :from and :to " +
+            "and coalesce(o.createdDate, o.orderDate) >= :since and coalesce(o.createdDate, o.orderDate) < :until " +
+            "order by o.id")
+    List<Object[]> findSaleLinesInOrderRange(@Param("from") Long from, @Param("to") Long to,
+                                             @Param("since") LocalDateTime since,
+                                             @Param("until") LocalDateTime until);
+
+    // 분석 스냅샷용 주문별 수량 합계 - [orderId, sum(quantity)]
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select oi.order.id, sum(oi.quantity) from OrderItem oi group by oi.order.id")
+    Stream<Object[]> streamUnitsPerOrder();
 }
@@ -1,11 +1,18 @@
 package searching_program.search_product.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import searching_program.search_product.domain.Orders;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Orders, Long> {
 
@@ -13,6 +20,26 @@ public interface OrderRepository extends JpaRepository<Orders, Long> {
 
     Page<Orders> findByMemberUserId (String userId, Pageable pageable);
 
+    Page<Orders> findByMember_Id(Long memberId, Pageable pageable);
+
     Page<Orders> findByItem_ItemNameContaining(String itemName, Pageable pageable);
 
+    // 기간 내 주문 id 범위 - [min, max] 한 행 (주문이 없으면 null)
+    @Query("select min(o.id), max(o.id) from Orders o " +
+            "where coalesce(o.createdDate, o.orderDate) >= :since and coalesce(o.createdDate, o.orderDate) < :until")
+    List<Object[]> findIdRangeOrderedBetween(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until);
+
+    // 주문 상태 캐시 적재용 - [status, version]
+    @Query("select o.status, o.version from Orders o where o.id = :orderId")
+    List<Object[]> findStatusRow(@Param("orderId") Long orderId);
+
+    // 분석 스냅샷용 스트리밍 조회 - [id, memberId, status, totalAmount, 주문 시각] (id 오름차순)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o.id, o.member.id, o.status, o.totalAmount, coalesce(o.createdDate, o.orderDate) " +
+            "from Orders o order by o.id")
+    Stream<Object[]> streamAnalyticsRows();
+
 }
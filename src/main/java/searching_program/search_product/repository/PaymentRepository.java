@@ -1,10 +1,37 @@
 package searching_program.search_product.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import searching_program.search_product.domain.Payment;
+import searching_program.search_product.type.PaymentStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     List<Payment> findByMember_Id(Long memberId);
+
+    // 오래된 승인 대기 결제 - [paymentId, orderId] (id 오름차순)
+    @Query("select p.id, p.order.id from Payment p where p.paymentStatus = :status and p.paymentDate < :before order by p.id")
+    List<Object[]> findStaleRows(@Param("status") PaymentStatus status, @Param("before") LocalDateTime before, Pageable pageable);
+
+    // 상태가 그대로일 때만 변경 (그 사이 다른 쪽에서 바꿨으면 0건), 이후 조회는 DB에서 다시 읽는다
+    @Modifying(clearAutomatically = true)
+    @Query("update Payment p set p.paymentStatus = :to where p.id = :id and p.paymentStatus = :from")
+    int updateStatusIf(@Param("id") Long id, @Param("from") PaymentStatus from, @Param("to") PaymentStatus to);
+
+    // 분석 스냅샷용 스트리밍 조회 - [id, memberId, paymentStatus, amount, paymentDate] (id 오름차순)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p.id, p.member.id, p.paymentStatus, p.amount, p.paymentDate from Payment p order by p.id")
+    Stream<Object[]> streamAnalyticsRows();
 }
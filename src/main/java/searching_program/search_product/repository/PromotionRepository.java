@@ -1,7 +1,10 @@
 package searching_program.search_product.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import searching_program.search_product.domain.Item;
 import searching_program.search_product.domain.Promotion;
@@ -9,6 +12,7 @@ import searching_program.search_product.domain.Promotion;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PromotionRepository extends JpaRepository<Promotion, Long> {
 
@@ -16,6 +20,37 @@ public interface PromotionRepository extends JpaRepository<Promotion, Long> {
     @Query("SELECT p.item FROM Promotion p WHERE :currentDate BETWEEN p.startDate AND p.endDate")
     List<Item> findItemsWithActivePromotions(@Param("currentDate") LocalDateTime currentDate);
 
+    // 활성 프로모션 아이템 스트리밍 조회 (JDBC 커서)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i FROM Promotion p JOIN p.item i LEFT JOIN FETCH i.category LEFT JOIN FETCH i.member " +
+            "WHERE :currentDate BETWEEN p.startDate AND p.endDate")
+    Stream<Item> streamItemsWithActivePromotions(@Param("currentDate") LocalDateTime currentDate);
+
+    // 아직 끝나지 않은 프로모션의 시작/종료 시각 (ETag 버전 갱신용)
+    @Query("SELECT p.startDate, p.endDate FROM Promotion p WHERE p.endDate > :now")
+    List<Object[]> findScheduleEndingAfter(@Param("now") LocalDateTime now);
+
+    // 이미 지난 가장 최근 시작/종료 시각 (인스턴스마다 같은 ETag를 만들기 위해 DB 기준으로 계산)
+    @Query("SELECT max(p.startDate) FROM Promotion p WHERE p.startDate <= :now")
+    LocalDateTime findLatestStartUntil(@Param("now") LocalDateTime now);
+
+    @Query("SELECT max(p.endDate) FROM Promotion p WHERE p.endDate <= :now")
+    LocalDateTime findLatestEndUntil(@Param("now") LocalDateTime now);
+
+    // 규칙 엔진 컴파일용 - [id, itemId, categoryId, discountType, discountRate, discountAmount, grade,
+    //                     couponCode, couponRequired, exclusive, priority, startDate, endDate]
+    @Query("SELECT p.id, p.item.id, p.category.id, p.discountType, p.discountRate, p.discountAmount, p.grade, " +
+            "p.couponCode, p.couponRequired, p.exclusive, p.priority, p.startDate, p.endDate " +
+            "FROM Promotion p WHERE p.endDate >= :now")
+    List<Object[]> findRuleRowsEndingAfter(@Param("now") LocalDateTime now);
+
+    // 쿠폰 코드는 유니크 인덱스로 조회
+    Optional<Promotion> findByCouponCode(String couponCode);
+    boolean existsByCouponCode(String couponCode);
+
     boolean existsByItemAndStartDateLessThanEqualAndEndDateGreaterThanEqual(Item item, LocalDateTime endDate, LocalDateTime startDate);
     Promotion findFirstByItemAndStartDateLessThanEqualAndEndDateGreaterThanEqual(Item item, LocalDateTime startDate, LocalDateTime endDate);
     List<Promotion> findByItem(Item item);
@@ -1,6 +1,8 @@
 package searching_program.search_product.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import searching_program.search_product.domain.Item;
 import searching_program.search_product.domain.Review;
 import searching_program.search_product.type.ItemStatus;
@@ -13,4 +15,8 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Optional<Review> findByMemberIdAndItemId(Long memberId, Long itemId);
 
     List<Review> findByItemId(Long itemId);
+
+    // 회원 피드용 리뷰 신호 - [itemId, categoryId, itemPrice, rate]
+    @Query("select i.id, i.category.id, i.itemPrice, r.rate from Review r join r.item i where r.member.id = :memberId")
+    List<Object[]> findReviewSignals(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,46 @@
+package searching_program.search_product.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import searching_program.search_product.domain.SalesRollup;
+import searching_program.search_product.type.RollupDimension;
+import searching_program.search_product.type.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long> {
+
+    // 기존 행에 증분 반영 - 0 이면 아직 행이 없는 것
+    @Modifying
+    @Query("update SalesRollup r set r.orderCount = r.orderCount + :orders, r.units = r.units + :units, " +
+            "r.revenue = r.revenue + :revenue " +
+            "where r.granularity = :granularity and r.dimension = :dimension " +
+            "and r.bucketStart = :bucketStart and r.dimensionId = :dimensionId")
+    int addTo(@Param("granularity") RollupGranularity granularity,
+              @Param("dimension") RollupDimension dimension,
+              @Param("bucketStart") LocalDateTime bucketStart,
+              @Param("dimensionId") long dimensionId,
+              @Param("orders") long orders,
+              @Param("units") long units,
+              @Param("revenue") long revenue);
+
+    @Query("select r from SalesRollup r where r.granularity = :granularity and r.dimension = :dimension " +
+            "and r.bucketStart >= :from and r.bucketStart < :to order by r.bucketStart, r.dimensionId")
+    List<SalesRollup> findRange(@Param("granularity") RollupGranularity granularity,
+                                @Param("dimension") RollupDimension dimension,
+                                @Param("from") LocalDateTime from,
+                                @Param("to") LocalDateTime to);
+
+    // 보관 기간이 지난 세밀한 구간 정리
+    @Modifying
+    @Query("delete from SalesRollup r where r.granularity = :granularity and r.bucketStart < :before")
+    int deleteOlderThan(@Param("granularity") RollupGranularity granularity, @Param("before") LocalDateTime before);
+
+    // 재집계 전 기간 비우기
+    @Modifying
+    @Query("delete from SalesRollup r where r.bucketStart >= :from and r.bucketStart < :to")
+    int deleteRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -1,11 +1,24 @@
 package searching_program.search_product.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import searching_program.search_product.domain.Orders;
 import searching_program.search_product.domain.Shipment;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ShipmentRepository extends JpaRepository<Shipment, Long> {
     Optional<Shipment> findByOrder(Orders order);
+
+    Optional<Shipment> findByTrackingNumber(String trackingNumber);
+
+    boolean existsByTrackingNumber(String trackingNumber);
+
+    // 배송 상태 수집 배치용 현재 상태 - [id, trackingNumber, orderId, shipmentStatus, lastEventAt, orderStatus]
+    @Query("select s.id, s.trackingNumber, o.id, s.shipmentStatus, s.lastEventAt, o.status " +
+            "from Shipment s left join s.order o where s.trackingNumber in :trackingNumbers")
+    List<Object[]> findIngestionRows(@Param("trackingNumbers") Collection<String> trackingNumbers);
 }
@@ -1,9 +1,12 @@
 package searching_program.search_product.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import searching_program.search_product.config.datasource.ReadYourWritesTracker;
 import searching_program.search_product.domain.Bucket;
 import searching_program.search_product.domain.Item;
 import searching_program.search_product.domain.Member;
@@ -13,13 +16,17 @@ import searching_program.search_product.error.CustomError;
 import searching_program.search_product.repository.BucketRepository;
 import searching_program.search_product.repository.ItemRepository;
 import searching_program.search_product.repository.MemberRepository;
+import searching_program.search_product.service.pricing.PricingService;
+import searching_program.search_product.service.retry.OptimisticLockRetryExecutor;
+import searching_program.search_product.service.support.DuplicateKeys;
+import searching_program.search_product.service.support.EntityStreams;
 import searching_program.search_product.type.ErrorCode;
 import searching_program.search_product.type.ItemStatus;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import static searching_program.search_product.type.ErrorCode.*;
 import static searching_program.search_product.type.ItemStatus.AVAILABLE;
@@ -33,6 +40,10 @@ public class BucketService {
     private final DtoEntityConverter converter;
     private final ItemRepository itemRepository;
     private final MemberRepository memberRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final EntityManager entityManager;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final PricingService pricingService;
 
     @Transactional(readOnly = true)
     public List<BucketDto> getAllBuckets() {
@@ -42,9 +53,17 @@ public class BucketService {
             return Collections.emptyList();
         }
 
-        return findAllBuckets.stream()
-                .map(converter::convertToBucketDto)
-                .collect(Collectors.toList());
+        return converter.convertToBucketDtos(findAllBuckets);
+    }
+
+    /**
+     * 전체 장바구니 스트리밍 조회 (DTO 하나를 재사용하며 sink로 바로 전달)
+     */
+    @Transactional(readOnly = true)
+    public int streamAllBuckets(Consumer<BucketDto> sink) {
+        BucketDto bucketDto = new BucketDto();
+        return EntityStreams.forEach(bucketRepository.streamAll(), entityManager,
+                bucket -> converter.convertToBucketDto(bucket, bucketDto), sink);
     }
 
     @Transactional(readOnly = true)
@@ -70,8 +89,28 @@ public class BucketService {
     }
 
 
-    @Transactional
+    /**
+     * 장바구니 담기
+     * - 수량 동시 갱신(version 충돌) 또는 같은 아이템 동시 insert((회원, 아이템) 유니크 제약) 시 재시도
+     * - 그 밖의 무결성 위반(외래 키 등)은 재시도하지 않는다
+     */
     public BucketDto addItemToBucket(Long memberId, String itemName, int quantity) {
+        try {
+            return retryExecutor.execute("bucket.add", BucketService::isDuplicateBucket,
+                    () -> doAddItemToBucket(memberId, itemName, quantity));
+        } catch (DataIntegrityViolationException e) {
+            log.error("장바구니 저장 실패: Member ID = {}, 아이템 = {}, {}", memberId, itemName, e.getMostSpecificCause().getMessage());
+            throw new CustomError(INVALID_INPUT_VALUE);
+        }
+    }
+
+    // 같은 회원이 같은 아이템을 동시에 처음 담은 경우만 (다시 읽으면 기존 항목 수량 갱신으로 처리됨)
+    static boolean isDuplicateBucket(RuntimeException e) {
+        return e instanceof DataIntegrityViolationException
+                && DuplicateKeys.isViolationOf(e, Bucket.MEMBER_ITEM_UNIQUE);
+    }
+
+    private BucketDto doAddItemToBucket(Long memberId, String itemName, int quantity) {
         if (memberId == null) {
             throw new CustomError(INVALID_INPUT_VALUE);
         }
@@ -91,6 +130,10 @@ public class BucketService {
 
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new CustomError(USER_NOT_FOUND));
+        readYourWritesTracker.markWrite(member.getUserId());
+
+        // 담는 시점의 판매 가격 (프로모션 반영)
+        int price = pricingService.effectivePrice(item);
 
         // 기존에 해당 회원의 장바구니에 같은 아이템이 있는지 확인
         Bucket existingBucket = bucketRepository.findByMemberAndItem(member, item);
@@ -98,7 +141,7 @@ public class BucketService {
             // 기존 장바구니 항목이 있을 경우 수량과 총 가격을 업데이트
             int newQuantity = existingBucket.getQuantity() + quantity;
             existingBucket.setQuantity(newQuantity);
-            existingBucket.setItemTotalPrice(item.getItemPrice() * newQuantity); // 총 가격 업데이트
+            existingBucket.setItemTotalPrice(price * newQuantity); // 총 가격 업데이트
             bucketRepository.save(existingBucket); // 변경 사항 저장
             return converter.convertToBucketDto(existingBucket);
         } else {
@@ -108,7 +151,7 @@ public class BucketService {
                     .item(item)
                     .quantity(quantity)
                     .isSelected(true)
-                    .itemTotalPrice(item.getItemPrice() * quantity)
+                    .itemTotalPrice(price * quantity)
                     .build();
 
             bucketRepository.save(bucket);
@@ -128,8 +171,12 @@ public class BucketService {
                 throw new CustomError(OUT_OF_STOCK);
             }
 
-            if (item.getItemPrice() != bucket.getItemTotalPrice() / bucket.getQuantity()) {
-                log.error("가격 변경 감지: 아이템 ID = {}, 기존 가격 = {}, 현재 가격 = {}", item.getId(), bucket.getItemTotalPrice() / bucket.getQuantity(), item.getItemPrice());
+            // 담을 때 금액보다 비싸졌을 때만 막는다
+            // 저장된 금액은 담은 시점 기준으로 유지 (할인 중 금액으로 덮어쓰면 할인 종료 후 가격 인상으로 오인)
+            // 결제 금액은 주문 시점의 판매 가격으로 다시 계산한다
+            int currentTotal = pricingService.effectivePrice(item) * bucket.getQuantity();
+            if (currentTotal > bucket.getItemTotalPrice()) {
+                log.error("가격 변경 감지: 아이템 ID = {}, 장바구니 금액 = {}, 현재 금액 = {}", item.getId(), bucket.getItemTotalPrice(), currentTotal);
                 throw new CustomError(ErrorCode.ITEM_PRICE_CHANGED);
             }
 
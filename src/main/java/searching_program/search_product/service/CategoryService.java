@@ -1,5 +1,6 @@
 package searching_program.search_product.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -9,11 +10,13 @@ import searching_program.search_product.dto.CategoryDto;
 import searching_program.search_product.dto.DtoEntityConverter;
 import searching_program.search_product.error.CustomError;
 import searching_program.search_product.repository.CategoryRepository;
+import searching_program.search_product.service.catalog.CatalogVersionTracker;
+import searching_program.search_product.service.support.EntityStreams;
 import searching_program.search_product.type.ErrorCode;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -21,6 +24,8 @@ import java.util.stream.Collectors;
 public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final DtoEntityConverter converter;
+    private final EntityManager entityManager;
+    private final CatalogVersionTracker catalogVersionTracker;
 
     @Transactional
     public CategoryDto createCategory(CategoryDto categoryDto) {
@@ -32,6 +37,7 @@ public class CategoryService {
 
         Category category = converter.convertToCategoryEntity(categoryDto);
         Category savedCategory = categoryRepository.save(category);
+        catalogVersionTracker.categoryChanged();
         log.info("카테고리 생성 성공: 이름 = {}", savedCategory.getName());
 
         return converter.convertToCategoryDto(savedCategory);
@@ -44,12 +50,14 @@ public class CategoryService {
 
         category.setName(categoryDto.getName());
         Category updatedCategory = categoryRepository.save(category);
+        catalogVersionTracker.categoryChanged();
         return converter.convertToCategoryDto(updatedCategory);
     }
 
     @Transactional
     public void deleteCategory(Long id) {
         categoryRepository.deleteById(id);
+        catalogVersionTracker.categoryChanged();
     }
 
     @Transactional(readOnly = true)
@@ -63,9 +71,13 @@ public class CategoryService {
 
     @Transactional(readOnly = true)
     public List<CategoryDto> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(converter::convertToCategoryDto)
-                .collect(Collectors.toList());
+        return converter.convertToCategoryDtos(categoryRepository.findAll());
+    }
+
+    @Transactional(readOnly = true)
+    public int streamAllCategories(Consumer<CategoryDto> sink) {
+        return EntityStreams.forEach(categoryRepository.streamAll(), entityManager,
+                converter::convertToCategoryDto, sink);
     }
 
     @Transactional(readOnly = true)
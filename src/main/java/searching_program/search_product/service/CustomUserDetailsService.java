@@ -15,8 +15,9 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import searching_program.search_product.domain.Member;
 import searching_program.search_product.repository.MemberRepository;
+import searching_program.search_product.service.member.MemberIdentity;
+import searching_program.search_product.service.member.MemberIdentityCache;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -26,28 +27,51 @@ import java.util.stream.Collectors;
 @Slf4j
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
+    private final MemberIdentityCache memberIdentityCache;
     private final MemberRepository memberRepository;
 
     @Autowired
-    public CustomUserDetailsService(MemberRepository memberRepository) {
+    public CustomUserDetailsService(MemberIdentityCache memberIdentityCache, MemberRepository memberRepository) {
+        this.memberIdentityCache = memberIdentityCache;
         this.memberRepository = memberRepository;
     }
 
+    /**
+     * 비밀번호 인증(AuthenticationManager)용 - 비밀번호 해시는 캐시하지 않으므로 따로 조회
+     */
     @Override
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
-        Member member = memberRepository.findByUserId(userId)
+        String passwordHash = memberRepository.findPasswordByUserId(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("회원을 찾을 수 없습니다."));
-        log.info("로그인 시 로드된 비밀번호(해시값): {}", member.getPassword());
+        return toUserDetails(findIdentity(userId), passwordHash);
+    }
+
+    /**
+     * JWT 인증된 요청마다 호출되므로 회원 식별 캐시에서만 조회 (비밀번호 없음)
+     */
+    public UserDetails loadAuthenticatedUser(String userId) throws UsernameNotFoundException {
+        return toUserDetails(findIdentity(userId), "");
+    }
+
+    private MemberIdentity findIdentity(String userId) {
+        return memberIdentityCache.findByUserId(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("회원을 찾을 수 없습니다."));
+    }
 
+    private UserDetails toUserDetails(MemberIdentity member, String password) {
         return new org.springframework.security.core.userdetails.User(
-                member.getUserId(),
-                member.getPassword(),
+                member.userId(),
+                password,
+                true,
+                true,
+                true,
+                !member.locked(),
                 getAuthorities(member));
     }
 
-    private Collection<? extends GrantedAuthority> getAuthorities(Member member) {
-        return member.getRoles().stream()
+    private Collection<? extends GrantedAuthority> getAuthorities(MemberIdentity member) {
+        return member.roles().stream()
                 .map(role -> new SimpleGrantedAuthority(role))
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
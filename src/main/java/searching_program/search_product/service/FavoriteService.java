@@ -6,15 +6,23 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import searching_program.search_product.domain.Item;
 import searching_program.search_product.domain.ItemFavorite;
-import searching_program.search_product.domain.Member;
 import searching_program.search_product.dto.DtoEntityConverter;
 import searching_program.search_product.dto.ItemDto;
 import searching_program.search_product.repository.ItemFavoriteRepository;
 import searching_program.search_product.repository.ItemRepository;
 import searching_program.search_product.repository.MemberRepository;
+import searching_program.search_product.service.favorite.FavoriteIndex;
+import searching_program.search_product.service.member.MemberIdentity;
+import searching_program.search_product.service.member.MemberIdentityCache;
+import searching_program.search_product.service.recommend.MemberFeedService;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,42 +33,77 @@ public class FavoriteService {
     private final ItemRepository itemRepository;
     private final ItemFavoriteRepository itemFavoriteRepository;
     private final DtoEntityConverter converter;
+    private final MemberIdentityCache memberIdentityCache;
+    private final FavoriteIndex favoriteIndex;
+    private final MemberFeedService memberFeedService;
 
     @Transactional
     public void addFavorites(String userId, Long itemId) {
-        Member member = memberRepository.findByUserId(userId)
+        // 회원 엔티티는 연관관계 설정에만 쓰므로 캐시된 id 로 프록시만 얻는다
+        MemberIdentity identity = memberIdentityCache.findByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
 
-        // 중복 확인
-        Optional<ItemFavorite> existingFavorite = itemFavoriteRepository.findByMemberUserIdAndItemId(userId, itemId);
-        if (existingFavorite.isPresent()) {
+        // 중복 확인 - 메모리 인덱스에서 확인 (유니크 제약이 최종 방어선)
+        if (favoriteIndex.contains(identity.id(), itemId)) {
             throw new IllegalArgumentException("이미 즐겨찾기에 추가된 아이템입니다.");
         }
 
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new IllegalArgumentException("아이템 정보를 찾을 수 없습니다."));
+        if (!itemRepository.existsById(itemId)) {
+            throw new IllegalArgumentException("아이템 정보를 찾을 수 없습니다.");
+        }
 
         ItemFavorite itemFavorite = ItemFavorite.builder()
-                .member(member)
-                .item(item)
+                .member(memberRepository.getReferenceById(identity.id()))
+                .item(itemRepository.getReferenceById(itemId))
                 .build();
         itemFavoriteRepository.save(itemFavorite);
+        favoriteIndex.added(identity.id(), itemId);
+        memberFeedService.invalidate(identity.id());
     }
 
     @Transactional
     public void removeFavorites(String userId, Long itemId) {
-        ItemFavorite itemFavorite = itemFavoriteRepository.findByMemberUserIdAndItemId(userId, itemId)
+        Long memberId = memberIdentityCache.findByUserId(userId)
+                .map(MemberIdentity::id)
+                .filter(id -> favoriteIndex.contains(id, itemId))
                 .orElseThrow(() -> new IllegalArgumentException("해당 아이템은 즐겨찾기 목록에 존재하지 않습니다. userId: " + userId + ", itemId: " + itemId));
 
-        itemFavoriteRepository.delete(itemFavorite);
+        itemFavoriteRepository.deleteByMemberIdAndItemId(memberId, itemId);
+        favoriteIndex.removed(memberId, itemId);
+        memberFeedService.invalidate(memberId);
     }
 
+    /**
+     * 즐겨찾기 아이템 조회 - 인덱스의 id 로 아이템을 한 번에 조회 (아이템 id 오름차순)
+     */
     @Transactional(readOnly = true)
     public List<ItemDto> findFavoriteItemsByUserId(String userId) {
-        List<ItemFavorite> favorites = itemFavoriteRepository.findByMemberUserId(userId);
-        return favorites.stream()
-                .map(favoriteItem ->  converter.convertToItemDto(favoriteItem.getItem()))
-                .collect(Collectors.toList());
+        Optional<MemberIdentity> identity = memberIdentityCache.findByUserId(userId);
+        if (identity.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        long[] itemIds = favoriteIndex.itemIdsOf(identity.get().id());
+        if (itemIds.length == 0) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Item> items = itemRepository.findAllById(Arrays.stream(itemIds).boxed().toList()).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        List<ItemDto> result = new ArrayList<>(itemIds.length);
+        for (long itemId : itemIds) {
+            Item item = items.get(itemId);
+            if (item != null) {
+                result.add(converter.convertToItemDto(item));
+            }
+        }
+        return result;
     }
-}
 
+    /**
+     * 아이템을 즐겨찾기한 회원 수 (DB 조회 없음)
+     */
+    public int countFavorites(Long itemId) {
+        return favoriteIndex.favoriteCount(itemId);
+    }
+}
@@ -0,0 +1,261 @@
+package searching_program.search_product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import searching_program.search_product.domain.IdempotencyKey;
+import searching_program.search_product.dto.OrderDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.IdempotencyKeyRepository;
+import searching_program.search_product.service.member.MemberIdentity;
+import searching_program.search_product.service.member.MemberIdentityCache;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import static searching_program.search_product.type.ErrorCode.*;
+
+/**
+ * 주문 생성 멱등성 처리
+ * 1. 메모리 캐시(TTL) -> 2. 처리 중인 요청 합류 -> 3. DB(tblIdempotencyKey) 순으로 확인하고
+ * 처음 들어온 요청만 실제 주문 생성을 실행한다.
+ * - 키는 인증된 회원 기준으로 구분 (요청 본문의 회원 id 는 쓰지 않음)
+ * - 만료된 키는 없는 것으로 보고 새로 등록
+ * - 처리 중 상태로 임대 시간(lease)이 지난 키는 프로세스가 죽은 것으로 보고 넘겨받는다
+ *   (주문 커밋 후 응답 저장 전에 죽은 경우는 주문이 한 번 더 생성될 수 있으므로 lease 는 주문 처리 시간보다 넉넉히)
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final MemberIdentityCache memberIdentityCache;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration lease;
+
+    private final Cache<String, CompletedRequest> completed;
+    private final ConcurrentMap<String, CompletableFuture<OrderDto>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                              MemberIdentityCache memberIdentityCache,
+                              ObjectMapper objectMapper,
+                              @Value("${app.idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${app.idempotency.lease-seconds:60}") long leaseSeconds,
+                              @Value("${app.idempotency.cache-ttl-minutes:10}") long cacheTtlMinutes,
+                              @Value("${app.idempotency.cache-size:10000}") long cacheSize) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.memberIdentityCache = memberIdentityCache;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        Duration cacheTtl = Duration.ofMinutes(cacheTtlMinutes);
+        this.completed = Caffeine.newBuilder()
+                // 메모리 캐시도 키 만료 시각을 넘겨 재사용하지 않도록
+                .expireAfterWrite(cacheTtl.compareTo(ttl) < 0 ? cacheTtl : ttl)
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /**
+     * 같은 회원 + 같은 키의 요청은 처음 결과를 그대로 반환
+     * @param userId 인증된 사용자 id (SecurityContext 의 principal)
+     */
+    public OrderDto execute(String userId, String key, Object request, Supplier<OrderDto> action) {
+        if (userId == null) {
+            throw new CustomError(UNAUTHENTICATED);
+        }
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new CustomError(INVALID_INPUT_VALUE);
+        }
+        Long memberId = memberIdentityCache.findByUserId(userId)
+                .map(MemberIdentity::id)
+                .orElseThrow(() -> new CustomError(USER_NOT_FOUND));
+
+        String scopedKey = memberId + ":" + key;
+        String requestHash = hash(request);
+
+        CompletedRequest cached = completed.getIfPresent(scopedKey);
+        if (cached != null) {
+            return cached.verify(requestHash);
+        }
+
+        CompletableFuture<OrderDto> future = new CompletableFuture<>();
+        CompletableFuture<OrderDto> existing = inFlight.putIfAbsent(scopedKey, future);
+        if (existing != null) {
+            log.info("처리 중인 주문 요청에 합류: key = {}", scopedKey);
+            OrderDto result = await(existing);
+            // 합류한 요청도 본문이 같은지 확인
+            CompletedRequest done = completed.getIfPresent(scopedKey);
+            return done != null ? done.verify(requestHash) : result;
+        }
+
+        try {
+            OrderDto result = executeOnce(scopedKey, requestHash, action);
+            completed.put(scopedKey, new CompletedRequest(requestHash, result));
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(scopedKey, future);
+        }
+    }
+
+    private OrderDto executeOnce(String scopedKey, String requestHash, Supplier<OrderDto> action) {
+        // 만료된 키를 지운 뒤 한 번 더 등록을 시도
+        for (int attempt = 0; attempt < 2; attempt++) {
+            IdempotencyKey record = reserve(scopedKey, requestHash);
+            if (record != null) {
+                return run(record, action);
+            }
+
+            // 다른 요청(인스턴스)이 먼저 같은 키를 등록한 경우
+            Optional<IdempotencyKey> existing = idempotencyKeyRepository.findByIdempotencyKey(scopedKey);
+            if (existing.isEmpty()) {
+                continue;
+            }
+            IdempotencyKey found = existing.get();
+            LocalDateTime now = LocalDateTime.now();
+            if (found.getExpiresAt() != null && found.getExpiresAt().isBefore(now)) {
+                idempotencyKeyRepository.deleteIfExpired(found.getId(), now);
+                continue;
+            }
+            if (!found.getRequestHash().equals(requestHash)) {
+                throw new CustomError(IDEMPOTENCY_KEY_REUSED);
+            }
+            if (found.isCompleted()) {
+                log.info("저장된 주문 응답 재사용: key = {}, orderId = {}", scopedKey, found.getOrderId());
+                return fromJson(found.getResponse());
+            }
+            if (takeOver(found, now)) {
+                log.warn("처리 중 상태로 남은 멱등성 키를 넘겨받음: key = {}, 등록 시각 = {}", scopedKey, found.getCreatedAt());
+                return run(found, action);
+            }
+            throw new CustomError(IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+        throw new CustomError(IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+
+    // 등록 성공 시 새 키, 이미 있으면 null
+    private IdempotencyKey reserve(String scopedKey, String requestHash) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            return idempotencyKeyRepository.saveAndFlush(IdempotencyKey.builder()
+                    .idempotencyKey(scopedKey)
+                    .requestHash(requestHash)
+                    .createdAt(now)
+                    .expiresAt(now.plus(ttl))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            return null;
+        }
+    }
+
+    private boolean takeOver(IdempotencyKey record, LocalDateTime now) {
+        LocalDateTime staleBefore = now.minus(lease);
+        if (record.getCreatedAt() == null || !record.getCreatedAt().isBefore(staleBefore)) {
+            return false;
+        }
+        LocalDateTime expiresAt = now.plus(ttl);
+        if (idempotencyKeyRepository.takeOverStale(record.getId(), now, expiresAt, staleBefore) != 1) {
+            return false;
+        }
+        record.setCreatedAt(now);
+        record.setExpiresAt(expiresAt);
+        return true;
+    }
+
+    private OrderDto run(IdempotencyKey record, Supplier<OrderDto> action) {
+        OrderDto result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            // 실패한 요청은 같은 키로 다시 시도할 수 있도록 키를 지운다
+            idempotencyKeyRepository.delete(record);
+            throw e;
+        }
+
+        record.setOrderId(result.getId());
+        record.setResponse(toJson(result));
+        idempotencyKeyRepository.save(record);
+        return result;
+    }
+
+    /**
+     * 만료된 멱등성 키 삭제
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 멱등성 키 {}건 삭제", deleted);
+        }
+    }
+
+    private OrderDto await(CompletableFuture<OrderDto> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 해시 생성 실패", e);
+        }
+    }
+
+    private String toJson(OrderDto orderDto) {
+        try {
+            return objectMapper.writeValueAsString(orderDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 응답 직렬화 실패", e);
+        }
+    }
+
+    private OrderDto fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, OrderDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 응답 역직렬화 실패", e);
+        }
+    }
+
+    private record CompletedRequest(String requestHash, OrderDto response) {
+
+        OrderDto verify(String hash) {
+            if (!requestHash.equals(hash)) {
+                throw new CustomError(IDEMPOTENCY_KEY_REUSED);
+            }
+            return response;
+        }
+    }
+}
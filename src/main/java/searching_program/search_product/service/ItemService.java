@@ -14,21 +14,24 @@ import searching_program.search_product.domain.*;
 import searching_program.search_product.dto.CategoryDto;
 import searching_program.search_product.dto.DtoEntityConverter;
 import searching_program.search_product.dto.ItemDto;
+import searching_program.search_product.dto.RelatedItemDto;
 import searching_program.search_product.error.CustomError;
 import searching_program.search_product.repository.CategoryRepository;
 import searching_program.search_product.repository.ItemRepository;
 import searching_program.search_product.repository.MemberRepository;
-import searching_program.search_product.repository.PromotionRepository;
+import searching_program.search_product.service.catalog.CatalogVersionTracker;
+import searching_program.search_product.service.inventory.InventoryLedgerService;
 import searching_program.search_product.service.notification.NotificationService;
+import searching_program.search_product.service.pricing.PricingService;
+import searching_program.search_product.service.recommend.CoPurchaseIndex;
+import searching_program.search_product.service.stock.StockThresholdWatcher;
 import searching_program.search_product.type.ErrorCode;
 import searching_program.search_product.type.ItemStatus;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static searching_program.search_product.type.ErrorCode.ITEM_NOT_FOUND;
 import static searching_program.search_product.type.ErrorCode.PROMOTION_MUST_NOT_OVER_THAN_HUNDRED;
@@ -44,7 +47,11 @@ public class ItemService {
     private final CategoryService categoryService;
     private final NotificationService notificationService;
     private final CategoryRepository categoryRepository;
-    private final PromotionRepository promotionRepository;
+    private final PricingService pricingService;
+    private final CatalogVersionTracker catalogVersionTracker;
+    private final StockThresholdWatcher stockThresholdWatcher;
+    private final InventoryLedgerService inventoryLedgerService;
+    private final CoPurchaseIndex coPurchaseIndex;
 
     @Transactional
     public ItemDto createItem(ItemDto itemDto) {
@@ -70,9 +77,12 @@ public class ItemService {
 
         // DTO를 엔티티로 변환
         Item item = converter.convertToItemEntity(itemDto);
+        item.setCategory(categoryRepository.getReferenceById(categoryDto.getId()));
 
         // 아이템 저장
         Item savedItem = itemRepository.save(item);
+        catalogVersionTracker.itemChanged(savedItem.getId());
+        inventoryLedgerService.recordOpeningBalance(savedItem.getId(), savedItem.getStock());
 
         // 저장된 엔티티를 DTO로 변환하여 반환
         return converter.convertToItemDto(savedItem);
@@ -82,9 +92,7 @@ public class ItemService {
     @Cacheable("itemsByName") //자주 조회되는 데이터를 캐싱 -> DB에 대한 요청을 줄일 수 있음
     public List<ItemDto> findByItemName(String itemName) {
         List<Item> items = itemRepository.findByItemName(itemName);
-        return items.stream()
-                .map(converter::convertToItemDto)
-                .collect(Collectors.toList());
+        return converter.convertToItemDtos(items);
     }
 
     @Transactional(readOnly = true)
@@ -92,9 +100,7 @@ public class ItemService {
     public List<ItemDto> findByItemNames(String itemName1, String itemName2) {
         List<Item> items = itemRepository.findByItemNameContainingOrItemNameContaining
                         (itemName1, itemName2);
-        return items.stream()
-                .map(converter::convertToItemDto)
-                .collect(Collectors.toList());
+        return converter.convertToItemDtos(items);
     }
 
     @Transactional(readOnly = true)
@@ -109,17 +115,8 @@ public class ItemService {
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new CustomError(ITEM_NOT_FOUND));
 
-        Promotion activePromotion = promotionRepository.findFirstByItemAndStartDateLessThanEqualAndEndDateGreaterThanEqual
-                (item, LocalDateTime.now(), LocalDateTime.now());
-
-        double finalPrice = item.getItemPrice();
-        if (activePromotion != null) {
-            // 프로모션이 적용된 할인된 가격 계산
-            finalPrice = calculateDiscountedPrice(item.getId(), activePromotion.getDiscountRate());
-        }
-
         ItemDto itemDto = converter.convertToItemDto(item);
-        itemDto.setDiscountedPrice(finalPrice); // 할인된 가격을 DTO에 설정
+        itemDto.setDiscountedPrice((double) pricingService.effectivePrice(item)); // 정가는 그대로, 할인가는 규칙 인덱스로 계산
 
         return itemDto;
     }
@@ -193,10 +190,38 @@ public class ItemService {
 
         for (Item item : alarm) {
             item.updateStatus(ItemStatus.OUT_OF_STOCK);  // 재고 상태 업데이트
+            catalogVersionTracker.itemChanged(item.getId());
             notificationService.sendLowStockAlert(item); // 알림 발송
         }
     }
 
+    /**
+     * 아이템별 저재고 알림 기준 변경 (null 이면 기본값 사용)
+     */
+    @Transactional
+    public int updateStockThreshold(Long itemId, Integer threshold) {
+        if (threshold != null && threshold < 0) {
+            throw new CustomError(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new CustomError(ITEM_NOT_FOUND));
+        item.setLowStockThreshold(threshold);
+
+        // 감시 기준은 커밋된 뒤에 바꾼다 (롤백되면 DB와 어긋나지 않도록)
+        return stockThresholdWatcher.thresholdChanged(itemId, item.getItemName(), item.getStock(), threshold);
+    }
+
+    /**
+     * 함께 구매된 아이템 (횟수 내림차순)
+     */
+    public List<RelatedItemDto> findRelatedItems(Long itemId, int limit) {
+        if (itemId == null || limit <= 0) {
+            throw new CustomError(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return coPurchaseIndex.related(itemId, limit);
+    }
+
     // 할인된 가격 계산 메서드
     public double calculateDiscountedPrice(Long itemId, Long discountRate) {
         Item item = itemRepository.findById(itemId)
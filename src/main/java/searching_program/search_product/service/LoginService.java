@@ -9,6 +9,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import searching_program.search_product.dto.MemberDto;
 import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.MemberRepository;
+import searching_program.search_product.service.member.MemberIdentity;
+import searching_program.search_product.service.member.MemberIdentityCache;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -22,6 +25,8 @@ public class LoginService {
 
     private final MemberService memberService;
     private final PasswordEncoder passwordEncoder;
+    private final MemberIdentityCache memberIdentityCache;
+    private final MemberRepository memberRepository;
     private final Map<Long, Integer> loginAttempts = new HashMap<>();
 
     /**
@@ -33,25 +38,28 @@ public class LoginService {
     @Transactional
     public Optional<MemberDto> loginCheck(String userId, String password) {
         try {
-            MemberDto findMember = memberService.findByUserId(userId)
+            // 잠금 확인은 식별 캐시로 처리, 성공한 경우에만 회원 정보를 조회
+            MemberIdentity identity = memberIdentityCache.findByUserId(userId)
                     .orElseThrow(() -> new CustomError(USER_NOT_FOUND));
 
             // 계정이 잠겨있는지 확인
-            if (findMember.isLock()) {
+            if (identity.locked()) {
                 log.warn("계정이 잠겼습니다. userId: {}", userId);
                 throw new CustomError(ACCOUNT_IS_LOCKED); // 계정이 잠긴 경우 예외 던지기
             }
 
-            boolean isPasswordMatch = passwordEncoder.matches(password, findMember.getPassword());
-            log.info("입력된 비밀번호: {}, 해시된 비밀번호: {}, 비교 결과: {}",
-                    password, findMember.getPassword(), isPasswordMatch);
+            // 비밀번호 해시는 캐시하지 않으므로 로그인 시에만 조회
+            String passwordHash = memberRepository.findPasswordByUserId(userId)
+                    .orElseThrow(() -> new CustomError(USER_NOT_FOUND));
+            boolean isPasswordMatch = passwordEncoder.matches(password, passwordHash);
+            log.info("로그인 비밀번호 비교 결과: userId={}, 결과={}", userId, isPasswordMatch);
 
             if (isPasswordMatch) {
-                resetLoginAttempts(findMember.getId());
-                return Optional.of(findMember);
+                resetLoginAttempts(identity.id());
+                return memberService.findById(identity.id());
             } else {
                 log.info("로그인 실패 - userId : {} 비밀번호 불일치", userId);
-                incrementLoginAttempts(findMember.getId());
+                incrementLoginAttempts(identity.id());
                 return Optional.empty();
             }
         } catch (IllegalArgumentException e) {
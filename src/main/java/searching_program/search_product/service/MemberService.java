@@ -1,5 +1,6 @@
 package searching_program.search_product.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -10,12 +11,14 @@ import searching_program.search_product.dto.DtoEntityConverter;
 import searching_program.search_product.dto.MemberDto;
 import searching_program.search_product.error.CustomError;
 import searching_program.search_product.repository.MemberRepository;
+import searching_program.search_product.service.member.MemberIdentityCache;
+import searching_program.search_product.service.support.EntityStreams;
 import searching_program.search_product.type.ErrorCode;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -25,6 +28,8 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final MemberRepository memberRepository;
     private final DtoEntityConverter converter;
+    private final EntityManager entityManager;
+    private final MemberIdentityCache memberIdentityCache;
 
     // 비밀번호 해시화 메서드
     private String encodePassword(String rawPassword) {
@@ -87,11 +92,14 @@ public class MemberService {
             throw new CustomError(ErrorCode.INVALID_INPUT_VALUE);
         }
 
+        // userId 가 바뀔 수 있으므로 변경 전/후 모두 무효화
+        memberIdentityCache.invalidate(existingMember.getUserId());
         if (isPasswordProvided(memberDto)) {
             existingMember.setPassword(encodePassword(memberDto.getPassword()));
         }
 
         updateMemberFields(memberDto, existingMember);
+        memberIdentityCache.invalidate(existingMember.getUserId());
         log.info("회원 업데이트 성공: ID={}", existingMember.getId());
         return converter.convertToMemberDto(memberRepository.save(existingMember));
     }
@@ -112,6 +120,7 @@ public class MemberService {
         }
 
         memberRepository.deleteById(id);
+        memberIdentityCache.invalidate(existingMember.getUserId());
         log.info("회원 삭제 성공: ID={}", id);
     }
 
@@ -135,6 +144,7 @@ public class MemberService {
         Member member = findMemberById(id);
         member.setAccountLock(true);
         memberRepository.save(member);
+        memberIdentityCache.invalidate(member.getUserId());
     }
 
     @Transactional(readOnly = true)
@@ -171,6 +181,7 @@ public class MemberService {
 
         member.setPassword(encodePassword(newPassword));
         memberRepository.save(member);
+        memberIdentityCache.invalidate(member.getUserId());
         log.info("비밀번호 변경 성공: ID={}", id);
     }
 
@@ -187,6 +198,7 @@ public class MemberService {
         member.reactivate(); // 회원 상태 재활성화
 
         memberRepository.save(member);
+        memberIdentityCache.invalidate(member.getUserId());
         log.info("회원 계정 재활성화 성공: ID={}", id);
     }
 
@@ -199,6 +211,7 @@ public class MemberService {
         member.deactivate();
 
         memberRepository.save(member);
+        memberIdentityCache.invalidate(member.getUserId());
         log.info("회원 계정 비활성화 성공 : ID = {}");
     }
 
@@ -206,10 +219,7 @@ public class MemberService {
     @Transactional(readOnly = true)
     public List<MemberDto> findByAgeGreaterThan(int age) {
         log.info("나이 기준 회원 조회 요청: 나이 > {}", age);
-        return memberRepository.findByAgeGreaterThan(age)
-                .stream()
-                .map(converter::convertToMemberDto)
-                .collect(Collectors.toList());
+        return converter.convertToMemberDtos(memberRepository.findByAgeGreaterThan(age));
     }
 
     @Transactional(readOnly = true)
@@ -217,14 +227,24 @@ public class MemberService {
         log.info("모든 회원 정보 조회 요청 시작");
 
         List<Member> allMembers = memberRepository.findAll();
-        List<MemberDto> memberDtos = allMembers.stream()
-                .map(converter::convertToMemberDto)
-                .collect(Collectors.toList());
+        List<MemberDto> memberDtos = converter.convertToMemberDtos(allMembers);
 
         log.info("모든 회원 정보 조회 완료: 총 {}명", memberDtos.size());
         return memberDtos;
     }
 
+    /**
+     * 전체 회원 스트리밍 조회
+     */
+    @Transactional(readOnly = true)
+    public int streamAllMembers(Consumer<MemberDto> sink) {
+        MemberDto memberDto = new MemberDto();
+        int count = EntityStreams.forEach(memberRepository.streamAll(), entityManager,
+                member -> converter.convertToMemberDto(member, memberDto), sink);
+        log.info("모든 회원 정보 스트리밍 완료: 총 {}명", count);
+        return count;
+    }
+
     private boolean isPasswordProvided(MemberDto memberDto) {
         return memberDto.getPassword() != null && !memberDto.getPassword().isEmpty();
     }
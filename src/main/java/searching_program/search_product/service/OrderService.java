@@ -2,23 +2,35 @@ package searching_program.search_product.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import searching_program.search_product.config.datasource.ReadYourWritesTracker;
 import searching_program.search_product.domain.*;
 import searching_program.search_product.dto.*;
 import searching_program.search_product.error.CustomError;
 import searching_program.search_product.repository.*;
+import searching_program.search_product.service.order.OrderPlacedEvent;
+import searching_program.search_product.service.order.OrderStatusCache;
+import searching_program.search_product.service.order.OrderStatusChangedEvent;
+import searching_program.search_product.service.order.OrderStatusView;
+import searching_program.search_product.service.retry.OptimisticLockRetryExecutor;
+import searching_program.search_product.service.inventory.InventoryLedgerService;
+import searching_program.search_product.service.member.MemberIdentity;
+import searching_program.search_product.service.member.MemberIdentityCache;
 import searching_program.search_product.type.ErrorCode;
 import searching_program.search_product.type.OrderStatus;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static searching_program.search_product.type.ErrorCode.*;
@@ -37,12 +49,22 @@ public class OrderService {
     private final PaymentService paymentService;
     private final OrderStatusHistoryRepository orderStatusHistoryRepository;
     private final BucketRepository bucketRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final InventoryLedgerService inventoryLedgerService;
+    private final MemberIdentityCache memberIdentityCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderStatusCache orderStatusCache;
 
     /**
      * 주문 생성 메서드
+     * - 재고 동시 차감 충돌 시 트랜잭션 단위로 재시도
      */
-    @Transactional
     public OrderDto createOrder(OrderDto orderDto, MemberDto memberDto) {
+        return retryExecutor.execute("order.create", () -> doCreateOrder(orderDto, memberDto));
+    }
+
+    private OrderDto doCreateOrder(OrderDto orderDto, MemberDto memberDto) {
         log.info("주문 생성 요청: MemberId = {}, OrderDate = {}", memberDto.getId(), orderDto.getOrderDate());
 
         // MemberDto의 ID 검증
@@ -61,17 +83,21 @@ public class OrderService {
         Orders orders = converter.convertToOrderEntity(orderDto);
         orders.setMember(member);
 
+        // 주문 항목의 아이템을 한 번에 조회
+        Map<Long, Item> items = itemRepository.findAllById(orderedItemIds(orderDto)).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
         for (OrderItemDto orderItemDto : orderDto.getOrderItems()) {
-            Item item = itemRepository.findById(orderItemDto.getItemId())
-                    .orElseThrow(() -> new CustomError(ITEM_NOT_FOUND));
+            Item item = items.get(orderItemDto.getItemId());
+            if (item == null) {
+                throw new CustomError(ITEM_NOT_FOUND);
+            }
 
+            // 빠른 실패용 확인 - 실제 차감은 주문 저장 후 원장에서 조건부로 처리
             if (item.getStock() < orderItemDto.getQuantity()) {
                 throw new CustomError(OUT_OF_STOCK);
             }
 
-            item.setStock(item.getStock() - orderItemDto.getQuantity());
-            itemRepository.save(item);
-
             OrderItem orderItem = converter.convertToOrderItemEntity(orderItemDto, orders, item);
             orders.addOrderItem(orderItem);
         }
@@ -85,7 +111,14 @@ public class OrderService {
         orders.addStatusHistory(orderStatusHistory.getStatus());
 
         Orders savedOrder = orderRepository.save(orders);
+
+        // 재고 차감 (원장 기록 + projection 갱신), 부족하면 주문 전체 롤백
+        for (OrderItemDto orderItemDto : orderDto.getOrderItems()) {
+            inventoryLedgerService.reserve(orderItemDto.getItemId(), orderItemDto.getQuantity(), savedOrder.getId());
+        }
         log.info("주문 생성 성공: Order ID = {}, Member ID = {}", savedOrder.getId(), memberDto.getId());
+        eventPublisher.publishEvent(new OrderPlacedEvent(savedOrder.getId(), memberDto.getId(),
+                orderDto.getOrderItems().stream().map(OrderItemDto::getItemId).toList()));
 
         // 결제 서비스 호출
         paymentService.processPayment(member.getId(), savedOrder.getId(), orderDto.getTotalAmount());
@@ -93,30 +126,30 @@ public class OrderService {
         // 장바구니에 있는 아이템 주문 후 제거
         removeOrderedItemsFromBucket(member, orderDto);
 
+        // 직후 주문 조회가 replica 지연으로 누락되지 않도록 primary 고정
+        readYourWritesTracker.markWrite(memberDto.getUserId() != null ? memberDto.getUserId() : orderDto.getUserId());
+
         return converter.convertToOrderDto(savedOrder);
     }
 
+    // 주문한 아이템을 장바구니에서 한 번의 delete 로 제거
     private void removeOrderedItemsFromBucket(Member member, OrderDto orderDto) {
-        log.info("장바구니에서 주문된 아이템 제거 시작: Member ID = {}", member.getId());
+        List<Long> itemIds = orderedItemIds(orderDto);
+        int removed = bucketRepository.deleteByMemberIdAndItemIds(member.getId(), itemIds);
+        log.info("장바구니에서 주문된 아이템 제거: Member ID = {}, 제거 {}건 / 주문 항목 {}건",
+                member.getId(), removed, itemIds.size());
+    }
 
+    private List<Long> orderedItemIds(OrderDto orderDto) {
+        List<Long> itemIds = new ArrayList<>(orderDto.getOrderItems().size());
         for (OrderItemDto orderItemDto : orderDto.getOrderItems()) {
-            Long itemId = orderItemDto.getItemId();
-            if (itemId == null) {
+            if (orderItemDto.getItemId() == null) {
                 log.error("OrderItemDto의 itemId가 null입니다.");
-                throw new IllegalArgumentException("Item ID must not be null");
-            }
-
-            Item item = itemRepository.findById(itemId)
-                    .orElseThrow(() -> new CustomError(ITEM_NOT_FOUND));
-
-            Bucket bucket = bucketRepository.findByMemberAndItem(member, item);
-            if (bucket != null) {
-                log.info("장바구니에서 아이템 제거: Member ID = {}, Item ID = {}", member.getId(), item.getId());
-                bucketRepository.delete(bucket);
-            } else {
-                log.warn("장바구니에 아이템이 존재하지 않음: Member ID = {}, Item ID = {}", member.getId(), item.getId());
+                throw new CustomError(INVALID_INPUT_VALUE);
             }
+            itemIds.add(orderItemDto.getItemId());
         }
+        return itemIds;
     }
 
     /**
@@ -137,42 +170,28 @@ public class OrderService {
     }
 
     /**
-     * 주문 상태 확인 및 변경 메서드
+     * 주문 상태 조회 - 상태 캐시 조회 한 번, 부수 효과 없음
+     * - 배송 완료 처리는 배송 상태 수집(ShipmentIngestionService)에서 한다
      */
-    @Transactional
-    public OrderDto findOrderStatus(OrderDto orderDto) {
-        Orders order = orderRepository.findById(orderDto.getId())
+    public OrderStatusDto findOrderStatus(Long orderId) {
+        OrderStatusView view = orderStatusCache.find(orderId)
                 .orElseThrow(() -> new CustomError(ORDER_NOT_FOUND));
-
-        if (order.getStatus() == OrderStatus.ORDERED) {
-            return converter.convertToOrderDto(order);
-        }
-
-        if (order.getStatus() == OrderStatus.SHIPPED) {
-            order.changeStatus(OrderStatus.DELIVERED);
-            orderRepository.save(order);
-        }
-
-        for (OrderItem orderItem : order.getOrderItems()) {
-            Item item = itemRepository.findById(orderItem.getItem().getId())
-                    .orElseThrow(() -> new CustomError(ITEM_NOT_FOUND));
-
-            if (item.getStock() < 1) {
-                throw new CustomError(OUT_OF_STOCK);
-            }
-
-            log.info("Order ID: {}, Item ID: {}, Item Name: {}, Status: {}",
-                    order.getId(), item.getId(), item.getItemName(), order.getStatus());
-        }
-
-        return converter.convertToOrderDto(order);
+        return OrderStatusDto.builder()
+                .orderId(view.orderId())
+                .orderStatus(view.status())
+                .version(view.version())
+                .build();
     }
 
     /**
      * 주문 취소 메서드
+     * - 재고 복구/상태 변경 충돌 시 트랜잭션 단위로 재시도
      */
-    @Transactional
     public OrderDto cancelOrder(Long orderId) {
+        return retryExecutor.execute("order.cancel", () -> doCancelOrder(orderId));
+    }
+
+    private OrderDto doCancelOrder(Long orderId) {
         Orders order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new CustomError(ORDER_LIST_NOT_FOUND));
 
@@ -182,13 +201,13 @@ public class OrderService {
 
         // 아이템 재고 복구
         for (OrderItem orderItem : order.getOrderItems()) {
-            Item item = orderItem.getItem();
-            item.setStock(item.getStock() + orderItem.getQuantity());
-            itemRepository.save(item);
+            inventoryLedgerService.release(orderItem.getItem().getId(), orderItem.getQuantity(), order.getId());
         }
 
         // 주문 상태 변경
+        OrderStatus previous = order.getStatus();
         order.changeStatus(OrderStatus.CANCELED);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(order.getId(), previous, OrderStatus.CANCELED));
         return converter.convertToOrderDto(orderRepository.save(order));
     }
 
@@ -200,10 +219,7 @@ public class OrderService {
         Orders order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다."));
 
-        return order.getStatusHistory()
-                .stream()
-                .map(converter::convertToOrderStatusHistoryDto)
-                .collect(Collectors.toList());
+        return converter.convertToOrderStatusHistoryDtos(order.getStatusHistory());
     }
 
     /**
@@ -240,7 +256,12 @@ public class OrderService {
     @Transactional(readOnly = true)
     public Page<OrderDto> findOrdersByMember(String userId, int pageNumber, int pageSize) {
         Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by("createdDate").descending());
-        Page<Orders> orders = orderRepository.findByMemberUserId(userId, pageable);
+        // userId 조인 대신 캐시된 회원 id 로 조회
+        Optional<MemberIdentity> member = memberIdentityCache.findByUserId(userId);
+        if (member.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Page<Orders> orders = orderRepository.findByMember_Id(member.get().id(), pageable);
         return orders.map(converter::convertToOrderDto);
     }
 
@@ -19,7 +19,6 @@ import searching_program.search_product.type.PaymentStatus;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static searching_program.search_product.type.ErrorCode.*;
 
@@ -72,6 +71,56 @@ public class PaymentService {
         return converter.convertToPaymentDto(savedPayment);
     }
 
+    /**
+     * 결제 대기 생성 - 호출한 트랜잭션 안에서 PENDING 으로 저장만 하고 승인은 비동기로 처리
+     */
+    public Payment createPendingPayment(Member member, Orders order, double amount) {
+        validateAmount(amount);
+
+        return paymentRepository.save(Payment.builder()
+                .member(member)
+                .order(order)
+                .amount(amount)
+                .paymentStatus(PaymentStatus.PENDING)
+                .paymentDate(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 대기 중인 결제 승인 처리
+     */
+    @Transactional
+    public PaymentDto processPendingPayment(Long paymentId) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new CustomError(PAYMENT_NOT_FOUND));
+
+        if (payment.getPaymentStatus() != PaymentStatus.PENDING) {
+            return converter.convertToPaymentDto(payment);
+        }
+
+        PaymentStatus result;
+        if (!authorizePayment(payment)) {
+            result = PaymentStatus.FAILED;
+        } else {
+            try {
+                simulatePaymentGatewayProcessing(payment);
+                result = PaymentStatus.COMPLETED;
+            } catch (Exception e) {
+                result = PaymentStatus.FAILED;
+                log.error("결제 처리 중 오류 발생: {}", e.getMessage());
+            }
+        }
+
+        // 승인하는 동안 시간 초과로 만료 처리됐으면 그 상태를 따른다
+        if (paymentRepository.updateStatusIf(paymentId, PaymentStatus.PENDING, result) == 0) {
+            log.warn("결제 상태가 이미 변경됨: Payment ID = {}", paymentId);
+            return converter.convertToPaymentDto(paymentRepository.findById(paymentId)
+                    .orElseThrow(() -> new CustomError(PAYMENT_NOT_FOUND)));
+        }
+        payment.setPaymentStatus(result);
+        return converter.convertToPaymentDto(payment);
+    }
+
     /**
      * 결제 취소 메서드
      */
@@ -142,9 +191,7 @@ public class PaymentService {
     @Transactional(readOnly = true)
     public List<PaymentDto> findPaymentsByMember(Long memberId) {
         List<Payment> payments = paymentRepository.findByMember_Id(memberId);
-        return payments.stream()
-                .map(converter::convertToPaymentDto)
-                .collect(Collectors.toList());
+        return converter.convertToPaymentDtos(payments);
     }
 
     // 민감한 데이터가 포함되지 않도록 로그를 개선합니다
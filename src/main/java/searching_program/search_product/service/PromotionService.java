@@ -1,25 +1,33 @@
 package searching_program.search_product.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import searching_program.search_product.domain.Category;
 import searching_program.search_product.domain.Item;
+import searching_program.search_product.domain.Member;
 import searching_program.search_product.domain.Promotion;
-import searching_program.search_product.dto.DtoEntityConverter;
-import searching_program.search_product.dto.ItemDto;
-import searching_program.search_product.dto.PromotionDto;
+import searching_program.search_product.dto.*;
 import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.CategoryRepository;
 import searching_program.search_product.repository.ItemRepository;
+import searching_program.search_product.repository.MemberRepository;
 import searching_program.search_product.repository.PromotionRepository;
+import searching_program.search_product.service.catalog.CatalogVersionTracker;
+import searching_program.search_product.service.promotion.CartLine;
+import searching_program.search_product.service.promotion.PromotionRuleEngine;
+import searching_program.search_product.service.support.EntityStreams;
+import searching_program.search_product.type.DiscountType;
 import searching_program.search_product.type.ErrorCode;
+import searching_program.search_product.type.Grade;
 
 import java.math.BigDecimal;
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.function.Consumer;
 
 import static searching_program.search_product.type.ErrorCode.*;
 
@@ -28,9 +36,21 @@ import static searching_program.search_product.type.ErrorCode.*;
 @RequiredArgsConstructor
 public class PromotionService {
 
+    private static final int MAX_QUOTE_LINES = 200;
+    private static final int COUPON_CODE_LENGTH = 12;
+    private static final int COUPON_CODE_ATTEMPTS = 5;
+    // 헷갈리는 문자(0/O, 1/I) 제외
+    private static final char[] COUPON_ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789".toCharArray();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final PromotionRepository promotionRepository;
     private final ItemRepository itemRepository;
+    private final CategoryRepository categoryRepository;
+    private final MemberRepository memberRepository;
     private final DtoEntityConverter converter;
+    private final EntityManager entityManager;
+    private final CatalogVersionTracker catalogVersionTracker;
+    private final PromotionRuleEngine promotionRuleEngine;
 
     @Transactional
     public void createPromotion(Long itemId, Long discountRate, LocalDateTime startDate, LocalDateTime endDate) {
@@ -50,40 +70,150 @@ public class PromotionService {
 
         // 프로모션 생성 및 저장
         Promotion promotion = createPromotion(item, discountRate, startDate, endDate, couponCode);
+        catalogVersionTracker.promotionScheduled(itemId, startDate, endDate);
+        promotionRuleEngine.reloadAfterCommit();
 
         log.info("아이템 ID {}에 대해 새로운 프로모션이 생성되었습니다: 할인율 {}%, 시작일 {}, 종료일 {}, 쿠폰 코드 {}",
                 itemId, discountRate, startDate, endDate, couponCode);
     }
 
+    /**
+     * 할인 규칙 생성 - 아이템/카테고리/전체 대상, 퍼센트/정액, 등급 전용, 쿠폰 필수 여부를 지정
+     * - 같은 대상에 여러 규칙이 겹칠 수 있고 exclusive 가 아니면 priority 순서로 중복 적용된다
+     */
     @Transactional
-    public void applyPromotion(Long itemId, String inputCouponCode) {
-        // 현재 활성화된 프로모션 조회
-        Optional<Promotion> optionalPromotion = promotionRepository.findActivePromotionByItem(itemId, LocalDateTime.now());
-        if (optionalPromotion.isEmpty()) {
-            log.warn("아이템 ID {}에 대해 활성화된 프로모션이 없습니다.", itemId);
-            throw new CustomError(NO_ACTIVE_PROMOTION);
+    public PromotionDto createRule(PromotionRequest request) {
+        DiscountType discountType = request.getDiscountType() == null ? DiscountType.PERCENTAGE : request.getDiscountType();
+        if (discountType == DiscountType.PERCENTAGE) {
+            validatePromotionParameters(request.getDiscountRate(), request.getStartDate(), request.getEndDate());
+        } else {
+            if (request.getDiscountAmount() == null || request.getDiscountAmount() <= 0) {
+                log.error("정액 할인 금액은 0보다 커야 합니다. 현재 값: {}", request.getDiscountAmount());
+                throw new CustomError(PROMOTION_MUST_OVER_THAN_ZERO);
+            }
+            validatePromotionParameters(0L, request.getStartDate(), request.getEndDate());
+        }
+        if (request.getItemId() != null && request.getCategoryId() != null) {
+            log.error("아이템과 카테고리를 동시에 지정할 수 없습니다.");
+            throw new CustomError(INVALID_INPUT_VALUE);
         }
 
-        Promotion promotion = optionalPromotion.get();
+        Item item = request.getItemId() == null ? null : itemRepository.findById(request.getItemId())
+                .orElseThrow(() -> new CustomError(ITEM_NOT_FOUND));
+        Category category = request.getCategoryId() == null ? null : categoryRepository.findById(request.getCategoryId())
+                .orElseThrow(() -> new CustomError(CATEGORY_NOT_FOUND));
+
+        Promotion promotion = promotionRepository.save(Promotion.builder()
+                .item(item)
+                .category(category)
+                .discountType(discountType)
+                .discountRate(discountType == DiscountType.PERCENTAGE ? request.getDiscountRate() : null)
+                .discountAmount(discountType == DiscountType.FIXED_AMOUNT ? request.getDiscountAmount() : null)
+                .grade(request.getGrade())
+                .couponRequired(request.isCouponRequired())
+                .exclusive(request.isExclusive())
+                .priority(request.getPriority())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .couponCode(generateCouponCode())
+                .build());
+
+        catalogVersionTracker.promotionScheduled(item != null ? item.getId() : null,
+                request.getStartDate(), request.getEndDate());
+        promotionRuleEngine.reloadAfterCommit();
+        log.info("할인 규칙 생성: ID={}, 방식={}, 아이템={}, 카테고리={}, 등급={}, 쿠폰 필수={}",
+                promotion.getId(), discountType, request.getItemId(), request.getCategoryId(),
+                request.getGrade(), request.isCouponRequired());
+
+        PromotionDto promotionDto = converter.convertToPromotionDto(promotion);
+        promotionDto.setCouponCode(promotion.getCouponCode()); // 생성한 관리자에게만 코드를 돌려준다
+        return promotionDto;
+    }
 
-        // 쿠폰 코드 검증
-        if (!promotion.getCouponCode().equals(inputCouponCode)) {
-            log.warn("쿠폰 코드가 유효하지 않습니다. 제공된 코드: {}, 프로모션에 저장된 코드: {}", inputCouponCode, promotion.getCouponCode());
+    /**
+     * 장바구니 할인 견적 - 아이템은 한 번에 조회하고 규칙은 메모리 인덱스로 계산
+     */
+    @Transactional(readOnly = true)
+    public PromotionQuoteDto quote(PromotionQuoteRequest request) {
+        List<PromotionQuoteRequest.Line> lines = request.getLines();
+        if (lines == null || lines.isEmpty() || lines.size() > MAX_QUOTE_LINES) {
+            throw new CustomError(INVALID_INPUT_VALUE);
+        }
+
+        Set<Long> itemIds = new HashSet<>();
+        for (PromotionQuoteRequest.Line line : lines) {
+            if (line.getItemId() == null) {
+                throw new CustomError(INVALID_INPUT_VALUE);
+            }
+            if (line.getQuantity() <= 0) {
+                throw new CustomError(MUST_OVER_THAN_ZERO);
+            }
+            itemIds.add(line.getItemId());
+        }
+
+        // [id, categoryId, itemPrice]
+        Map<Long, Object[]> pricingRows = new HashMap<>();
+        for (Object[] row : itemRepository.findPricingRows(itemIds)) {
+            pricingRows.put((Long) row[0], row);
+        }
+
+        List<CartLine> cartLines = new ArrayList<>(lines.size());
+        for (PromotionQuoteRequest.Line line : lines) {
+            Object[] row = pricingRows.get(line.getItemId());
+            if (row == null) {
+                throw new CustomError(ITEM_NOT_FOUND);
+            }
+            cartLines.add(new CartLine(line.getItemId(), (Long) row[1], (Integer) row[2], line.getQuantity()));
+        }
+
+        Grade grade = request.getMemberId() == null ? null : memberRepository.findById(request.getMemberId())
+                .map(Member::getGrade)
+                .orElseThrow(() -> new CustomError(USER_NOT_FOUND));
+
+        return promotionRuleEngine.quote(cartLines, grade, request.getCouponCodes());
+    }
+
+    /**
+     * 쿠폰 적용 가격 조회 - 아이템 정가는 바꾸지 않는다 (쿠폰은 견적/주문 시점에 반영)
+     *
+     * @return 쿠폰까지 반영한 개당 가격
+     */
+    @Transactional(readOnly = true)
+    public long applyPromotion(Long itemId, String inputCouponCode) {
+        if (inputCouponCode == null || inputCouponCode.isBlank()) {
             throw new CustomError(INVALID_COUPON_CODE);
         }
 
+        // 쿠폰 코드는 유니크 인덱스로 바로 찾는다
+        Promotion promotion = promotionRepository.findByCouponCode(inputCouponCode.trim().toUpperCase(Locale.ROOT))
+                .orElseThrow(() -> {
+                    log.warn("쿠폰 코드가 유효하지 않습니다. 제공된 코드: {}", inputCouponCode);
+                    return new CustomError(INVALID_COUPON_CODE);
+                });
+
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(promotion.getStartDate()) || now.isAfter(promotion.getEndDate())) {
+            log.warn("아이템 ID {}에 대해 활성화된 프로모션이 없습니다.", itemId);
+            throw new CustomError(NO_ACTIVE_PROMOTION);
+        }
+
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new CustomError(ITEM_NOT_FOUND));
 
-        // 할인된 가격 계산
-        double discountedPrice = calculateDiscountedPrice(item.getId(), promotion.getDiscountRate());
+        Long categoryId = item.getCategory() == null ? null : item.getCategory().getId();
+        QuoteLineDto line = promotionRuleEngine.quote(
+                List.of(new CartLine(item.getId(), categoryId, item.getItemPrice(), 1)),
+                null, List.of(promotion.getCouponCode())).getLines().get(0);
 
-        // 아이템의 가격을 할인된 가격으로 업데이트
-        item.setItemPrice((int) discountedPrice);
-        itemRepository.save(item);
+        // 쿠폰 대상(아이템/카테고리/등급)이 아니면 적용되지 않는다
+        if (!line.getAppliedPromotionIds().contains(promotion.getId())) {
+            log.warn("쿠폰 코드 {}는 아이템 ID {}에 사용할 수 없습니다.", inputCouponCode, itemId);
+            throw new CustomError(INVALID_COUPON_CODE);
+        }
 
-        log.info("아이템 ID {}에 대해 프로모션이 성공적으로 적용되었습니다: 할인율 {}%, 쿠폰 코드 {}, 시작일 {}, 종료일 {}",
-                itemId, promotion.getDiscountRate(), promotion.getCouponCode(), promotion.getStartDate(), promotion.getEndDate());
+        log.info("아이템 ID {}에 쿠폰 {} 적용 가격 계산: 정가 {}, 적용 가격 {}",
+                itemId, promotion.getCouponCode(), item.getItemPrice(), line.getDiscountedUnitPrice());
+        return line.getDiscountedUnitPrice();
     }
 
 
@@ -93,9 +223,17 @@ public class PromotionService {
         LocalDateTime now = LocalDateTime.now();
         List<Item> itemsWithPromotions = promotionRepository.findItemsWithActivePromotions(now);
         log.info("현재 활성 프로모션이 적용된 아이템 수: {}", itemsWithPromotions.size());
-        return itemsWithPromotions.stream()
-                .map(converter::convertToItemDto)
-                .collect(Collectors.toList());
+        return converter.convertToItemDtos(itemsWithPromotions);
+    }
+
+    /**
+     * 활성 프로모션 아이템 스트리밍 조회
+     */
+    @Transactional(readOnly = true)
+    public int streamItemsWithActivePromotions(Consumer<ItemDto> sink) {
+        ItemDto itemDto = new ItemDto();
+        return EntityStreams.forEach(promotionRepository.streamItemsWithActivePromotions(LocalDateTime.now()),
+                entityManager, item -> converter.convertToItemDto(item, itemDto), sink);
     }
 
     /**
@@ -132,8 +270,22 @@ public class PromotionService {
         return discountedPrice;
     }
 
+    /**
+     * 쿠폰 코드 생성 - 12자리 무작위 코드, 이미 있으면 다시 뽑는다 (최종 보장은 couponCode 유니크 제약)
+     */
     public String generateCouponCode() {
-        return UUID.randomUUID().toString().replace("-", "").substring(0, 8).toUpperCase();
+        for (int attempt = 0; attempt < COUPON_CODE_ATTEMPTS; attempt++) {
+            char[] code = new char[COUPON_CODE_LENGTH];
+            for (int i = 0; i < code.length; i++) {
+                code[i] = COUPON_ALPHABET[RANDOM.nextInt(COUPON_ALPHABET.length)];
+            }
+            String couponCode = new String(code);
+            if (!promotionRepository.existsByCouponCode(couponCode)) {
+                return couponCode;
+            }
+        }
+        log.error("쿠폰 코드 생성 실패: {}회 모두 중복", COUPON_CODE_ATTEMPTS);
+        throw new CustomError(INTERNAL_SERVER_ERROR);
     }
 
     //프로모션 생성
@@ -150,20 +302,6 @@ public class PromotionService {
         return promotion;
     }
 
-    //아이탬 적용
-    private void applyPromotionsToItem(Item item, Long discountRate, Promotion promotion) {
-        // 할인된 가격 계산
-        double discountedPrice = calculateDiscountedPrice(item.getId(), discountRate);
-
-        // 아이템의 가격을 할인된 가격으로 업데이트
-        item.setItemPrice((int) discountedPrice);
-        itemRepository.save(item);
-
-        log.info("아이템 ID {}에 대해 프로모션이 성공적으로 적용되었습니다: 할인율 {}%, 쿠폰 코드 {}, 시작일 {}, 종료일 {}",
-                item.getId(), discountRate, promotion.getCouponCode(), promotion.getStartDate(), promotion.getEndDate());
-    }
-
-
     private void validatePromotionParameters(Long discountRate, LocalDateTime startDate, LocalDateTime endDate) {
         if (discountRate == null || discountRate.compareTo(0L) < 0) {
             log.error("할인율이 0 이상이어야 합니다. 현재 값: {}", discountRate);
@@ -18,7 +18,6 @@ import searching_program.search_product.repository.ReviewRepository;
 import searching_program.search_product.type.ErrorCode;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static searching_program.search_product.type.ErrorCode.*;
 
@@ -85,9 +84,7 @@ public class ReviewService {
     @Transactional(readOnly = true)
     public List<ReviewDto> getReviewsByItemId(Long itemId) {
         List<Review> reviews = reviewRepository.findByItemId(itemId);
-        return reviews.stream()
-                .map(converter::convertToReviewDto)
-                .collect(Collectors.toList());
+        return converter.convertToReviewDtos(reviews);
     }
 
     @Transactional(readOnly = true)
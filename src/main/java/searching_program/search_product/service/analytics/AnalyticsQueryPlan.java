@@ -0,0 +1,159 @@
+package searching_program.search_product.service.analytics;
+
+import searching_program.search_product.dto.AnalyticsQueryRequest;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.service.analytics.AnalyticsSnapshot.FactTable;
+import searching_program.search_product.type.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static searching_program.search_product.service.analytics.AnalyticsSnapshot.NO_TIME;
+
+/**
+ * 스냅샷 한 개에 대해 컴파일된 분석 질의
+ * - 필터는 사전 코드 인덱스의 boolean 마스크로 바꿔 행마다 배열 조회 한 번으로 판단한다
+ * - 그룹 키도 long 하나로 만든다 (회원 인덱스 / 사전 코드 / epoch 일)
+ */
+final class AnalyticsQueryPlan {
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    final AnalyticsSnapshot snapshot;
+    final FactTable table;
+    final AnalyticsSource source;
+    final AnalyticsDimension groupBy;
+    private final boolean[] statusMask;        // null = 전체
+    private final boolean[] gradeMask;
+    private final boolean[] paymentMethodMask;
+    private final boolean timeFiltered;
+    private final long fromSeconds;
+    private final long toSeconds;
+    private final int hitStatus;               // -1 = 계산 안 함
+
+    private AnalyticsQueryPlan(AnalyticsSnapshot snapshot, AnalyticsSource source, AnalyticsDimension groupBy,
+                               boolean[] statusMask, boolean[] gradeMask, boolean[] paymentMethodMask,
+                               boolean timeFiltered, long fromSeconds, long toSeconds, int hitStatus) {
+        this.snapshot = snapshot;
+        this.table = source == AnalyticsSource.PAYMENTS ? snapshot.payments : snapshot.orders;
+        this.source = source;
+        this.groupBy = groupBy;
+        this.statusMask = statusMask;
+        this.gradeMask = gradeMask;
+        this.paymentMethodMask = paymentMethodMask;
+        this.timeFiltered = timeFiltered;
+        this.fromSeconds = fromSeconds;
+        this.toSeconds = toSeconds;
+        this.hitStatus = hitStatus;
+    }
+
+    static AnalyticsQueryPlan compile(AnalyticsSnapshot snapshot, AnalyticsQueryRequest request) {
+        AnalyticsSource source = request.getSource() != null ? request.getSource() : AnalyticsSource.ORDERS;
+        AnalyticsDimension groupBy = request.getGroupBy() != null ? request.getGroupBy() : AnalyticsDimension.NONE;
+        if (request.getFrom() != null && request.getTo() != null && !request.getFrom().isBefore(request.getTo())) {
+            throw new CustomError(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Class<? extends Enum<?>> statusType = statusType(source);
+        boolean[] statusMask = null;
+        if (request.getStatuses() != null && !request.getStatuses().isEmpty()) {
+            statusMask = new boolean[statusType.getEnumConstants().length + 1];
+            for (String status : request.getStatuses()) {
+                statusMask[parseStatus(statusType, status)] = true;
+            }
+        }
+        int hitStatus = request.getHitStatus() != null ? parseStatus(statusType, request.getHitStatus()) : -1;
+
+        boolean timeFiltered = request.getFrom() != null || request.getTo() != null;
+        long fromSeconds = request.getFrom() != null ? AnalyticsSnapshot.toSeconds(request.getFrom()) : Long.MIN_VALUE;
+        long toSeconds = request.getTo() != null ? AnalyticsSnapshot.toSeconds(request.getTo()) : Long.MAX_VALUE;
+
+        return new AnalyticsQueryPlan(snapshot, source, groupBy, statusMask,
+                mask(request.getGrades(), Grade.values().length),
+                mask(request.getPaymentMethods(), PaymentMethod.values().length),
+                timeFiltered, fromSeconds, toSeconds, hitStatus);
+    }
+
+    boolean matches(int row) {
+        if (statusMask != null && !statusMask[table.statuses[row]]) {
+            return false;
+        }
+        if (timeFiltered) {
+            long time = table.times[row];
+            if (time == NO_TIME || time < fromSeconds || time >= toSeconds) {
+                return false;
+            }
+        }
+        if (gradeMask != null && !gradeMask[snapshot.gradeOf(table.members[row])]) {
+            return false;
+        }
+        return paymentMethodMask == null || paymentMethodMask[snapshot.paymentMethodOf(table.members[row])];
+    }
+
+    long groupKey(int row) {
+        return switch (groupBy) {
+            case NONE -> 0L;
+            case MEMBER -> table.members[row];
+            case STATUS -> table.statuses[row];
+            case GRADE -> snapshot.gradeOf(table.members[row]);
+            case PAYMENT_METHOD -> snapshot.paymentMethodOf(table.members[row]);
+            case DAY -> table.times[row] == NO_TIME ? NO_TIME : Math.floorDiv(table.times[row], SECONDS_PER_DAY);
+        };
+    }
+
+    boolean isHit(int row) {
+        return table.statuses[row] == hitStatus;
+    }
+
+    /**
+     * [from, to) 행을 순서대로 훑어 부분 집계를 만든다
+     */
+    GroupAggregate scan(int from, int to) {
+        GroupAggregate aggregate = new GroupAggregate();
+        for (int row = from; row < to; row++) {
+            if (matches(row)) {
+                aggregate.add(groupKey(row), table.amounts[row], table.units[row], isHit(row));
+            }
+        }
+        return aggregate;
+    }
+
+    String label(long key) {
+        return switch (groupBy) {
+            case NONE -> "ALL";
+            case MEMBER -> key < 0 ? "-" : String.valueOf(snapshot.memberIds[(int) key]);
+            case STATUS -> name(AnalyticsSnapshot.decode(statusType(source), (int) key));
+            case GRADE -> name(AnalyticsSnapshot.decode(Grade.class, (int) key));
+            case PAYMENT_METHOD -> name(AnalyticsSnapshot.decode(PaymentMethod.class, (int) key));
+            case DAY -> key == NO_TIME ? "-" : LocalDate.ofEpochDay(key).toString();
+        };
+    }
+
+    private static Class<? extends Enum<?>> statusType(AnalyticsSource source) {
+        return source == AnalyticsSource.PAYMENTS ? PaymentStatus.class : OrderStatus.class;
+    }
+
+    private static int parseStatus(Class<? extends Enum<?>> type, String name) {
+        for (Enum<?> constant : type.getEnumConstants()) {
+            if (constant.name().equalsIgnoreCase(name == null ? "" : name.trim())) {
+                return AnalyticsSnapshot.encode(constant);
+            }
+        }
+        throw new CustomError(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    private static boolean[] mask(List<? extends Enum<?>> values, int constants) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        boolean[] mask = new boolean[constants + 1];
+        for (Enum<?> value : values) {
+            mask[AnalyticsSnapshot.encode(value)] = true;
+        }
+        return mask;
+    }
+
+    private static String name(Enum<?> value) {
+        return value == null ? "-" : value.name();
+    }
+}
@@ -0,0 +1,143 @@
+package searching_program.search_product.service.analytics;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 분석용 열 지향 스냅샷 (불변)
+ * - 주문/결제는 행마다 객체를 두지 않고 열마다 원시 배열 하나로 보관한다
+ * - enum 은 사전 코드(ordinal + 1, null = 0)로 저장해 byte 하나만 쓴다
+ * - 회원 등급/결제 수단은 회원 차원 배열에 두고 행에는 회원 인덱스만 둔다
+ */
+final class AnalyticsSnapshot {
+
+    static final byte NULL_CODE = 0;
+    static final long NO_TIME = Long.MIN_VALUE;
+
+    static final AnalyticsSnapshot EMPTY = new AnalyticsSnapshot(null, new long[0], new byte[0], new byte[0],
+            FactTable.EMPTY, FactTable.EMPTY);
+
+    final LocalDateTime takenAt;
+
+    // 회원 차원 (id 오름차순, 인덱스 = 회원 인덱스)
+    final long[] memberIds;
+    final byte[] memberGrades;
+    final byte[] memberPaymentMethods;
+
+    final FactTable orders;
+    final FactTable payments;
+
+    AnalyticsSnapshot(LocalDateTime takenAt, long[] memberIds, byte[] memberGrades, byte[] memberPaymentMethods,
+                      FactTable orders, FactTable payments) {
+        this.takenAt = takenAt;
+        this.memberIds = memberIds;
+        this.memberGrades = memberGrades;
+        this.memberPaymentMethods = memberPaymentMethods;
+        this.orders = orders;
+        this.payments = payments;
+    }
+
+    /**
+     * @return 회원 인덱스, 없으면 -1
+     */
+    int memberIndex(Long memberId) {
+        if (memberId == null) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(memberIds, memberId);
+        return index >= 0 ? index : -1;
+    }
+
+    byte gradeOf(int memberIndex) {
+        return memberIndex < 0 ? NULL_CODE : memberGrades[memberIndex];
+    }
+
+    byte paymentMethodOf(int memberIndex) {
+        return memberIndex < 0 ? NULL_CODE : memberPaymentMethods[memberIndex];
+    }
+
+    static byte encode(Enum<?> value) {
+        return value == null ? NULL_CODE : (byte) (value.ordinal() + 1);
+    }
+
+    static Enum<?> decode(Class<? extends Enum<?>> type, int code) {
+        return code == NULL_CODE ? null : type.getEnumConstants()[code - 1];
+    }
+
+    // 시간대 변환 없이 LocalDateTime 을 그대로 초 단위로 (일 단위 그룹이 날짜와 일치)
+    static long toSeconds(LocalDateTime time) {
+        return time == null ? NO_TIME : time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * 사실 테이블 - 같은 인덱스가 한 행
+     */
+    static final class FactTable {
+
+        static final FactTable EMPTY = new FactTable(new long[0], new int[0], new byte[0], new double[0], new int[0], new long[0], 0);
+
+        final long[] ids;
+        final int[] members;   // 회원 인덱스 (-1 = 없음)
+        final byte[] statuses; // 상태 사전 코드
+        final double[] amounts;
+        final int[] units;     // 주문 수량 합계 (결제는 0)
+        final long[] times;    // 초 (NO_TIME = 없음)
+        final int size;
+
+        FactTable(long[] ids, int[] members, byte[] statuses, double[] amounts, int[] units, long[] times, int size) {
+            this.ids = ids;
+            this.members = members;
+            this.statuses = statuses;
+            this.amounts = amounts;
+            this.units = units;
+            this.times = times;
+            this.size = size;
+        }
+
+        /**
+         * @return 행 인덱스, 없으면 음수 (ids 는 오름차순)
+         */
+        int indexOf(long id) {
+            return Arrays.binarySearch(ids, 0, size, id);
+        }
+    }
+
+    /**
+     * 사실 테이블 적재용 - 행 수를 모르고 스트리밍으로 받으므로 배열을 늘려 가며 채운다
+     */
+    static final class FactTableBuilder {
+
+        private long[] ids = new long[1024];
+        private int[] members = new int[1024];
+        private byte[] statuses = new byte[1024];
+        private double[] amounts = new double[1024];
+        private long[] times = new long[1024];
+        private int size;
+
+        void add(long id, int member, byte status, double amount, long time) {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                members = Arrays.copyOf(members, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+                amounts = Arrays.copyOf(amounts, capacity);
+                times = Arrays.copyOf(times, capacity);
+            }
+            ids[size] = id;
+            members[size] = member;
+            statuses[size] = status;
+            amounts[size] = amount;
+            times[size] = time;
+            size++;
+        }
+
+        /**
+         * 빈 수량 열과 함께 정확한 크기로 잘라 만든다 (수량은 호출하는 쪽에서 채운다)
+         */
+        FactTable build() {
+            return new FactTable(Arrays.copyOf(ids, size), Arrays.copyOf(members, size), Arrays.copyOf(statuses, size),
+                    Arrays.copyOf(amounts, size), new int[size], Arrays.copyOf(times, size), size);
+        }
+    }
+}
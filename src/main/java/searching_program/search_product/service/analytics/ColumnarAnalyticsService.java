@@ -0,0 +1,237 @@
+package searching_program.search_product.service.analytics;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import searching_program.search_product.dto.AnalyticsQueryRequest;
+import searching_program.search_product.dto.AnalyticsResultDto;
+import searching_program.search_product.dto.AnalyticsRowDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.MemberRepository;
+import searching_program.search_product.repository.OrderItemRepository;
+import searching_program.search_product.repository.OrderRepository;
+import searching_program.search_product.repository.PaymentRepository;
+import searching_program.search_product.service.analytics.AnalyticsSnapshot.FactTable;
+import searching_program.search_product.service.analytics.AnalyticsSnapshot.FactTableBuilder;
+import searching_program.search_product.type.AnalyticsMetric;
+import searching_program.search_product.type.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * 주문/결제 분석 (관리자용)
+ * - 주기적으로 주문, 주문 수량, 결제, 회원을 열 지향 스냅샷으로 읽어 두고 교체한다
+ * - 질의는 DB 를 거치지 않고 스냅샷 배열을 조각으로 나눠 병렬로 필터/그룹/집계한다
+ * - 결과는 마지막 스냅샷 시점 기준이다 (snapshotAt 으로 알려준다)
+ */
+@Slf4j
+@Service
+public class ColumnarAnalyticsService {
+
+    private final MemberRepository memberRepository;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final PaymentRepository paymentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool scanPool;
+    private final int chunkSize;
+    private final int maxLimit;
+
+    private volatile AnalyticsSnapshot snapshot = AnalyticsSnapshot.EMPTY;
+
+    public ColumnarAnalyticsService(MemberRepository memberRepository,
+                                    OrderRepository orderRepository,
+                                    OrderItemRepository orderItemRepository,
+                                    PaymentRepository paymentRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.analytics.parallelism:4}") int parallelism,
+                                    @Value("${app.analytics.chunk-size:65536}") int chunkSize,
+                                    @Value("${app.analytics.max-limit:1000}") int maxLimit) {
+        this.memberRepository = memberRepository;
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.paymentRepository = paymentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.scanPool = new ForkJoinPool(parallelism);
+        this.chunkSize = chunkSize;
+        this.maxLimit = maxLimit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${app.analytics.refresh-ms:300000}",
+            fixedDelayString = "${app.analytics.refresh-ms:300000}")
+    public void refresh() {
+        long started = System.currentTimeMillis();
+        AnalyticsSnapshot next = transactionTemplate.execute(status -> load());
+        snapshot = next;
+        log.info("분석 스냅샷 갱신: 회원 {}명, 주문 {}건, 결제 {}건, {}ms", next.memberIds.length,
+                next.orders.size, next.payments.size, System.currentTimeMillis() - started);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scanPool.shutdown();
+    }
+
+    public LocalDateTime snapshotAt() {
+        return snapshot.takenAt;
+    }
+
+    public AnalyticsResultDto query(AnalyticsQueryRequest request) {
+        if (request == null || request.getLimit() <= 0 || request.getLimit() > maxLimit) {
+            throw new CustomError(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        AnalyticsQueryPlan plan = AnalyticsQueryPlan.compile(snapshot, request);
+        int size = plan.table.size;
+        GroupAggregate aggregate = size <= chunkSize
+                ? plan.scan(0, size)
+                : scanPool.invoke(new ScanTask(plan, 0, size, chunkSize));
+
+        AnalyticsMetric metric = request.getSortBy() != null ? request.getSortBy() : AnalyticsMetric.COUNT;
+        return AnalyticsResultDto.builder()
+                .snapshotAt(plan.snapshot.takenAt)
+                .scannedRows(size)
+                .matchedRows(aggregate.matched())
+                .groups(aggregate.size())
+                .rows(topRows(plan, aggregate, metric, request.getLimit()))
+                .build();
+    }
+
+    // 상위 limit 개만 힙으로 고른다 (회원별 그룹은 그룹 수가 많다)
+    static List<AnalyticsRowDto> topRows(AnalyticsQueryPlan plan, GroupAggregate aggregate,
+                                         AnalyticsMetric metric, int limit) {
+        Comparator<Integer> order = Comparator.<Integer>comparingDouble(slot -> metricOf(aggregate, slot, metric))
+                .thenComparing(slot -> aggregate.key(slot), Comparator.reverseOrder());
+        PriorityQueue<Integer> top = new PriorityQueue<>(order);
+        for (int slot = 0; slot < aggregate.size(); slot++) {
+            top.offer(slot);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<AnalyticsRowDto> rows = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            int slot = top.poll();
+            long count = aggregate.count(slot);
+            rows.add(AnalyticsRowDto.builder()
+                    .key(plan.label(aggregate.key(slot)))
+                    .count(count)
+                    .sum(aggregate.sum(slot))
+                    .average(count == 0 ? 0 : aggregate.sum(slot) / count)
+                    .units(aggregate.units(slot))
+                    .hits(aggregate.hits(slot))
+                    .hitRate(count == 0 ? 0 : (double) aggregate.hits(slot) / count)
+                    .build());
+        }
+        Collections.reverse(rows);
+        return rows;
+    }
+
+    private static double metricOf(GroupAggregate aggregate, int slot, AnalyticsMetric metric) {
+        long count = aggregate.count(slot);
+        return switch (metric) {
+            case COUNT -> count;
+            case SUM -> aggregate.sum(slot);
+            case AVERAGE -> count == 0 ? 0 : aggregate.sum(slot) / count;
+            case HIT_RATE -> count == 0 ? 0 : (double) aggregate.hits(slot) / count;
+        };
+    }
+
+    private AnalyticsSnapshot load() {
+        LocalDateTime takenAt = LocalDateTime.now();
+
+        List<Object[]> memberRows = memberRepository.findAnalyticsRows();
+        long[] memberIds = new long[memberRows.size()];
+        byte[] grades = new byte[memberRows.size()];
+        byte[] paymentMethods = new byte[memberRows.size()];
+        for (int i = 0; i < memberRows.size(); i++) {
+            Object[] row = memberRows.get(i);
+            memberIds[i] = (Long) row[0];
+            grades[i] = AnalyticsSnapshot.encode((Enum<?>) row[1]);
+            paymentMethods[i] = AnalyticsSnapshot.encode((Enum<?>) row[2]);
+        }
+        AnalyticsSnapshot members = new AnalyticsSnapshot(takenAt, memberIds, grades, paymentMethods,
+                FactTable.EMPTY, FactTable.EMPTY);
+
+        FactTable orders = readFacts(members, orderRepository.streamAnalyticsRows());
+        try (Stream<Object[]> rows = orderItemRepository.streamUnitsPerOrder()) {
+            rows.forEach(row -> {
+                int index = orders.indexOf((Long) row[0]);
+                if (index >= 0) {
+                    orders.units[index] = ((Number) row[1]).intValue();
+                }
+            });
+        }
+        FactTable payments = readFacts(members, paymentRepository.streamAnalyticsRows());
+
+        return new AnalyticsSnapshot(takenAt, memberIds, grades, paymentMethods, orders, payments);
+    }
+
+    // [id, memberId, status, amount, time] 행을 열로 옮긴다
+    private static FactTable readFacts(AnalyticsSnapshot members, Stream<Object[]> stream) {
+        FactTableBuilder builder = new FactTableBuilder();
+        try (Stream<Object[]> rows = stream) {
+            rows.forEach(row -> builder.add(
+                    (Long) row[0],
+                    members.memberIndex((Long) row[1]),
+                    AnalyticsSnapshot.encode((Enum<?>) row[2]),
+                    row[3] == null ? 0 : ((Number) row[3]).doubleValue(),
+                    AnalyticsSnapshot.toSeconds((LocalDateTime) row[4])));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 행 범위를 반으로 나눠 병렬로 부분 집계한 뒤 합친다
+     */
+    private static final class ScanTask extends RecursiveTask<GroupAggregate> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final AnalyticsQueryPlan plan;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        ScanTask(AnalyticsQueryPlan plan, int from, int to, int chunkSize) {
+            this.plan = plan;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected GroupAggregate compute() {
+            if (to - from <= chunkSize) {
+                return plan.scan(from, to);
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask left = new ScanTask(plan, from, mid, chunkSize);
+            ScanTask right = new ScanTask(plan, mid, to, chunkSize);
+            left.fork();
+            GroupAggregate merged = right.compute();
+            return merged.merge(left.join());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package searching_program.search_product.service.analytics;
+
+import searching_program.search_product.service.support.LongIntHashMap;
+
+import java.util.Arrays;
+
+/**
+ * 그룹별 부분 집계 - 스캔 조각마다 하나씩 만들고 마지막에 합친다
+ * - 그룹 키 -> 슬롯 번호만 해시맵에 두고 값은 슬롯 인덱스의 원시 배열에 누적한다
+ * - 동기화하지 않는다 (조각 하나는 한 스레드만 쓴다)
+ */
+final class GroupAggregate {
+
+    private final LongIntHashMap slots = new LongIntHashMap();
+    private long[] keys = new long[16];
+    private long[] counts = new long[16];
+    private double[] sums = new double[16];
+    private long[] units = new long[16];
+    private long[] hits = new long[16];
+    private int size;
+    private long matched;
+
+    void add(long key, double amount, int unit, boolean hit) {
+        int slot = slotOf(key);
+        counts[slot]++;
+        sums[slot] += amount;
+        units[slot] += unit;
+        if (hit) {
+            hits[slot]++;
+        }
+        matched++;
+    }
+
+    GroupAggregate merge(GroupAggregate other) {
+        for (int i = 0; i < other.size; i++) {
+            int slot = slotOf(other.keys[i]);
+            counts[slot] += other.counts[i];
+            sums[slot] += other.sums[i];
+            units[slot] += other.units[i];
+            hits[slot] += other.hits[i];
+        }
+        matched += other.matched;
+        return this;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long matched() {
+        return matched;
+    }
+
+    long key(int slot) {
+        return keys[slot];
+    }
+
+    long count(int slot) {
+        return counts[slot];
+    }
+
+    double sum(int slot) {
+        return sums[slot];
+    }
+
+    long units(int slot) {
+        return units[slot];
+    }
+
+    long hits(int slot) {
+        return hits[slot];
+    }
+
+    private int slotOf(long key) {
+        int slot = slots.get(key, -1);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (size == keys.length) {
+            int capacity = size << 1;
+            keys = Arrays.copyOf(keys, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            sums = Arrays.copyOf(sums, capacity);
+            units = Arrays.copyOf(units, capacity);
+            hits = Arrays.copyOf(hits, capacity);
+        }
+        slot = size++;
+        keys[slot] = key;
+        slots.put(key, slot);
+        return slot;
+    }
+}
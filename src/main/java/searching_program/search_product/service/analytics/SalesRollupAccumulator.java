@@ -0,0 +1,90 @@
+package searching_program.search_product.service.analytics;
+
+import searching_program.search_product.type.RollupDimension;
+import searching_program.search_product.type.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매출 집계 누적기 (스레드 안전하지 않음)
+ * - 주문 하나를 모든 시간 단위(분/시/일) x 기준(전체/아이템/카테고리)에 한 번에 더한다
+ * - 주문 수는 기준마다 주문당 한 번만 센다 (같은 카테고리 아이템이 여러 개여도 1)
+ */
+final class SalesRollupAccumulator {
+
+    // [orderCount, units, revenue]
+    private final Map<RollupKey, long[]> totals = new HashMap<>();
+    private long orders;
+
+    void addOrder(LocalDateTime orderedAt, List<SaleLine> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        orders++;
+        long units = 0;
+        long revenue = 0;
+        Map<Long, long[]> byItem = new HashMap<>();
+        Map<Long, long[]> byCategory = new HashMap<>();
+        for (SaleLine line : lines) {
+            long lineRevenue = (long) line.price() * line.quantity();
+            units += line.quantity();
+            revenue += lineRevenue;
+            add(byItem.computeIfAbsent(line.itemId(), id -> new long[2]), line.quantity(), lineRevenue);
+            if (line.categoryId() != null) {
+                add(byCategory.computeIfAbsent(line.categoryId(), id -> new long[2]), line.quantity(), lineRevenue);
+            }
+        }
+
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            LocalDateTime bucketStart = granularity.truncate(orderedAt);
+            add(new RollupKey(granularity, bucketStart, RollupDimension.TOTAL, 0), 1, units, revenue);
+            byItem.forEach((itemId, sum) ->
+                    add(new RollupKey(granularity, bucketStart, RollupDimension.ITEM, itemId), 1, sum[0], sum[1]));
+            byCategory.forEach((categoryId, sum) ->
+                    add(new RollupKey(granularity, bucketStart, RollupDimension.CATEGORY, categoryId), 1, sum[0], sum[1]));
+        }
+    }
+
+    void merge(SalesRollupAccumulator other) {
+        orders += other.orders;
+        other.totals.forEach((key, value) -> add(key, value[0], value[1], value[2]));
+    }
+
+    Map<RollupKey, long[]> totals() {
+        return totals;
+    }
+
+    long orders() {
+        return orders;
+    }
+
+    boolean isEmpty() {
+        return totals.isEmpty();
+    }
+
+    int size() {
+        return totals.size();
+    }
+
+    private void add(RollupKey key, long orders, long units, long revenue) {
+        long[] value = totals.computeIfAbsent(key, k -> new long[3]);
+        value[0] += orders;
+        value[1] += units;
+        value[2] += revenue;
+    }
+
+    private static void add(long[] sum, long units, long revenue) {
+        sum[0] += units;
+        sum[1] += revenue;
+    }
+
+    record RollupKey(RollupGranularity granularity, LocalDateTime bucketStart,
+                     RollupDimension dimension, long dimensionId) {
+    }
+
+    record SaleLine(long itemId, Long categoryId, int quantity, int price) {
+    }
+}
@@ -0,0 +1,297 @@
+package searching_program.search_product.service.analytics;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+import searching_program.search_product.domain.SalesRollup;
+import searching_program.search_product.dto.RollupBackfillDto;
+import searching_program.search_product.dto.SalesRollupDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.OrderItemRepository;
+import searching_program.search_product.repository.OrderRepository;
+import searching_program.search_product.repository.SalesRollupRepository;
+import searching_program.search_product.service.analytics.SalesRollupAccumulator.RollupKey;
+import searching_program.search_product.service.analytics.SalesRollupAccumulator.SaleLine;
+import searching_program.search_product.service.order.OrderPlacedEvent;
+import searching_program.search_product.type.ErrorCode;
+import searching_program.search_product.type.RollupDimension;
+import searching_program.search_product.type.RollupGranularity;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 시간 구간별 매출 집계 (tblSalesRollup)
+ * - 주문 커밋 후 OrderPlacedEvent 로 메모리에 누적하고, 주기적으로 분/시/일 행에 한 번에 더한다
+ * - 정리 스케줄러가 보관 기간이 지난 분/시 단위 행을 지운다 (일 단위는 계속 보관)
+ * - 재구성(backfill)은 지난 날짜만 대상으로 주문 id 범위를 나눠 병렬로 읽어 다시 만든다
+ * - 주문 시점 기준 매출이며 이후 취소는 빼지 않는다 (재구성도 같은 기준)
+ */
+@Slf4j
+@Service
+public class SalesRollupService {
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long minuteRetentionHours;
+    private final long hourRetentionDays;
+    private final long rangeSize;
+    private final int parallelism;
+    private final int maxQueryBuckets;
+
+    private final Object pendingLock = new Object();
+    private SalesRollupAccumulator pending = new SalesRollupAccumulator();
+
+    public SalesRollupService(SalesRollupRepository salesRollupRepository,
+                              OrderItemRepository orderItemRepository,
+                              OrderRepository orderRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.rollup.minute-retention-hours:48}") long minuteRetentionHours,
+                              @Value("${app.rollup.hour-retention-days:90}") long hourRetentionDays,
+                              @Value("${app.rollup.backfill.range-size:5000}") long rangeSize,
+                              @Value("${app.rollup.backfill.parallelism:4}") int parallelism,
+                              @Value("${app.rollup.max-query-buckets:2000}") int maxQueryBuckets) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minuteRetentionHours = minuteRetentionHours;
+        this.hourRetentionDays = hourRetentionDays;
+        this.rangeSize = rangeSize;
+        this.parallelism = parallelism;
+        this.maxQueryBuckets = maxQueryBuckets;
+    }
+
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        List<Object[]> rows = orderItemRepository.findSaleLines(event.orderId());
+        if (rows.isEmpty()) {
+            return;
+        }
+        // [itemId, categoryId, quantity, price, 주문 시각]
+        List<SaleLine> lines = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            lines.add(new SaleLine((Long) row[0], (Long) row[1], (Integer) row[2], (Integer) row[3]));
+        }
+        LocalDateTime orderedAt = rows.get(0)[4] == null ? LocalDateTime.now() : (LocalDateTime) rows.get(0)[4];
+
+        synchronized (pendingLock) {
+            pending.addOrder(orderedAt, lines);
+        }
+    }
+
+    /**
+     * 누적분을 집계 테이블에 반영 - 실패하면 다음 반영 때 다시 시도
+     */
+    @Scheduled(initialDelayString = "${app.rollup.flush-ms:10000}", fixedDelayString = "${app.rollup.flush-ms:10000}")
+    @PreDestroy
+    public void flush() {
+        SalesRollupAccumulator batch;
+        synchronized (pendingLock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new SalesRollupAccumulator();
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(batch.totals()));
+            log.debug("매출 집계 반영: 주문 {}건, {}행", batch.orders(), batch.size());
+        } catch (RuntimeException e) {
+            log.warn("매출 집계 반영 실패, 다음 주기에 다시 시도: {}", e.getMessage());
+            synchronized (pendingLock) {
+                pending.merge(batch);
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 분/시 단위 행 정리
+     */
+    @Scheduled(cron = "${app.rollup.compact-cron:0 5 * * * *}")
+    public void compact() {
+        LocalDateTime now = LocalDateTime.now();
+        int minutes = transactionTemplate.execute(status -> salesRollupRepository.deleteOlderThan(
+                RollupGranularity.MINUTE, now.minusHours(minuteRetentionHours)));
+        int hours = transactionTemplate.execute(status -> salesRollupRepository.deleteOlderThan(
+                RollupGranularity.HOUR, now.minusDays(hourRetentionDays)));
+        log.info("매출 집계 정리: 분 단위 {}행, 시 단위 {}행 삭제", minutes, hours);
+    }
+
+    /**
+     * 지난 날짜 [from, to) 의 집계를 주문 원본에서 다시 만든다
+     * - 오늘 이후는 실시간 반영 중이므로 to 는 오늘로 잘린다
+     */
+    public synchronized RollupBackfillDto backfill(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate until = to == null || to.isAfter(today) ? today : to;
+        if (from == null || !from.isBefore(until)) {
+            throw new CustomError(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        long startedAt = System.nanoTime();
+        LocalDateTime since = from.atStartOfDay();
+        LocalDateTime untilTime = until.atStartOfDay();
+
+        SalesRollupAccumulator built = new SalesRollupAccumulator();
+        Object[] idRange = orderRepository.findIdRangeOrderedBetween(since, untilTime).get(0);
+        if (idRange[0] != null) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                built = pool.invoke(new ScanTask((Long) idRange[0], (Long) idRange[1], since, untilTime));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        // 보관 기간이 지난 분/시 단위는 다시 만들지 않는다
+        LocalDateTime now = LocalDateTime.now();
+        List<SalesRollup> rows = new ArrayList<>(built.size());
+        built.totals().forEach((key, value) -> {
+            if (retained(key, now)) {
+                rows.add(toEntity(key, value));
+            }
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            salesRollupRepository.deleteRange(since, untilTime);
+            salesRollupRepository.saveAll(rows);
+        });
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("매출 집계 재구성: {} ~ {}, 주문 {}건, {}행, {}ms", from, until, built.orders(), rows.size(), elapsedMillis);
+        return RollupBackfillDto.builder()
+                .from(from)
+                .to(until)
+                .orders(built.orders())
+                .rows(rows.size())
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * 구간별 집계 조회 [from, to) - 아직 반영 전인 최근 몇 초는 빠질 수 있다
+     */
+    public List<SalesRollupDto> findRollups(RollupGranularity granularity, RollupDimension dimension,
+                                            LocalDateTime from, LocalDateTime to) {
+        if (granularity == null || dimension == null || from == null || to == null || !from.isBefore(to)) {
+            throw new CustomError(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        LocalDateTime start = granularity.truncate(from);
+        long buckets = Duration.between(start, to).dividedBy(granularity.duration()) + 1;
+        if (buckets > maxQueryBuckets) {
+            throw new CustomError(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        List<SalesRollup> rollups = salesRollupRepository.findRange(granularity, dimension, start, to);
+        List<SalesRollupDto> result = new ArrayList<>(rollups.size());
+        for (SalesRollup rollup : rollups) {
+            result.add(SalesRollupDto.builder()
+                    .bucketStart(rollup.getBucketStart())
+                    .dimension(rollup.getDimension())
+                    .dimensionId(rollup.getDimensionId())
+                    .orderCount(rollup.getOrderCount())
+                    .units(rollup.getUnits())
+                    .revenue(rollup.getRevenue())
+                    .build());
+        }
+        return result;
+    }
+
+    private void apply(Map<RollupKey, long[]> totals) {
+        totals.forEach((key, value) -> {
+            int updated = salesRollupRepository.addTo(key.granularity(), key.dimension(), key.bucketStart(),
+                    key.dimensionId(), value[0], value[1], value[2]);
+            if (updated == 0) {
+                salesRollupRepository.save(toEntity(key, value));
+            }
+        });
+    }
+
+    private boolean retained(RollupKey key, LocalDateTime now) {
+        return switch (key.granularity()) {
+            case MINUTE -> !key.bucketStart().isBefore(now.minusHours(minuteRetentionHours));
+            case HOUR -> !key.bucketStart().isBefore(now.minusDays(hourRetentionDays));
+            case DAY -> true;
+        };
+    }
+
+    private static SalesRollup toEntity(RollupKey key, long[] value) {
+        return SalesRollup.builder()
+                .granularity(key.granularity())
+                .dimension(key.dimension())
+                .bucketStart(key.bucketStart())
+                .dimensionId(key.dimensionId())
+                .orderCount(value[0])
+                .units(value[1])
+                .revenue(value[2])
+                .build();
+    }
+
+    /**
+     * 주문 id 범위 [from, to] 집계
+     */
+    private class ScanTask extends RecursiveTask<SalesRollupAccumulator> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+        private final LocalDateTime since;
+        private final LocalDateTime until;
+
+        ScanTask(long from, long to, LocalDateTime since, LocalDateTime until) {
+            this.from = from;
+            this.to = to;
+            this.since = since;
+            this.until = until;
+        }
+
+        @Override
+        protected SalesRollupAccumulator compute() {
+            if (to - from < rangeSize) {
+                return scanRange();
+            }
+            long middle = from + (to - from) / 2;
+            ScanTask left = new ScanTask(from, middle, since, until);
+            ScanTask right = new ScanTask(middle + 1, to, since, until);
+            left.fork();
+            SalesRollupAccumulator result = right.compute();
+            result.merge(left.join());
+            return result;
+        }
+
+        // [orderId, itemId, categoryId, quantity, price, 주문 시각] - 주문 id 순서이므로 주문 단위로 끊어 더한다
+        private SalesRollupAccumulator scanRange() {
+            SalesRollupAccumulator accumulator = new SalesRollupAccumulator();
+            List<SaleLine> lines = new ArrayList<>();
+            long currentOrderId = -1;
+            LocalDateTime orderedAt = null;
+            for (Object[] row : orderItemRepository.findSaleLinesInOrderRange(from, to, since, until)) {
+                long orderId = (Long) row[0];
+                if (orderId != currentOrderId) {
+                    accumulator.addOrder(orderedAt, lines);
+                    lines.clear();
+                    currentOrderId = orderId;
+                    orderedAt = (LocalDateTime) row[5];
+                }
+                lines.add(new SaleLine((Long) row[1], (Long) row[2], (Integer) row[3], (Integer) row[4]));
+            }
+            accumulator.addOrder(orderedAt, lines);
+            return accumulator;
+        }
+    }
+}
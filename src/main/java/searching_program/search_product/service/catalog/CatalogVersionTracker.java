@@ -0,0 +1,261 @@
+package searching_program.search_product.service.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import searching_program.search_product.domain.CatalogVersion;
+import searching_program.search_product.repository.CatalogVersionRepository;
+import searching_program.search_product.repository.PromotionRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+/**
+ * 상품 / 카테고리 변경 버전 (ETag 계산용)
+ * 응답 본문을 해시하지 않고 DB에 저장된 버전만으로 ETag를 만들어 인스턴스가 여러 대여도 같은 값이 나온다.
+ * - 상품 상세: 상세 캐시(ItemReadCoalescer)에 들어 있는 Item.version - 본문과 같은 스냅샷이라 DB 조회 없음
+ * - 상품 목록 / 카테고리 / 프로모션: tblCatalogVersion 공유 카운터 (변경 트랜잭션 안에서 증가)
+ *   재고만 바뀐 경우(주문/입고)는 올리지 않는다 - 재고 표시는 상세 캐시 TTL 만큼 늦을 수 있고 주문 시 다시 검증
+ * - 프로모션 시작/종료 시각: DB 기준 "이미 지난 가장 최근 경계 시각"을 ETag에 포함
+ * 다른 인스턴스의 변경은 app.catalog.version-refresh-ms 주기로 카운터 행(몇 건)만 읽어 반영하고,
+ * 새 버전을 공개하기 전에 리스너(규칙 재컴파일, 캐시 무효화)를 먼저 실행해 새 ETag에 이전 본문이 붙지 않게 한다.
+ */
+@Slf4j
+@Component
+public class CatalogVersionTracker {
+
+    static final String CATALOG = "catalog";
+    static final String CATEGORY = "category";
+    static final String PROMOTION = "promotion";
+
+    private final PromotionRepository promotionRepository;
+    private final CatalogVersionRepository catalogVersionRepository;
+
+    // 인스턴스 내부 캐시 무효화용 (ETag에는 쓰지 않음)
+    private final Map<Long, Long> itemVersions = new ConcurrentHashMap<>();
+    private final List<LongConsumer> itemChangeListeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> itemsChangeListeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> promotionChangeListeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> catalogChangeListeners = new CopyOnWriteArrayList<>();
+
+    // DB에서 읽어 온 값
+    private volatile Snapshot snapshot;
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private final AtomicReference<LocalDateTime> lastBoundary = new AtomicReference<>();
+    private volatile NavigableSet<LocalDateTime> upcomingBoundaries = new ConcurrentSkipListSet<>();
+
+    private record Snapshot(long catalog, long category, long promotion) {
+    }
+
+    public CatalogVersionTracker(PromotionRepository promotionRepository,
+                                 CatalogVersionRepository catalogVersionRepository) {
+        this.promotionRepository = promotionRepository;
+        this.catalogVersionRepository = catalogVersionRepository;
+    }
+
+    // 기동 시 공유 카운터 행을 만들고 현재 버전을 읽는다
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        for (String name : List.of(CATALOG, CATEGORY, PROMOTION)) {
+            if (catalogVersionRepository.existsById(name)) {
+                continue;
+            }
+            try {
+                catalogVersionRepository.save(CatalogVersion.builder().name(name).version(0).build());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 먼저 만든 경우
+                log.debug("카탈로그 버전 행 {} 이미 존재", name);
+            }
+        }
+        refresh();
+        log.info("카탈로그 버전 로드: {}, 다음 프로모션 경계 {}건", snapshot, upcomingBoundaries.size());
+    }
+
+    /**
+     * 공유 카운터를 다시 읽는다 (다른 인스턴스의 변경 반영)
+     */
+    @Scheduled(initialDelayString = "${app.catalog.version-refresh-ms:1000}",
+            fixedDelayString = "${app.catalog.version-refresh-ms:1000}")
+    public synchronized void refresh() {
+        dirty.set(false);
+        Map<String, Long> counters = new HashMap<>();
+        for (CatalogVersion version : catalogVersionRepository.findAll()) {
+            counters.put(version.getName(), version.getVersion());
+        }
+        Snapshot next = new Snapshot(counters.getOrDefault(CATALOG, 0L),
+                counters.getOrDefault(CATEGORY, 0L), counters.getOrDefault(PROMOTION, 0L));
+
+        Snapshot previous = snapshot;
+        if (previous == null || previous.promotion() != next.promotion()) {
+            loadPromotionBoundaries();
+        }
+        if (previous != null) {
+            if (previous.catalog() != next.catalog()) {
+                itemsChangeListeners.forEach(Runnable::run);
+            }
+            if (previous.promotion() != next.promotion()) {
+                promotionChangeListeners.forEach(Runnable::run);
+            }
+            if (previous.category() != next.category() || previous.promotion() != next.promotion()) {
+                catalogChangeListeners.forEach(Runnable::run);
+            }
+        }
+        snapshot = next;
+    }
+
+    /**
+     * 상품의 표시 정보(이름/상태/카테고리/가격)가 바뀐 경우 - 변경 트랜잭션 안에서 호출
+     * 재고 증감만 있는 경우에는 호출하지 않는다
+     */
+    public void itemChanged(Long itemId) {
+        if (itemId == null) {
+            return;
+        }
+        catalogVersionRepository.increment(CATALOG);
+        afterCommit(() -> {
+            notifyItemChanged(itemId);
+            dirty.set(true);
+        });
+    }
+
+    public void categoryChanged() {
+        catalogVersionRepository.increment(CATEGORY);
+        afterCommit(() -> dirty.set(true));
+    }
+
+    /**
+     * 프로모션 등록 - 공유 프로모션 버전을 올리고, 경계 시각은 다음 조회 때 DB에서 다시 읽는다
+     * itemId 가 null 이면 카테고리/전체 규칙 (모든 상품의 할인가가 바뀔 수 있음)
+     */
+    public void promotionScheduled(Long itemId, LocalDateTime startDate, LocalDateTime endDate) {
+        catalogVersionRepository.increment(PROMOTION);
+        afterCommit(() -> {
+            if (itemId != null) {
+                notifyItemChanged(itemId);
+            }
+            dirty.set(true);
+        });
+        log.debug("프로모션 버전 증가: 아이템={}, 기간={} ~ {}", itemId, startDate, endDate);
+    }
+
+    // 이 인스턴스에서 상품을 바꿨을 때 커밋 후 호출 (예: 해당 상품 캐시 무효화)
+    public void onItemChanged(LongConsumer listener) {
+        itemChangeListeners.add(listener);
+    }
+
+    // 어느 인스턴스에서든 상품 표시 정보가 바뀌었을 때 (재고만 바뀐 경우 제외)
+    public void onItemsChanged(Runnable listener) {
+        itemsChangeListeners.add(listener);
+    }
+
+    // 프로모션이 바뀌었을 때 - 새 ETag 공개 전에 호출 (예: 규칙 재컴파일)
+    public void onPromotionChanged(Runnable listener) {
+        promotionChangeListeners.add(listener);
+    }
+
+    // 카테고리/프로모션이 바뀌었을 때 - 프로모션 리스너 다음, 새 ETag 공개 전에 호출 (예: 상세 캐시 전체 비움)
+    public void onCatalogChanged(Runnable listener) {
+        catalogChangeListeners.add(listener);
+    }
+
+    public long itemVersion(Long itemId) {
+        return itemVersions.getOrDefault(itemId, 0L);
+    }
+
+    /**
+     * @param rowVersion 응답 본문으로 쓸 상품 스냅샷의 Item.version
+     */
+    public String itemETag(Long itemId, long rowVersion) {
+        Snapshot current = currentSnapshot();
+        return "\"i" + itemId + "-" + rowVersion
+                + "." + current.category() + "." + current.promotion() + "." + currentBoundary() + "\"";
+    }
+
+    public String catalogETag() {
+        Snapshot current = currentSnapshot();
+        return "\"c-" + current.catalog() + "." + current.category()
+                + "." + current.promotion() + "." + currentBoundary() + "\"";
+    }
+
+    public String categoryETag() {
+        return "\"g-" + currentSnapshot().category() + "\"";
+    }
+
+    private void notifyItemChanged(long itemId) {
+        itemVersions.merge(itemId, 1L, Long::sum);
+        itemChangeListeners.forEach(listener -> listener.accept(itemId));
+    }
+
+    // 이 인스턴스에서 바꿨으면 주기를 기다리지 않고 바로 다시 읽는다
+    private Snapshot currentSnapshot() {
+        if (snapshot == null || dirty.get()) {
+            refresh();
+        }
+        return snapshot;
+    }
+
+    private void loadPromotionBoundaries() {
+        LocalDateTime now = LocalDateTime.now();
+        NavigableSet<LocalDateTime> upcoming = new ConcurrentSkipListSet<>();
+        for (Object[] schedule : promotionRepository.findScheduleEndingAfter(now)) {
+            addBoundary(upcoming, (LocalDateTime) schedule[0], now);
+            addBoundary(upcoming, (LocalDateTime) schedule[1], now);
+        }
+        lastBoundary.set(latest(promotionRepository.findLatestStartUntil(now),
+                promotionRepository.findLatestEndUntil(now)));
+        upcomingBoundaries = upcoming;
+    }
+
+    // 이미 지난 가장 최근 경계 시각 (초) - 모든 인스턴스에서 같은 값
+    private long currentBoundary() {
+        NavigableSet<LocalDateTime> passed = upcomingBoundaries.headSet(LocalDateTime.now(), true);
+        if (!passed.isEmpty()) {
+            LocalDateTime boundary = passed.last();
+            lastBoundary.accumulateAndGet(boundary, CatalogVersionTracker::latest);
+            passed.clear();
+        }
+        LocalDateTime boundary = lastBoundary.get();
+        return boundary != null ? boundary.toEpochSecond(ZoneOffset.UTC) : 0L;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b != null && b.isAfter(a) ? b : a;
+    }
+
+    private static void addBoundary(NavigableSet<LocalDateTime> boundaries, LocalDateTime boundary, LocalDateTime now) {
+        if (boundary != null && boundary.isAfter(now)) {
+            boundaries.add(boundary);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package searching_program.search_product.service.checkout;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import searching_program.search_product.config.datasource.ReadYourWritesTracker;
+import searching_program.search_product.domain.*;
+import searching_program.search_product.dto.CheckoutResultDto;
+import searching_program.search_product.dto.DtoEntityConverter;
+import searching_program.search_product.dto.PaymentDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.BucketRepository;
+import searching_program.search_product.repository.MemberRepository;
+import searching_program.search_product.repository.OrderRepository;
+import searching_program.search_product.repository.PaymentRepository;
+import searching_program.search_product.service.OrderService;
+import searching_program.search_product.service.PaymentService;
+import searching_program.search_product.service.inventory.InventoryLedgerService;
+import searching_program.search_product.service.order.OrderPlacedEvent;
+import searching_program.search_product.service.pricing.PricingService;
+import searching_program.search_product.service.retry.OptimisticLockRetryExecutor;
+import searching_program.search_product.type.ItemStatus;
+import searching_program.search_product.type.OrderStatus;
+import searching_program.search_product.type.PaymentStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static searching_program.search_product.type.ErrorCode.*;
+
+/**
+ * 장바구니 -> 주문 체크아웃
+ * 회원/장바구니/아이템을 한 번만 읽고 검증, 주문 생성, 재고 차감, 결제 대기, 장바구니 비우기를 한 트랜잭션에서 처리
+ * 결제 승인은 커밋 후 비동기 (트랜잭션을 짧게 유지)
+ * 승인이 실패하거나 승인 대기가 app.checkout.payment-timeout-minutes 를 넘기면 주문을 취소하고 재고를 되돌린다
+ */
+@Slf4j
+@Service
+public class CheckoutService {
+
+    private final MemberRepository memberRepository;
+    private final BucketRepository bucketRepository;
+    private final OrderRepository orderRepository;
+    private final InventoryLedgerService inventoryLedgerService;
+    private final PaymentService paymentService;
+    private final PaymentRepository paymentRepository;
+    private final OrderService orderService;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DtoEntityConverter converter;
+    private final MeterRegistry meterRegistry;
+    private final PricingService pricingService;
+    private final Duration paymentTimeout;
+    private final int sweepBatchSize;
+
+    public CheckoutService(MemberRepository memberRepository,
+                           BucketRepository bucketRepository,
+                           OrderRepository orderRepository,
+                           InventoryLedgerService inventoryLedgerService,
+                           PaymentService paymentService,
+                           PaymentRepository paymentRepository,
+                           OrderService orderService,
+                           OptimisticLockRetryExecutor retryExecutor,
+                           ReadYourWritesTracker readYourWritesTracker,
+                           ApplicationEventPublisher eventPublisher,
+                           DtoEntityConverter converter,
+                           MeterRegistry meterRegistry,
+                           PricingService pricingService,
+                           @Value("${app.checkout.payment-timeout-minutes:15}") long paymentTimeoutMinutes,
+                           @Value("${app.checkout.payment-sweep-batch-size:100}") int sweepBatchSize) {
+        this.memberRepository = memberRepository;
+        this.bucketRepository = bucketRepository;
+        this.orderRepository = orderRepository;
+        this.inventoryLedgerService = inventoryLedgerService;
+        this.paymentService = paymentService;
+        this.paymentRepository = paymentRepository;
+        this.orderService = orderService;
+        this.retryExecutor = retryExecutor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.eventPublisher = eventPublisher;
+        this.converter = converter;
+        this.meterRegistry = meterRegistry;
+        this.pricingService = pricingService;
+        this.paymentTimeout = Duration.ofMinutes(paymentTimeoutMinutes);
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    public CheckoutResultDto checkout(Long memberId) {
+        if (memberId == null) {
+            throw new CustomError(INVALID_INPUT_VALUE);
+        }
+        return stage("total", () -> retryExecutor.execute("checkout", () -> doCheckout(memberId)));
+    }
+
+    private CheckoutResultDto doCheckout(Long memberId) {
+        // 1. 회원 + 선택된 장바구니(아이템 fetch join) 한 번에 조회
+        Timer.Sample load = Timer.start(meterRegistry);
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new CustomError(USER_NOT_FOUND));
+        List<Bucket> buckets = bucketRepository.findSelectedWithItem(memberId);
+        load.stop(stageTimer("load"));
+        if (buckets.isEmpty()) {
+            throw new CustomError(BUCKET_NOT_FOUND);
+        }
+
+        // 2. 읽어 둔 엔티티로 검증 (재조회 없음), 판매 가격은 한 번만 계산해 주문에 그대로 쓴다
+        int[] prices = stage("validate", () -> {
+            int[] unitPrices = new int[buckets.size()];
+            for (int i = 0; i < unitPrices.length; i++) {
+                unitPrices[i] = validate(buckets.get(i));
+            }
+            return unitPrices;
+        });
+
+        // 3. 주문 생성
+        Orders savedOrder = stage("order", () -> orderRepository.save(buildOrder(member, buckets, prices)));
+
+        // 4. 재고 차감 (원장)
+        stage("reserve", () -> {
+            for (Bucket bucket : buckets) {
+                inventoryLedgerService.reserve(bucket.getItem().getId(), bucket.getQuantity(), savedOrder.getId());
+            }
+            return null;
+        });
+
+        // 5. 결제 대기 등록 - 승인은 커밋 후 비동기
+        Payment payment = stage("payment", () -> {
+            Payment pending = paymentService.createPendingPayment(member, savedOrder, savedOrder.getTotalAmount());
+            eventPublisher.publishEvent(new PaymentRequestedEvent(pending.getId(), savedOrder.getId()));
+            return pending;
+        });
+
+        // 6. 장바구니 비우기 (delete 한 번)
+        stage("clear", () -> {
+            bucketRepository.deleteAllInBatch(buckets);
+            return null;
+        });
+
+        eventPublisher.publishEvent(new OrderPlacedEvent(savedOrder.getId(), memberId,
+                buckets.stream().map(bucket -> bucket.getItem().getId()).toList()));
+        readYourWritesTracker.markWrite(member.getUserId());
+        log.info("체크아웃 완료: Member ID = {}, Order ID = {}, 항목 = {}건, 금액 = {}",
+                memberId, savedOrder.getId(), buckets.size(), savedOrder.getTotalAmount());
+
+        return CheckoutResultDto.builder()
+                .order(converter.convertToOrderDto(savedOrder))
+                .paymentId(payment.getId())
+                .paymentStatus(payment.getPaymentStatus())
+                .build();
+    }
+
+    /**
+     * 결제 승인 (주문 커밋 후 비동기로 호출)
+     * 승인에 실패하면 같은 트랜잭션에서 주문을 취소하고 예약한 재고를 되돌린다
+     */
+    public PaymentDto completePayment(Long paymentId) {
+        return retryExecutor.execute("checkout.payment", () -> {
+            PaymentDto payment = paymentService.processPendingPayment(paymentId);
+            if (payment.getStatus() == PaymentStatus.FAILED) {
+                cancelUnpaidOrder(paymentId, payment.getOrderId());
+            }
+            return payment;
+        });
+    }
+
+    /**
+     * 승인 대기가 너무 오래된 결제 정리 (승인 이벤트 유실, 처리 중 장애 등)
+     * 결제를 실패로 바꾸고 주문 취소 / 재고 복구 - 한 번에 sweep-batch-size 건, 건별 트랜잭션
+     *
+     * @return 만료 처리한 결제 수
+     */
+    @Scheduled(initialDelayString = "${app.checkout.payment-sweep-interval-ms:60000}",
+            fixedDelayString = "${app.checkout.payment-sweep-interval-ms:60000}")
+    public int expireStalePayments() {
+        LocalDateTime before = LocalDateTime.now().minus(paymentTimeout);
+        List<Object[]> stale = paymentRepository.findStaleRows(PaymentStatus.PENDING, before, PageRequest.ofSize(sweepBatchSize));
+
+        int expired = 0;
+        for (Object[] row : stale) {
+            Long paymentId = (Long) row[0];
+            Long orderId = (Long) row[1];
+            try {
+                if (retryExecutor.execute("checkout.payment-expire", () -> expire(paymentId, orderId))) {
+                    expired++;
+                }
+            } catch (RuntimeException e) {
+                log.error("결제 만료 처리 실패: Payment ID = {}, Order ID = {}, 오류 = {}", paymentId, orderId, e.getMessage());
+            }
+        }
+        if (expired > 0) {
+            log.warn("승인 대기 시간 초과 결제 {}건 실패 처리", expired);
+        }
+        return expired;
+    }
+
+    private boolean expire(Long paymentId, Long orderId) {
+        // 그 사이 승인 처리가 끝났으면 건드리지 않는다
+        if (paymentRepository.updateStatusIf(paymentId, PaymentStatus.PENDING, PaymentStatus.FAILED) == 0) {
+            return false;
+        }
+        cancelUnpaidOrder(paymentId, orderId);
+        return true;
+    }
+
+    private void cancelUnpaidOrder(Long paymentId, Long orderId) {
+        log.warn("결제 실패로 주문 취소: Payment ID = {}, Order ID = {}", paymentId, orderId);
+        orderService.cancelOrder(orderId);
+    }
+
+    // 통과하면 개당 판매 가격 반환
+    private int validate(Bucket bucket) {
+        Item item = bucket.getItem();
+
+        if (item.getItemStatus() != ItemStatus.AVAILABLE) {
+            log.error("상품 판매 불가 상태: 아이템 ID = {}, 현재 상태 = {}", item.getId(), item.getItemStatus());
+            throw new CustomError(ITEM_NOT_SALE);
+        }
+        if (item.getStock() < bucket.getQuantity()) {
+            log.error("재고 부족: 아이템 ID = {}, 요청 수량 = {}, 현재 재고 = {}", item.getId(), bucket.getQuantity(), item.getStock());
+            throw new CustomError(OUT_OF_STOCK);
+        }
+        // 장바구니에 담을 때보다 비싸졌을 때만 막는다 (할인이 시작돼 싸진 건 그대로 결제)
+        int price = pricingService.effectivePrice(item);
+        if ((long) price * bucket.getQuantity() > bucket.getItemTotalPrice()) {
+            log.error("가격 변경 감지: 아이템 ID = {}, 장바구니 금액 = {}, 현재 가격 = {}", item.getId(), bucket.getItemTotalPrice(), price);
+            throw new CustomError(ITEM_PRICE_CHANGED);
+        }
+        return price;
+    }
+
+    private Orders buildOrder(Member member, List<Bucket> buckets, int[] prices) {
+        LocalDateTime now = LocalDateTime.now();
+        Orders order = new Orders();
+        order.setMember(member);
+        order.setOrderDate(now);
+        order.setCreatedDate(now);
+
+        double totalAmount = 0;
+        for (int i = 0; i < buckets.size(); i++) {
+            Bucket bucket = buckets.get(i);
+            order.addOrderItem(OrderItem.builder()
+                    .item(bucket.getItem())
+                    .quantity(bucket.getQuantity())
+                    .price(prices[i])
+                    .build());
+            totalAmount += (double) prices[i] * bucket.getQuantity();
+        }
+        order.setTotalAmount(totalAmount);
+        order.changeStatus(OrderStatus.ORDERED);
+        return order;
+    }
+
+    private <T> T stage(String stage, Supplier<T> body) {
+        return stageTimer(stage).record(body);
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder("checkout.stage")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
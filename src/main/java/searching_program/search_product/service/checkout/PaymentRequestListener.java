@@ -0,0 +1,32 @@
+package searching_program.search_product.service.checkout;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import searching_program.search_product.dto.PaymentDto;
+
+/**
+ * 주문 트랜잭션 커밋 후 결제 승인 (주문 트랜잭션이 결제 게이트웨이를 기다리지 않도록)
+ * 실패하면 CheckoutService 가 주문 취소 / 재고 복구, 여기서 처리하지 못한 결제는 만료 점검이 정리한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentRequestListener {
+
+    private final CheckoutService checkoutService;
+
+    @Async
+    @TransactionalEventListener
+    public void onPaymentRequested(PaymentRequestedEvent event) {
+        try {
+            PaymentDto payment = checkoutService.completePayment(event.paymentId());
+            log.info("결제 처리 완료: Payment ID = {}, Order ID = {}, 상태 = {}",
+                    event.paymentId(), event.orderId(), payment.getStatus());
+        } catch (RuntimeException e) {
+            log.error("결제 처리 실패: Payment ID = {}, 오류 = {}", event.paymentId(), e.getMessage());
+        }
+    }
+}
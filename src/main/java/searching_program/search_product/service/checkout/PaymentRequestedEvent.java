@@ -0,0 +1,7 @@
+package searching_program.search_product.service.checkout;
+
+/**
+ * 결제 대기 생성 이벤트 - 커밋 후 비동기로 승인 처리
+ */
+public record PaymentRequestedEvent(Long paymentId, Long orderId) {
+}
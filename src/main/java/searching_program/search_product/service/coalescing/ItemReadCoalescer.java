@@ -0,0 +1,112 @@
+package searching_program.search_product.service.coalescing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import searching_program.search_product.dto.ItemDto;
+import searching_program.search_product.service.ItemService;
+import searching_program.search_product.service.catalog.CatalogVersionTracker;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 인기 상품 상세 조회(GET /items/{id}) 앞단
+ * 짧은 TTL 결과 캐시 + 같은 id 동시 조회 합치기로 DB 조회를 요청 수가 아닌 id 수 만큼으로 줄인다.
+ * 이 인스턴스의 상품 변경 시 해당 id 캐시는 바로 비우고, 카테고리/프로모션이 바뀌면 전부 비운다.
+ * 재고만 바뀐 경우는 비우지 않는다 (TTL 후 다시 읽으면 새 version 으로 ETag도 바뀜).
+ */
+@Component
+public class ItemReadCoalescer {
+
+    private final ItemService itemService;
+    private final CatalogVersionTracker catalogVersionTracker;
+
+    private final SingleFlight<Long, ItemDto> promotionFlight = new SingleFlight<>();
+    private final SingleFlight<Long, ItemDto> itemFlight = new SingleFlight<>();
+    private final Cache<Long, ItemDto> promotionCache;
+    private final Cache<Long, ItemDto> itemCache;
+
+    public ItemReadCoalescer(ItemService itemService,
+                             CatalogVersionTracker catalogVersionTracker,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.item-read.cache-ttl-ms:1000}") long cacheTtlMillis,
+                             @Value("${app.item-read.cache-size:10000}") long cacheSize) {
+        this.itemService = itemService;
+        this.catalogVersionTracker = catalogVersionTracker;
+        this.promotionCache = newCache(cacheTtlMillis, cacheSize);
+        this.itemCache = newCache(cacheTtlMillis, cacheSize);
+
+        bindMetrics(meterRegistry, "itemWithPromotion", promotionFlight, promotionCache);
+        bindMetrics(meterRegistry, "itemById", itemFlight, itemCache);
+
+        // 상품이 바뀌면 캐시를 비워 새 ETag에 이전 본문이 붙지 않도록 한다
+        catalogVersionTracker.onItemChanged(this::evict);
+        catalogVersionTracker.onCatalogChanged(this::evictAll);
+    }
+
+    public ItemDto getItemWithPromotion(Long itemId) {
+        ItemDto cached = promotionCache.getIfPresent(itemId);
+        if (cached != null) {
+            return cached;
+        }
+        return promotionFlight.execute(itemId, () -> load(itemId, promotionCache, itemService::getItemWithPromotion));
+    }
+
+    public ItemDto findById(Long itemId) {
+        ItemDto cached = itemCache.getIfPresent(itemId);
+        if (cached != null) {
+            return cached;
+        }
+        return itemFlight.execute(itemId, () -> load(itemId, itemCache, itemService::findById));
+    }
+
+    // 조회 중에 상품이 바뀌었으면 결과를 캐시하지 않음
+    private ItemDto load(Long itemId, Cache<Long, ItemDto> cache, Function<Long, ItemDto> loader) {
+        long version = catalogVersionTracker.itemVersion(itemId);
+        ItemDto itemDto = loader.apply(itemId);
+        if (catalogVersionTracker.itemVersion(itemId) == version) {
+            cache.put(itemId, itemDto);
+        }
+        return itemDto;
+    }
+
+    public void evict(long itemId) {
+        promotionCache.invalidate(itemId);
+        itemCache.invalidate(itemId);
+    }
+
+    public void evictAll() {
+        promotionCache.invalidateAll();
+        itemCache.invalidateAll();
+    }
+
+    private static Cache<Long, ItemDto> newCache(long ttlMillis, long size) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .maximumSize(size)
+                .recordStats()
+                .build();
+    }
+
+    private static void bindMetrics(MeterRegistry registry, String name,
+                                    SingleFlight<Long, ItemDto> flight, Cache<Long, ItemDto> cache) {
+        FunctionCounter.builder("item.read.loads", flight, SingleFlight::getLoadCount)
+                .description("DB까지 내려간 상품 조회 수")
+                .tag("read", name)
+                .register(registry);
+        FunctionCounter.builder("item.read.coalesced", flight, SingleFlight::getCoalescedCount)
+                .description("진행 중인 조회에 합류한 요청 수")
+                .tag("read", name)
+                .register(registry);
+        Gauge.builder("item.read.in.flight", flight, SingleFlight::getInFlightCount)
+                .tag("read", name)
+                .register(registry);
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+}
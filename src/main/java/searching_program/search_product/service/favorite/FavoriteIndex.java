@@ -0,0 +1,150 @@
+package searching_program.search_product.service.favorite;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import searching_program.search_product.repository.ItemFavoriteRepository;
+import searching_program.search_product.service.support.LongIntHashMap;
+import searching_program.search_product.service.support.SortedLongArrays;
+import searching_program.search_product.service.support.StampedGuard;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 즐겨찾기 메모리 인덱스 (tblItemFavorite 가 원본)
+ * - 회원별 즐겨찾기 아이템 id 는 정렬된 long[] 로 보관, 처음 조회할 때 적재 (크기 + TTL 제한 캐시)
+ *   다른 인스턴스에서 바뀐 즐겨찾기나 cascade 삭제는 TTL 이 지나면 DB 에서 다시 읽는다
+ * - 배열은 바꾸지 않고 새로 만들어 교체하므로 조회는 잠금 없이 이진 탐색
+ * - 아이템별 즐겨찾기 수는 기동 시 한 번 집계한 뒤 변경마다 증감, 주기적으로 다시 집계해 보정
+ * - 변경은 즉시 반영하고 롤백되면 되돌린다 (같은 트랜잭션에서 바로 보이도록)
+ */
+@Slf4j
+@Component
+public class FavoriteIndex {
+
+    private final ItemFavoriteRepository itemFavoriteRepository;
+    private final Cache<Long, long[]> memberFavorites;
+
+    private final StampedGuard<LongIntHashMap> itemCounts = new StampedGuard<>(new LongIntHashMap(1024));
+
+    public FavoriteIndex(ItemFavoriteRepository itemFavoriteRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.favorite-index.max-members:100000}") long maxMembers,
+                         @Value("${app.favorite-index.member-ttl-seconds:600}") long memberTtlSeconds) {
+        this.itemFavoriteRepository = itemFavoriteRepository;
+        this.memberFavorites = Caffeine.newBuilder()
+                .maximumSize(maxMembers)
+                .expireAfterWrite(Duration.ofSeconds(memberTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memberFavorites, "favorite.members");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        recount();
+    }
+
+    /**
+     * 아이템별 즐겨찾기 수 재집계 - 다른 경로(회원/아이템 삭제 cascade 등)로 생긴 오차 보정
+     */
+    @Scheduled(initialDelayString = "${app.favorite-index.recount-interval-ms:3600000}",
+            fixedDelayString = "${app.favorite-index.recount-interval-ms:3600000}")
+    public void recount() {
+        List<Object[]> rows = itemFavoriteRepository.countByItem();
+        LongIntHashMap counts = new LongIntHashMap(Math.max(rows.size(), 1024));
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+
+        itemCounts.replace(previous -> counts);
+        log.info("즐겨찾기 수 집계 완료: 아이템 {}개", rows.size());
+    }
+
+    /**
+     * 회원의 즐겨찾기 아이템 id (오름차순, 반환된 배열은 수정 금지)
+     */
+    public long[] itemIdsOf(long memberId) {
+        return memberFavorites.get(memberId, this::load);
+    }
+
+    public boolean contains(long memberId, long itemId) {
+        return SortedLongArrays.contains(itemIdsOf(memberId), itemId);
+    }
+
+    public int favoriteCount(long itemId) {
+        return itemCounts.read(counts -> counts.get(itemId, 0));
+    }
+
+    /**
+     * 즐겨찾기 추가가 저장된 뒤 호출 (호출 전에 중복이 아님을 확인해야 한다)
+     */
+    public void added(long memberId, long itemId) {
+        changed(memberId, itemId, true);
+    }
+
+    /**
+     * 즐겨찾기 삭제가 반영된 뒤 호출
+     */
+    public void removed(long memberId, long itemId) {
+        changed(memberId, itemId, false);
+    }
+
+    private void changed(long memberId, long itemId, boolean add) {
+        applyToMember(memberId, itemId, add);
+        adjustCount(itemId, add ? 1 : -1);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        // 커밋 전에 다른 요청이 이전 상태로 적재했을 수 있으므로 한 번 더 반영 (멱등)
+                        applyToMember(memberId, itemId, add);
+                    } else {
+                        applyToMember(memberId, itemId, !add);
+                        adjustCount(itemId, add ? -1 : 1);
+                    }
+                }
+            });
+        }
+    }
+
+    private void applyToMember(long memberId, long itemId, boolean add) {
+        // 적재되지 않은 회원은 다음 조회 때 테이블에서 읽는다
+        memberFavorites.asMap().computeIfPresent(memberId, (id, set) -> add
+                ? SortedLongArrays.insert(set, itemId)
+                : SortedLongArrays.remove(set, itemId));
+    }
+
+    private void adjustCount(long itemId, int delta) {
+        itemCounts.write(counts -> {
+            int count = counts.get(itemId, 0) + delta;
+            if (count > 0) {
+                counts.put(itemId, count);
+            } else {
+                counts.remove(itemId);
+            }
+            return count;
+        });
+    }
+
+    private long[] load(long memberId) {
+        List<Long> itemIds = itemFavoriteRepository.findItemIdsByMemberId(memberId);
+        long[] values = new long[itemIds.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = itemIds.get(i);
+        }
+        return SortedLongArrays.of(values);
+    }
+}
@@ -0,0 +1,276 @@
+package searching_program.search_product.service.inventory;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import searching_program.search_product.domain.InventoryMovement;
+import searching_program.search_product.domain.InventorySnapshot;
+import searching_program.search_product.domain.Item;
+import searching_program.search_product.dto.DtoEntityConverter;
+import searching_program.search_product.dto.InventoryMovementDto;
+import searching_program.search_product.dto.InventoryStatusDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.InventoryMovementRepository;
+import searching_program.search_product.repository.InventorySnapshotRepository;
+import searching_program.search_product.repository.ItemRepository;
+import searching_program.search_product.service.stock.StockThresholdWatcher;
+import searching_program.search_product.type.MovementType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static searching_program.search_product.type.ErrorCode.*;
+
+/**
+ * 재고 원장 서비스 - 모든 재고 변경은 이곳을 거친다
+ * - 변경마다 원장(tblInventoryMovement)에 한 줄 추가하고, tblItem.stock(projection)은 조건부 update 한 문장으로 갱신
+ * - 스냅샷은 샤드(itemId % shards) 단위로 주기적으로 갱신, 현재 재고 = 스냅샷 + 이후 원장 합계
+ * - rebuild 는 원장 전체를 다시 더해 projection 과 스냅샷을 재작성
+ * shards 값은 원장 행에 저장되므로 운영 중에 바꾸지 않는다
+ */
+@Slf4j
+@Service
+public class InventoryLedgerService {
+
+    private static final String OPENING_BALANCE = "opening balance";
+
+    private final ItemRepository itemRepository;
+    private final InventoryMovementRepository movementRepository;
+    private final InventorySnapshotRepository snapshotRepository;
+    private final StockThresholdWatcher stockThresholdWatcher;
+    private final DtoEntityConverter converter;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int shards;
+    private final long snapshotLagSeconds;
+
+    public InventoryLedgerService(ItemRepository itemRepository,
+                                  InventoryMovementRepository movementRepository,
+                                  InventorySnapshotRepository snapshotRepository,
+                                  StockThresholdWatcher stockThresholdWatcher,
+                                  DtoEntityConverter converter,
+                                  EntityManager entityManager,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.inventory.shards:16}") int shards,
+                                  @Value("${app.inventory.snapshot-lag-seconds:60}") long snapshotLagSeconds) {
+        this.itemRepository = itemRepository;
+        this.movementRepository = movementRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.stockThresholdWatcher = stockThresholdWatcher;
+        this.converter = converter;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shards = shards;
+        this.snapshotLagSeconds = snapshotLagSeconds;
+    }
+
+    /**
+     * 주문 차감 - 재고가 부족하면 OUT_OF_STOCK
+     *
+     * @return 변경 후 재고
+     */
+    @Transactional
+    public int reserve(Long itemId, int quantity, Long orderId) {
+        requirePositive(quantity);
+        return apply(itemId, MovementType.RESERVATION, -quantity, orderId, null);
+    }
+
+    /**
+     * 주문 취소 복구
+     */
+    @Transactional
+    public int release(Long itemId, int quantity, Long orderId) {
+        requirePositive(quantity);
+        return apply(itemId, MovementType.RELEASE, quantity, orderId, null);
+    }
+
+    /**
+     * 입고
+     */
+    @Transactional
+    public int restock(Long itemId, int quantity, String reason) {
+        requirePositive(quantity);
+        return apply(itemId, MovementType.RESTOCK, quantity, null, reason);
+    }
+
+    /**
+     * 실사 보정 (delta 는 음수 가능)
+     */
+    @Transactional
+    public int adjust(Long itemId, int delta, String reason) {
+        if (delta == 0) {
+            throw new CustomError(INVALID_INPUT_VALUE);
+        }
+        return apply(itemId, MovementType.ADJUSTMENT, delta, null, reason);
+    }
+
+    /**
+     * 새 아이템의 시작 재고를 원장에 기록 (projection 은 이미 반영된 상태)
+     */
+    @Transactional
+    public void recordOpeningBalance(Long itemId, int stock) {
+        append(itemId, MovementType.ADJUSTMENT, stock, null, OPENING_BALANCE);
+    }
+
+    /**
+     * 원장 도입 전 아이템의 현재 재고를 시작 잔액으로 기록
+     *
+     * @return 기록한 아이템 수
+     */
+    @Transactional
+    public int backfillOpeningBalances() {
+        List<Object[]> items = movementRepository.findItemsWithoutMovements();
+        for (Object[] row : items) {
+            append((Long) row[0], MovementType.ADJUSTMENT, (Integer) row[1], null, OPENING_BALANCE);
+        }
+        log.info("재고 원장 시작 잔액 기록: {}건", items.size());
+        return items.size();
+    }
+
+    @Transactional(readOnly = true)
+    public InventoryStatusDto getStatus(Long itemId) {
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new CustomError(ITEM_NOT_FOUND));
+        InventorySnapshot snapshot = snapshotRepository.findByItemId(itemId).orElse(null);
+
+        int snapshotStock = snapshot != null ? snapshot.getStock() : 0;
+        long snapshotMovementId = snapshot != null ? snapshot.getLastMovementId() : 0;
+        long ledgerStock = snapshotStock + movementRepository.sumQuantityAfter(itemId, snapshotMovementId);
+
+        return InventoryStatusDto.builder()
+                .itemId(itemId)
+                .stock(item.getStock())
+                .ledgerStock(ledgerStock)
+                .snapshotStock(snapshotStock)
+                .snapshotMovementId(snapshotMovementId)
+                .consistent(ledgerStock == item.getStock())
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<InventoryMovementDto> getMovements(Long itemId, int page, int size) {
+        return movementRepository.findByItemIdOrderByIdDesc(itemId, PageRequest.of(page, size))
+                .map(converter::convertToInventoryMovementDto);
+    }
+
+    /**
+     * 원장 전체를 다시 더해 projection(tblItem.stock) 과 스냅샷 재작성
+     *
+     * @return 재계산한 재고
+     */
+    @Transactional
+    public int rebuild(Long itemId) {
+        if (!itemRepository.existsById(itemId)) {
+            throw new CustomError(ITEM_NOT_FOUND);
+        }
+        if (!movementRepository.existsByItemId(itemId)) {
+            // 원장이 비어 있으면 다시 계산할 근거가 없으므로 현재 재고를 시작 잔액으로 둔다
+            Item item = itemRepository.findById(itemId).orElseThrow(() -> new CustomError(ITEM_NOT_FOUND));
+            recordOpeningBalance(itemId, item.getStock());
+            return item.getStock();
+        }
+
+        long lastId = movementRepository.findLastIdByItemId(itemId);
+        int stock = Math.toIntExact(movementRepository.sumQuantityAfter(itemId, 0));
+        itemRepository.overwriteStock(itemId, stock);
+
+        InventorySnapshot snapshot = snapshotRepository.findByItemId(itemId)
+                .orElseGet(() -> InventorySnapshot.builder().itemId(itemId).shard(shardOf(itemId)).build());
+        snapshot.setStock(stock);
+        snapshot.setLastMovementId(lastId);
+        snapshot.setUpdatedAt(LocalDateTime.now());
+        snapshotRepository.save(snapshot);
+
+        afterStockChange(itemId);
+        log.info("재고 재계산: 아이템 ID = {}, 재고 = {}, 마지막 원장 ID = {}", itemId, stock, lastId);
+        return stock;
+    }
+
+    /**
+     * 샤드별 스냅샷 갱신 - 샤드마다 별도 트랜잭션
+     * 커밋이 늦은 원장을 건너뛰지 않도록 snapshot-lag 이전 원장만 반영
+     *
+     * @return 갱신한 스냅샷 수
+     */
+    @Scheduled(initialDelayString = "${app.inventory.snapshot-interval-ms:600000}",
+            fixedDelayString = "${app.inventory.snapshot-interval-ms:600000}")
+    public int snapshot() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(snapshotLagSeconds);
+        int updated = 0;
+        for (int shard = 0; shard < shards; shard++) {
+            int current = shard;
+            Integer count = transactionTemplate.execute(status -> snapshotShard(current, cutoff));
+            updated += count != null ? count : 0;
+        }
+        if (updated > 0) {
+            log.info("재고 스냅샷 갱신: {}건", updated);
+        }
+        return updated;
+    }
+
+    int shardOf(long itemId) {
+        return (int) Math.floorMod(itemId, (long) shards);
+    }
+
+    private int snapshotShard(int shard, LocalDateTime cutoff) {
+        List<Object[]> pending = movementRepository.sumPendingByShard(shard, cutoff);
+        for (Object[] row : pending) {
+            Long itemId = (Long) row[0];
+            InventorySnapshot snapshot = snapshotRepository.findByItemId(itemId)
+                    .orElseGet(() -> InventorySnapshot.builder().itemId(itemId).shard(shard).build());
+            snapshot.setStock(snapshot.getStock() + Math.toIntExact((Long) row[1]));
+            snapshot.setLastMovementId((Long) row[2]);
+            snapshot.setUpdatedAt(LocalDateTime.now());
+            snapshotRepository.save(snapshot);
+        }
+        return pending.size();
+    }
+
+    private int apply(Long itemId, MovementType type, int delta, Long orderId, String reason) {
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new CustomError(ITEM_NOT_FOUND));
+
+        if (itemRepository.applyStockDelta(itemId, delta) == 0) {
+            throw new CustomError(OUT_OF_STOCK);
+        }
+        append(itemId, type, delta, orderId, reason);
+
+        // 벌크 update 는 영속성 컨텍스트를 거치지 않으므로 재고/버전을 다시 읽는다
+        // 재고만 바뀐 경우는 카탈로그 버전/캐시를 건드리지 않는다 (상세 캐시 TTL 후 새 version 으로 반영)
+        entityManager.refresh(item);
+        stockThresholdWatcher.stockChanged(itemId, item.getItemName(), item.getStock());
+        return item.getStock();
+    }
+
+    private void afterStockChange(Long itemId) {
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new CustomError(ITEM_NOT_FOUND));
+        entityManager.refresh(item);
+        stockThresholdWatcher.stockChanged(itemId, item.getItemName(), item.getStock());
+    }
+
+    private void append(Long itemId, MovementType type, int quantity, Long orderId, String reason) {
+        movementRepository.save(InventoryMovement.builder()
+                .itemId(itemId)
+                .shard(shardOf(itemId))
+                .type(type)
+                .quantity(quantity)
+                .orderId(orderId)
+                .reason(reason)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void requirePositive(int quantity) {
+        if (quantity <= 0) {
+            throw new CustomError(MUST_OVER_THAN_ZERO);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package searching_program.search_product.service.member;
+
+import searching_program.search_product.domain.Member;
+import searching_program.search_product.type.MemberStatus;
+
+import java.util.Set;
+
+/**
+ * 인증/권한 확인에 필요한 회원 정보만 담은 불변 스냅샷 (캐시 값)
+ * 비밀번호 해시는 담지 않는다 - 로그인 시 MemberRepository.findPasswordByUserId 로 조회
+ */
+public record MemberIdentity(Long id,
+                             String userId,
+                             Set<String> roles,
+                             boolean locked,
+                             MemberStatus status) {
+
+    public static MemberIdentity from(Member member) {
+        return new MemberIdentity(
+                member.getId(),
+                member.getUserId(),
+                member.getRoles() == null ? Set.of() : Set.copyOf(member.getRoles()),
+                member.isAccountLock(),
+                member.getMemberStatus());
+    }
+
+    public boolean isActive() {
+        return status != MemberStatus.UN_ACTIVE;
+    }
+}
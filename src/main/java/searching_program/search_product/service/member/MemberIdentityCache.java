@@ -0,0 +1,88 @@
+package searching_program.search_product.service.member;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import searching_program.search_product.repository.MemberRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * userId -> 회원 식별 정보(id, 권한, 잠금/상태) 캐시
+ * - 인증된 요청마다 반복되던 findByUserId 조회를 줄인다
+ * - 잠금/비활성화/수정/삭제 시 명시적으로 무효화 (트랜잭션 종료 후 한 번 더 무효화해 커밋 전에 다시 읽힌 값도 제거)
+ * - 없는 회원은 캐시하지 않는다
+ * - 비밀번호 해시는 캐시하지 않는다 (로그인 시에만 따로 조회)
+ */
+@Slf4j
+@Component
+public class MemberIdentityCache {
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, MemberIdentity> cache;
+
+    public MemberIdentityCache(MemberRepository memberRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.member-cache.ttl-seconds:300}") long ttlSeconds,
+                               @Value("${app.member-cache.max-size:50000}") long maxSize) {
+        this.memberRepository = memberRepository;
+        // 호출한 쪽이 readOnly 트랜잭션이어도 별도 트랜잭션으로 primary 에서 읽는다
+        // (replica 지연으로 잠금 해제 전 상태가 TTL 동안 캐시되지 않도록)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "member.identity");
+    }
+
+    public Optional<MemberIdentity> findByUserId(String userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(userId, this::load));
+    }
+
+    private MemberIdentity load(String userId) {
+        return transactionTemplate.execute(status -> memberRepository.findWithRolesByUserId(userId)
+                .map(MemberIdentity::from)
+                .orElse(null));
+    }
+
+    /**
+     * 회원 정보 변경 시 호출 - 즉시 + 트랜잭션 종료 후 무효화
+     */
+    public void invalidate(String userId) {
+        if (userId == null) {
+            return;
+        }
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+        log.debug("회원 식별 캐시 무효화: userId={}", userId);
+    }
+
+    double hitRate() {
+        return cache.stats().hitRate();
+    }
+}
@@ -0,0 +1,9 @@
+package searching_program.search_product.service.order;
+
+import java.util.List;
+
+/**
+ * 주문 생성 이벤트 - 커밋 후 추천/집계 같은 부가 처리용
+ */
+public record OrderPlacedEvent(Long orderId, Long memberId, List<Long> itemIds) {
+}
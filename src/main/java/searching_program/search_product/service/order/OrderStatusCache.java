@@ -0,0 +1,93 @@
+package searching_program.search_product.service.order;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import searching_program.search_product.repository.OrderRepository;
+import searching_program.search_product.type.OrderStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * orderId -> 주문 상태 캐시
+ * - 앱의 상태 폴링이 주문/아이템을 다시 읽지 않고 캐시 조회 한 번으로 끝나게 한다
+ * - OrderStatusChangedEvent 가 발행되면 즉시 + 트랜잭션 종료 후 무효화한다
+ * - 이벤트를 거치지 않는 변경에 대비해 짧은 TTL 을 둔다
+ * - 없는 주문은 캐시하지 않는다
+ */
+@Slf4j
+@Component
+public class OrderStatusCache {
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, OrderStatusView> cache;
+
+    public OrderStatusCache(OrderRepository orderRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.order-status-cache.ttl-seconds:60}") long ttlSeconds,
+                            @Value("${app.order-status-cache.max-size:100000}") long maxSize) {
+        this.orderRepository = orderRepository;
+        // readOnly 가 아니므로 primary 에서 읽는다 (replica 지연으로 이전 상태가 캐시되지 않도록)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "order.status");
+    }
+
+    public Optional<OrderStatusView> find(Long orderId) {
+        if (orderId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(orderId, this::load));
+    }
+
+    @EventListener
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        invalidate(event.orderId());
+    }
+
+    public void invalidate(Long orderId) {
+        if (orderId == null) {
+            return;
+        }
+        cache.invalidate(orderId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(orderId);
+                }
+            });
+        }
+        log.debug("주문 상태 캐시 무효화: orderId={}", orderId);
+    }
+
+    private OrderStatusView load(Long orderId) {
+        List<Object[]> rows = transactionTemplate.execute(status -> orderRepository.findStatusRow(orderId));
+        if (rows == null || rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        return new OrderStatusView(orderId, (OrderStatus) row[0], ((Number) row[1]).longValue());
+    }
+
+    double hitRate() {
+        return cache.stats().hitRate();
+    }
+}
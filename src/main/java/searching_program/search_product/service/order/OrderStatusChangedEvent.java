@@ -0,0 +1,9 @@
+package searching_program.search_product.service.order;
+
+import searching_program.search_product.type.OrderStatus;
+
+/**
+ * 주문 상태 변경 이벤트 - 커밋 후 캐시 무효화/알림 같은 부가 처리용
+ */
+public record OrderStatusChangedEvent(Long orderId, OrderStatus from, OrderStatus to) {
+}
@@ -0,0 +1,9 @@
+package searching_program.search_product.service.order;
+
+import searching_program.search_product.type.OrderStatus;
+
+/**
+ * 주문 상태 캐시 항목 - 상태 조회에 필요한 값만 둔다 (version 은 ETag 용)
+ */
+public record OrderStatusView(Long orderId, OrderStatus status, long version) {
+}
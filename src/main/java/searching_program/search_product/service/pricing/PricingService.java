@@ -0,0 +1,26 @@
+package searching_program.search_product.service.pricing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import searching_program.search_product.domain.Item;
+import searching_program.search_product.service.promotion.PromotionRuleEngine;
+
+/**
+ * 판매 가격 계산 - 정가(Item.itemPrice)는 바꾸지 않고, 읽을 때 프로모션 규칙 인덱스로 할인가를 계산
+ * - 장바구니/체크아웃/상품 조회가 모두 같은 가격을 보도록 여기서만 계산한다
+ */
+@Service
+@RequiredArgsConstructor
+public class PricingService {
+
+    private final PromotionRuleEngine promotionRuleEngine;
+
+    /**
+     * 현재 판매 가격 (자동 적용 프로모션 반영, 쿠폰/등급 할인은 견적에서만)
+     */
+    public int effectivePrice(Item item) {
+        // 지연 로딩 프록시여도 id 는 초기화 없이 읽힌다
+        Long categoryId = item.getCategory() == null ? null : item.getCategory().getId();
+        return (int) promotionRuleEngine.effectivePrice(item.getId(), categoryId, item.getItemPrice());
+    }
+}
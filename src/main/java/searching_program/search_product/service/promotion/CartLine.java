@@ -0,0 +1,7 @@
+package searching_program.search_product.service.promotion;
+
+/**
+ * 가격 계산할 장바구니 한 줄 (아이템 정보는 호출자가 한 번에 조회해 넘긴다)
+ */
+public record CartLine(long itemId, Long categoryId, long unitPrice, int quantity) {
+}
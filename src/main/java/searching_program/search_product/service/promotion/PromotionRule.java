@@ -0,0 +1,50 @@
+package searching_program.search_product.service.promotion;
+
+import searching_program.search_product.type.DiscountType;
+import searching_program.search_product.type.Grade;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 컴파일된 프로모션 규칙 (tblPromotion 한 행)
+ * - itemId 가 있으면 아이템 규칙, 없고 categoryId 가 있으면 카테고리 규칙, 둘 다 없으면 전체 규칙
+ * - grade 가 있으면 해당 등급 회원에게만, couponRequired 면 쿠폰 코드를 입력했을 때만 적용
+ */
+public record PromotionRule(long id, DiscountType discountType, long value, Long itemId, Long categoryId,
+                            Grade grade, String couponCode, boolean couponRequired, boolean exclusive,
+                            int priority, LocalDateTime startDate, LocalDateTime endDate) {
+
+    // 적용 순서 - priority 오름차순, 같으면 먼저 만든 규칙
+    static final Comparator<PromotionRule> ORDER =
+            Comparator.comparingInt(PromotionRule::priority).thenComparingLong(PromotionRule::id);
+
+    // 기존 조회와 같이 시작/종료 시각 포함
+    public boolean activeAt(LocalDateTime now) {
+        return !now.isBefore(startDate) && !now.isAfter(endDate);
+    }
+
+    public boolean appliesTo(Grade memberGrade) {
+        return grade == null || grade == memberGrade;
+    }
+
+    public boolean targets(long lineItemId, Long lineCategoryId) {
+        if (itemId != null) {
+            return itemId == lineItemId;
+        }
+        if (categoryId != null) {
+            return categoryId.equals(lineCategoryId);
+        }
+        return true;
+    }
+
+    /**
+     * 개당 가격에 할인 적용 (원 단위 내림, 0 원 미만으로 내려가지 않는다)
+     */
+    public long apply(long price) {
+        long discounted = discountType == DiscountType.FIXED_AMOUNT
+                ? price - value
+                : price - price * value / 100;
+        return Math.max(discounted, 0);
+    }
+}
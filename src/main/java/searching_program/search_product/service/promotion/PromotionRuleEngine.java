@@ -0,0 +1,162 @@
+package searching_program.search_product.service.promotion;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import searching_program.search_product.dto.PromotionQuoteDto;
+import searching_program.search_product.dto.QuoteLineDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.PromotionRepository;
+import searching_program.search_product.service.catalog.CatalogVersionTracker;
+import searching_program.search_product.type.DiscountType;
+import searching_program.search_product.type.ErrorCode;
+import searching_program.search_product.type.Grade;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 프로모션 규칙 엔진 - 아직 끝나지 않은 규칙을 메모리 인덱스로 컴파일해 두고 견적은 DB 없이 계산
+ * - 프로모션이 바뀌면 커밋 후 다시 컴파일, 주기적으로도 다시 읽어 끝난 규칙을 걷어낸다
+ * - 다른 인스턴스의 프로모션 변경은 CatalogVersionTracker 공유 버전이 바뀔 때 다시 컴파일
+ */
+@Slf4j
+@Component
+public class PromotionRuleEngine {
+
+    private final PromotionRepository promotionRepository;
+
+    private volatile PromotionRuleSet rules = PromotionRuleSet.EMPTY;
+
+    public PromotionRuleEngine(PromotionRepository promotionRepository,
+                               CatalogVersionTracker catalogVersionTracker) {
+        this.promotionRepository = promotionRepository;
+        catalogVersionTracker.onPromotionChanged(this::reload);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${app.promotion.refresh-ms:60000}",
+            fixedDelayString = "${app.promotion.refresh-ms:60000}")
+    public void reload() {
+        List<Object[]> rows = promotionRepository.findRuleRowsEndingAfter(LocalDateTime.now());
+        List<PromotionRule> compiled = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            compiled.add(toRule(row));
+        }
+        rules = PromotionRuleSet.compile(compiled);
+        log.debug("프로모션 규칙 {}건 컴파일", compiled.size());
+    }
+
+    /**
+     * 프로모션 변경 트랜잭션이 커밋된 뒤 다시 컴파일
+     */
+    public void reloadAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    public int ruleCount() {
+        return rules.size();
+    }
+
+    /**
+     * 쿠폰/등급 조건 없이 자동 적용되는 할인만 반영한 개당 가격 (DB 조회 없음)
+     */
+    public long effectivePrice(long itemId, Long categoryId, long basePrice) {
+        return rules.price(new CartLine(itemId, categoryId, basePrice, 1), null, List.of(),
+                LocalDateTime.now(), new ArrayList<>(4)).discountedUnitPrice();
+    }
+
+    /**
+     * 장바구니 전체 견적 - 규칙 인덱스 한 번으로 모든 줄을 계산
+     *
+     * @param grade       회원 등급 (비회원이면 null)
+     * @param couponCodes 입력한 쿠폰 코드 - 없는 코드면 INVALID_COUPON_CODE, 기간이 아니면 NO_ACTIVE_PROMOTION
+     */
+    public PromotionQuoteDto quote(List<CartLine> lines, Grade grade, Collection<String> couponCodes) {
+        PromotionRuleSet current = rules;
+        LocalDateTime now = LocalDateTime.now();
+        List<PromotionRule> coupons = resolveCoupons(current, couponCodes, now);
+
+        List<QuoteLineDto> quoted = new ArrayList<>(lines.size());
+        List<PromotionRule> buffer = new ArrayList<>();
+        long subtotal = 0;
+        long total = 0;
+        for (CartLine line : lines) {
+            PromotionRuleSet.LinePrice price = current.price(line, grade, coupons, now, buffer);
+            long lineTotal = price.discountedUnitPrice() * line.quantity();
+            subtotal += line.unitPrice() * line.quantity();
+            total += lineTotal;
+            quoted.add(QuoteLineDto.builder()
+                    .itemId(line.itemId())
+                    .quantity(line.quantity())
+                    .unitPrice(line.unitPrice())
+                    .discountedUnitPrice(price.discountedUnitPrice())
+                    .lineTotal(lineTotal)
+                    .appliedPromotionIds(price.appliedRuleIds())
+                    .build());
+        }
+
+        return PromotionQuoteDto.builder()
+                .lines(quoted)
+                .subtotal(subtotal)
+                .discount(subtotal - total)
+                .total(total)
+                .build();
+    }
+
+    private static List<PromotionRule> resolveCoupons(PromotionRuleSet current, Collection<String> couponCodes,
+                                                      LocalDateTime now) {
+        if (couponCodes == null || couponCodes.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PromotionRule> coupons = new LinkedHashMap<>();
+        for (String code : couponCodes) {
+            PromotionRule rule = current.coupon(code);
+            if (rule == null) {
+                log.warn("쿠폰 코드가 유효하지 않습니다: {}", code);
+                throw new CustomError(ErrorCode.INVALID_COUPON_CODE);
+            }
+            if (!rule.activeAt(now)) {
+                throw new CustomError(ErrorCode.NO_ACTIVE_PROMOTION);
+            }
+            coupons.put(rule.id(), rule);
+        }
+        return List.copyOf(coupons.values());
+    }
+
+    // 기존 데이터(새 컬럼이 null)는 쿠폰 없이 자동 적용되는 중복 가능 퍼센트 할인으로 본다
+    static PromotionRule toRule(Object[] row) {
+        DiscountType type = row[3] == null ? DiscountType.PERCENTAGE : (DiscountType) row[3];
+        Long value = type == DiscountType.FIXED_AMOUNT ? (Long) row[5] : (Long) row[4];
+        return new PromotionRule(
+                (Long) row[0],
+                type,
+                value == null ? 0 : value,
+                (Long) row[1],
+                (Long) row[2],
+                (Grade) row[6],
+                (String) row[7],
+                Boolean.TRUE.equals(row[8]),
+                Boolean.TRUE.equals(row[9]),
+                row[10] == null ? 0 : (Integer) row[10],
+                row[11] == null ? LocalDateTime.MIN : (LocalDateTime) row[11],
+                (LocalDateTime) row[12]);
+    }
+}
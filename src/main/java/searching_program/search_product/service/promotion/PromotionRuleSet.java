@@ -0,0 +1,148 @@
+package searching_program.search_product.service.promotion;
+
+import searching_program.search_product.type.Grade;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 프로모션 규칙 인덱스 (불변) - 아이템 / 카테고리 / 전체 / 쿠폰 코드별로 미리 나눠 둔다
+ * - 장바구니 한 줄은 자기 아이템, 카테고리, 전체 규칙과 입력한 쿠폰만 살펴본다
+ * - 쿠폰 필수 규칙은 자동 적용 인덱스에 넣지 않고 쿠폰 코드로만 찾는다
+ */
+final class PromotionRuleSet {
+
+    private static final PromotionRule[] NONE = new PromotionRule[0];
+
+    static final PromotionRuleSet EMPTY = compile(List.of());
+
+    private final Map<Long, PromotionRule[]> byItem;
+    private final Map<Long, PromotionRule[]> byCategory;
+    private final PromotionRule[] global;
+    private final Map<String, PromotionRule> byCoupon;
+    private final int size;
+
+    private PromotionRuleSet(Map<Long, PromotionRule[]> byItem, Map<Long, PromotionRule[]> byCategory,
+                             PromotionRule[] global, Map<String, PromotionRule> byCoupon, int size) {
+        this.byItem = byItem;
+        this.byCategory = byCategory;
+        this.global = global;
+        this.byCoupon = byCoupon;
+        this.size = size;
+    }
+
+    static PromotionRuleSet compile(Collection<PromotionRule> rules) {
+        Map<Long, List<PromotionRule>> items = new HashMap<>();
+        Map<Long, List<PromotionRule>> categories = new HashMap<>();
+        List<PromotionRule> global = new ArrayList<>();
+        Map<String, PromotionRule> coupons = new HashMap<>();
+
+        for (PromotionRule rule : rules) {
+            if (rule.couponCode() != null) {
+                coupons.put(normalize(rule.couponCode()), rule);
+            }
+            if (rule.couponRequired()) {
+                continue;
+            }
+            if (rule.itemId() != null) {
+                items.computeIfAbsent(rule.itemId(), id -> new ArrayList<>()).add(rule);
+            } else if (rule.categoryId() != null) {
+                categories.computeIfAbsent(rule.categoryId(), id -> new ArrayList<>()).add(rule);
+            } else {
+                global.add(rule);
+            }
+        }
+        return new PromotionRuleSet(toSortedArrays(items), toSortedArrays(categories),
+                sorted(global), coupons, rules.size());
+    }
+
+    int size() {
+        return size;
+    }
+
+    PromotionRule coupon(String code) {
+        return code == null ? null : byCoupon.get(normalize(code));
+    }
+
+    /**
+     * 한 줄의 개당 할인 가격
+     * - 중복 가능 규칙은 priority 순서로 이어서 적용
+     * - 단독 규칙은 정가에 하나만 적용해 보고, 중복 적용 결과보다 싸면 그것만 쓴다
+     *
+     * @param coupons 입력한 쿠폰 규칙 (이미 유효성 확인됨)
+     * @param buffer  줄마다 재사용하는 후보 목록
+     */
+    LinePrice price(CartLine line, Grade grade, List<PromotionRule> coupons, LocalDateTime now,
+                    List<PromotionRule> buffer) {
+        buffer.clear();
+        collect(byItem.getOrDefault(line.itemId(), NONE), line, grade, now, buffer);
+        if (line.categoryId() != null) {
+            collect(byCategory.getOrDefault(line.categoryId(), NONE), line, grade, now, buffer);
+        }
+        collect(global, line, grade, now, buffer);
+        for (PromotionRule coupon : coupons) {
+            if (coupon.couponRequired()) {
+                collectOne(coupon, line, grade, now, buffer);
+            }
+        }
+        if (buffer.isEmpty()) {
+            return new LinePrice(line.unitPrice(), List.of());
+        }
+        buffer.sort(PromotionRule.ORDER);
+
+        long stacked = line.unitPrice();
+        List<Long> stackedIds = new ArrayList<>(buffer.size());
+        PromotionRule bestExclusive = null;
+        long bestExclusivePrice = Long.MAX_VALUE;
+        for (PromotionRule rule : buffer) {
+            if (rule.exclusive()) {
+                long price = rule.apply(line.unitPrice());
+                if (price < bestExclusivePrice) {
+                    bestExclusive = rule;
+                    bestExclusivePrice = price;
+                }
+            } else {
+                stacked = rule.apply(stacked);
+                stackedIds.add(rule.id());
+            }
+        }
+
+        if (bestExclusive != null && bestExclusivePrice < stacked) {
+            return new LinePrice(bestExclusivePrice, List.of(bestExclusive.id()));
+        }
+        return new LinePrice(stacked, stackedIds);
+    }
+
+    private static void collect(PromotionRule[] rules, CartLine line, Grade grade, LocalDateTime now,
+                                List<PromotionRule> buffer) {
+        for (PromotionRule rule : rules) {
+            collectOne(rule, line, grade, now, buffer);
+        }
+    }
+
+    private static void collectOne(PromotionRule rule, CartLine line, Grade grade, LocalDateTime now,
+                                   List<PromotionRule> buffer) {
+        if (rule.activeAt(now) && rule.appliesTo(grade) && rule.targets(line.itemId(), line.categoryId())) {
+            buffer.add(rule);
+        }
+    }
+
+    private static Map<Long, PromotionRule[]> toSortedArrays(Map<Long, List<PromotionRule>> grouped) {
+        Map<Long, PromotionRule[]> result = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((id, rules) -> result.put(id, sorted(rules)));
+        return result;
+    }
+
+    private static PromotionRule[] sorted(List<PromotionRule> rules) {
+        PromotionRule[] array = rules.toArray(NONE);
+        Arrays.sort(array, PromotionRule.ORDER);
+        return array;
+    }
+
+    static String normalize(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    record LinePrice(long discountedUnitPrice, List<Long> appliedRuleIds) {
+    }
+}
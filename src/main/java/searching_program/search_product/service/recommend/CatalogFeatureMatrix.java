@@ -0,0 +1,140 @@
+package searching_program.search_product.service.recommend;
+
+import searching_program.search_product.service.support.LongIntHashMap;
+
+import java.util.List;
+
+/**
+ * 판매 중인 아이템의 특성 행렬 (행 = 아이템, 열 = 카테고리 + 가격대), 만든 뒤에는 바꾸지 않는다
+ * - 카테고리는 one-hot, 가격대는 해당 구간 1.0 / 인접 구간 0.5
+ * - 행 단위로 이어 붙인 float[] 에 보관해 점수 계산이 배열을 순서대로 훑는다
+ */
+final class CatalogFeatureMatrix {
+
+    private static final float ADJACENT_BAND_WEIGHT = 0.5f;
+
+    private final int[] bandBounds;
+    private final LongIntHashMap categoryColumns;
+    private final int dimension;
+
+    private final long[] itemIds;
+    private final String[] itemNames;
+    private final int[] itemPrices;
+    private final float[] features;
+
+    private CatalogFeatureMatrix(int[] bandBounds, LongIntHashMap categoryColumns, int dimension,
+                                 long[] itemIds, String[] itemNames, int[] itemPrices, float[] features) {
+        this.bandBounds = bandBounds;
+        this.categoryColumns = categoryColumns;
+        this.dimension = dimension;
+        this.itemIds = itemIds;
+        this.itemNames = itemNames;
+        this.itemPrices = itemPrices;
+        this.features = features;
+    }
+
+    /**
+     * @param rows       [itemId, categoryId, itemPrice, itemName]
+     * @param bandBounds 가격대 경계 (오름차순)
+     */
+    static CatalogFeatureMatrix build(List<Object[]> rows, int[] bandBounds) {
+        LongIntHashMap categoryColumns = new LongIntHashMap();
+        for (Object[] row : rows) {
+            Long categoryId = (Long) row[1];
+            if (categoryId != null && !categoryColumns.containsKey(categoryId)) {
+                categoryColumns.put(categoryId, categoryColumns.size());
+            }
+        }
+        int dimension = categoryColumns.size() + bandBounds.length + 1;
+
+        int n = rows.size();
+        long[] itemIds = new long[n];
+        String[] itemNames = new String[n];
+        int[] itemPrices = new int[n];
+        float[] features = new float[n * dimension];
+        CatalogFeatureMatrix matrix = new CatalogFeatureMatrix(bandBounds, categoryColumns, dimension,
+                itemIds, itemNames, itemPrices, features);
+
+        for (int i = 0; i < n; i++) {
+            Object[] row = rows.get(i);
+            itemIds[i] = (Long) row[0];
+            itemPrices[i] = (Integer) row[2];
+            itemNames[i] = (String) row[3];
+            matrix.accumulate(features, i * dimension, (Long) row[1], itemPrices[i], 1f);
+        }
+        return matrix;
+    }
+
+    static CatalogFeatureMatrix empty(int[] bandBounds) {
+        return build(List.of(), bandBounds);
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    int rows() {
+        return itemIds.length;
+    }
+
+    long itemId(int row) {
+        return itemIds[row];
+    }
+
+    String itemName(int row) {
+        return itemNames[row];
+    }
+
+    int itemPrice(int row) {
+        return itemPrices[row];
+    }
+
+    /**
+     * 선호 벡터에 아이템 하나의 특성을 weight 만큼 더한다 (카탈로그에 없는 카테고리는 무시)
+     */
+    void addTo(float[] preference, Long categoryId, int price, float weight) {
+        accumulate(preference, 0, categoryId, price, weight);
+    }
+
+    /**
+     * 모든 행과 선호 벡터의 내적
+     */
+    void score(float[] preference, float[] out) {
+        int d = dimension;
+        for (int row = 0, base = 0; row < itemIds.length; row++, base += d) {
+            float sum = 0f;
+            for (int j = 0; j < d; j++) {
+                sum += features[base + j] * preference[j];
+            }
+            out[row] = sum;
+        }
+    }
+
+    private void accumulate(float[] vector, int offset, Long categoryId, int price, float weight) {
+        if (categoryId != null) {
+            int column = categoryColumns.get(categoryId, -1);
+            if (column >= 0) {
+                vector[offset + column] += weight;
+            }
+        }
+
+        int bands = bandBounds.length + 1;
+        int band = bandOf(price);
+        int bandOffset = offset + categoryColumns.size();
+        vector[bandOffset + band] += weight;
+        if (band > 0) {
+            vector[bandOffset + band - 1] += weight * ADJACENT_BAND_WEIGHT;
+        }
+        if (band < bands - 1) {
+            vector[bandOffset + band + 1] += weight * ADJACENT_BAND_WEIGHT;
+        }
+    }
+
+    private int bandOf(int price) {
+        int band = 0;
+        while (band < bandBounds.length && price >= bandBounds[band]) {
+            band++;
+        }
+        return band;
+    }
+}
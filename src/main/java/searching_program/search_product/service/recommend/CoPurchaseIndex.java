@@ -0,0 +1,222 @@
+package searching_program.search_product.service.recommend;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import searching_program.search_product.dto.RelatedItemDto;
+import searching_program.search_product.repository.OrderItemRepository;
+import searching_program.search_product.service.order.OrderPlacedEvent;
+import searching_program.search_product.service.support.LongIntHashMap;
+import searching_program.search_product.service.support.SortedLongArrays;
+import searching_program.search_product.service.support.StampedGuard;
+import searching_program.search_product.type.OrderStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * "함께 구매한 상품" 인덱스
+ * - 전체 재구성: 주문 id 범위를 fork-join 으로 나눠 병렬로 읽고 쌍별 횟수를 합친다
+ * - 증분 반영: 주문 커밋 후 OrderPlacedEvent 로 해당 주문의 쌍만 더한다
+ * - 조회는 메모리의 상위 K 이웃만 읽는다 (DB 조회 없음)
+ * - 취소된 주문은 재구성 때 빠진다 (증분으로는 빼지 않음)
+ */
+@Slf4j
+@Component
+public class CoPurchaseIndex {
+
+    private final OrderItemRepository orderItemRepository;
+    private final int topK;
+    private final long rangeSize;
+    private final int maxItemsPerOrder;
+    private final int parallelism;
+
+    private final StampedGuard<CoPurchaseMatrix> matrix;
+
+    // 재구성 중에 들어온 주문 (재구성 후 다시 반영), 재구성 중이 아니면 null
+    private final Object pendingLock = new Object();
+    private List<OrderPlacedEvent> pending;
+
+    public CoPurchaseIndex(OrderItemRepository orderItemRepository,
+                           @Value("${app.co-purchase.top-k:20}") int topK,
+                           @Value("${app.co-purchase.range-size:5000}") long rangeSize,
+                           @Value("${app.co-purchase.max-items-per-order:50}") int maxItemsPerOrder,
+                           @Value("${app.co-purchase.parallelism:4}") int parallelism) {
+        this.orderItemRepository = orderItemRepository;
+        this.topK = topK;
+        this.rangeSize = rangeSize;
+        this.maxItemsPerOrder = maxItemsPerOrder;
+        this.parallelism = parallelism;
+        this.matrix = new StampedGuard<>(new CoPurchaseMatrix(topK));
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재구성 후 교체
+     */
+    @Scheduled(cron = "${app.co-purchase.rebuild-cron:0 30 3 * * *}")
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        synchronized (pendingLock) {
+            pending = new ArrayList<>();
+        }
+        Long minOrderId = orderItemRepository.findMinOrderId();
+        Long maxOrderId = orderItemRepository.findMaxOrderId();
+
+        CoPurchaseMatrix built;
+        if (minOrderId == null) {
+            built = new CoPurchaseMatrix(topK);
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                built = CoPurchaseMatrix.of(pool.invoke(new CountTask(minOrderId, maxOrderId)), topK);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        matrix.replace(previous -> {
+            List<OrderPlacedEvent> missed;
+            synchronized (pendingLock) {
+                missed = pending;
+                pending = null;
+            }
+            for (OrderPlacedEvent event : missed) {
+                if (maxOrderId == null || event.orderId() > maxOrderId) {
+                    built.addOrder(distinctItemIds(event.itemIds()));
+                }
+            }
+            return built;
+        });
+        log.info("동시 구매 인덱스 재구성 완료: 쌍 {}개, {}ms", built.pairs(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        long[] itemIds = distinctItemIds(event.itemIds());
+        if (itemIds.length < 2) {
+            return;
+        }
+
+        matrix.write(current -> {
+            current.addOrder(itemIds);
+            synchronized (pendingLock) {
+                if (pending != null) {
+                    pending.add(event);
+                }
+            }
+            return current.pairs();
+        });
+    }
+
+    /**
+     * 함께 구매된 횟수 순 상위 아이템
+     */
+    public List<RelatedItemDto> related(long itemId, int limit) {
+        int size = Math.min(Math.max(limit, 0), topK);
+        long[] ids = new long[size];
+        int[] counts = new int[size];
+
+        // 쓰기와 겹쳐 다시 읽으면 ids / counts 도 다시 채워진다
+        int n = matrix.read(current -> current.neighbors(itemId, ids, counts));
+
+        if (n == 0) {
+            return Collections.emptyList();
+        }
+        List<RelatedItemDto> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            result.add(new RelatedItemDto(ids[i], counts[i]));
+        }
+        return result;
+    }
+
+    private long[] distinctItemIds(List<Long> itemIds) {
+        int n = Math.min(itemIds.size(), maxItemsPerOrder);
+        long[] values = new long[n];
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            Long itemId = itemIds.get(i);
+            if (itemId != null && itemId > 0 && itemId <= CoPurchaseMatrix.MAX_ITEM_ID) {
+                values[size++] = itemId;
+            }
+        }
+        return SortedLongArrays.of(size == n ? values : Arrays.copyOf(values, size));
+    }
+
+    /**
+     * 주문 id 범위 [from, to] 의 쌍별 횟수 집계
+     */
+    private class CountTask extends RecursiveTask<LongIntHashMap> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+
+        CountTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LongIntHashMap compute() {
+            if (to - from < rangeSize) {
+                return countRange();
+            }
+            long middle = from + (to - from) / 2;
+            CountTask left = new CountTask(from, middle);
+            CountTask right = new CountTask(middle + 1, to);
+            left.fork();
+            LongIntHashMap rightCounts = right.compute();
+            LongIntHashMap leftCounts = left.join();
+
+            // 작은 쪽을 큰 쪽에 합친다
+            LongIntHashMap target = leftCounts.size() >= rightCounts.size() ? leftCounts : rightCounts;
+            LongIntHashMap source = target == leftCounts ? rightCounts : leftCounts;
+            source.forEach(target::addTo);
+            return target;
+        }
+
+        private LongIntHashMap countRange() {
+            // [orderId, itemId] - 주문 id 순이므로 같은 주문의 행이 이어진다
+            List<Object[]> rows = orderItemRepository.findItemPairsInOrderRange(from, to, OrderStatus.CANCELED);
+            LongIntHashMap counts = new LongIntHashMap(Math.max(rows.size(), 16));
+            List<Long> itemIds = new ArrayList<>();
+            long currentOrder = Long.MIN_VALUE;
+            for (Object[] row : rows) {
+                long orderId = (Long) row[0];
+                if (orderId != currentOrder) {
+                    addPairs(counts, itemIds);
+                    itemIds.clear();
+                    currentOrder = orderId;
+                }
+                itemIds.add((Long) row[1]);
+            }
+            addPairs(counts, itemIds);
+            return counts;
+        }
+
+        private void addPairs(LongIntHashMap counts, List<Long> orderItemIds) {
+            long[] itemIds = distinctItemIds(orderItemIds);
+            for (int i = 0; i < itemIds.length; i++) {
+                for (int j = i + 1; j < itemIds.length; j++) {
+                    counts.addTo(CoPurchaseMatrix.pairKey(itemIds[i], itemIds[j]), 1);
+                }
+            }
+        }
+    }
+}
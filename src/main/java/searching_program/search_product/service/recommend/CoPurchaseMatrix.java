@@ -0,0 +1,144 @@
+package searching_program.search_product.service.recommend;
+
+import searching_program.search_product.service.support.LongIntHashMap;
+
+import java.util.Arrays;
+
+/**
+ * 아이템 x 아이템 동시 구매 희소 행렬 + 아이템별 상위 K 이웃
+ * - 행렬은 (작은 id, 큰 id) 를 long 하나로 묶은 키 -> 횟수 (상삼각만 저장)
+ * - 이웃은 아이템마다 K 칸짜리 슬롯을 평면 배열에 잡고 횟수 내림차순 유지
+ * - 횟수는 늘기만 하므로 증가한 쌍만 비교하면 상위 K 가 정확히 유지된다
+ * - 동기화하지 않으므로 호출하는 쪽에서 잠금을 관리해야 한다
+ */
+final class CoPurchaseMatrix {
+
+    static final long MAX_ITEM_ID = 0xFFFFFFFFL;
+
+    private final int k;
+    private final LongIntHashMap pairCounts;
+    private final LongIntHashMap slotOf = new LongIntHashMap(1024);
+
+    private long[] neighbors;
+    private int[] scores;
+    private int[] sizes;
+    private int slotCount;
+
+    CoPurchaseMatrix(int k) {
+        this(k, new LongIntHashMap(1024));
+    }
+
+    private CoPurchaseMatrix(int k, LongIntHashMap pairCounts) {
+        this.k = k;
+        this.pairCounts = pairCounts;
+        this.sizes = new int[64];
+        this.neighbors = new long[sizes.length * k];
+        this.scores = new int[sizes.length * k];
+    }
+
+    /**
+     * 집계된 쌍별 횟수로 행렬 생성 (pairCounts 는 그대로 넘겨받아 계속 사용)
+     */
+    static CoPurchaseMatrix of(LongIntHashMap pairCounts, int k) {
+        CoPurchaseMatrix matrix = new CoPurchaseMatrix(k, pairCounts);
+        pairCounts.forEach((key, count) -> {
+            long a = key >>> 32;
+            long b = key & MAX_ITEM_ID;
+            matrix.offer(a, b, count);
+            matrix.offer(b, a, count);
+        });
+        return matrix;
+    }
+
+    static long pairKey(long a, long b) {
+        return a < b ? (a << 32) | b : (b << 32) | a;
+    }
+
+    /**
+     * 주문 하나의 아이템 (정렬, 중복 제거된 id) 반영
+     */
+    void addOrder(long[] itemIds) {
+        for (int i = 0; i < itemIds.length; i++) {
+            for (int j = i + 1; j < itemIds.length; j++) {
+                int count = pairCounts.addTo(pairKey(itemIds[i], itemIds[j]), 1);
+                offer(itemIds[i], itemIds[j], count);
+                offer(itemIds[j], itemIds[i], count);
+            }
+        }
+    }
+
+    int pairCount(long a, long b) {
+        return pairCounts.get(pairKey(a, b), 0);
+    }
+
+    int pairs() {
+        return pairCounts.size();
+    }
+
+    /**
+     * 상위 이웃을 out 배열에 복사
+     *
+     * @return 복사한 수
+     */
+    int neighbors(long itemId, long[] outIds, int[] outScores) {
+        int slot = slotOf.get(itemId, -1);
+        if (slot < 0) {
+            return 0;
+        }
+        int n = Math.min(sizes[slot], outIds.length);
+        System.arraycopy(neighbors, slot * k, outIds, 0, n);
+        System.arraycopy(scores, slot * k, outScores, 0, n);
+        return n;
+    }
+
+    private void offer(long itemId, long neighbor, int score) {
+        int slot = slotFor(itemId);
+        int base = slot * k;
+        int size = sizes[slot];
+
+        int position = -1;
+        for (int i = 0; i < size; i++) {
+            if (neighbors[base + i] == neighbor) {
+                position = i;
+                break;
+            }
+        }
+        if (position < 0) {
+            if (size < k) {
+                position = size;
+                sizes[slot] = ++size;
+            } else if (score > scores[base + size - 1]) {
+                position = size - 1;
+            } else {
+                return;
+            }
+        }
+        neighbors[base + position] = neighbor;
+        scores[base + position] = score;
+
+        // 삽입 정렬로 앞으로 당긴다 (같은 횟수면 먼저 들어온 쪽 유지)
+        while (position > 0 && scores[base + position - 1] < score) {
+            neighbors[base + position] = neighbors[base + position - 1];
+            scores[base + position] = scores[base + position - 1];
+            position--;
+        }
+        neighbors[base + position] = neighbor;
+        scores[base + position] = score;
+    }
+
+    private int slotFor(long itemId) {
+        int slot = slotOf.get(itemId, -1);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (slotCount == sizes.length) {
+            int capacity = sizes.length << 1;
+            sizes = Arrays.copyOf(sizes, capacity);
+            neighbors = Arrays.copyOf(neighbors, capacity * k);
+            scores = Arrays.copyOf(scores, capacity * k);
+        }
+        slot = slotCount++;
+        slotOf.put(itemId, slot);
+        return slot;
+    }
+}
@@ -0,0 +1,214 @@
+package searching_program.search_product.service.recommend;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import searching_program.search_product.dto.FeedItemDto;
+import searching_program.search_product.repository.ItemFavoriteRepository;
+import searching_program.search_product.repository.ItemRepository;
+import searching_program.search_product.repository.OrderItemRepository;
+import searching_program.search_product.repository.ReviewRepository;
+import searching_program.search_product.service.order.OrderPlacedEvent;
+import searching_program.search_product.service.support.SortedLongArrays;
+import searching_program.search_product.type.ItemStatus;
+import searching_program.search_product.type.OrderStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 회원 맞춤 아이템 피드
+ * - 주문/즐겨찾기/리뷰로 카테고리 + 가격대 선호 벡터를 만들고
+ * - 판매 중인 아이템 특성 행렬과 내적해 점수가 높은 순으로 추천 (이미 산/즐겨찾기/리뷰한 아이템 제외)
+ * - 결과는 회원별로 캐시, 새 주문/즐겨찾기 변경 시 무효화
+ * - 카탈로그 행렬은 주기적으로 다시 만들어 교체
+ */
+@Slf4j
+@Service
+public class MemberFeedService {
+
+    private final ItemRepository itemRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ItemFavoriteRepository itemFavoriteRepository;
+    private final ReviewRepository reviewRepository;
+    private final int[] priceBands;
+    private final int feedSize;
+    private final float orderWeight;
+    private final float favoriteWeight;
+    private final float reviewWeight;
+    private final Cache<Long, List<FeedItemDto>> feeds;
+
+    private volatile CatalogFeatureMatrix catalog;
+
+    public MemberFeedService(ItemRepository itemRepository,
+                             OrderItemRepository orderItemRepository,
+                             ItemFavoriteRepository itemFavoriteRepository,
+                             ReviewRepository reviewRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.feed.price-bands:10000,30000,100000,300000}") int[] priceBands,
+                             @Value("${app.feed.size:50}") int feedSize,
+                             @Value("${app.feed.weight.order:3.0}") float orderWeight,
+                             @Value("${app.feed.weight.favorite:2.0}") float favoriteWeight,
+                             @Value("${app.feed.weight.review:1.0}") float reviewWeight,
+                             @Value("${app.feed.cache.ttl-seconds:600}") long ttlSeconds,
+                             @Value("${app.feed.cache.max-size:20000}") long maxSize) {
+        this.itemRepository = itemRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.itemFavoriteRepository = itemFavoriteRepository;
+        this.reviewRepository = reviewRepository;
+        this.priceBands = priceBands;
+        this.feedSize = feedSize;
+        this.orderWeight = orderWeight;
+        this.favoriteWeight = favoriteWeight;
+        this.reviewWeight = reviewWeight;
+        this.feeds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.catalog = CatalogFeatureMatrix.empty(priceBands);
+        CaffeineCacheMetrics.monitor(meterRegistry, feeds, "member.feed");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refreshCatalog();
+    }
+
+    /**
+     * 판매 중인 아이템으로 특성 행렬 재구성
+     */
+    @Scheduled(initialDelayString = "${app.feed.catalog-refresh-ms:600000}",
+            fixedDelayString = "${app.feed.catalog-refresh-ms:600000}")
+    public void refreshCatalog() {
+        catalog = CatalogFeatureMatrix.build(itemRepository.findFeedFeatures(ItemStatus.AVAILABLE), priceBands);
+        log.info("피드 카탈로그 행렬 갱신: 아이템 {}개, 차원 {}", catalog.rows(), catalog.dimension());
+    }
+
+    /**
+     * 회원 맞춤 피드 (최대 app.feed.size 개)
+     */
+    @Transactional(readOnly = true)
+    public List<FeedItemDto> feed(Long memberId, int limit) {
+        List<FeedItemDto> feed = feeds.get(memberId, this::buildFeed);
+        return feed.size() <= limit ? feed : feed.subList(0, Math.max(limit, 0));
+    }
+
+    /**
+     * 회원 신호가 바뀔 때 호출 - 즉시 + 트랜잭션 종료 후 무효화
+     */
+    public void invalidate(Long memberId) {
+        feeds.invalidate(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    feeds.invalidate(memberId);
+                }
+            });
+        }
+    }
+
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        invalidate(event.memberId());
+    }
+
+    private List<FeedItemDto> buildFeed(Long memberId) {
+        CatalogFeatureMatrix matrix = catalog;
+        float[] preference = new float[matrix.dimension()];
+        List<Long> seen = new ArrayList<>();
+
+        // [itemId, categoryId, itemPrice, 수량 합]
+        for (Object[] row : orderItemRepository.findPurchaseSignals(memberId, OrderStatus.CANCELED)) {
+            float weight = orderWeight * (1f + (float) Math.log(((Long) row[3]).doubleValue()));
+            matrix.addTo(preference, (Long) row[1], (Integer) row[2], weight);
+            seen.add((Long) row[0]);
+        }
+        // [itemId, categoryId, itemPrice]
+        for (Object[] row : itemFavoriteRepository.findFavoriteSignals(memberId)) {
+            matrix.addTo(preference, (Long) row[1], (Integer) row[2], favoriteWeight);
+            seen.add((Long) row[0]);
+        }
+        // [itemId, categoryId, itemPrice, rate] - 3점 기준으로 높으면 선호, 낮으면 비선호
+        for (Object[] row : reviewRepository.findReviewSignals(memberId)) {
+            matrix.addTo(preference, (Long) row[1], (Integer) row[2], reviewWeight * ((Integer) row[3] - 3));
+            seen.add((Long) row[0]);
+        }
+
+        if (!normalize(preference)) {
+            // 신호가 없는 회원 - 추천할 근거가 없다
+            return Collections.emptyList();
+        }
+
+        float[] scores = new float[matrix.rows()];
+        matrix.score(preference, scores);
+        return topItems(matrix, scores, toSortedArray(seen));
+    }
+
+    /**
+     * 점수 상위 feedSize 개 (삽입 정렬 - feedSize 가 작으므로 힙보다 단순)
+     */
+    private List<FeedItemDto> topItems(CatalogFeatureMatrix matrix, float[] scores, long[] exclude) {
+        int[] top = new int[feedSize];
+        int size = 0;
+        for (int row = 0; row < scores.length; row++) {
+            float score = scores[row];
+            if (score <= 0f || SortedLongArrays.contains(exclude, matrix.itemId(row))) {
+                continue;
+            }
+            if (size == feedSize && score <= scores[top[size - 1]]) {
+                continue;
+            }
+            int position = size < feedSize ? size++ : size - 1;
+            while (position > 0 && scores[top[position - 1]] < score) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = row;
+        }
+
+        List<FeedItemDto> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int row = top[i];
+            result.add(new FeedItemDto(matrix.itemId(row), matrix.itemName(row), matrix.itemPrice(row), scores[row]));
+        }
+        return result;
+    }
+
+    private static boolean normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return false;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+        return true;
+    }
+
+    private static long[] toSortedArray(List<Long> values) {
+        long[] array = new long[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return SortedLongArrays.of(array);
+    }
+}
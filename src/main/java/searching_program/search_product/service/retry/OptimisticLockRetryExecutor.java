@@ -0,0 +1,99 @@
+package searching_program.search_product.service.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import searching_program.search_product.error.CustomError;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static searching_program.search_product.type.ErrorCode.CONCURRENT_UPDATE_CONFLICT;
+
+/**
+ * 낙관적 락 충돌 시 트랜잭션 단위로 재시도하는 실행기
+ * - 시도마다 새 트랜잭션에서 실행해 최신 version 을 다시 읽는다
+ * - 재시도 간격은 지수 백오프 + full jitter
+ * - 이미 트랜잭션 안에서 호출되면 재시도 없이 한 번만 실행 (바깥 트랜잭션이 롤백 대상이므로)
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    public OptimisticLockRetryExecutor(PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${app.retry.optimistic.max-attempts:3}") int maxAttempts,
+                                       @Value("${app.retry.optimistic.base-backoff-ms:20}") long baseBackoffMs,
+                                       @Value("${app.retry.optimistic.max-backoff-ms:200}") long maxBackoffMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMs = Math.max(0, baseBackoffMs);
+        this.maxBackoffMs = Math.max(this.baseBackoffMs, maxBackoffMs);
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        return execute(operation, e -> false, action);
+    }
+
+    /**
+     * @param extraRetryable 낙관적 락 외에 재시도할 예외 (예: 동시 insert 로 인한 유니크 제약 위반)
+     */
+    public <T> T execute(String operation, Predicate<RuntimeException> extraRetryable, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (RuntimeException e) {
+                if (!(e instanceof ConcurrencyFailureException) && !extraRetryable.test(e)) {
+                    throw e;
+                }
+                counter("optimistic.lock.conflicts", operation).increment();
+
+                if (attempt >= maxAttempts) {
+                    counter("optimistic.lock.exhausted", operation).increment();
+                    log.warn("동시 수정 충돌 재시도 초과: operation = {}, attempts = {}", operation, attempt);
+                    throw new CustomError(CONCURRENT_UPDATE_CONFLICT);
+                }
+
+                log.info("동시 수정 충돌, 재시도: operation = {}, attempt = {}", operation, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long cap = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 20));
+        if (cap <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomError(CONCURRENT_UPDATE_CONFLICT);
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,127 @@
+package searching_program.search_product.service.search;
+
+import searching_program.search_product.dto.AutocompleteDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 아이템 이름 자동완성 인덱스 스냅샷 (만든 뒤에는 바꾸지 않는다)
+ * - 접두사: 이름의 각 단어 시작 위치부터의 키를 압축 트라이에 넣고 인기 순 상위 K 반환
+ * - 오타: 접두사 결과가 모자라면 이름 시작 키에 대해 편집 거리 1~2 후보로 채운다
+ */
+public final class AutocompleteIndex {
+
+    private final long[] itemIds;
+    private final String[] itemNames;
+    private final int[] scores;
+    private final RadixTrie trie;
+    private final TypoIndex typos;
+    private final int topK;
+
+    private AutocompleteIndex(long[] itemIds, String[] itemNames, int[] scores,
+                              RadixTrie trie, TypoIndex typos, int topK) {
+        this.itemIds = itemIds;
+        this.itemNames = itemNames;
+        this.scores = scores;
+        this.trie = trie;
+        this.typos = typos;
+        this.topK = topK;
+    }
+
+    /**
+     * @param itemIds    아이템 id
+     * @param itemNames  아이템 이름 (itemIds 와 같은 순서)
+     * @param scores     인기 점수 (itemIds 와 같은 순서)
+     */
+    public static AutocompleteIndex build(long[] itemIds, String[] itemNames, int[] scores,
+                                          int topK, int typoPrefixLength, int maxDistance) {
+        List<String> keys = new ArrayList<>();
+        List<Integer> entries = new ArrayList<>();
+        String[] nameKeys = new String[itemIds.length];
+
+        for (int entry = 0; entry < itemIds.length; entry++) {
+            String key = HangulJamo.normalize(itemNames[entry]);
+            nameKeys[entry] = key;
+            for (int start = 0; start < key.length(); start++) {
+                if (start == 0 || key.charAt(start - 1) == ' ') {
+                    keys.add(key.substring(start));
+                    entries.add(entry);
+                }
+            }
+        }
+
+        RadixTrie trie = RadixTrie.build(keys.toArray(new String[0]),
+                entries.stream().mapToInt(Integer::intValue).toArray(), scores, topK);
+        TypoIndex typos = TypoIndex.build(nameKeys, typoPrefixLength, maxDistance);
+        return new AutocompleteIndex(itemIds, itemNames, scores, trie, typos, topK);
+    }
+
+    public static AutocompleteIndex empty() {
+        return build(new long[0], new String[0], new int[0], 1, 1, 0);
+    }
+
+    public int size() {
+        return itemIds.length;
+    }
+
+    public List<AutocompleteDto> suggest(String query, int limit) {
+        String key = HangulJamo.normalize(query);
+        int max = Math.min(limit, topK);
+        if (key.isEmpty() || max <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<AutocompleteDto> result = new ArrayList<>(max);
+        int[] completions = trie.complete(key);
+        for (int i = 0; i < completions.length && result.size() < max; i++) {
+            result.add(toDto(completions[i], false));
+        }
+        if (result.size() == max) {
+            return result;
+        }
+
+        // 오타 후보 - 거리 오름차순, 같은 거리면 인기 순
+        int[] matches = typos.search(key, allowedDistance(key));
+        Integer[] order = new Integer[matches.length / 2];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> matches[a * 2 + 1] != matches[b * 2 + 1]
+                ? Integer.compare(matches[a * 2 + 1], matches[b * 2 + 1])
+                : Integer.compare(scores[matches[b * 2]], scores[matches[a * 2]]));
+
+        for (int i = 0; i < order.length && result.size() < max; i++) {
+            int entry = matches[order[i] * 2];
+            if (!contains(completions, entry)) {
+                result.add(toDto(entry, true));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 짧은 입력에 오타를 허용하면 엉뚱한 후보가 많아지므로 길이에 따라 허용 거리 조절 (자모 기준)
+     */
+    private static int allowedDistance(String key) {
+        if (key.length() < 4) {
+            return 0;
+        }
+        return key.length() < 8 ? 1 : 2;
+    }
+
+    private AutocompleteDto toDto(int entry, boolean corrected) {
+        return new AutocompleteDto(itemIds[entry], itemNames[entry], corrected);
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package searching_program.search_product.service.search;
+
+/**
+ * 검색 키 정규화 - 한글 음절을 자모로 분해
+ * - 입력 중인 음절("삼" -> "사" + "ㅁ")도 접두사로 맞도록 겹자모까지 기본 자모로 풀어 쓴다
+ * - 영문은 소문자로, 공백은 하나로 합치고 그 밖의 문자는 그대로 둔다
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄱㄱ", "ㄴ", "ㄷ", "ㄷㄷ", "ㄹ", "ㅁ", "ㅂ", "ㅂㅂ", "ㅅ",
+            "ㅅㅅ", "ㅇ", "ㅈ", "ㅈㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄱㄱ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅅㅅ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환 자모(ㄱ 0x3131 ~ ㅣ 0x3163)를 직접 입력한 경우의 분해 (겹자모만)
+    private static final String[] COMPATIBILITY = new String[0x3163 - 0x3131 + 1];
+
+    static {
+        String[][] compound = {
+                {"ㄲ", "ㄱㄱ"}, {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄸ", "ㄷㄷ"},
+                {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"}, {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"},
+                {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅃ", "ㅂㅂ"}, {"ㅄ", "ㅂㅅ"}, {"ㅆ", "ㅅㅅ"},
+                {"ㅉ", "ㅈㅈ"}, {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"},
+                {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+        };
+        for (String[] pair : compound) {
+            COMPATIBILITY[pair[0].charAt(0) - 0x3131] = pair[1];
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 검색 키로 정규화 (자모 분해 + 소문자 + 공백 정리)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = builder.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int offset = c - SYLLABLE_BASE;
+                builder.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+                builder.append(JUNGSEONG[(offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT]);
+                builder.append(JONGSEONG[offset % JONGSEONG_COUNT]);
+            } else if (c >= 0x3131 && c <= 0x3163 && COMPATIBILITY[c - 0x3131] != null) {
+                builder.append(COMPATIBILITY[c - 0x3131]);
+            } else {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+}
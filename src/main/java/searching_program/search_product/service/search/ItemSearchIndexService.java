@@ -0,0 +1,134 @@
+package searching_program.search_product.service.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import searching_program.search_product.dto.AutocompleteDto;
+import searching_program.search_product.dto.TermSearchResultDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.ItemRepository;
+import searching_program.search_product.repository.OrderItemRepository;
+import searching_program.search_product.service.catalog.CatalogVersionTracker;
+import searching_program.search_product.service.favorite.FavoriteIndex;
+import searching_program.search_product.service.support.LongIntHashMap;
+import searching_program.search_product.type.ErrorCode;
+import searching_program.search_product.type.ItemStatus;
+import searching_program.search_product.type.SearchMode;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 아이템 이름 메모리 검색 인덱스 (자동완성 + 다중 검색어) - 질의는 DB 를 조회하지 않는다
+ * - 인기 점수 = 판매 수량 + 즐겨찾기 수 x favoriteWeight
+ * - 아이템 이름/상태가 바뀌면(어느 인스턴스든) 표시만 해 두고 주기적으로 새 인덱스를 만들어 교체
+ *   주문마다 바뀌는 재고는 표시하지 않는다 - 판매 수량 점수는 maxAgeMillis 주기로만 갱신
+ */
+@Slf4j
+@Service
+public class ItemSearchIndexService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final ItemRepository itemRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final FavoriteIndex favoriteIndex;
+    private final int topK;
+    private final int typoPrefixLength;
+    private final int maxDistance;
+    private final int favoriteWeight;
+    private final long maxAgeMillis;
+    private final int maxTerms;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile Snapshot snapshot = new Snapshot(AutocompleteIndex.empty(),
+            TermIndex.build(new long[0], new String[0], new int[0]));
+    private volatile long builtAt;
+
+    public ItemSearchIndexService(ItemRepository itemRepository,
+                                   OrderItemRepository orderItemRepository,
+                                   FavoriteIndex favoriteIndex,
+                                   CatalogVersionTracker catalogVersionTracker,
+                                   @Value("${app.autocomplete.top-k:10}") int topK,
+                                   @Value("${app.autocomplete.typo-prefix-length:6}") int typoPrefixLength,
+                                   @Value("${app.autocomplete.max-distance:2}") int maxDistance,
+                                   @Value("${app.autocomplete.favorite-weight:3}") int favoriteWeight,
+                                   @Value("${app.autocomplete.max-age-ms:3600000}") long maxAgeMillis,
+                                   @Value("${app.term-search.max-terms:10}") int maxTerms) {
+        this.itemRepository = itemRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.favoriteIndex = favoriteIndex;
+        this.topK = topK;
+        this.typoPrefixLength = typoPrefixLength;
+        this.maxDistance = maxDistance;
+        this.favoriteWeight = favoriteWeight;
+        this.maxAgeMillis = maxAgeMillis;
+        this.maxTerms = maxTerms;
+        // 이름/상태가 바뀐 경우만 (재고 증감, 카테고리/프로모션 변경은 인덱스 내용과 무관)
+        catalogVersionTracker.onItemsChanged(() -> dirty.set(true));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 아이템 변경이 있었거나 인기 점수가 오래됐으면 다시 만든다
+     */
+    @Scheduled(initialDelayString = "${app.autocomplete.refresh-ms:60000}",
+            fixedDelayString = "${app.autocomplete.refresh-ms:60000}")
+    public void refresh() {
+        if (dirty.getAndSet(false) || System.currentTimeMillis() - builtAt > maxAgeMillis) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        List<Object[]> items = itemRepository.findAutocompleteRows(ItemStatus.AVAILABLE);
+
+        LongIntHashMap sold = new LongIntHashMap(items.size());
+        for (Object[] row : orderItemRepository.findSoldQuantities()) {
+            sold.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+
+        long[] itemIds = new long[items.size()];
+        String[] itemNames = new String[items.size()];
+        int[] scores = new int[items.size()];
+        for (int i = 0; i < itemIds.length; i++) {
+            Object[] row = items.get(i);
+            itemIds[i] = (Long) row[0];
+            itemNames[i] = (String) row[1];
+            scores[i] = sold.get(itemIds[i], 0) + favoriteWeight * favoriteIndex.favoriteCount(itemIds[i]);
+        }
+
+        snapshot = new Snapshot(
+                AutocompleteIndex.build(itemIds, itemNames, scores, topK, typoPrefixLength, maxDistance),
+                TermIndex.build(itemIds, itemNames, scores));
+        builtAt = System.currentTimeMillis();
+        log.info("검색 인덱스 갱신: 아이템 {}개, {}ms", itemIds.length, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public List<AutocompleteDto> suggest(String query, int limit) {
+        return snapshot.autocomplete().suggest(query, limit);
+    }
+
+    /**
+     * 쉼표로 구분한 여러 검색어 검색 (검색어 안의 공백도 구분자로 본다)
+     */
+    public List<TermSearchResultDto> searchTerms(String query, SearchMode mode, int limit) {
+        List<String> terms = TermIndex.tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty() || terms.size() > maxTerms || limit <= 0 || limit > MAX_LIMIT) {
+            throw new CustomError(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return snapshot.terms().search(terms, mode == null ? SearchMode.OR : mode, limit);
+    }
+
+    // 두 인덱스를 한 번에 교체
+    private record Snapshot(AutocompleteIndex autocomplete, TermIndex terms) {
+    }
+}
@@ -0,0 +1,153 @@
+package searching_program.search_product.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 접두사 자동완성용 압축 트라이 (만든 뒤에는 바꾸지 않는다)
+ * - 공통 접두사를 한 노드의 label 로 묶어 노드 수를 줄인다
+ * - 노드마다 하위 키 중 점수 상위 K 개의 항목 번호를 미리 계산해 두므로
+ *   조회는 접두사 길이만큼 내려가는 것으로 끝난다
+ */
+final class RadixTrie {
+
+    private static final int[] NONE = new int[0];
+
+    private final Node root;
+
+    private RadixTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * @param keys    정규화된 키
+     * @param entries 키마다 가리키는 항목 번호 (같은 항목이 여러 키를 가질 수 있다)
+     * @param scores  항목 번호별 점수
+     */
+    static RadixTrie build(String[] keys, int[] entries, int[] scores, int topK) {
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> keys[i]));
+
+        String[] sortedKeys = new String[keys.length];
+        int[] sortedEntries = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedKeys[i] = keys[order[i]];
+            sortedEntries[i] = entries[order[i]];
+        }
+
+        Builder builder = new Builder(sortedKeys, sortedEntries, scores, topK);
+        return new RadixTrie(keys.length == 0 ? new Node(new char[0], new char[0], new Node[0], NONE)
+                : builder.build(0, keys.length, 0));
+    }
+
+    /**
+     * 접두사로 시작하는 키의 항목 번호 (점수 내림차순, 최대 K 개)
+     */
+    int[] complete(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (true) {
+            for (char c : node.label) {
+                if (position == prefix.length()) {
+                    return node.top;
+                }
+                if (prefix.charAt(position++) != c) {
+                    return NONE;
+                }
+            }
+            if (position == prefix.length()) {
+                return node.top;
+            }
+            int child = Arrays.binarySearch(node.firstChars, prefix.charAt(position));
+            if (child < 0) {
+                return NONE;
+            }
+            node = node.children[child];
+        }
+    }
+
+    private record Node(char[] label, char[] firstChars, Node[] children, int[] top) {
+    }
+
+    private static final class Builder {
+
+        private final String[] keys;
+        private final int[] entries;
+        private final int[] scores;
+        private final int topK;
+        private final Comparator<Integer> byScore;
+
+        Builder(String[] keys, int[] entries, int[] scores, int topK) {
+            this.keys = keys;
+            this.entries = entries;
+            this.scores = scores;
+            this.topK = topK;
+            this.byScore = (a, b) -> scores[a] != scores[b] ? Integer.compare(scores[b], scores[a]) : Integer.compare(a, b);
+        }
+
+        /**
+         * 정렬된 키 [from, to) 중 앞 depth 글자가 같은 구간으로 노드 생성
+         */
+        Node build(int from, int to, int depth) {
+            // 정렬돼 있으므로 구간의 공통 접두사 = 처음과 마지막 키의 공통 접두사
+            String first = keys[from];
+            String last = keys[to - 1];
+            int end = depth;
+            while (end < first.length() && end < last.length() && first.charAt(end) == last.charAt(end)) {
+                end++;
+            }
+
+            List<Integer> candidates = new ArrayList<>();
+            int index = from;
+            // 이 노드에서 끝나는 키는 정렬상 맨 앞에 온다
+            while (index < to && keys[index].length() == end) {
+                candidates.add(entries[index++]);
+            }
+
+            List<Node> children = new ArrayList<>();
+            while (index < to) {
+                char c = keys[index].charAt(end);
+                int groupEnd = index + 1;
+                while (groupEnd < to && keys[groupEnd].charAt(end) == c) {
+                    groupEnd++;
+                }
+                Node child = build(index, groupEnd, end);
+                children.add(child);
+                for (int entry : child.top) {
+                    candidates.add(entry);
+                }
+                index = groupEnd;
+            }
+
+            char[] firstChars = new char[children.size()];
+            for (int i = 0; i < firstChars.length; i++) {
+                firstChars[i] = children.get(i).label[0];
+            }
+            return new Node(first.substring(depth, end).toCharArray(), firstChars,
+                    children.toArray(new Node[0]), top(candidates));
+        }
+
+        private int[] top(List<Integer> candidates) {
+            candidates.sort(byScore);
+            int[] top = new int[Math.min(topK, candidates.size())];
+            int size = 0;
+            Integer previous = null;
+            for (Integer entry : candidates) {
+                if (size == top.length) {
+                    break;
+                }
+                // 같은 항목은 정렬상 붙어 있다
+                if (!entry.equals(previous)) {
+                    top[size++] = entry;
+                }
+                previous = entry;
+            }
+            return size == top.length ? top : Arrays.copyOf(top, size);
+        }
+    }
+}
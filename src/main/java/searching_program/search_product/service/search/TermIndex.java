@@ -0,0 +1,239 @@
+package searching_program.search_product.service.search;
+
+import searching_program.search_product.dto.TermSearchResultDto;
+import searching_program.search_product.type.SearchMode;
+
+import java.util.*;
+
+/**
+ * 아이템 이름 토큰 역색인 (만든 뒤에는 바꾸지 않는다)
+ * - 토큰 -> 항목 번호 정렬 배열 (posting list)
+ * - 검색어는 토큰 접두사로 맞춘다 ("맥" -> "맥북", "맥스")
+ * - AND 는 짧은 목록부터 galloping 교집합, OR 는 합쳐서 맞은 검색어 수를 센다
+ * - 결과는 (맞은 검색어 수, 인기 점수) 순으로 상위 K 만 고른다
+ */
+final class TermIndex {
+
+    private static final int[] NONE = new int[0];
+
+    private final long[] itemIds;
+    private final String[] itemNames;
+    private final int[] scores;
+    private final String[] tokens;
+    private final int[][] postings;
+
+    private TermIndex(long[] itemIds, String[] itemNames, int[] scores, String[] tokens, int[][] postings) {
+        this.itemIds = itemIds;
+        this.itemNames = itemNames;
+        this.scores = scores;
+        this.tokens = tokens;
+        this.postings = postings;
+    }
+
+    static TermIndex build(long[] itemIds, String[] itemNames, int[] scores) {
+        Map<String, List<Integer>> index = new HashMap<>();
+        for (int entry = 0; entry < itemNames.length; entry++) {
+            for (String token : new LinkedHashSet<>(tokenize(itemNames[entry]))) {
+                // 항목 번호 순으로 넣으므로 목록은 이미 정렬돼 있다
+                index.computeIfAbsent(token, key -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        String[] tokens = index.keySet().toArray(new String[0]);
+        Arrays.sort(tokens);
+        int[][] postings = new int[tokens.length][];
+        for (int i = 0; i < tokens.length; i++) {
+            postings[i] = index.get(tokens[i]).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new TermIndex(itemIds, itemNames, scores, tokens, postings);
+    }
+
+    /**
+     * 이름/검색어 토큰화 - 소문자, 공백과 구분 기호 기준
+     */
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[\\s,/()\\[\\]+·_-]+")) {
+            if (!token.isEmpty()) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+
+    List<TermSearchResultDto> search(List<String> terms, SearchMode mode, int limit) {
+        if (terms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        int[][] lists = new int[terms.size()][];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postingsFor(terms.get(i));
+        }
+
+        if (mode == SearchMode.AND) {
+            int[] matched = intersectAll(lists);
+            int[] counts = new int[matched.length];
+            Arrays.fill(counts, terms.size());
+            return top(matched, counts, matched.length, limit);
+        }
+        return unionWithCounts(lists, limit);
+    }
+
+    /**
+     * 검색어로 시작하는 모든 토큰의 목록 합집합
+     */
+    int[] postingsFor(String term) {
+        int from = lowerBound(term);
+        int to = from;
+        while (to < tokens.length && tokens[to].startsWith(term)) {
+            to++;
+        }
+        if (to - from == 0) {
+            return NONE;
+        }
+        if (to - from == 1) {
+            return postings[from];
+        }
+
+        int total = 0;
+        for (int i = from; i < to; i++) {
+            total += postings[i].length;
+        }
+        int[] merged = new int[total];
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            System.arraycopy(postings[i], 0, merged, size, postings[i].length);
+            size += postings[i].length;
+        }
+        Arrays.sort(merged);
+        return distinct(merged);
+    }
+
+    static int[] intersectAll(int[][] lists) {
+        int[][] sorted = lists.clone();
+        Arrays.sort(sorted, Comparator.comparingInt(list -> list.length));
+        int[] result = sorted[0];
+        for (int i = 1; i < sorted.length && result.length > 0; i++) {
+            result = intersect(result, sorted[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 짧은 목록의 각 값에 대해 긴 목록에서 1, 2, 4 ... 칸씩 건너뛰며 범위를 찾고 그 안에서 이진 탐색
+     */
+    static int[] intersect(int[] small, int[] large) {
+        int[] result = new int[small.length];
+        int size = 0;
+        int position = 0;
+        for (int value : small) {
+            int step = 1;
+            int low = position;
+            int high = position;
+            while (high < large.length && large[high] < value) {
+                low = high + 1;
+                high = position + step;
+                step <<= 1;
+            }
+            position = Arrays.binarySearch(large, low, Math.min(high + 1, large.length), value);
+            if (position >= 0) {
+                result[size++] = value;
+                position++;
+            } else {
+                position = -position - 1;
+            }
+            if (position >= large.length) {
+                break;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private List<TermSearchResultDto> unionWithCounts(int[][] lists, int limit) {
+        int total = 0;
+        for (int[] list : lists) {
+            total += list.length;
+        }
+        int[] all = new int[total];
+        int size = 0;
+        for (int[] list : lists) {
+            System.arraycopy(list, 0, all, size, list.length);
+            size += list.length;
+        }
+        Arrays.sort(all);
+
+        // 같은 항목이 나온 횟수 = 맞은 검색어 수
+        int[] entries = new int[total];
+        int[] counts = new int[total];
+        int distinct = 0;
+        for (int i = 0; i < total; ) {
+            int j = i;
+            while (j < total && all[j] == all[i]) {
+                j++;
+            }
+            entries[distinct] = all[i];
+            counts[distinct++] = j - i;
+            i = j;
+        }
+        return top(entries, counts, distinct, limit);
+    }
+
+    /**
+     * (맞은 수, 점수) 상위 limit 개 - 크기 limit 인 최소 힙으로 선택
+     */
+    private List<TermSearchResultDto> top(int[] entries, int[] counts, int size, int limit) {
+        Comparator<Integer> worstFirst = (a, b) -> compare(entries[a], counts[a], entries[b], counts[b]);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.min(limit, Math.max(size, 1)), worstFirst);
+        for (int i = 0; i < size; i++) {
+            if (heap.size() < limit) {
+                heap.add(i);
+            } else if (worstFirst.compare(i, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+
+        TermSearchResultDto[] result = new TermSearchResultDto[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            int index = heap.poll();
+            int entry = entries[index];
+            result[i] = new TermSearchResultDto(itemIds[entry], itemNames[entry], counts[index]);
+        }
+        return Arrays.asList(result);
+    }
+
+    /**
+     * 양수면 a 가 더 좋은 결과
+     */
+    private int compare(int entryA, int countA, int entryB, int countB) {
+        if (countA != countB) {
+            return Integer.compare(countA, countB);
+        }
+        if (scores[entryA] != scores[entryB]) {
+            return Integer.compare(scores[entryA], scores[entryB]);
+        }
+        return Integer.compare(entryB, entryA);
+    }
+
+    private int lowerBound(String term) {
+        int index = Arrays.binarySearch(tokens, term);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static int[] distinct(int[] sorted) {
+        if (sorted.length == 0) {
+            return sorted;
+        }
+        int size = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+}
@@ -0,0 +1,155 @@
+package searching_program.search_product.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 오타 허용 접두사 검색 (SymSpell 방식의 삭제 인덱스)
+ * - 키의 앞부분(최대 prefixLength 글자)에서 최대 maxDistance 글자를 지운 문자열 -> 키 번호 로 미리 색인
+ * - 색인 크기는 키 수 x prefixLength^3 정도로 늘어나므로 prefixLength 는 작게 유지
+ * - 질의도 같은 방식으로 지워서 후보를 찾고, 편집 거리(인접 글자 바꿈 포함)로 검증
+ * - 자동완성이므로 질의는 키 전체가 아니라 키의 앞부분과 비교한다
+ */
+final class TypoIndex {
+
+    private static final int[] NONE = new int[0];
+    private static final int MIN_PREFIX = 2;
+
+    private final String[] keys;
+    private final int prefixLength;
+    private final int maxDistance;
+    private final Map<String, int[]> deletes;
+
+    private TypoIndex(String[] keys, int prefixLength, int maxDistance, Map<String, int[]> deletes) {
+        this.keys = keys;
+        this.prefixLength = prefixLength;
+        this.maxDistance = maxDistance;
+        this.deletes = deletes;
+    }
+
+    static TypoIndex build(String[] keys, int prefixLength, int maxDistance) {
+        Map<String, List<Integer>> index = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            // 질의가 키보다 짧을 수 있으므로 키의 앞부분 길이마다 색인 (질의 길이 +-거리 의 앞부분과 만나도록)
+            Set<String> keyVariants = new HashSet<>();
+            int longest = Math.min(prefixLength, keys[i].length());
+            for (int length = Math.min(MIN_PREFIX, longest); length <= longest; length++) {
+                keyVariants.addAll(variants(keys[i].substring(0, length), maxDistance));
+            }
+            for (String variant : keyVariants) {
+                index.computeIfAbsent(variant, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Map<String, int[]> deletes = new HashMap<>(index.size() * 2);
+        index.forEach((variant, keyIndexes) ->
+                deletes.put(variant, keyIndexes.stream().mapToInt(Integer::intValue).toArray()));
+        return new TypoIndex(keys, prefixLength, maxDistance, deletes);
+    }
+
+    /**
+     * 질의와 거리 distance 이내로 시작하는 키 번호
+     *
+     * @return [키 번호, 거리] 쌍을 이어 붙인 배열
+     */
+    int[] search(String query, int distance) {
+        int allowed = Math.min(distance, maxDistance);
+        if (allowed <= 0 || query.isEmpty()) {
+            return NONE;
+        }
+
+        String prefix = query.substring(0, Math.min(prefixLength, query.length()));
+        Set<Integer> candidates = new HashSet<>();
+        for (String variant : variants(prefix, allowed)) {
+            int[] keyIndexes = deletes.get(variant);
+            if (keyIndexes != null) {
+                for (int keyIndex : keyIndexes) {
+                    candidates.add(keyIndex);
+                }
+            }
+        }
+
+        int[] result = new int[candidates.size() * 2];
+        int size = 0;
+        for (int keyIndex : candidates) {
+            int d = prefixDistance(query, keys[keyIndex], allowed);
+            if (d <= allowed) {
+                result[size++] = keyIndex;
+                result[size++] = d;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * query 와 key 의 앞부분 사이 최소 편집 거리 (max 를 넘으면 max + 1)
+     * - 삽입/삭제/치환/인접 글자 바꿈을 각각 1 로 센다
+     */
+    static int prefixDistance(String query, String key, int max) {
+        int n = query.length();
+        int m = Math.min(key.length(), n + max);
+        int[] previous2 = new int[m + 1];
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            char q = query.charAt(i - 1);
+            for (int j = 1; j <= m; j++) {
+                char k = key.charAt(j - 1);
+                int cost = q == k ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && q == key.charAt(j - 2) && query.charAt(i - 2) == k) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = previous2;
+            previous2 = previous;
+            previous = current;
+            current = swap;
+        }
+
+        // 키의 어느 앞부분과 맞아도 되므로 마지막 행의 최솟값
+        int best = max + 1;
+        for (int j = 0; j <= m; j++) {
+            best = Math.min(best, previous[j]);
+        }
+        return best;
+    }
+
+    /**
+     * 최대 distance 글자를 지운 모든 문자열 (원본 포함)
+     */
+    private static Set<String> variants(String text, int distance) {
+        Set<String> result = new HashSet<>();
+        result.add(text);
+        List<String> frontier = List.of(text);
+        for (int d = 0; d < distance; d++) {
+            List<String> next = new ArrayList<>();
+            for (String value : frontier) {
+                for (int i = 0; i < value.length(); i++) {
+                    String deleted = value.substring(0, i) + value.substring(i + 1);
+                    if (result.add(deleted)) {
+                        next.add(deleted);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,335 @@
+package searching_program.search_product.service.shipment;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import searching_program.search_product.dto.ShipmentIngestResultDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.ShipmentRepository;
+import searching_program.search_product.service.order.OrderStatusChangedEvent;
+import searching_program.search_product.type.ErrorCode;
+import searching_program.search_product.type.OrderStatus;
+import searching_program.search_product.type.ShipmentStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 운송사 배송 상태 일괄 수집
+ * - 요청은 NDJSON 을 검증해 큐에 넣기만 하고 바로 응답한다 (반영은 요청 경로 밖에서)
+ * - 주기적으로 큐를 배치 단위로 꺼내 송장 번호별 최신 이벤트만 남기고 JDBC 배치 update 로 반영한다
+ * - 이미 반영한 이벤트보다 이전 시각의 이벤트는 무시한다 (재전송/순서 뒤바뀜)
+ * - 배송 상태에 따라 주문 상태가 바뀌면 이력을 남기고 OrderStatusChangedEvent 를 발행한다
+ * - 배치가 실패하면 한 건씩 다시 반영해 실패한 건만 다음 주기로 미루고, 계속 실패하면 버린다
+ */
+@Slf4j
+@Service
+public class ShipmentIngestionService {
+
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final int MAX_TRACKING_NUMBER_LENGTH = 64; // Shipment.trackingNumber 컬럼 길이
+    private static final int MAX_LOCATION_LENGTH = 255;       // Shipment.curLocation 컬럼 길이
+
+    // shipmentStatus 는 ORDINAL 로 저장된다
+    private static final String UPDATE_SHIPMENT =
+            "update tbl_shipment set shipment_status = ?, cur_location = coalesce(?, cur_location), " +
+            "estimated_delivery_date = coalesce(?, estimated_delivery_date), last_event_at = ? " +
+            "where id = ? and (last_event_at is null or last_event_at < ?)";
+
+    // 읽은 상태 그대로일 때만 바꾸고, JPA 쪽 낙관적 락이 알 수 있도록 version 도 올린다
+    private static final String UPDATE_ORDER_STATUS =
+            "update tbl_orders set status = ?, version = version + 1 where id = ? and status = ?";
+
+    private static final String INSERT_ORDER_STATUS_HISTORY =
+            "insert into tbl_order_status_history (order_id, status, timestamp) values (?, ?, ?)";
+
+    private final ShipmentRepository shipmentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Queued> queue;
+    private final int batchSize;
+    private final int maxLines;
+    private final int maxAttempts;
+
+    private final Object enqueueLock = new Object();
+
+    public ShipmentIngestionService(ShipmentRepository shipmentRepository,
+                                    JdbcTemplate jdbcTemplate,
+                                    ObjectMapper objectMapper,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.shipment.queue-capacity:200000}") int queueCapacity,
+                                    @Value("${app.shipment.batch-size:1000}") int batchSize,
+                                    @Value("${app.shipment.max-lines:50000}") int maxLines,
+                                    @Value("${app.shipment.max-attempts:3}") int maxAttempts) {
+        this.shipmentRepository = shipmentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxLines = maxLines;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * NDJSON 본문을 읽어 큐에 넣는다
+     * - 잘못된 줄은 건너뛰고 결과에 알려준다
+     * - 큐에 다 들어가지 않으면 한 줄도 넣지 않고 거부한다 (운송사가 통째로 재전송)
+     */
+    public ShipmentIngestResultDto ingest(InputStream body) throws IOException {
+        List<ShipmentUpdate> accepted = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        int rejected = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (lineNumber > maxLines) {
+                throw new CustomError(ErrorCode.INVALID_INPUT_VALUE);
+            }
+
+            String error = null;
+            try {
+                ShipmentUpdate update = objectMapper.readValue(line, ShipmentUpdate.class);
+                error = validate(update);
+                if (error == null) {
+                    accepted.add(update);
+                }
+            } catch (JsonProcessingException e) {
+                error = "형식 오류";
+            }
+            if (error != null) {
+                rejected++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(lineNumber + ": " + error);
+                }
+            }
+        }
+
+        synchronized (enqueueLock) {
+            if (queue.remainingCapacity() < accepted.size()) {
+                log.warn("배송 상태 수집 큐 포화: 대기 {}건, 요청 {}건", queue.size(), accepted.size());
+                throw new CustomError(ErrorCode.SERVICE_OVERLOADED);
+            }
+            for (ShipmentUpdate update : accepted) {
+                queue.add(new Queued(update, 0));
+            }
+        }
+
+        return ShipmentIngestResultDto.builder()
+                .accepted(accepted.size())
+                .rejected(rejected)
+                .errors(errors)
+                .build();
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    @Scheduled(initialDelayString = "${app.shipment.flush-ms:1000}",
+            fixedDelayString = "${app.shipment.flush-ms:1000}")
+    public synchronized void flush() {
+        // 이번 주기에 다시 넣은 재시도 건은 다음 주기에 처리
+        int remaining = queue.size();
+        List<Queued> batch = new ArrayList<>(batchSize);
+        while (remaining > 0 && queue.drainTo(batch, Math.min(batchSize, remaining)) > 0) {
+            remaining -= batch.size();
+            applyBatch(batch);
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void applyBatch(List<Queued> batch) {
+        Map<String, Queued> latest = new HashMap<>();
+        for (Queued queued : batch) {
+            latest.merge(queued.update().trackingNumber(), queued, (current, next) ->
+                    new Queued(newer(current.update(), next.update()), Math.max(current.attempts(), next.attempts())));
+        }
+
+        try {
+            Map<String, ShipmentUpdate> updates = new HashMap<>();
+            latest.forEach((trackingNumber, queued) -> updates.put(trackingNumber, queued.update()));
+            int[] result = transactionTemplate.execute(status -> apply(updates));
+            log.debug("배송 상태 반영: 수신 {}건, 반영 {}건, 주문 상태 변경 {}건", batch.size(), result[0], result[1]);
+        } catch (RuntimeException e) {
+            // 한 건 때문에 배치 전체가 막히지 않도록 한 건씩 다시 반영
+            log.warn("배송 상태 배치 반영 실패, 한 건씩 재시도: {}건", latest.size(), e);
+            for (Queued queued : latest.values()) {
+                applyOne(queued);
+            }
+        }
+    }
+
+    private void applyOne(Queued queued) {
+        ShipmentUpdate update = queued.update();
+        try {
+            transactionTemplate.execute(status -> apply(Map.of(update.trackingNumber(), update)));
+        } catch (RuntimeException e) {
+            int attempts = queued.attempts() + 1;
+            if (attempts >= maxAttempts) {
+                log.error("배송 상태 반영 포기: 송장 번호 = {}, 상태 = {}, 시도 {}회", update.trackingNumber(),
+                        update.status(), attempts, e);
+            } else if (!queue.offer(new Queued(update, attempts))) {
+                log.error("배송 상태 재시도 유실 (큐 포화): 송장 번호 = {}", update.trackingNumber(), e);
+            } else {
+                log.warn("배송 상태 반영 실패, 다음 주기에 재시도: 송장 번호 = {}, 시도 {}회", update.trackingNumber(), attempts);
+            }
+        }
+    }
+
+    /**
+     * @return [반영된 배송 수, 바뀐 주문 수]
+     */
+    private int[] apply(Map<String, ShipmentUpdate> latest) {
+        List<Object[]> rows = shipmentRepository.findIngestionRows(latest.keySet());
+
+        List<Object[]> shipmentArgs = new ArrayList<>(rows.size());
+        List<OrderStatusChangedEvent> candidates = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ShipmentUpdate update = latest.get((String) row[1]);
+            LocalDateTime lastEventAt = (LocalDateTime) row[4];
+            if (lastEventAt != null && !update.eventTime().isAfter(lastEventAt)) {
+                continue;
+            }
+
+            shipmentArgs.add(new Object[]{update.status().ordinal(), update.location(), update.estimatedDeliveryDate(),
+                    update.eventTime(), row[0], update.eventTime()});
+            Long orderId = (Long) row[2];
+            OrderStatus current = (OrderStatus) row[5];
+            OrderStatus target = orderStatusFor(update.status(), current);
+            candidates.add(orderId != null && target != null ? new OrderStatusChangedEvent(orderId, current, target) : null);
+        }
+        if (rows.size() < latest.size()) {
+            log.warn("등록되지 않은 송장 번호 {}건 무시", latest.size() - rows.size());
+        }
+        if (shipmentArgs.isEmpty()) {
+            return new int[]{0, 0};
+        }
+
+        int[] shipmentCounts = jdbcTemplate.batchUpdate(UPDATE_SHIPMENT, shipmentArgs);
+        int applied = 0;
+        List<OrderStatusChangedEvent> transitions = new ArrayList<>();
+        for (int i = 0; i < shipmentCounts.length; i++) {
+            if (updated(shipmentCounts[i])) {
+                applied++;
+                if (candidates.get(i) != null) {
+                    transitions.add(candidates.get(i));
+                }
+            }
+        }
+
+        List<OrderStatusChangedEvent> changed = changeOrderStatuses(transitions);
+        changed.forEach(eventPublisher::publishEvent);
+        return new int[]{applied, changed.size()};
+    }
+
+    private List<OrderStatusChangedEvent> changeOrderStatuses(List<OrderStatusChangedEvent> transitions) {
+        if (transitions.isEmpty()) {
+            return transitions;
+        }
+
+        List<Object[]> args = new ArrayList<>(transitions.size());
+        for (OrderStatusChangedEvent transition : transitions) {
+            args.add(new Object[]{transition.to().name(), transition.orderId(), transition.from().name()});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_ORDER_STATUS, args);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderStatusChangedEvent> changed = new ArrayList<>(transitions.size());
+        List<Object[]> historyArgs = new ArrayList<>(transitions.size());
+        for (int i = 0; i < counts.length; i++) {
+            if (updated(counts[i])) {
+                OrderStatusChangedEvent transition = transitions.get(i);
+                changed.add(transition);
+                historyArgs.add(new Object[]{transition.orderId(), transition.to().name(), now});
+            }
+        }
+        if (!historyArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ORDER_STATUS_HISTORY, historyArgs);
+        }
+        return changed;
+    }
+
+    /**
+     * 배송 상태에 따른 주문 상태, 바꿀 필요가 없으면 null
+     * - 운송사가 받아 가면 SHIPPED, 배달 완료면 DELIVERED (취소된 주문과 역방향은 건드리지 않는다)
+     */
+    static OrderStatus orderStatusFor(ShipmentStatus shipmentStatus, OrderStatus current) {
+        if (current == null || current == OrderStatus.CANCELED || current == OrderStatus.DELIVERED) {
+            return null;
+        }
+        return switch (shipmentStatus) {
+            case IN_TRANSIT, OUT_FOR_DELIVERY -> current == OrderStatus.ORDERED ? OrderStatus.SHIPPED : null;
+            case DELIVERED -> OrderStatus.DELIVERED;
+            case PENDING, FAILED -> null;
+        };
+    }
+
+    // 같은 송장의 두 이벤트 중 최신 것 (최신 이벤트에 없는 위치/예정일은 이전 이벤트 값을 이어 받는다)
+    private static ShipmentUpdate newer(ShipmentUpdate current, ShipmentUpdate next) {
+        ShipmentUpdate newer = next.eventTime().isAfter(current.eventTime()) ? next : current;
+        ShipmentUpdate older = newer == next ? current : next;
+        return new ShipmentUpdate(newer.trackingNumber(), newer.status(),
+                newer.location() != null ? newer.location() : older.location(),
+                newer.estimatedDeliveryDate() != null ? newer.estimatedDeliveryDate() : older.estimatedDeliveryDate(),
+                newer.eventTime());
+    }
+
+    private static String validate(ShipmentUpdate update) {
+        if (update == null || update.trackingNumber() == null || update.trackingNumber().isBlank()) {
+            return "송장 번호 없음";
+        }
+        if (update.trackingNumber().length() > MAX_TRACKING_NUMBER_LENGTH) {
+            return "송장 번호가 너무 김";
+        }
+        if (update.location() != null && update.location().length() > MAX_LOCATION_LENGTH) {
+            return "위치가 너무 김";
+        }
+        if (update.status() == null) {
+            return "배송 상태 없음";
+        }
+        if (update.eventTime() == null) {
+            return "이벤트 시각 없음";
+        }
+        return null;
+    }
+
+    private static boolean updated(int count) {
+        return count > 0 || count == Statement.SUCCESS_NO_INFO;
+    }
+
+    // 큐 항목 - 반영 실패 횟수를 함께 둔다
+    private record Queued(ShipmentUpdate update, int attempts) {
+    }
+}
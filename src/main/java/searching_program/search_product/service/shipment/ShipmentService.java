@@ -0,0 +1,63 @@
+package searching_program.search_product.service.shipment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import searching_program.search_product.domain.Orders;
+import searching_program.search_product.domain.Shipment;
+import searching_program.search_product.dto.DtoEntityConverter;
+import searching_program.search_product.dto.ShipmentDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.OrderRepository;
+import searching_program.search_product.repository.ShipmentRepository;
+import searching_program.search_product.type.ErrorCode;
+import searching_program.search_product.type.OrderStatus;
+import searching_program.search_product.type.ShipmentStatus;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShipmentService {
+
+    private final ShipmentRepository shipmentRepository;
+    private final OrderRepository orderRepository;
+    private final DtoEntityConverter converter;
+
+    /**
+     * 주문에 송장 번호 등록 - 이후 운송사 상태 수집으로 갱신된다
+     */
+    @Transactional
+    public ShipmentDto register(ShipmentDto shipmentDto) {
+        if (shipmentDto.getOrderId() == null || shipmentDto.getTrackingNumber() == null
+                || shipmentDto.getTrackingNumber().isBlank()) {
+            throw new CustomError(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Orders order = orderRepository.findById(shipmentDto.getOrderId())
+                .orElseThrow(() -> new CustomError(ErrorCode.ORDER_NOT_FOUND));
+        if (order.getStatus() == OrderStatus.CANCELED) {
+            throw new CustomError(ErrorCode.ORDER_ALREADY_COMPLETED);
+        }
+        if (order.getShipment() != null || shipmentRepository.existsByTrackingNumber(shipmentDto.getTrackingNumber())) {
+            throw new CustomError(ErrorCode.SHIPMENT_ALREADY_EXIST);
+        }
+
+        Shipment shipment = converter.convertToShipmentEntity(shipmentDto, order);
+        shipment.setId(null);
+        shipment.setShipmentStatus(ShipmentStatus.PENDING);
+        shipment.setLastEventAt(null);
+        shipmentRepository.save(shipment);
+        order.setShipment(shipment);
+
+        log.info("배송 등록: 주문 ID = {}, 송장 번호 = {}", order.getId(), shipment.getTrackingNumber());
+        return converter.convertToShipmentDto(shipment);
+    }
+
+    @Transactional(readOnly = true)
+    public ShipmentDto findByTrackingNumber(String trackingNumber) {
+        return shipmentRepository.findByTrackingNumber(trackingNumber)
+                .map(converter::convertToShipmentDto)
+                .orElseThrow(() -> new CustomError(ErrorCode.SHIPMENT_NOT_FOUND));
+    }
+}
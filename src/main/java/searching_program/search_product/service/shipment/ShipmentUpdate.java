@@ -0,0 +1,16 @@
+package searching_program.search_product.service.shipment;
+
+import searching_program.search_product.type.ShipmentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 운송사 배송 상태 이벤트 한 건 (NDJSON 한 줄)
+ * - location / estimatedDeliveryDate 가 없으면 기존 값을 유지한다
+ */
+public record ShipmentUpdate(String trackingNumber,
+                             ShipmentStatus status,
+                             String location,
+                             LocalDateTime estimatedDeliveryDate,
+                             LocalDateTime eventTime) {
+}
@@ -0,0 +1,33 @@
+package searching_program.search_product.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import searching_program.search_product.domain.Item;
+import searching_program.search_product.service.notification.NotificationService;
+
+/**
+ * 저재고 알림 발송 - 메일 전송이 주문 요청 스레드를 붙잡지 않도록 비동기 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LowStockAlertSender {
+
+    private final NotificationService notificationService;
+
+    @Async
+    public void send(long itemId, String itemName, int stock) {
+        try {
+            notificationService.sendLowStockAlert(Item.builder()
+                    .id(itemId)
+                    .itemName(itemName)
+                    .stock(stock)
+                    .build());
+            log.info("저재고 알림 발송: 아이템 ID = {}, 재고 = {}", itemId, stock);
+        } catch (RuntimeException e) {
+            log.error("저재고 알림 발송 실패: 아이템 ID = {}, 오류 = {}", itemId, e.getMessage());
+        }
+    }
+}
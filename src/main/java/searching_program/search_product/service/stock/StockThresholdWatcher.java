@@ -0,0 +1,172 @@
+package searching_program.search_product.service.stock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import searching_program.search_product.repository.ItemRepository;
+import searching_program.search_product.service.support.LongIntHashMap;
+import searching_program.search_product.service.support.StampedGuard;
+import searching_program.search_product.type.ItemStatus;
+
+import java.util.List;
+
+/**
+ * 재고가 바뀌는 시점에 저재고 기준 통과를 감지해 바로 알림
+ * - 아이템별 기준값과 알림 상태는 primitive map 에 보관 (박싱 없음)
+ * - 한 번 알림을 보낸 아이템은 재고가 기준 위로 회복될 때까지 다시 보내지 않는다
+ * - 주문 외 경로로 바뀐 재고는 주기적 keyset 점검으로 보정
+ */
+@Slf4j
+@Component
+public class StockThresholdWatcher {
+
+    private static final int NO_THRESHOLD = Integer.MIN_VALUE;
+
+    private final ItemRepository itemRepository;
+    private final LowStockAlertSender alertSender;
+    private final int defaultThreshold;
+    private final int batchSize;
+
+    private final StampedGuard<LongIntHashMap> thresholds = new StampedGuard<>(new LongIntHashMap(1024));
+    private final StampedGuard<LongIntHashMap> alerted = new StampedGuard<>(new LongIntHashMap(1024)); // 아이템 ID -> 알림 당시 재고
+
+    public StockThresholdWatcher(ItemRepository itemRepository,
+                                 LowStockAlertSender alertSender,
+                                 @Value("${app.stock-watch.default-threshold:10}") int defaultThreshold,
+                                 @Value("${app.stock-watch.batch-size:500}") int batchSize) {
+        this.itemRepository = itemRepository;
+        this.alertSender = alertSender;
+        this.defaultThreshold = defaultThreshold;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 기동 시 기준값을 읽고, 이미 저재고인 아이템은 알림 없이 알림 상태로만 등록
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        for (Object[] row : itemRepository.findStockThresholds()) {
+            setThreshold((Long) row[0], (Integer) row[1]);
+        }
+        reconcile(false);
+    }
+
+    /**
+     * 재고 변경 알림 - 커밋이 확정된 뒤 기준 통과 여부를 판단한다
+     */
+    public void stockChanged(long itemId, String itemName, int stock) {
+        afterCommit(() -> evaluate(itemId, itemName, stock, true));
+    }
+
+    /**
+     * 기준값 변경 알림 - 커밋이 확정된 뒤 기준값을 바꾸고 현재 재고로 다시 판단한다 (롤백되면 그대로)
+     *
+     * @return 커밋 후 적용될 기준값
+     */
+    public int thresholdChanged(long itemId, String itemName, int stock, Integer threshold) {
+        afterCommit(() -> {
+            setThreshold(itemId, threshold);
+            evaluate(itemId, itemName, stock, true);
+        });
+        return threshold != null ? threshold : defaultThreshold;
+    }
+
+    public int thresholdOf(long itemId) {
+        int threshold = thresholds.read(map -> map.get(itemId, NO_THRESHOLD));
+        return threshold == NO_THRESHOLD ? defaultThreshold : threshold;
+    }
+
+    /**
+     * 아이템별 기준값 변경 (null 이면 기본값 사용)
+     */
+    public void setThreshold(long itemId, Integer threshold) {
+        thresholds.write(map -> {
+            if (threshold == null) {
+                map.remove(itemId);
+                return defaultThreshold;
+            }
+            map.put(itemId, threshold);
+            return threshold;
+        });
+    }
+
+    /**
+     * 주기적 보정 - id 기준 keyset 으로 나눠 읽고 놓친 기준 통과만 알림
+     *
+     * @return 새로 보낸 알림 수
+     */
+    @Scheduled(initialDelayString = "${app.stock-watch.reconcile-interval-ms:300000}",
+            fixedDelayString = "${app.stock-watch.reconcile-interval-ms:300000}")
+    public int reconcile() {
+        return reconcile(true);
+    }
+
+    private int reconcile(boolean notify) {
+        int alerts = 0;
+        long lastId = 0;
+        while (true) {
+            List<Object[]> batch = itemRepository.findStockBatchAfter(lastId, ItemStatus.AVAILABLE, PageRequest.ofSize(batchSize));
+            for (Object[] row : batch) {
+                long itemId = (Long) row[0];
+                Integer threshold = (Integer) row[3];
+                if (threshold != null) {
+                    setThreshold(itemId, threshold);
+                }
+                if (evaluate(itemId, (String) row[1], (Integer) row[2], notify)) {
+                    alerts++;
+                }
+                lastId = itemId;
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        if (alerts > 0) {
+            log.info("저재고 보정 점검: 누락된 알림 {}건 발송", alerts);
+        }
+        return alerts;
+    }
+
+    /**
+     * @return 이번 호출로 새로 기준을 통과한 경우 true
+     */
+    private boolean evaluate(long itemId, String itemName, int stock, boolean notify) {
+        boolean low = stock <= thresholdOf(itemId);
+
+        boolean crossed = alerted.write(map -> {
+            if (!low) {
+                map.remove(itemId);
+                return 0;
+            }
+            if (map.containsKey(itemId)) {
+                return 0;
+            }
+            map.put(itemId, stock);
+            return 1;
+        }) == 1;
+
+        if (crossed && notify) {
+            alertSender.send(itemId, itemName, stock);
+        }
+        return crossed;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package searching_program.search_product.service.support;
+
+import org.hibernate.exception.ConstraintViolationException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * 유니크 제약 위반(중복 키) 판별.
+ * 제약 이름을 알 수 있으면 이름으로, 모르면 SQL 상태 / 벤더 코드로 중복 키인지 본다.
+ * 외래 키 / NOT NULL 위반은 중복 키가 아니다.
+ */
+public final class DuplicateKeys {
+
+    // MySQL: Duplicate entry (SQLState 23000 은 다른 무결성 위반과 같이 쓰여서 벤더 코드로 구분)
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    // H2 / PostgreSQL: unique_violation
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private DuplicateKeys() {
+    }
+
+    /**
+     * @param constraintName 대상 유니크 제약 이름
+     */
+    public static boolean isViolationOf(Throwable e, String constraintName) {
+        String violated = null;
+        SQLException sqlException = null;
+        for (Throwable cause = e; cause != null && cause.getCause() != cause; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violated == null) {
+                violated = violation.getConstraintName();
+            }
+            if (cause instanceof SQLException sql && sqlException == null) {
+                sqlException = sql;
+            }
+        }
+
+        if (sqlException == null || !isDuplicateKey(sqlException)) {
+            return false;
+        }
+        // DB마다 "테이블.제약", "제약_INDEX_n" 처럼 앞뒤가 붙어서 온다
+        return violated == null
+                || violated.toLowerCase(Locale.ROOT).contains(constraintName.toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean isDuplicateKey(SQLException e) {
+        return e.getErrorCode() == MYSQL_DUPLICATE_ENTRY || UNIQUE_VIOLATION.equals(e.getSQLState());
+    }
+}
@@ -0,0 +1,36 @@
+package searching_program.search_product.service.support;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * JDBC 커서로 읽은 엔티티를 한 건씩 변환해서 넘긴다.
+ * 영속성 컨텍스트에 엔티티가 쌓이지 않도록 일정 건수마다 clear
+ * 트랜잭션 안에서 호출해야 한다.
+ */
+public final class EntityStreams {
+
+    public static final int FETCH_SIZE = 500;
+
+    private EntityStreams() {
+    }
+
+    public static <E, D> int forEach(Stream<E> entities, EntityManager entityManager,
+                                     Function<E, D> converter, Consumer<D> sink) {
+        int count = 0;
+        try (entities) {
+            Iterator<E> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(converter.apply(iterator.next()));
+                if (++count % FETCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,71 @@
+package searching_program.search_product.service.support;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 long[] 을 불변 집합처럼 다루는 유틸
+ * - 조회는 이진 탐색 O(log n)
+ * - 변경은 새 배열을 만들어 반환 (기존 배열은 그대로 두므로 잠금 없이 읽을 수 있다)
+ */
+public final class SortedLongArrays {
+
+    public static final long[] EMPTY = new long[0];
+
+    private SortedLongArrays() {
+    }
+
+    public static boolean contains(long[] set, long value) {
+        return Arrays.binarySearch(set, value) >= 0;
+    }
+
+    /**
+     * @return value 가 추가된 새 배열, 이미 있으면 같은 배열
+     */
+    public static long[] insert(long[] set, long value) {
+        int index = Arrays.binarySearch(set, value);
+        if (index >= 0) {
+            return set;
+        }
+        int insertAt = -index - 1;
+        long[] result = new long[set.length + 1];
+        System.arraycopy(set, 0, result, 0, insertAt);
+        result[insertAt] = value;
+        System.arraycopy(set, insertAt, result, insertAt + 1, set.length - insertAt);
+        return result;
+    }
+
+    /**
+     * @return value 가 제거된 새 배열, 없으면 같은 배열
+     */
+    public static long[] remove(long[] set, long value) {
+        int index = Arrays.binarySearch(set, value);
+        if (index < 0) {
+            return set;
+        }
+        if (set.length == 1) {
+            return EMPTY;
+        }
+        long[] result = new long[set.length - 1];
+        System.arraycopy(set, 0, result, 0, index);
+        System.arraycopy(set, index + 1, result, index, set.length - index - 1);
+        return result;
+    }
+
+    /**
+     * 정렬되지 않은 값들로 집합 생성 (중복 제거)
+     */
+    public static long[] of(long[] values) {
+        if (values.length == 0) {
+            return EMPTY;
+        }
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int size = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+}
@@ -0,0 +1,73 @@
+package searching_program.search_product.service.support;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * 동기화되지 않은 구조(LongIntHashMap 등)를 StampedLock 으로 감싼다.
+ * - 조회는 먼저 잠금 없이 읽고, 그 사이 쓰기가 있었으면 읽기 잠금을 잡고 다시 읽는다
+ * - 재배치 중인 배열을 읽다가 난 예외도 쓰기와 겹친 경우에만 무시하고 다시 읽는다
+ * - 변경은 쓰기 잠금 안에서만 한다
+ */
+public final class StampedGuard<T> {
+
+    private final StampedLock lock = new StampedLock();
+    private T value;
+
+    public StampedGuard(T value) {
+        this.value = value;
+    }
+
+    /**
+     * reader 는 부수 효과 없이 읽기만 해야 한다 (다시 실행될 수 있음)
+     */
+    public int read(ToIntFunction<T> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                int result = reader.applyAsInt(value);
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return reader.applyAsInt(value);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 쓰기 잠금 안에서 변경
+     *
+     * @return writer 가 돌려준 값 (예: 변경 후 값, 변경 여부)
+     */
+    public int write(ToIntFunction<T> writer) {
+        long stamp = lock.writeLock();
+        try {
+            return writer.applyAsInt(value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 쓰기 잠금 안에서 새 값으로 교체 (replacer 는 이전 값을 받아 새 값을 돌려준다)
+     */
+    public void replace(UnaryOperator<T> replacer) {
+        long stamp = lock.writeLock();
+        try {
+            value = replacer.apply(value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+}
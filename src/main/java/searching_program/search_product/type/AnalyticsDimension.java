@@ -0,0 +1,13 @@
+package searching_program.search_product.type;
+
+/**
+ * 분석 질의 그룹 기준 (회원 등급/결제 수단은 회원 정보에서 가져온다)
+ */
+public enum AnalyticsDimension {
+    NONE,
+    MEMBER,
+    STATUS,
+    GRADE,
+    PAYMENT_METHOD,
+    DAY
+}
@@ -0,0 +1,11 @@
+package searching_program.search_product.type;
+
+/**
+ * 분석 결과 정렬 기준 (내림차순)
+ */
+public enum AnalyticsMetric {
+    COUNT,
+    SUM,
+    AVERAGE,
+    HIT_RATE
+}
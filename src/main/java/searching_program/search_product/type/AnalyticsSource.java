@@ -0,0 +1,9 @@
+package searching_program.search_product.type;
+
+/**
+ * 분석 스냅샷의 사실 테이블
+ */
+public enum AnalyticsSource {
+    ORDERS,  // 주문 한 건 = 한 행 (금액 = 주문 총액)
+    PAYMENTS // 결제 한 건 = 한 행 (금액 = 결제 금액)
+}
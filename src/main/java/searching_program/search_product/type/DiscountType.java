@@ -0,0 +1,9 @@
+package searching_program.search_product.type;
+
+/**
+ * 프로모션 할인 방식
+ */
+public enum DiscountType {
+    PERCENTAGE,  // discountRate % 할인
+    FIXED_AMOUNT // 개당 discountAmount 원 할인
+}
@@ -40,7 +40,15 @@ public enum ErrorCode {
     ACCOUNT_IS_LOCKED(HttpStatus.BAD_REQUEST, "계정이 잠겼습니다"),
     ITEM_DUPLICATE(HttpStatus.CONFLICT, "아이탬이 중복됩니다."),
     NO_ACTIVE_PROMOTION(HttpStatus.NOT_FOUND, "활성화된 쿠폰이 아닙니다."),
-    INVALID_COUPON_CODE(HttpStatus.BAD_REQUEST, "사용이 불가능한 쿠폰입니다");
+    INVALID_COUPON_CODE(HttpStatus.BAD_REQUEST, "사용이 불가능한 쿠폰입니다"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "다른 요청에 이미 사용된 멱등성 키입니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 멱등성 키의 요청이 처리 중입니다."),
+    UNAUTHENTICATED(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다."),
+    CONCURRENT_UPDATE_CONFLICT(HttpStatus.CONFLICT, "다른 요청과 동시에 수정되었습니다. 다시 시도해 주세요."),
+    SHIPMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "배송 정보를 찾을 수 없습니다."),
+    SHIPMENT_ALREADY_EXIST(HttpStatus.CONFLICT, "이미 배송이 등록된 주문이거나 중복된 송장 번호입니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    SERVICE_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
 
 
     private final HttpStatus status;
@@ -0,0 +1,11 @@
+package searching_program.search_product.type;
+
+/**
+ * 재고 이동 유형
+ */
+public enum MovementType {
+    RESERVATION, // 주문으로 차감
+    RELEASE,     // 주문 취소로 복구
+    RESTOCK,     // 입고
+    ADJUSTMENT   // 실사/보정 (증감 모두 가능)
+}
@@ -0,0 +1,10 @@
+package searching_program.search_product.type;
+
+/**
+ * 매출 집계 기준 - TOTAL 의 dimensionId 는 0
+ */
+public enum RollupDimension {
+    TOTAL,
+    ITEM,
+    CATEGORY
+}
@@ -0,0 +1,9 @@
+package searching_program.search_product.type;
+
+/**
+ * 여러 검색어 결합 방식
+ */
+public enum SearchMode {
+    AND, // 모든 검색어를 포함
+    OR   // 하나 이상 포함 (많이 맞을수록 앞)
+}
@@ -0,0 +1,240 @@
+package searching_program.search_product.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import searching_program.search_product.controller.support.CatalogETag;
+import searching_program.search_product.domain.CatalogVersion;
+import searching_program.search_product.dto.ItemDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.CatalogVersionRepository;
+import searching_program.search_product.repository.PromotionRepository;
+import searching_program.search_product.service.catalog.CatalogVersionTracker;
+import searching_program.search_product.service.coalescing.ItemReadCoalescer;
+import searching_program.search_product.type.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatalogETagInterceptorTest {
+
+    // 여러 인스턴스가 함께 보는 DB 상태 (rowVersions 는 상세 캐시에 들어 있는 Item.version)
+    private final Map<Long, Long> rowVersions = new ConcurrentHashMap<>(Map.of(1L, 0L, 2L, 0L));
+    private final Map<String, Long> counters =
+            new ConcurrentHashMap<>(Map.of("catalog", 0L, "category", 0L, "promotion", 0L));
+    private final List<LocalDateTime[]> schedules = new CopyOnWriteArrayList<>();
+
+    private final PromotionRepository promotionRepository = mock(PromotionRepository.class);
+    private final ItemReadCoalescer itemReadCoalescer = mock(ItemReadCoalescer.class);
+    private final CatalogVersionRepository catalogVersionRepository = mock(CatalogVersionRepository.class);
+    private final CatalogVersionTracker tracker = newTracker();
+    private final CatalogETagInterceptor interceptor = new CatalogETagInterceptor(tracker, itemReadCoalescer);
+
+    {
+        when(itemReadCoalescer.getItemWithPromotion(anyLong())).thenAnswer(inv -> {
+            Long version = rowVersions.get(inv.<Long>getArgument(0));
+            if (version == null) {
+                throw new CustomError(ErrorCode.ITEM_NOT_FOUND);
+            }
+            return ItemDto.builder().id(inv.getArgument(0)).version(version).build();
+        });
+        when(catalogVersionRepository.findAll()).thenAnswer(inv -> counters.entrySet().stream()
+                .map(e -> CatalogVersion.builder().name(e.getKey()).version(e.getValue()).build())
+                .toList());
+        when(catalogVersionRepository.increment(anyString())).thenAnswer(inv -> {
+            counters.merge(inv.getArgument(0), 1L, Long::sum);
+            return 1;
+        });
+        when(promotionRepository.findScheduleEndingAfter(any())).thenAnswer(inv -> schedules.stream()
+                .filter(s -> s[1].isAfter(inv.getArgument(0)))
+                .map(s -> new Object[]{s[0], s[1]})
+                .toList());
+        when(promotionRepository.findLatestStartUntil(any())).thenAnswer(inv -> latestUntil(0, inv.getArgument(0)));
+        when(promotionRepository.findLatestEndUntil(any())).thenAnswer(inv -> latestUntil(1, inv.getArgument(0)));
+    }
+
+    private CatalogVersionTracker newTracker() {
+        return new CatalogVersionTracker(promotionRepository, catalogVersionRepository);
+    }
+
+    private LocalDateTime latestUntil(int index, LocalDateTime now) {
+        return schedules.stream().map(s -> s[index]).filter(t -> !t.isAfter(now))
+                .max(Comparator.naturalOrder()).orElse(null);
+    }
+
+    static class Handlers {
+        @CatalogETag(CatalogETag.Scope.ITEM)
+        void item() {
+        }
+
+        @CatalogETag(CatalogETag.Scope.CATEGORY)
+        void category() {
+        }
+
+        void plain() {
+        }
+    }
+
+    private HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getDeclaredMethod(name));
+    }
+
+    private MockHttpServletRequest itemRequest(long id, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/" + id);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", String.valueOf(id)));
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return request;
+    }
+
+    private String itemETag(long id) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(itemRequest(id, null), response, handler("item"));
+        return response.getHeader("ETag");
+    }
+
+    @Test
+    void 버전이_같으면_304() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(itemRequest(1L, null), first, handler("item")));
+        String eTag = first.getHeader("ETag");
+        assertNotNull(eTag);
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(itemRequest(1L, eTag), second, handler("item")));
+        assertEquals(304, second.getStatus());
+
+        // 압축으로 약한 ETag가 된 경우도 일치
+        MockHttpServletResponse weak = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(itemRequest(1L, "W/" + eTag), weak, handler("item")));
+    }
+
+    @Test
+    void 재고만_바뀌면_해당_상품_ETag만_변경되고_무효화는_없음() throws Exception {
+        AtomicInteger itemsChanges = new AtomicInteger();
+        tracker.onItemsChanged(itemsChanges::incrementAndGet);
+        String item1 = itemETag(1L);
+        String item2 = itemETag(2L);
+        String catalog = tracker.catalogETag();
+
+        // 재고 차감 (update versioned) - 상세 캐시가 다시 읽으면 version 이 바뀐다
+        rowVersions.merge(1L, 1L, Long::sum);
+
+        assertNotEquals(item1, itemETag(1L));
+        assertEquals(item2, itemETag(2L));
+        tracker.refresh();
+        assertEquals(catalog, tracker.catalogETag());
+        assertEquals(0, itemsChanges.get());
+        verify(catalogVersionRepository, never()).increment(anyString());
+    }
+
+    @Test
+    void 상품_정보가_바뀌면_목록_ETag와_리스너에_반영() {
+        AtomicInteger itemsChanges = new AtomicInteger();
+        List<Long> changedItems = new CopyOnWriteArrayList<>();
+        tracker.onItemsChanged(itemsChanges::incrementAndGet);
+        tracker.onItemChanged(changedItems::add);
+        String catalog = tracker.catalogETag();
+
+        tracker.itemChanged(1L);
+
+        assertNotEquals(catalog, tracker.catalogETag());
+        assertEquals(List.of(1L), changedItems);
+        assertEquals(1, itemsChanges.get());
+    }
+
+    @Test
+    void 카테고리_변경() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/category/categoryAllName");
+        request.addHeader("If-None-Match", tracker.categoryETag());
+        tracker.categoryChanged();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(request, response, handler("category")));
+        assertEquals(tracker.categoryETag(), response.getHeader("ETag"));
+    }
+
+    @Test
+    void 프로모션_시작_시각이_지나면_ETag_변경() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusSeconds(1);
+        schedules.add(new LocalDateTime[]{start, start.plusDays(1)});
+
+        String before = itemETag(1L);
+        Thread.sleep(1100);
+        assertNotEquals(before, itemETag(1L));
+    }
+
+    @Test
+    void 카테고리_전체_규칙도_등록_즉시와_시작_시각에_ETag_변경() throws Exception {
+        String before = itemETag(1L);
+        LocalDateTime start = LocalDateTime.now().plusSeconds(1);
+        schedules.add(new LocalDateTime[]{start, start.plusDays(1)});
+        tracker.promotionScheduled(null, start, start.plusDays(1));
+
+        String registered = itemETag(1L);
+        assertNotEquals(before, registered);
+        Thread.sleep(1100);
+        assertNotEquals(registered, itemETag(1L));
+    }
+
+    @Test
+    void 다른_인스턴스의_변경도_주기_조회_뒤_같은_ETag() {
+        CatalogVersionTracker other = newTracker();
+        AtomicInteger itemsChanges = new AtomicInteger();
+        AtomicInteger catalogChanges = new AtomicInteger();
+        AtomicInteger promotionChanges = new AtomicInteger();
+        tracker.onItemsChanged(itemsChanges::incrementAndGet);
+        tracker.onCatalogChanged(catalogChanges::incrementAndGet);
+        tracker.onPromotionChanged(promotionChanges::incrementAndGet);
+
+        assertEquals(other.itemETag(1L, 0), tracker.itemETag(1L, 0));
+        assertEquals(other.catalogETag(), tracker.catalogETag());
+
+        other.itemChanged(1L);
+        other.categoryChanged();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        schedules.add(new LocalDateTime[]{start, start.plusDays(1)});
+        other.promotionScheduled(null, start, start.plusDays(1));
+        tracker.refresh();
+
+        assertEquals(other.categoryETag(), tracker.categoryETag());
+        assertEquals(other.catalogETag(), tracker.catalogETag());
+        assertEquals(other.itemETag(2L, 0), tracker.itemETag(2L, 0));
+        assertEquals(1, itemsChanges.get());
+        assertEquals(1, catalogChanges.get());
+        assertEquals(1, promotionChanges.get());
+    }
+
+    @Test
+    void 없는_상품은_ETag_없이_통과() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(itemRequest(99L, "*"), response, handler("item")));
+        assertNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void 표시없는_핸들러와_POST는_통과() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(itemRequest(1L, "*"), response, handler("plain")));
+        assertNull(response.getHeader("ETag"));
+
+        MockHttpServletRequest post = itemRequest(1L, "*");
+        post.setMethod("POST");
+        assertTrue(interceptor.preHandle(post, new MockHttpServletResponse(), handler("item")));
+    }
+}
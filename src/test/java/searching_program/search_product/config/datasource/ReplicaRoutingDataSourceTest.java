@@ -0,0 +1,94 @@
+package searching_program.search_product.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import searching_program.search_product.config.datasource.ReplicaDataSourceProperties.BalanceStrategy;
+import searching_program.search_product.config.datasource.ReplicaRoutingDataSource.Replica;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 H2 인스턴스 두 개(primary, replica)로 라우팅 검증
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replicaDataSource;
+    private Replica replica;
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replicaDataSource = h2("replica");
+        replica = new Replica("replica-0", replicaDataSource);
+        tracker = new ReadYourWritesTracker(60_000);
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), BalanceStrategy.ROUND_ROBIN, tracker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+        routingDataSource.close();
+    }
+
+    @Test
+    void writeGoesToPrimary() throws SQLException {
+        assertTrue(connectedUrl().contains("primary"));
+    }
+
+    @Test
+    void readOnlyGoesToReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertTrue(connectedUrl().contains("replica"));
+    }
+
+    @Test
+    void readYourWritesPinsMemberToPrimary() throws SQLException {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("ik0605", null, List.of()));
+        tracker.markWrite("ik0605");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertTrue(connectedUrl().contains("primary"));
+    }
+
+    @Test
+    void laggingReplicaIsSkipped() throws SQLException {
+        ReplicationLagMonitor monitor = new ReplicationLagMonitor(routingDataSource, "SELECT 10", 5);
+        monitor.checkLag();
+        assertFalse(replica.isHealthy());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertTrue(connectedUrl().contains("primary"));
+
+        new ReplicationLagMonitor(routingDataSource, "SELECT 0", 5).checkLag();
+        assertTrue(replica.isHealthy());
+        assertTrue(connectedUrl().contains("replica"));
+    }
+
+    private String connectedUrl() throws SQLException {
+        try (Connection connection = routingDataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+
+    private HikariDataSource h2(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
@@ -0,0 +1,40 @@
+package searching_program.search_product.config.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryRecorderTest {
+
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @AfterEach
+    void tearDown() {
+        QueryRecorder.stop();
+    }
+
+    @Test
+    void 기록중이_아니면_무시() {
+        inspector.inspect("select * from tbl_item where id=?");
+
+        assertFalse(QueryRecorder.isActive());
+        assertNull(QueryRecorder.stop());
+    }
+
+    @Test
+    void 같은_쿼리_반복_감지() {
+        QueryRecorder.start(3);
+
+        inspector.inspect("select * from tbl_bucket where member_id=?");
+        for (int i = 0; i < 3; i++) {
+            inspector.inspect("select * from tbl_item where id=?");
+        }
+
+        QueryRecorder.Recording recording = QueryRecorder.stop();
+        assertEquals(4, recording.getTotal());
+        assertEquals(3, recording.getMaxRepeats());
+        assertEquals(1, recording.getRepeatedStatements().size());
+        assertTrue(recording.getRepeatedStatements().containsKey("select * from tbl_item where id=?"));
+    }
+}
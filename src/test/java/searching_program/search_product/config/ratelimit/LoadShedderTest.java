@@ -0,0 +1,64 @@
+package searching_program.search_product.config.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static searching_program.search_product.config.ratelimit.LoadShedder.Priority.*;
+
+class LoadShedderTest {
+
+    private static final long MS = 1_000_000L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoadShedder loadShedder;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loadShedder = new LoadShedder(meterRegistry, 100, 1000);
+        now = System.nanoTime();
+    }
+
+    @Test
+    void 경로별_우선순위() {
+        assertEquals(CRITICAL, loadShedder.classify("/orders/create"));
+        assertEquals(CRITICAL, loadShedder.classify("/api/auth/login"));
+        assertEquals(LOW, loadShedder.classify("/items/search/multiple"));
+        assertEquals(LOW, loadShedder.classify("/members/stream"));
+        assertEquals(NORMAL, loadShedder.classify("/items/1"));
+    }
+
+    @Test
+    void 지연이_목표를_넘으면_낮은_우선순위부터_차단() {
+        // 구간 내 가장 빠른 요청도 150ms -> 목표(100ms) 초과
+        loadShedder.record(150 * MS, now + 10 * MS);
+        loadShedder.record(300 * MS, now + 20 * MS);
+        loadShedder.record(400 * MS, now + 1001 * MS);
+
+        assertEquals(150 * MS, loadShedder.getStandingLatencyNanos());
+        assertFalse(loadShedder.admit(LOW, now + 1002 * MS));
+        assertTrue(loadShedder.admit(NORMAL, now + 1002 * MS));
+        assertTrue(loadShedder.admit(CRITICAL, now + 1002 * MS));
+
+        // 다음 구간 최소 지연 400ms -> 목표의 2배 초과, 일반 요청도 차단
+        loadShedder.record(500 * MS, now + 2002 * MS);
+        assertFalse(loadShedder.admit(NORMAL, now + 2003 * MS));
+        assertTrue(loadShedder.admit(CRITICAL, now + 2003 * MS));
+        assertEquals(1.0, meterRegistry.get("http.server.shed").tag("priority", "low").counter().count());
+        assertEquals(1.0, meterRegistry.get("http.server.shed").tag("priority", "normal").counter().count());
+    }
+
+    @Test
+    void 요청이_없던_구간이_지나면_차단_해제() {
+        loadShedder.record(500 * MS, now + 10 * MS);
+        loadShedder.record(500 * MS, now + 1001 * MS);
+        assertFalse(loadShedder.admit(LOW, now + 1002 * MS));
+
+        // 완료된 요청 없이 한 구간이 지나면 0 으로 초기화
+        assertFalse(loadShedder.admit(LOW, now + 1500 * MS));
+        assertTrue(loadShedder.admit(LOW, now + 3000 * MS));
+    }
+}
@@ -0,0 +1,81 @@
+package searching_program.search_product.config.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static searching_program.search_product.config.ratelimit.RateLimiter.Policy.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // auth 1/s burst 2, search 10/s burst 5, default 100/s burst 100
+        rateLimiter = new RateLimiter(meterRegistry, 1, 2, 10, 5, 100, 100, 1000, 10);
+    }
+
+    @Test
+    void 경로별_정책() {
+        assertEquals(AUTH, rateLimiter.resolve("/api/auth/login"));
+        assertEquals(AUTH, rateLimiter.resolve("/login/register"));
+        assertEquals(SEARCH, rateLimiter.resolve("/items/search/multiple"));
+        assertEquals(DEFAULT, rateLimiter.resolve("/items/1"));
+    }
+
+    @Test
+    void 버스트_이후_거절_그리고_시간이_지나면_허용() {
+        long now = 0;
+        assertEquals(0, rateLimiter.tryAcquire(AUTH, "ip:1.1.1.1", now));
+        assertEquals(0, rateLimiter.tryAcquire(AUTH, "ip:1.1.1.1", now));
+
+        long wait = rateLimiter.tryAcquire(AUTH, "ip:1.1.1.1", now);
+        assertEquals(SECOND, wait);
+        assertEquals(1.0, meterRegistry.get("http.server.rate.limited").tag("policy", "auth").counter().count());
+
+        // 다른 클라이언트는 영향 없음
+        assertEquals(0, rateLimiter.tryAcquire(AUTH, "ip:2.2.2.2", now));
+
+        // 1초 뒤 토큰 1개 회복
+        assertEquals(0, rateLimiter.tryAcquire(AUTH, "ip:1.1.1.1", now + SECOND));
+        assertTrue(rateLimiter.tryAcquire(AUTH, "ip:1.1.1.1", now + SECOND) > 0);
+    }
+
+    @Test
+    void 동시_요청에서도_버스트만큼만_허용() throws InterruptedException {
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        long now = System.nanoTime();
+
+        for (int i = 0; i < threads; i++) {
+            pool.submit(() -> {
+                start.await();
+                for (int j = 0; j < 100; j++) {
+                    if (rateLimiter.tryAcquire(SEARCH, "user:test", now) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(5, allowed.get());
+    }
+}
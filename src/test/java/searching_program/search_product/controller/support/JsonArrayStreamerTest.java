@@ -0,0 +1,69 @@
+package searching_program.search_product.controller.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import searching_program.search_product.dto.CategoryDto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonArrayStreamerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonArrayStreamer streamer = new JsonArrayStreamer(objectMapper);
+
+    @Test
+    void 한건씩_JSON_배열로_작성() throws IOException {
+        // 같은 DTO 인스턴스를 재사용해도 쓰는 시점의 값이 기록된다
+        CategoryDto reused = new CategoryDto();
+        Consumer<Consumer<CategoryDto>> source = sink -> {
+            for (long i = 1; i <= 3; i++) {
+                reused.setId(i);
+                reused.setName("category-" + i);
+                sink.accept(reused);
+            }
+        };
+
+        ResponseEntity<StreamingResponseBody> response = streamer.stream(source);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        CategoryDto[] result = objectMapper.readValue(out.toByteArray(), CategoryDto[].class);
+        assertEquals(3, result.length);
+        assertEquals("category-3", result[2].getName());
+        assertEquals("application/json", response.getHeaders().getContentType().toString());
+    }
+
+    @Test
+    void 빈_결과는_빈_배열() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamer.<CategoryDto>stream(sink -> { }).getBody().writeTo(out);
+
+        assertEquals("[]", out.toString());
+    }
+
+    @Test
+    void 쓰기_실패는_source까지_전달() {
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        StreamingResponseBody body = streamer.<CategoryDto>stream(sink -> {
+            for (long i = 0; i < 10_000; i++) {
+                sink.accept(new CategoryDto(i, "category-" + i));
+            }
+        }).getBody();
+
+        assertThrows(UncheckedIOException.class, () -> body.writeTo(broken));
+    }
+}
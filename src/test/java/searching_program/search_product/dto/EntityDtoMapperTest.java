@@ -0,0 +1,88 @@
+package searching_program.search_product.dto;
+
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import searching_program.search_product.domain.*;
+import searching_program.search_product.type.OrderStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityDtoMapperTest {
+
+    private final DtoEntityConverter converter = new DtoEntityConverter(Mappers.getMapper(EntityDtoMapper.class));
+
+    private final Category category = Category.builder().id(1L).name("electronic").build();
+
+    private Item item(long id, String name) {
+        return Item.builder()
+                .id(id)
+                .itemName(name)
+                .itemPrice(15000)
+                .stock(20)
+                .category(category)
+                .build();
+    }
+
+    @Test
+    void 아이템_변환() {
+        ItemDto itemDto = converter.convertToItemDto(item(10L, "macbook"));
+
+        assertEquals(10L, itemDto.getId());
+        assertEquals("macbook", itemDto.getItemName());
+        assertEquals(15000, itemDto.getItemPrice());
+        assertEquals("electronic", itemDto.getCategoryDto().getName());
+
+        Item entity = converter.convertToItemEntity(itemDto);
+        assertEquals(10L, entity.getId());
+        assertNull(entity.getCategory());
+        assertNotNull(entity.getReviews());
+    }
+
+    @Test
+    void 리스트_변환과_기존_DTO_재사용() {
+        List<ItemDto> itemDtos = converter.convertToItemDtos(List.of(item(1L, "macbook"), item(2L, "airpods")));
+        assertEquals(2, itemDtos.size());
+        assertEquals("airpods", itemDtos.get(1).getItemName());
+
+        ItemDto reused = new ItemDto();
+        assertSame(reused, converter.convertToItemDto(item(3L, "ipad"), reused));
+        assertEquals("ipad", reused.getItemName());
+    }
+
+    @Test
+    void 주문_변환() {
+        Member member = Member.builder().id(5L).userId("testUser").accountLock(true).build();
+        Orders order = converter.convertToOrderEntity(OrderDto.builder().id(7L).totalAmount(300).build());
+        order.setMember(member);
+        order.addOrderItem(OrderItem.builder().item(item(1L, "macbook")).quantity(2).price(150).build());
+        order.changeStatus(OrderStatus.ORDERED);
+
+        OrderDto orderDto = converter.convertToOrderDto(order);
+
+        assertEquals(7L, orderDto.getId());
+        assertEquals("testUser", orderDto.getUserId());
+        assertEquals(1, orderDto.getOrderItems().size());
+        assertEquals(1L, orderDto.getOrderItems().get(0).getItemId());
+        assertEquals(OrderStatus.ORDERED, orderDto.getOrderStatusHistories().get(0).getStatus());
+        assertTrue(converter.convertToMemberDto(member).isLock());
+    }
+
+    @Test
+    void 장바구니_변환() {
+        Bucket bucket = Bucket.builder()
+                .id(3L)
+                .item(item(1L, "macbook"))
+                .member(Member.builder().id(5L).build())
+                .quantity(2)
+                .itemTotalPrice(30000)
+                .build();
+
+        BucketDto bucketDto = converter.convertToBucketDto(bucket);
+
+        assertEquals(5L, bucketDto.getMemberId());
+        assertEquals("macbook", bucketDto.getItemName());
+        assertEquals(30000, bucketDto.getItemTotalPrice()); // 담을 때 저장한 금액 그대로
+    }
+}
@@ -0,0 +1,224 @@
+package searching_program.search_product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import searching_program.search_product.domain.IdempotencyKey;
+import searching_program.search_product.dto.OrderDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.IdempotencyKeyRepository;
+import searching_program.search_product.service.member.MemberIdentity;
+import searching_program.search_product.service.member.MemberIdentityCache;
+import searching_program.search_product.type.ErrorCode;
+import searching_program.search_product.type.MemberStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class IdempotencyServiceTest {
+
+    private IdempotencyKeyRepository repository;
+    private IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private OrderDto request;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(IdempotencyKeyRepository.class);
+        when(repository.saveAndFlush(any(IdempotencyKey.class))).thenAnswer(inv -> inv.getArgument(0));
+        MemberIdentityCache memberIdentityCache = mock(MemberIdentityCache.class);
+        when(memberIdentityCache.findByUserId("user1")).thenReturn(Optional.of(identity(1L, "user1")));
+        when(memberIdentityCache.findByUserId("user2")).thenReturn(Optional.of(identity(2L, "user2")));
+        idempotencyService = new IdempotencyService(repository, memberIdentityCache, objectMapper, 24, 60, 10, 100);
+
+        request = OrderDto.builder()
+                .userId("testUser")
+                .orderDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .build();
+    }
+
+    @Test
+    void 같은_키_재요청은_주문을_다시_생성하지_않음() {
+        AtomicInteger calls = new AtomicInteger();
+
+        OrderDto first = idempotencyService.execute("user1", "key-1", request, () -> createdOrder(calls.incrementAndGet()));
+        OrderDto second = idempotencyService.execute("user1", "key-1", request, () -> createdOrder(calls.incrementAndGet()));
+
+        assertEquals(1, calls.get());
+        assertEquals(first.getId(), second.getId());
+    }
+
+    @Test
+    void 키는_회원별로_구분() {
+        AtomicInteger calls = new AtomicInteger();
+
+        idempotencyService.execute("user1", "key-1", request, () -> createdOrder(calls.incrementAndGet()));
+        idempotencyService.execute("user2", "key-1", request, () -> createdOrder(calls.incrementAndGet()));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void 같은_키로_다른_요청이면_실패() {
+        idempotencyService.execute("user1", "key-1", request, () -> createdOrder(1));
+
+        OrderDto other = OrderDto.builder().userId("testUser").totalAmount(500).build();
+        CustomError error = assertThrows(CustomError.class,
+                () -> idempotencyService.execute("user1", "key-1", other, () -> createdOrder(2)));
+        assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, error.getErrorCode());
+    }
+
+    @Test
+    void 실패한_요청은_같은_키로_재시도_가능() {
+        assertThrows(CustomError.class, () -> idempotencyService.execute("user1", "key-1", request, () -> {
+            throw new CustomError(ErrorCode.OUT_OF_STOCK);
+        }));
+        verify(repository).delete(any(IdempotencyKey.class));
+
+        OrderDto retried = idempotencyService.execute("user1", "key-1", request, () -> createdOrder(7));
+        assertEquals(7L, retried.getId());
+    }
+
+    @Test
+    void 동시_중복_요청은_처리중인_결과에_합류() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+
+        try {
+            List<Future<OrderDto>> results = new ArrayList<>();
+            results.add(executor.submit(() -> idempotencyService.execute("user1", "key-1", request, () -> {
+                started.countDown();
+                await(release);
+                return createdOrder(calls.incrementAndGet());
+            })));
+            started.await();
+
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> idempotencyService.execute("user1", "key-1", request,
+                        () -> createdOrder(calls.incrementAndGet()))));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<OrderDto> result : results) {
+                assertEquals(1L, result.get(5, TimeUnit.SECONDS).getId());
+            }
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 다른_인스턴스가_저장한_응답_재사용() throws Exception {
+        when(repository.saveAndFlush(any(IdempotencyKey.class)))
+                .thenThrow(new org.springframework.dao.DataIntegrityViolationException("duplicate"));
+        when(repository.findByIdempotencyKey("1:key-1")).thenReturn(Optional.of(IdempotencyKey.builder()
+                .idempotencyKey("1:key-1")
+                .requestHash(sha256(request))
+                .orderId(42L)
+                .response(objectMapper.writeValueAsString(createdOrder(42)))
+                .build()));
+
+        OrderDto replayed = idempotencyService.execute("user1", "key-1", request, () -> fail("주문이 다시 생성되면 안됨"));
+        assertEquals(42L, replayed.getId());
+    }
+
+    @Test
+    void 인증되지_않은_요청은_거부() {
+        CustomError error = assertThrows(CustomError.class,
+                () -> idempotencyService.execute(null, "key-1", request, () -> fail("주문이 생성되면 안됨")));
+        assertEquals(ErrorCode.UNAUTHENTICATED, error.getErrorCode());
+    }
+
+    @Test
+    void 만료된_키는_없는_것으로_보고_새로_처리() throws Exception {
+        IdempotencyKey expired = IdempotencyKey.builder()
+                .id(5L)
+                .idempotencyKey("1:key-1")
+                .requestHash(sha256(request))
+                .orderId(42L)
+                .response(objectMapper.writeValueAsString(createdOrder(42)))
+                .createdAt(LocalDateTime.now().minusDays(2))
+                .expiresAt(LocalDateTime.now().minusDays(1))
+                .build();
+        when(repository.saveAndFlush(any(IdempotencyKey.class)))
+                .thenThrow(new org.springframework.dao.DataIntegrityViolationException("duplicate"))
+                .thenAnswer(inv -> inv.getArgument(0));
+        when(repository.findByIdempotencyKey("1:key-1")).thenReturn(Optional.of(expired));
+
+        OrderDto result = idempotencyService.execute("user1", "key-1", request, () -> createdOrder(7));
+
+        assertEquals(7L, result.getId());
+        verify(repository).deleteIfExpired(eq(5L), any());
+    }
+
+    @Test
+    void 임대_시간이_지난_처리중_키는_넘겨받아_처리() throws Exception {
+        when(repository.saveAndFlush(any(IdempotencyKey.class)))
+                .thenThrow(new org.springframework.dao.DataIntegrityViolationException("duplicate"));
+        when(repository.findByIdempotencyKey("1:key-1")).thenReturn(Optional.of(inProgress(LocalDateTime.now().minusMinutes(5))));
+        when(repository.takeOverStale(eq(5L), any(), any(), any())).thenReturn(1);
+
+        OrderDto result = idempotencyService.execute("user1", "key-1", request, () -> createdOrder(8));
+
+        assertEquals(8L, result.getId());
+        verify(repository).save(argThat(key -> key.isCompleted() && key.getOrderId() == 8L));
+    }
+
+    @Test
+    void 임대_시간_안의_처리중_키는_처리중_응답() throws Exception {
+        when(repository.saveAndFlush(any(IdempotencyKey.class)))
+                .thenThrow(new org.springframework.dao.DataIntegrityViolationException("duplicate"));
+        when(repository.findByIdempotencyKey("1:key-1")).thenReturn(Optional.of(inProgress(LocalDateTime.now())));
+
+        CustomError error = assertThrows(CustomError.class,
+                () -> idempotencyService.execute("user1", "key-1", request, () -> fail("주문이 생성되면 안됨")));
+        assertEquals(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS, error.getErrorCode());
+        verify(repository, never()).takeOverStale(any(), any(), any(), any());
+    }
+
+    private IdempotencyKey inProgress(LocalDateTime createdAt) throws Exception {
+        return IdempotencyKey.builder()
+                .id(5L)
+                .idempotencyKey("1:key-1")
+                .requestHash(sha256(request))
+                .createdAt(createdAt)
+                .expiresAt(createdAt.plusHours(24))
+                .build();
+    }
+
+    private static MemberIdentity identity(Long id, String userId) {
+        return new MemberIdentity(id, userId, Set.of("ROLE_USER"), false, MemberStatus.ACTIVE);
+    }
+
+    private OrderDto createdOrder(long id) {
+        return OrderDto.builder().id(id).userId("testUser").build();
+    }
+
+    private String sha256(Object value) throws Exception {
+        byte[] digest = java.security.MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(value));
+        return java.util.HexFormat.of().formatHex(digest);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -20,6 +20,7 @@ import searching_program.search_product.dto.DtoEntityConverter;
 import searching_program.search_product.dto.ItemDto;
 import searching_program.search_product.repository.CategoryRepository;
 import searching_program.search_product.repository.ItemRepository;
+import searching_program.search_product.support.MaxQueries;
 
 import java.util.Arrays;
 import java.util.List;
@@ -96,6 +97,7 @@ class ItemServiceTest {
 
     @Transactional
     @Test
+    @MaxQueries(2)
     void findByItemName() {
         List<ItemDto> byItemName1 = itemService.findByItemName(itemDto1.getItemName());
         List<ItemDto> byItemName2 = itemService.findByItemName(itemDto2.getItemName());
@@ -108,6 +110,7 @@ class ItemServiceTest {
 
     @Transactional
     @Test
+    @MaxQueries(value = 1, maxRepeats = 1)
     void findByItemNames() {
         List<ItemDto> itemDtos = itemService.findByItemNames(itemDto1.getItemName(), itemDto2.getItemName());
         assertEquals(2, itemDtos.size());
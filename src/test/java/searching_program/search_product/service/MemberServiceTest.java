@@ -33,6 +33,9 @@ class MemberServiceTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
     private Member member;
 
     @BeforeEach
@@ -186,4 +189,16 @@ class MemberServiceTest {
 
         assertThat(lockMember.isAccountLock()).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional
+    void lockMember_식별_캐시_무효화() {
+        // 잠금 전 조회로 캐시에 적재
+        assertThat(customUserDetailsService.loadUserByUsername(member.getUserId()).isAccountNonLocked()).isTrue();
+
+        memberService.lockMember(member.getId());
+
+        // 무효화 후에는 잠긴 상태가 바로 보여야 한다
+        assertThat(customUserDetailsService.loadUserByUsername(member.getUserId()).isAccountNonLocked()).isFalse();
+    }
+}
@@ -0,0 +1,150 @@
+package searching_program.search_product.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import searching_program.search_product.domain.Category;
+import searching_program.search_product.domain.Item;
+import searching_program.search_product.domain.Member;
+import searching_program.search_product.dto.*;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.BucketRepository;
+import searching_program.search_product.repository.CategoryRepository;
+import searching_program.search_product.repository.ItemRepository;
+import searching_program.search_product.repository.MemberRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 낙관적 락 + 재시도로 동시 요청에서도 갱신이 유실되지 않는지 확인
+ * (트랜잭션 롤백 없이 실제 커밋이 필요하므로 @Transactional 을 붙이지 않는다)
+ */
+@SpringBootTest
+class OrderConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private BucketService bucketService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private BucketRepository bucketRepository;
+
+    @Autowired
+    private DtoEntityConverter converter;
+
+    @Test
+    void 동시_주문시_재고가_유실되지_않음() throws InterruptedException {
+        Item item = saveItem(100);
+        AtomicInteger success = new AtomicInteger();
+
+        runConcurrently(() -> {
+            Member member = saveMember();
+            OrderDto orderDto = OrderDto.builder()
+                    .userId(member.getUserId())
+                    .orderDate(LocalDateTime.now())
+                    .totalAmount(item.getItemPrice())
+                    .orderItems(List.of(OrderItemDto.builder()
+                            .itemId(item.getId())
+                            .quantity(1)
+                            .price(item.getItemPrice())
+                            .build()))
+                    .build();
+            try {
+                orderService.createOrder(orderDto, converter.convertToMemberDto(member));
+                success.incrementAndGet();
+            } catch (CustomError e) {
+                // 재시도 초과는 실패로 집계 (재고는 차감되지 않아야 함)
+            }
+        });
+
+        Item reloaded = itemRepository.findById(item.getId()).orElseThrow();
+        assertTrue(success.get() > 0);
+        assertEquals(100 - success.get(), reloaded.getStock());
+    }
+
+    @Test
+    void 동시_장바구니_담기시_수량이_유실되지_않음() throws InterruptedException {
+        Item item = saveItem(100);
+        Member member = saveMember();
+        AtomicInteger success = new AtomicInteger();
+
+        runConcurrently(() -> {
+            try {
+                bucketService.addItemToBucket(member.getId(), item.getItemName(), 1);
+                success.incrementAndGet();
+            } catch (CustomError e) {
+                // 재시도 초과
+            }
+        });
+
+        int quantity = bucketRepository.findByMemberId(member.getId()).stream()
+                .mapToInt(bucket -> bucket.getQuantity())
+                .sum();
+        assertEquals(1, bucketRepository.findByMemberId(member.getId()).size());
+        assertEquals(success.get(), quantity);
+    }
+
+    private void runConcurrently(Runnable task) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            pool.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        pool.shutdown();
+    }
+
+    private Item saveItem(int stock) {
+        Category category = categoryRepository.save(Category.builder()
+                .name("동시성 카테고리 " + UUID.randomUUID())
+                .build());
+        return itemRepository.save(Item.builder()
+                .itemName("동시성 아이템 " + UUID.randomUUID())
+                .itemPrice(100)
+                .stock(stock)
+                .category(category)
+                .build());
+    }
+
+    private Member saveMember() {
+        return memberRepository.save(Member.builder()
+                .userId("concurrency-" + UUID.randomUUID())
+                .username("동시성")
+                .password("test")
+                .age(30)
+                .build());
+    }
+}
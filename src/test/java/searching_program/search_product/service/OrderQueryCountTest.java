@@ -0,0 +1,147 @@
+package searching_program.search_product.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.annotation.Transactional;
+import searching_program.search_product.domain.*;
+import searching_program.search_product.dto.DtoEntityConverter;
+import searching_program.search_product.dto.MemberDto;
+import searching_program.search_product.dto.OrderDto;
+import searching_program.search_product.dto.OrderItemDto;
+import searching_program.search_product.repository.BucketRepository;
+import searching_program.search_product.repository.ItemRepository;
+import searching_program.search_product.repository.MemberRepository;
+import searching_program.search_product.repository.OrderRepository;
+import searching_program.search_product.support.MaxQueries;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static searching_program.search_product.type.OrderStatus.ORDERED;
+
+/**
+ * 주문 경로 쿼리 수 검사 - 주문 항목 3개, 기존 주문 3건
+ * 준비 데이터는 flush / clear 해서 영속성 컨텍스트가 빈 상태로 시작한다
+ */
+@SpringBootTest
+@Transactional
+class OrderQueryCountTest {
+
+    private static final int LINES = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BucketRepository bucketRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private DtoEntityConverter converter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private MemberDto memberDto;
+    private List<Long> itemIds;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+                .userId("queryCountUser")
+                .username("쿼리")
+                .password("test")
+                .age(30)
+                .build());
+        memberDto = converter.convertToMemberDto(member);
+
+        itemIds = new ArrayList<>();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < LINES; i++) {
+            Item item = itemRepository.save(Item.builder()
+                    .itemName("query-item-" + i)
+                    .itemPrice(100)
+                    .stock(1000)
+                    .build());
+            items.add(item);
+            itemIds.add(item.getId());
+
+            bucketRepository.save(Bucket.builder()
+                    .member(member)
+                    .item(item)
+                    .quantity(1)
+                    .addedAt(LocalDateTime.now())
+                    .build());
+        }
+
+        for (int i = 0; i < LINES; i++) {
+            Orders order = Orders.builder()
+                    .member(member)
+                    .orderItems(new ArrayList<>())
+                    .statusHistory(new ArrayList<>())
+                    .payments(new ArrayList<>())
+                    .orderDate(LocalDateTime.now())
+                    .createdDate(LocalDateTime.now())
+                    .build();
+            for (Item item : items) {
+                order.addOrderItem(OrderItem.builder().item(item).quantity(1).price(100).build());
+            }
+            order.changeStatus(ORDERED);
+            orderRepository.save(order);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * 아이템 조회 1 + 주문 / 이력 / 결제 insert 3 + 회원 조회 1 + 장바구니 delete 1
+     * + 주문 항목마다 (항목 insert, 재고 차감 update, 원장 insert, 재고 다시 읽기)
+     * 주문 항목 수만큼 반복되는 쿼리는 재고 차감 경로뿐이어야 한다
+     */
+    @Test
+    @MaxQueries(value = 34, maxRepeats = LINES)
+    void createOrder() {
+        OrderDto orderDto = OrderDto.builder()
+                .userId(memberDto.getUserId())
+                .orderDate(LocalDateTime.now())
+                .totalAmount(100.0 * LINES)
+                .orderItems(new ArrayList<>())
+                .orderStatusHistories(new ArrayList<>())
+                .build();
+        for (Long itemId : itemIds) {
+            orderDto.getOrderItems().add(OrderItemDto.builder().itemId(itemId).quantity(1).price(100).build());
+        }
+
+        OrderDto created = orderService.createOrder(orderDto, memberDto);
+
+        assertEquals(LINES, created.getOrderItems().size());
+    }
+
+    // 주문 목록 1 + 회원 1 + 회원 id 캐시 1 + 주문 항목 / 상태 이력은 주문 수와 무관하게 IN 절 한 번씩
+    @Test
+    @MaxQueries(value = 5, maxRepeats = 1)
+    void convertOrdersToDto() {
+        Page<OrderDto> orders = orderService.findOrdersByMember(memberDto.getUserId(), 0, 10);
+
+        assertEquals(LINES, orders.getNumberOfElements());
+        orders.forEach(order -> {
+            assertEquals(LINES, order.getOrderItems().size());
+            assertEquals(1, order.getOrderStatusHistories().size());
+        });
+    }
+}
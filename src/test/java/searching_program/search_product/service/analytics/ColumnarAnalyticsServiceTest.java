@@ -0,0 +1,129 @@
+package searching_program.search_product.service.analytics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import searching_program.search_product.dto.AnalyticsQueryRequest;
+import searching_program.search_product.dto.AnalyticsResultDto;
+import searching_program.search_product.dto.AnalyticsRowDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.MemberRepository;
+import searching_program.search_product.repository.OrderItemRepository;
+import searching_program.search_product.repository.OrderRepository;
+import searching_program.search_product.repository.PaymentRepository;
+import searching_program.search_product.type.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ColumnarAnalyticsServiceTest {
+
+    private static final LocalDateTime MAY_1 = LocalDateTime.of(2024, 5, 1, 10, 0);
+    private static final LocalDateTime MAY_2 = LocalDateTime.of(2024, 5, 2, 23, 59);
+
+    private ColumnarAnalyticsService service;
+
+    @BeforeEach
+    void setUp() {
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        OrderItemRepository orderItemRepository = mock(OrderItemRepository.class);
+        PaymentRepository paymentRepository = mock(PaymentRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        List<Object[]> members = new ArrayList<>();
+        members.add(new Object[]{1L, Grade.VIP, PaymentMethod.CREDIT_CARD});
+        members.add(new Object[]{2L, Grade.NORMAL, PaymentMethod.ACCOUNT_TRANSFER});
+        members.add(new Object[]{3L, Grade.NORMAL, PaymentMethod.CREDIT_CARD});
+        when(memberRepository.findAnalyticsRows()).thenReturn(members);
+
+        when(orderRepository.streamAnalyticsRows()).thenReturn(Stream.of(
+                new Object[]{10L, 1L, OrderStatus.DELIVERED, 30000.0, MAY_1},
+                new Object[]{11L, 2L, OrderStatus.ORDERED, 50000.0, MAY_1},
+                new Object[]{12L, 1L, OrderStatus.SHIPPED, 40000.0, MAY_2},
+                new Object[]{13L, 2L, OrderStatus.CANCELED, 90000.0, MAY_2},
+                new Object[]{14L, 3L, OrderStatus.DELIVERED, 10000.0, MAY_2},
+                new Object[]{15L, null, OrderStatus.ORDERED, 5000.0, null}));
+        when(orderItemRepository.streamUnitsPerOrder()).thenReturn(Stream.of(
+                new Object[]{10L, 3L}, new Object[]{12L, 1L}, new Object[]{99L, 7L}));
+        when(paymentRepository.streamAnalyticsRows()).thenReturn(Stream.of(
+                new Object[]{20L, 1L, PaymentStatus.COMPLETED, 30000.0, MAY_1},
+                new Object[]{21L, 1L, PaymentStatus.REFUNDED, 40000.0, MAY_2},
+                new Object[]{22L, 2L, PaymentStatus.COMPLETED, 50000.0, MAY_1},
+                new Object[]{23L, 3L, PaymentStatus.COMPLETED, 10000.0, MAY_2},
+                new Object[]{24L, 2L, PaymentStatus.COMPLETED, null, MAY_2}));
+
+        // 조각 크기를 작게 잡아 병렬 분할/병합 경로를 탄다
+        service = new ColumnarAnalyticsService(memberRepository, orderRepository, orderItemRepository,
+                paymentRepository, transactionManager, 2, 2, 100);
+        service.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void 취소를_뺀_지출_상위_회원() {
+        AnalyticsQueryRequest request = new AnalyticsQueryRequest();
+        request.setGroupBy(AnalyticsDimension.MEMBER);
+        request.setStatuses(List.of("ordered", "SHIPPED", "DELIVERED"));
+        request.setSortBy(AnalyticsMetric.SUM);
+        request.setLimit(2);
+
+        AnalyticsResultDto result = service.query(request);
+
+        assertEquals(6, result.getScannedRows());
+        assertEquals(5, result.getMatchedRows());
+        assertEquals(4, result.getGroups()); // 회원 없는 주문도 한 그룹
+        List<AnalyticsRowDto> rows = result.getRows();
+        assertEquals(2, rows.size());
+        assertEquals("1", rows.get(0).getKey());
+        assertEquals(70000.0, rows.get(0).getSum());
+        assertEquals(4, rows.get(0).getUnits());
+        assertEquals("2", rows.get(1).getKey());
+        assertEquals(50000.0, rows.get(1).getSum());
+    }
+
+    @Test
+    void 결제_수단별_환불률과_기간_필터() {
+        AnalyticsQueryRequest request = new AnalyticsQueryRequest();
+        request.setSource(AnalyticsSource.PAYMENTS);
+        request.setGroupBy(AnalyticsDimension.PAYMENT_METHOD);
+        request.setHitStatus("REFUNDED");
+        request.setSortBy(AnalyticsMetric.HIT_RATE);
+
+        List<AnalyticsRowDto> rows = service.query(request).getRows();
+        assertEquals(List.of("CREDIT_CARD", "ACCOUNT_TRANSFER"), rows.stream().map(AnalyticsRowDto::getKey).toList());
+        assertEquals(3, rows.get(0).getCount());
+        assertEquals(1, rows.get(0).getHits());
+        assertEquals(1.0 / 3, rows.get(0).getHitRate(), 1e-9);
+        assertEquals(0.0, rows.get(1).getHitRate());
+
+        // 5월 2일 주문만 일 단위로 (시각이 없는 주문은 제외)
+        AnalyticsQueryRequest byDay = new AnalyticsQueryRequest();
+        byDay.setGroupBy(AnalyticsDimension.DAY);
+        byDay.setGrades(List.of(Grade.NORMAL));
+        byDay.setFrom(LocalDateTime.of(2024, 5, 2, 0, 0));
+        byDay.setTo(LocalDateTime.of(2024, 5, 3, 0, 0));
+        List<AnalyticsRowDto> days = service.query(byDay).getRows();
+        assertEquals(1, days.size());
+        assertEquals("2024-05-02", days.get(0).getKey());
+        assertEquals(2, days.get(0).getCount());
+        assertEquals(100000.0, days.get(0).getSum());
+
+        // 다른 소스의 상태 이름은 거부한다
+        request.setHitStatus("DELIVERED");
+        assertThrows(CustomError.class, () -> service.query(request));
+    }
+}
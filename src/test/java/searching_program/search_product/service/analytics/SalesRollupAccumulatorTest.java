@@ -0,0 +1,60 @@
+package searching_program.search_product.service.analytics;
+
+import org.junit.jupiter.api.Test;
+import searching_program.search_product.service.analytics.SalesRollupAccumulator.RollupKey;
+import searching_program.search_product.service.analytics.SalesRollupAccumulator.SaleLine;
+import searching_program.search_product.type.RollupDimension;
+import searching_program.search_product.type.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalesRollupAccumulatorTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2024, 5, 1, 13, 42, 17);
+
+    @Test
+    void 주문_하나를_모든_단위와_기준에_더한다() {
+        SalesRollupAccumulator accumulator = new SalesRollupAccumulator();
+        // 카테고리 7 에 아이템 두 개, 카테고리 없는 아이템 하나
+        accumulator.addOrder(AT, List.of(
+                new SaleLine(1L, 7L, 2, 1000),
+                new SaleLine(2L, 7L, 1, 500),
+                new SaleLine(3L, null, 1, 300)));
+
+        assertArrayEquals(new long[]{1, 4, 2800}, get(accumulator, RollupGranularity.MINUTE,
+                LocalDateTime.of(2024, 5, 1, 13, 42), RollupDimension.TOTAL, 0));
+        assertArrayEquals(new long[]{1, 2, 2000}, get(accumulator, RollupGranularity.HOUR,
+                LocalDateTime.of(2024, 5, 1, 13, 0), RollupDimension.ITEM, 1));
+        // 같은 카테고리 아이템이 둘이어도 주문 수는 1
+        assertArrayEquals(new long[]{1, 3, 2500}, get(accumulator, RollupGranularity.DAY,
+                LocalDateTime.of(2024, 5, 1, 0, 0), RollupDimension.CATEGORY, 7));
+        // 3 단위 x (전체 1 + 아이템 3 + 카테고리 1)
+        assertEquals(15, accumulator.size());
+        assertEquals(1, accumulator.orders());
+    }
+
+    @Test
+    void 합치면_같은_구간끼리_더해진다() {
+        SalesRollupAccumulator first = new SalesRollupAccumulator();
+        first.addOrder(AT, List.of(new SaleLine(1L, 7L, 1, 1000)));
+        SalesRollupAccumulator second = new SalesRollupAccumulator();
+        second.addOrder(AT.plusMinutes(5), List.of(new SaleLine(1L, 7L, 3, 1000)));
+        second.addOrder(AT, List.of());
+
+        first.merge(second);
+
+        assertEquals(2, first.orders());
+        assertArrayEquals(new long[]{2, 4, 4000}, get(first, RollupGranularity.HOUR,
+                LocalDateTime.of(2024, 5, 1, 13, 0), RollupDimension.ITEM, 1));
+        assertArrayEquals(new long[]{1, 3, 3000}, get(first, RollupGranularity.MINUTE,
+                LocalDateTime.of(2024, 5, 1, 13, 47), RollupDimension.CATEGORY, 7));
+    }
+
+    private static long[] get(SalesRollupAccumulator accumulator, RollupGranularity granularity,
+                              LocalDateTime bucketStart, RollupDimension dimension, long dimensionId) {
+        return accumulator.totals().get(new RollupKey(granularity, bucketStart, dimension, dimensionId));
+    }
+}
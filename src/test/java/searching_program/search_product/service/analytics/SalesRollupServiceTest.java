@@ -0,0 +1,84 @@
+package searching_program.search_product.service.analytics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import searching_program.search_product.domain.SalesRollup;
+import searching_program.search_product.repository.OrderItemRepository;
+import searching_program.search_product.repository.OrderRepository;
+import searching_program.search_product.repository.SalesRollupRepository;
+import searching_program.search_product.service.order.OrderPlacedEvent;
+import searching_program.search_product.type.RollupDimension;
+import searching_program.search_product.type.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SalesRollupServiceTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2024, 5, 1, 13, 42, 17);
+
+    private SalesRollupRepository salesRollupRepository;
+    private OrderItemRepository orderItemRepository;
+    private SalesRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        salesRollupRepository = mock(SalesRollupRepository.class);
+        orderItemRepository = mock(OrderItemRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        service = new SalesRollupService(salesRollupRepository, orderItemRepository, mock(OrderRepository.class),
+                transactionManager, 48, 90, 5000, 2, 2000);
+    }
+
+    @Test
+    void 누적분은_있는_행은_증분하고_없는_행은_새로_만든다() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, 7L, 2, 1000, AT});
+        when(orderItemRepository.findSaleLines(100L)).thenReturn(rows);
+        // 일 단위 전체 행만 이미 있다
+        when(salesRollupRepository.addTo(any(), any(), any(), anyLong(), anyLong(), anyLong(), anyLong())).thenReturn(0);
+        when(salesRollupRepository.addTo(eq(RollupGranularity.DAY), eq(RollupDimension.TOTAL), any(), eq(0L),
+                anyLong(), anyLong(), anyLong())).thenReturn(1);
+
+        service.onOrderPlaced(new OrderPlacedEvent(100L, 1L, List.of(1L)));
+        service.onOrderPlaced(new OrderPlacedEvent(100L, 1L, List.of(1L)));
+        service.flush();
+
+        // 3 단위 x (전체, 아이템, 카테고리) = 9 키, 두 주문이 한 번에 반영된다
+        verify(salesRollupRepository, times(9)).addTo(any(), any(), any(), anyLong(), anyLong(), anyLong(), anyLong());
+        verify(salesRollupRepository).addTo(RollupGranularity.HOUR, RollupDimension.ITEM,
+                LocalDateTime.of(2024, 5, 1, 13, 0), 1L, 2L, 4L, 4000L);
+        verify(salesRollupRepository, times(8)).save(any(SalesRollup.class));
+
+        // 반영할 게 없으면 아무것도 하지 않는다
+        service.flush();
+        verify(salesRollupRepository, times(9)).addTo(any(), any(), any(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void 반영에_실패하면_다음_주기에_다시_반영한다() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, null, 1, 500, AT});
+        when(orderItemRepository.findSaleLines(100L)).thenReturn(rows);
+        when(salesRollupRepository.addTo(any(), any(), any(), anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+
+        service.onOrderPlaced(new OrderPlacedEvent(100L, 1L, List.of(1L)));
+        service.flush();
+        service.flush();
+
+        // 실패한 1번 + 다시 반영한 3 단위 x (전체, 아이템) 6번
+        verify(salesRollupRepository, times(7)).addTo(any(), any(), any(), anyLong(), anyLong(), anyLong(), anyLong());
+        verify(salesRollupRepository, atLeastOnce()).addTo(RollupGranularity.DAY, RollupDimension.TOTAL,
+                LocalDateTime.of(2024, 5, 1, 0, 0), 0L, 1L, 1L, 500L);
+    }
+}
@@ -0,0 +1,209 @@
+package searching_program.search_product.service.checkout;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import searching_program.search_product.config.datasource.ReadYourWritesTracker;
+import searching_program.search_product.domain.*;
+import searching_program.search_product.dto.CheckoutResultDto;
+import searching_program.search_product.dto.DtoEntityConverter;
+import searching_program.search_product.dto.OrderDto;
+import searching_program.search_product.dto.PaymentDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.BucketRepository;
+import searching_program.search_product.repository.MemberRepository;
+import searching_program.search_product.repository.OrderRepository;
+import searching_program.search_product.repository.PaymentRepository;
+import searching_program.search_product.repository.PromotionRepository;
+import searching_program.search_product.service.OrderService;
+import searching_program.search_product.service.PaymentService;
+import searching_program.search_product.service.catalog.CatalogVersionTracker;
+import searching_program.search_product.service.inventory.InventoryLedgerService;
+import searching_program.search_product.service.pricing.PricingService;
+import searching_program.search_product.service.promotion.PromotionRuleEngine;
+import searching_program.search_product.service.retry.OptimisticLockRetryExecutor;
+import searching_program.search_product.type.ErrorCode;
+import searching_program.search_product.type.ItemStatus;
+import searching_program.search_product.type.PaymentStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CheckoutServiceTest {
+
+    private MemberRepository memberRepository;
+    private BucketRepository bucketRepository;
+    private OrderRepository orderRepository;
+    private InventoryLedgerService inventoryLedgerService;
+    private PaymentService paymentService;
+    private PaymentRepository paymentRepository;
+    private OrderService orderService;
+    private ApplicationEventPublisher eventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private PromotionRuleEngine promotionRuleEngine;
+    private final List<Object[]> promotionRows = new ArrayList<>();
+    private CheckoutService checkoutService;
+
+    private Member member;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        bucketRepository = mock(BucketRepository.class);
+        orderRepository = mock(OrderRepository.class);
+        inventoryLedgerService = mock(InventoryLedgerService.class);
+        paymentService = mock(PaymentService.class);
+        paymentRepository = mock(PaymentRepository.class);
+        orderService = mock(OrderService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        DtoEntityConverter converter = mock(DtoEntityConverter.class);
+        meterRegistry = new SimpleMeterRegistry();
+        PromotionRepository promotionRepository = mock(PromotionRepository.class);
+        when(promotionRepository.findRuleRowsEndingAfter(any())).thenReturn(promotionRows);
+        promotionRuleEngine = new PromotionRuleEngine(promotionRepository, mock(CatalogVersionTracker.class));
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        OptimisticLockRetryExecutor retryExecutor = new OptimisticLockRetryExecutor(transactionManager, meterRegistry, 3, 1, 5);
+
+        checkoutService = new CheckoutService(memberRepository, bucketRepository, orderRepository,
+                inventoryLedgerService, paymentService, paymentRepository, orderService, retryExecutor,
+                mock(ReadYourWritesTracker.class), eventPublisher, converter, meterRegistry,
+                new PricingService(promotionRuleEngine), 15, 100);
+
+        member = Member.builder().id(1L).userId("tester").build();
+        item = Item.builder().id(10L).itemName("airpods").itemPrice(100).stock(5).itemStatus(ItemStatus.AVAILABLE).build();
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(orderRepository.save(any(Orders.class))).thenAnswer(invocation -> {
+            Orders order = invocation.getArgument(0);
+            order.setId(77L);
+            return order;
+        });
+        when(paymentService.createPendingPayment(any(), any(), anyDouble())).thenAnswer(invocation ->
+                Payment.builder().id(5L).paymentStatus(PaymentStatus.PENDING).amount(invocation.getArgument(2)).build());
+        when(converter.convertToOrderDto(any())).thenReturn(new OrderDto());
+    }
+
+    @Test
+    void 체크아웃_한_번에_주문_재고_결제_장바구니_처리() {
+        List<Bucket> buckets = List.of(bucket(2));
+        when(bucketRepository.findSelectedWithItem(1L)).thenReturn(buckets);
+
+        CheckoutResultDto result = checkoutService.checkout(1L);
+
+        ArgumentCaptor<Orders> order = ArgumentCaptor.forClass(Orders.class);
+        verify(orderRepository).save(order.capture());
+        assertEquals(200.0, order.getValue().getTotalAmount());
+        assertEquals(1, order.getValue().getOrderItems().size());
+
+        verify(inventoryLedgerService).reserve(10L, 2, 77L);
+        verify(paymentService).createPendingPayment(member, order.getValue(), 200.0);
+        verify(eventPublisher).publishEvent(new PaymentRequestedEvent(5L, 77L));
+        verify(bucketRepository).deleteAllInBatch(buckets);
+
+        assertEquals(5L, result.getPaymentId());
+        assertEquals(PaymentStatus.PENDING, result.getPaymentStatus());
+        assertEquals(1, meterRegistry.get("checkout.stage").tag("stage", "reserve").timer().count());
+    }
+
+    @Test
+    void 가격이_바뀌면_주문하지_않음() {
+        Bucket bucket = bucket(2);
+        bucket.setItemTotalPrice(150);
+        when(bucketRepository.findSelectedWithItem(1L)).thenReturn(List.of(bucket));
+
+        CustomError error = assertThrows(CustomError.class, () -> checkoutService.checkout(1L));
+
+        assertEquals(ErrorCode.ITEM_PRICE_CHANGED, error.getErrorCode());
+        verifyNoInteractions(orderRepository, inventoryLedgerService, paymentService);
+    }
+
+    @Test
+    void 담은_뒤_할인이_시작되면_할인가로_주문() {
+        // 아이템 10 에 20% 자동 할인 - 정가(itemPrice)는 바뀌지 않는다
+        promotionRows.add(new Object[]{1L, 10L, null, null, 20L, null, null, "SALE00000001", null, null, null,
+                LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1)});
+        promotionRuleEngine.reload();
+        when(bucketRepository.findSelectedWithItem(1L)).thenReturn(List.of(bucket(2)));
+
+        checkoutService.checkout(1L);
+
+        ArgumentCaptor<Orders> order = ArgumentCaptor.forClass(Orders.class);
+        verify(orderRepository).save(order.capture());
+        assertEquals(160.0, order.getValue().getTotalAmount());
+        assertEquals(80, order.getValue().getOrderItems().get(0).getPrice());
+        assertEquals(100, item.getItemPrice());
+    }
+
+    @Test
+    void 빈_장바구니() {
+        when(bucketRepository.findSelectedWithItem(1L)).thenReturn(List.of());
+
+        CustomError error = assertThrows(CustomError.class, () -> checkoutService.checkout(1L));
+
+        assertEquals(ErrorCode.BUCKET_NOT_FOUND, error.getErrorCode());
+    }
+
+    @Test
+    void 결제_실패시_주문_취소() {
+        when(paymentService.processPendingPayment(5L)).thenReturn(payment(PaymentStatus.FAILED));
+
+        assertEquals(PaymentStatus.FAILED, checkoutService.completePayment(5L).getStatus());
+
+        verify(orderService).cancelOrder(77L);
+    }
+
+    @Test
+    void 결제_성공시_주문_유지() {
+        when(paymentService.processPendingPayment(5L)).thenReturn(payment(PaymentStatus.COMPLETED));
+
+        checkoutService.completePayment(5L);
+
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void 오래된_승인_대기_결제_만료() {
+        when(paymentRepository.findStaleRows(eq(PaymentStatus.PENDING), any(), any(Pageable.class)))
+                .thenReturn(List.of(new Object[]{5L, 77L}, new Object[]{6L, 78L}, new Object[]{7L, 79L}));
+        when(paymentRepository.updateStatusIf(5L, PaymentStatus.PENDING, PaymentStatus.FAILED)).thenReturn(1);
+        // 6번은 그 사이 승인 완료
+        when(paymentRepository.updateStatusIf(6L, PaymentStatus.PENDING, PaymentStatus.FAILED)).thenReturn(0);
+        when(paymentRepository.updateStatusIf(7L, PaymentStatus.PENDING, PaymentStatus.FAILED)).thenReturn(1);
+        // 한 건이 실패해도 나머지는 계속
+        when(orderService.cancelOrder(77L)).thenThrow(new CustomError(ErrorCode.ORDER_LIST_NOT_FOUND));
+
+        assertEquals(1, checkoutService.expireStalePayments());
+
+        verify(orderService).cancelOrder(77L);
+        verify(orderService, never()).cancelOrder(78L);
+        verify(orderService).cancelOrder(79L);
+    }
+
+    private PaymentDto payment(PaymentStatus status) {
+        return PaymentDto.builder().id(5L).orderId(77L).status(status).build();
+    }
+
+    private Bucket bucket(int quantity) {
+        return Bucket.builder()
+                .id(3L)
+                .member(member)
+                .item(item)
+                .quantity(quantity)
+                .isSelected(true)
+                .itemTotalPrice(item.getItemPrice() * quantity)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package searching_program.search_product.service.coalescing;
+
+import org.junit.jupiter.api.Test;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.type.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void 동시_조회는_한번만_로드() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "item-1";
+                })));
+            }
+
+            // 모든 스레드가 합류할 때까지 대기
+            while (singleFlight.getCoalescedCount() < 7) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("item-1", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(1, singleFlight.getLoadCount());
+            assertEquals(7, singleFlight.getCoalescedCount());
+            assertEquals(0, singleFlight.getInFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 다른_key는_각각_로드() {
+        assertEquals("a", singleFlight.execute(1L, () -> "a"));
+        assertEquals("b", singleFlight.execute(2L, () -> "b"));
+
+        assertEquals(2, singleFlight.getLoadCount());
+        assertEquals(0, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    void 예외는_합류한_요청에도_전달되고_남지_않음() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<String> owner = executor.submit(() -> singleFlight.execute(1L, () -> {
+                await(release);
+                throw new CustomError(ErrorCode.ITEM_NOT_FOUND);
+            }));
+            while (singleFlight.getInFlightCount() == 0) {
+                Thread.sleep(5);
+            }
+            Future<String> waiter = executor.submit(() -> singleFlight.execute(1L, () -> "never"));
+            while (singleFlight.getCoalescedCount() == 0) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            ExecutionException ownerError = assertThrows(ExecutionException.class, () -> owner.get(5, TimeUnit.SECONDS));
+            ExecutionException waiterError = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(CustomError.class, ownerError.getCause());
+            assertInstanceOf(CustomError.class, waiterError.getCause());
+
+            // 실패한 결과는 재사용하지 않음
+            assertEquals("retry", singleFlight.execute(1L, () -> "retry"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
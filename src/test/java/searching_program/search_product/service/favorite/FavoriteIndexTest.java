@@ -0,0 +1,98 @@
+package searching_program.search_product.service.favorite;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import searching_program.search_product.repository.ItemFavoriteRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FavoriteIndexTest {
+
+    private ItemFavoriteRepository itemFavoriteRepository;
+    private FavoriteIndex favoriteIndex;
+
+    @BeforeEach
+    void setUp() {
+        itemFavoriteRepository = mock(ItemFavoriteRepository.class);
+        when(itemFavoriteRepository.countByItem()).thenReturn(List.of(
+                new Object[]{10L, 2L},
+                new Object[]{20L, 1L}));
+        when(itemFavoriteRepository.findItemIdsByMemberId(1L)).thenReturn(List.of(20L, 10L));
+        favoriteIndex = new FavoriteIndex(itemFavoriteRepository, new SimpleMeterRegistry(), 100, 600);
+        favoriteIndex.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 회원별_조회는_한_번만_적재() {
+        assertArrayEquals(new long[]{10, 20}, favoriteIndex.itemIdsOf(1L));
+        assertTrue(favoriteIndex.contains(1L, 10L));
+        assertFalse(favoriteIndex.contains(1L, 30L));
+
+        verify(itemFavoriteRepository, times(1)).findItemIdsByMemberId(1L);
+        assertEquals(2, favoriteIndex.favoriteCount(10L));
+        assertEquals(0, favoriteIndex.favoriteCount(99L));
+    }
+
+    @Test
+    void 추가_삭제가_집합과_개수에_반영() {
+        favoriteIndex.itemIdsOf(1L);
+
+        favoriteIndex.added(1L, 30L);
+        favoriteIndex.removed(1L, 10L);
+
+        assertArrayEquals(new long[]{20, 30}, favoriteIndex.itemIdsOf(1L));
+        assertEquals(1, favoriteIndex.favoriteCount(30L));
+        assertEquals(1, favoriteIndex.favoriteCount(10L));
+    }
+
+    @Test
+    void 롤백되면_되돌린다() {
+        favoriteIndex.itemIdsOf(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        favoriteIndex.added(1L, 30L);
+        // 같은 트랜잭션 안에서는 바로 보인다
+        assertTrue(favoriteIndex.contains(1L, 30L));
+        assertEquals(1, favoriteIndex.favoriteCount(30L));
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertFalse(favoriteIndex.contains(1L, 30L));
+        assertEquals(0, favoriteIndex.favoriteCount(30L));
+    }
+
+    @Test
+    void 커밋_전에_적재된_회원도_커밋_후_반영() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        // 아직 적재되지 않은 회원 - 즉시 반영할 대상이 없다
+        favoriteIndex.added(1L, 30L);
+        // 커밋 전에 다른 요청이 이전 상태로 적재
+        assertFalse(favoriteIndex.contains(1L, 30L));
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertTrue(favoriteIndex.contains(1L, 30L));
+    }
+
+    private static void complete(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(status);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
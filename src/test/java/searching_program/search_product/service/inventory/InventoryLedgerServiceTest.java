@@ -0,0 +1,97 @@
+package searching_program.search_product.service.inventory;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import searching_program.search_product.domain.InventoryMovement;
+import searching_program.search_product.domain.InventorySnapshot;
+import searching_program.search_product.domain.Item;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.InventoryMovementRepository;
+import searching_program.search_product.repository.InventorySnapshotRepository;
+import searching_program.search_product.repository.ItemRepository;
+import searching_program.search_product.service.stock.StockThresholdWatcher;
+import searching_program.search_product.type.ErrorCode;
+import searching_program.search_product.type.MovementType;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InventoryLedgerServiceTest {
+
+    private ItemRepository itemRepository;
+    private InventoryMovementRepository movementRepository;
+    private InventorySnapshotRepository snapshotRepository;
+    private StockThresholdWatcher watcher;
+    private InventoryLedgerService service;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        movementRepository = mock(InventoryMovementRepository.class);
+        snapshotRepository = mock(InventorySnapshotRepository.class);
+        watcher = mock(StockThresholdWatcher.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        item = Item.builder().id(21L).itemName("airpods").stock(10).build();
+        when(itemRepository.findById(21L)).thenReturn(Optional.of(item));
+
+        service = new InventoryLedgerService(itemRepository, movementRepository, snapshotRepository,
+                watcher, null, mock(EntityManager.class), transactionManager, 4, 60);
+    }
+
+    @Test
+    void 차감시_원장_기록과_샤드_지정() {
+        when(itemRepository.applyStockDelta(21L, -3)).thenReturn(1);
+
+        service.reserve(21L, 3, 100L);
+
+        ArgumentCaptor<InventoryMovement> captor = ArgumentCaptor.forClass(InventoryMovement.class);
+        verify(movementRepository).save(captor.capture());
+        InventoryMovement movement = captor.getValue();
+        assertEquals(MovementType.RESERVATION, movement.getType());
+        assertEquals(-3, movement.getQuantity());
+        assertEquals(100L, movement.getOrderId());
+        assertEquals(1, movement.getShard()); // 21 % 4
+        verify(watcher).stockChanged(eq(21L), eq("airpods"), anyInt());
+    }
+
+    @Test
+    void 재고_부족이면_원장을_남기지_않음() {
+        when(itemRepository.applyStockDelta(21L, -30)).thenReturn(0);
+
+        CustomError error = assertThrows(CustomError.class, () -> service.reserve(21L, 30, 100L));
+
+        assertEquals(ErrorCode.OUT_OF_STOCK, error.getErrorCode());
+        verify(movementRepository, never()).save(any());
+    }
+
+    @Test
+    void 수량은_양수여야_함() {
+        assertThrows(CustomError.class, () -> service.restock(21L, 0, null));
+        assertThrows(CustomError.class, () -> service.adjust(21L, 0, "none"));
+        verifyNoInteractions(movementRepository);
+    }
+
+    @Test
+    void 스냅샷은_기존_값에_이후_원장_합계를_더함() {
+        InventorySnapshot existing = InventorySnapshot.builder().itemId(21L).shard(1).stock(10).lastMovementId(5).build();
+        when(snapshotRepository.findByItemId(21L)).thenReturn(Optional.of(existing));
+        when(movementRepository.sumPendingByShard(eq(1), any())).thenReturn(List.<Object[]>of(new Object[]{21L, -4L, 9L}));
+
+        assertEquals(1, service.snapshot());
+
+        assertEquals(6, existing.getStock());
+        assertEquals(9, existing.getLastMovementId());
+        verify(snapshotRepository).save(existing);
+    }
+}
@@ -0,0 +1,123 @@
+package searching_program.search_product.service.member;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import searching_program.search_product.domain.Member;
+import searching_program.search_product.repository.MemberRepository;
+import searching_program.search_product.type.MemberStatus;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MemberIdentityCacheTest {
+
+    private MemberRepository memberRepository;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private MemberIdentityCache cache;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MemberIdentityCache(memberRepository, transactionManager, meterRegistry, 300, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 반복_조회는_캐시에서() {
+        when(memberRepository.findWithRolesByUserId("tester")).thenReturn(Optional.of(member(false)));
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(cache.findByUserId("tester").isPresent());
+        }
+
+        verify(memberRepository, times(1)).findWithRolesByUserId("tester");
+        assertEquals(0.75, cache.hitRate());
+        assertEquals(3.0, meterRegistry.get("cache.gets").tag("cache", "member.identity").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void 호출_트랜잭션과_별개로_읽기전용이_아닌_트랜잭션에서_적재() {
+        when(memberRepository.findWithRolesByUserId("tester")).thenReturn(Optional.of(member(false)));
+
+        cache.findByUserId("tester");
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.getValue().getPropagationBehavior());
+        assertFalse(definition.getValue().isReadOnly());
+    }
+
+    @Test
+    void 없는_회원은_캐시하지_않음() {
+        when(memberRepository.findWithRolesByUserId("ghost")).thenReturn(Optional.empty());
+
+        assertTrue(cache.findByUserId("ghost").isEmpty());
+        assertTrue(cache.findByUserId("ghost").isEmpty());
+
+        verify(memberRepository, times(2)).findWithRolesByUserId("ghost");
+    }
+
+    @Test
+    void 무효화_후_잠금_상태가_바로_반영() {
+        when(memberRepository.findWithRolesByUserId("tester")).thenReturn(Optional.of(member(false)));
+        assertFalse(cache.findByUserId("tester").orElseThrow().locked());
+
+        when(memberRepository.findWithRolesByUserId("tester")).thenReturn(Optional.of(member(true)));
+        // 무효화 전에는 캐시된 값
+        assertFalse(cache.findByUserId("tester").orElseThrow().locked());
+
+        cache.invalidate("tester");
+        assertTrue(cache.findByUserId("tester").orElseThrow().locked());
+    }
+
+    @Test
+    void 커밋_전에_다시_적재된_값도_트랜잭션_종료_후_제거() {
+        when(memberRepository.findWithRolesByUserId("tester")).thenReturn(Optional.of(member(false)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidate("tester");
+        // 커밋 전에 다른 요청이 이전 값(잠금 해제)을 다시 적재
+        assertFalse(cache.findByUserId("tester").orElseThrow().locked());
+
+        // 커밋 완료
+        when(memberRepository.findWithRolesByUserId("tester")).thenReturn(Optional.of(member(true)));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        assertTrue(cache.findByUserId("tester").orElseThrow().locked());
+    }
+
+    private static Member member(boolean locked) {
+        return Member.builder()
+                .id(1L)
+                .userId("tester")
+                .password("hash")
+                .roles(Set.of("ROLE_USER"))
+                .accountLock(locked)
+                .memberStatus(MemberStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package searching_program.search_product.service.order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import searching_program.search_product.repository.OrderRepository;
+import searching_program.search_product.type.OrderStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OrderStatusCacheTest {
+
+    private OrderRepository orderRepository;
+    private OrderStatusCache cache;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        cache = new OrderStatusCache(orderRepository, transactionManager, new SimpleMeterRegistry(), 60, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 반복_폴링은_캐시에서_없는_주문은_캐시하지_않음() {
+        when(orderRepository.findStatusRow(1L)).thenReturn(row(OrderStatus.SHIPPED, 3L));
+        when(orderRepository.findStatusRow(2L)).thenReturn(new ArrayList<>());
+
+        for (int i = 0; i < 5; i++) {
+            OrderStatusView view = cache.find(1L).orElseThrow();
+            assertEquals(OrderStatus.SHIPPED, view.status());
+            assertEquals(3L, view.version());
+        }
+        assertTrue(cache.find(2L).isEmpty());
+        assertTrue(cache.find(2L).isEmpty());
+
+        verify(orderRepository, times(1)).findStatusRow(1L);
+        verify(orderRepository, times(2)).findStatusRow(2L);
+        assertEquals(4.0 / 7, cache.hitRate(), 1e-9);
+    }
+
+    @Test
+    void 상태_변경_이벤트로_무효화되고_커밋_전_재적재분도_제거() {
+        when(orderRepository.findStatusRow(1L)).thenReturn(row(OrderStatus.SHIPPED, 3L));
+        assertEquals(OrderStatus.SHIPPED, cache.find(1L).orElseThrow().status());
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.onStatusChanged(new OrderStatusChangedEvent(1L, OrderStatus.SHIPPED, OrderStatus.DELIVERED));
+        // 커밋 전에 다른 요청이 이전 상태를 다시 적재
+        assertEquals(OrderStatus.SHIPPED, cache.find(1L).orElseThrow().status());
+
+        when(orderRepository.findStatusRow(1L)).thenReturn(row(OrderStatus.DELIVERED, 4L));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        OrderStatusView view = cache.find(1L).orElseThrow();
+        assertEquals(OrderStatus.DELIVERED, view.status());
+        assertEquals(4L, view.version());
+    }
+
+    private static List<Object[]> row(OrderStatus status, long version) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{status, version});
+        return rows;
+    }
+}
@@ -0,0 +1,123 @@
+package searching_program.search_product.service.promotion;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import searching_program.search_product.dto.PromotionQuoteDto;
+import searching_program.search_product.dto.QuoteLineDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.PromotionRepository;
+import searching_program.search_product.service.catalog.CatalogVersionTracker;
+import searching_program.search_product.type.DiscountType;
+import searching_program.search_product.type.ErrorCode;
+import searching_program.search_product.type.Grade;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PromotionRuleEngineTest {
+
+    private static final LocalDateTime START = LocalDateTime.now().minusDays(1);
+    private static final LocalDateTime END = LocalDateTime.now().plusDays(1);
+
+    private final PromotionRepository promotionRepository = mock(PromotionRepository.class);
+    private final PromotionRuleEngine engine = new PromotionRuleEngine(promotionRepository, mock(CatalogVersionTracker.class));
+    private final List<Object[]> rows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(promotionRepository.findRuleRowsEndingAfter(any())).thenReturn(rows);
+    }
+
+    @Test
+    void 아이템_카테고리_전체_규칙을_priority_순서로_중복_적용() {
+        // 아이템 1: 10% (priority 1), 카테고리 7: 1000원 (priority 2), 전체: 5% (priority 3)
+        rows.add(row(1L, 1L, null, DiscountType.PERCENTAGE, 10L, null, null, "ITEMCODE0001", null, null, 1));
+        rows.add(row(2L, null, 7L, DiscountType.FIXED_AMOUNT, null, 1000L, null, "CATCODE00001", false, false, 2));
+        rows.add(row(3L, null, null, DiscountType.PERCENTAGE, 5L, null, null, "ALLCODE00001", false, false, 3));
+        engine.reload();
+
+        PromotionQuoteDto quote = engine.quote(List.of(
+                new CartLine(1L, 7L, 10000, 2),
+                new CartLine(2L, 8L, 20000, 1)), null, null);
+
+        // 10000 -> 9000 -> 8000 -> 7600
+        QuoteLineDto first = quote.getLines().get(0);
+        assertEquals(7600, first.getDiscountedUnitPrice());
+        assertEquals(15200, first.getLineTotal());
+        assertEquals(List.of(1L, 2L, 3L), first.getAppliedPromotionIds());
+
+        // 다른 카테고리는 전체 규칙만
+        QuoteLineDto second = quote.getLines().get(1);
+        assertEquals(19000, second.getDiscountedUnitPrice());
+        assertEquals(List.of(3L), second.getAppliedPromotionIds());
+
+        assertEquals(40000, quote.getSubtotal());
+        assertEquals(34200, quote.getTotal());
+        assertEquals(5800, quote.getDiscount());
+    }
+
+    @Test
+    void 단독_규칙은_중복_적용보다_쌀_때만_쓴다() {
+        rows.add(row(1L, 1L, null, DiscountType.PERCENTAGE, 10L, null, null, "A00000000001", false, false, 0));
+        rows.add(row(2L, 1L, null, DiscountType.PERCENTAGE, 10L, null, null, "A00000000002", false, false, 0));
+        rows.add(row(3L, null, null, DiscountType.PERCENTAGE, 15L, null, null, "A00000000003", false, true, 0));
+        rows.add(row(4L, 2L, null, DiscountType.PERCENTAGE, 30L, null, null, "A00000000004", false, true, 0));
+        engine.reload();
+
+        PromotionQuoteDto quote = engine.quote(List.of(
+                new CartLine(1L, null, 10000, 1),
+                new CartLine(2L, null, 10000, 1)), null, List.of());
+
+        // 10000 -> 9000 -> 8100 이 단독 15%(8500) 보다 싸다
+        assertEquals(8100, quote.getLines().get(0).getDiscountedUnitPrice());
+        assertEquals(List.of(1L, 2L), quote.getLines().get(0).getAppliedPromotionIds());
+        // 단독 30% 가 단독 15% 보다 싸다
+        assertEquals(7000, quote.getLines().get(1).getDiscountedUnitPrice());
+        assertEquals(List.of(4L), quote.getLines().get(1).getAppliedPromotionIds());
+    }
+
+    @Test
+    void 등급_전용_규칙과_쿠폰_필수_규칙() {
+        rows.add(row(1L, null, null, DiscountType.PERCENTAGE, 20L, null, Grade.VIP, "VIPCODE00001", false, false, 0));
+        rows.add(row(2L, 1L, null, DiscountType.FIXED_AMOUNT, null, 3000L, null, "COUPON000001", true, false, 1));
+        engine.reload();
+        List<CartLine> lines = List.of(new CartLine(1L, null, 10000, 1), new CartLine(2L, null, 2000, 1));
+
+        assertEquals(12000, engine.quote(lines, null, null).getTotal());
+        assertEquals(8000 + 1600, engine.quote(lines, Grade.VIP, null).getTotal());
+
+        // 쿠폰은 대소문자/공백 무관, 대상 아이템에만 적용
+        PromotionQuoteDto withCoupon = engine.quote(lines, Grade.VIP, List.of(" coupon000001 "));
+        assertEquals(5000, withCoupon.getLines().get(0).getDiscountedUnitPrice());
+        assertEquals(1600, withCoupon.getLines().get(1).getDiscountedUnitPrice());
+    }
+
+    @Test
+    void 없는_쿠폰과_기간이_아닌_쿠폰은_거절() {
+        rows.add(row(1L, 1L, null, DiscountType.PERCENTAGE, 10L, null, null, "LATERCODE001", true, false, 0));
+        rows.get(0)[11] = LocalDateTime.now().plusHours(1);
+        engine.reload();
+        List<CartLine> lines = List.of(new CartLine(1L, null, 10000, 1));
+
+        CustomError unknown = assertThrows(CustomError.class, () -> engine.quote(lines, null, List.of("NOPE")));
+        assertEquals(ErrorCode.INVALID_COUPON_CODE, unknown.getErrorCode());
+        CustomError notStarted = assertThrows(CustomError.class, () -> engine.quote(lines, null, List.of("LATERCODE001")));
+        assertEquals(ErrorCode.NO_ACTIVE_PROMOTION, notStarted.getErrorCode());
+
+        // 쿠폰 없이는 적용되지 않는다
+        assertEquals(10000, engine.quote(lines, null, null).getTotal());
+    }
+
+    private static Object[] row(Long id, Long itemId, Long categoryId, DiscountType type, Long rate, Long amount,
+                                Grade grade, String couponCode, Boolean couponRequired, Boolean exclusive,
+                                Integer priority) {
+        return new Object[]{id, itemId, categoryId, type, rate, amount, grade, couponCode,
+                couponRequired, exclusive, priority, START, END};
+    }
+}
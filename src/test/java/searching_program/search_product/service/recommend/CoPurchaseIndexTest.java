@@ -0,0 +1,71 @@
+package searching_program.search_product.service.recommend;
+
+import org.junit.jupiter.api.Test;
+import searching_program.search_product.dto.RelatedItemDto;
+import searching_program.search_product.repository.OrderItemRepository;
+import searching_program.search_product.service.order.OrderPlacedEvent;
+import searching_program.search_product.type.OrderStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CoPurchaseIndexTest {
+
+    @Test
+    void 범위를_나눠_집계하고_증분_반영() {
+        // 주문 1~40, 주문마다 아이템 100 과 (주문 id % 3) + 1 을 함께 구매
+        List<Object[]> rows = new ArrayList<>();
+        for (long orderId = 1; orderId <= 40; orderId++) {
+            rows.add(new Object[]{orderId, 100L});
+            rows.add(new Object[]{orderId, orderId % 3 + 1});
+        }
+
+        OrderItemRepository repository = mock(OrderItemRepository.class);
+        when(repository.findMinOrderId()).thenReturn(1L);
+        when(repository.findMaxOrderId()).thenReturn(40L);
+        when(repository.findItemPairsInOrderRange(anyLong(), anyLong(), eq(OrderStatus.CANCELED)))
+                .thenAnswer(invocation -> {
+                    long from = invocation.getArgument(0);
+                    long to = invocation.getArgument(1);
+                    return rows.stream().filter(row -> (Long) row[0] >= from && (Long) row[0] <= to).toList();
+                });
+
+        CoPurchaseIndex index = new CoPurchaseIndex(repository, 3, 4, 50, 2);
+        index.rebuild();
+
+        // 범위 크기 4 이므로 여러 조각으로 나뉘어 조회된다
+        verify(repository, atLeast(10)).findItemPairsInOrderRange(anyLong(), anyLong(), any());
+        List<RelatedItemDto> related = index.related(100L, 10);
+        assertEquals(3, related.size());
+        assertEquals(14, related.get(0).getCoPurchaseCount()); // 주문 id % 3 == 1 -> 아이템 2
+        assertEquals(2L, related.get(0).getItemId());
+        assertEquals(13, related.get(1).getCoPurchaseCount());
+        assertEquals(13, related.get(2).getCoPurchaseCount());
+
+        // 새 주문 두 건으로 아이템 3 이 아이템 2 와 같은 횟수를 넘는다
+        index.onOrderPlaced(new OrderPlacedEvent(41L, 1L, List.of(100L, 3L, 3L)));
+        index.onOrderPlaced(new OrderPlacedEvent(42L, 1L, List.of(3L, 100L)));
+        related = index.related(100L, 1);
+        assertEquals(1, related.size());
+        assertEquals(3L, related.get(0).getItemId());
+        assertEquals(15, related.get(0).getCoPurchaseCount());
+
+        assertEquals(List.of(), index.related(999L, 5));
+    }
+
+    @Test
+    void 주문이_없으면_빈_인덱스() {
+        OrderItemRepository repository = mock(OrderItemRepository.class);
+        when(repository.findMinOrderId()).thenReturn(null);
+        when(repository.findMaxOrderId()).thenReturn(null);
+        CoPurchaseIndex index = new CoPurchaseIndex(repository, 3, 4, 50, 2);
+        index.rebuild();
+
+        assertTrue(index.related(1L, 5).isEmpty());
+        verify(repository, never()).findItemPairsInOrderRange(anyLong(), anyLong(), any());
+    }
+}
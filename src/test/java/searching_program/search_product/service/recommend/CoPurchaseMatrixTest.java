@@ -0,0 +1,75 @@
+package searching_program.search_product.service.recommend;
+
+import org.junit.jupiter.api.Test;
+import searching_program.search_product.service.support.LongIntHashMap;
+import searching_program.search_product.service.support.SortedLongArrays;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoPurchaseMatrixTest {
+
+    @Test
+    void 상위_이웃은_횟수_내림차순() {
+        CoPurchaseMatrix matrix = new CoPurchaseMatrix(2);
+        matrix.addOrder(new long[]{1, 2, 3});
+        matrix.addOrder(new long[]{1, 3});
+        matrix.addOrder(new long[]{1, 3, 4});
+        matrix.addOrder(new long[]{1, 4});
+
+        long[] ids = new long[5];
+        int[] scores = new int[5];
+        int n = matrix.neighbors(1, ids, scores);
+
+        // K=2 이므로 3(3회), 4(2회) 만 남고 2(1회)는 밀려난다
+        assertEquals(2, n);
+        assertArrayEquals(new long[]{3, 4}, Arrays.copyOf(ids, n));
+        assertArrayEquals(new int[]{3, 2}, Arrays.copyOf(scores, n));
+        assertEquals(1, matrix.pairCount(2, 1));
+        assertEquals(0, matrix.neighbors(99, ids, scores));
+    }
+
+    @Test
+    void 증분_반영과_전체_집계_결과가_같다() {
+        int k = 5;
+        Random random = new Random(11);
+        CoPurchaseMatrix incremental = new CoPurchaseMatrix(k);
+        LongIntHashMap pairCounts = new LongIntHashMap();
+        Map<Long, Map<Long, Integer>> expected = new HashMap<>();
+
+        for (int order = 0; order < 2_000; order++) {
+            long[] values = new long[1 + random.nextInt(5)];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = 1 + random.nextInt(200);
+            }
+            long[] items = SortedLongArrays.of(values);
+            incremental.addOrder(items);
+            for (int i = 0; i < items.length; i++) {
+                for (int j = i + 1; j < items.length; j++) {
+                    pairCounts.addTo(CoPurchaseMatrix.pairKey(items[i], items[j]), 1);
+                    expected.computeIfAbsent(items[i], key -> new HashMap<>()).merge(items[j], 1, Integer::sum);
+                    expected.computeIfAbsent(items[j], key -> new HashMap<>()).merge(items[i], 1, Integer::sum);
+                }
+            }
+        }
+        CoPurchaseMatrix rebuilt = CoPurchaseMatrix.of(pairCounts, k);
+
+        long[] ids = new long[k];
+        int[] scores = new int[k];
+        for (Map.Entry<Long, Map<Long, Integer>> entry : expected.entrySet()) {
+            // 상위 K 의 횟수 목록은 정렬 기준이 같으면 구성과 무관하게 같아야 한다
+            int[] expectedScores = entry.getValue().values().stream()
+                    .sorted(Comparator.reverseOrder()).limit(k).mapToInt(Integer::intValue).toArray();
+
+            int n = incremental.neighbors(entry.getKey(), ids, scores);
+            assertArrayEquals(expectedScores, Arrays.copyOf(scores, n));
+            for (int i = 0; i < n; i++) {
+                assertEquals(entry.getValue().get(ids[i]), scores[i]);
+            }
+
+            n = rebuilt.neighbors(entry.getKey(), ids, scores);
+            assertArrayEquals(expectedScores, Arrays.copyOf(scores, n));
+        }
+    }
+}
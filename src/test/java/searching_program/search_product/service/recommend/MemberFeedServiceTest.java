@@ -0,0 +1,90 @@
+package searching_program.search_product.service.recommend;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import searching_program.search_product.dto.FeedItemDto;
+import searching_program.search_product.repository.ItemFavoriteRepository;
+import searching_program.search_product.repository.ItemRepository;
+import searching_program.search_product.repository.OrderItemRepository;
+import searching_program.search_product.repository.ReviewRepository;
+import searching_program.search_product.service.order.OrderPlacedEvent;
+import searching_program.search_product.type.ItemStatus;
+import searching_program.search_product.type.OrderStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MemberFeedServiceTest {
+
+    private static final Long BOOK = 1L;
+    private static final Long TOY = 2L;
+
+    private ItemRepository itemRepository;
+    private OrderItemRepository orderItemRepository;
+    private ItemFavoriteRepository itemFavoriteRepository;
+    private ReviewRepository reviewRepository;
+    private MemberFeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        orderItemRepository = mock(OrderItemRepository.class);
+        itemFavoriteRepository = mock(ItemFavoriteRepository.class);
+        reviewRepository = mock(ReviewRepository.class);
+
+        // 가격대 경계 10000 / 30000 / 100000
+        when(itemRepository.findFeedFeatures(ItemStatus.AVAILABLE)).thenReturn(List.of(
+                new Object[]{10L, BOOK, 15000, "책A"},
+                new Object[]{11L, BOOK, 18000, "책B"},
+                new Object[]{12L, BOOK, 250000, "책 전집"},
+                new Object[]{13L, BOOK, 60000, "책 세트"},
+                new Object[]{20L, TOY, 16000, "장난감A"},
+                new Object[]{21L, TOY, 500000, "장난감B"}));
+
+        feedService = new MemberFeedService(itemRepository, orderItemRepository, itemFavoriteRepository,
+                reviewRepository, new SimpleMeterRegistry(), new int[]{10000, 30000, 100000},
+                3, 3f, 2f, 1f, 600, 100);
+        feedService.initialize();
+    }
+
+    @Test
+    void 선호_카테고리와_가격대_순으로_추천하고_본_아이템은_제외() {
+        // 책A 구매 + 책B 즐겨찾기 -> 책, 1~3만원대 선호
+        when(orderItemRepository.findPurchaseSignals(1L, OrderStatus.CANCELED))
+                .thenReturn(List.<Object[]>of(new Object[]{10L, BOOK, 15000, 2L}));
+        when(itemFavoriteRepository.findFavoriteSignals(1L))
+                .thenReturn(List.<Object[]>of(new Object[]{11L, BOOK, 18000}));
+        // 같은 가격대 장난감에는 낮은 평점
+        when(reviewRepository.findReviewSignals(1L))
+                .thenReturn(List.<Object[]>of(new Object[]{20L, TOY, 16000, 1}));
+
+        List<FeedItemDto> feed = feedService.feed(1L, 10);
+
+        // 책 세트(인접 가격대) > 책 전집(먼 가격대), 장난감B 는 점수가 0 이하라 제외
+        assertEquals(List.of(13L, 12L), feed.stream().map(FeedItemDto::getItemId).toList());
+        assertTrue(feed.get(0).getScore() > feed.get(1).getScore());
+        assertEquals("책 세트", feed.get(0).getItemName());
+    }
+
+    @Test
+    void 캐시된_피드는_새_주문에_무효화() {
+        when(orderItemRepository.findPurchaseSignals(1L, OrderStatus.CANCELED))
+                .thenReturn(List.<Object[]>of(new Object[]{20L, TOY, 16000, 1L}));
+
+        assertEquals(10L, feedService.feed(1L, 1).get(0).getItemId());
+        feedService.feed(1L, 5);
+        verify(orderItemRepository, times(1)).findPurchaseSignals(1L, OrderStatus.CANCELED);
+
+        feedService.onOrderPlaced(new OrderPlacedEvent(100L, 1L, List.of(20L)));
+        feedService.feed(1L, 5);
+        verify(orderItemRepository, times(2)).findPurchaseSignals(1L, OrderStatus.CANCELED);
+    }
+
+    @Test
+    void 신호가_없으면_빈_피드() {
+        assertTrue(feedService.feed(2L, 10).isEmpty());
+    }
+}
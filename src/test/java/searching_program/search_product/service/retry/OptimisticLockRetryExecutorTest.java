@@ -0,0 +1,107 @@
+package searching_program.search_product.service.retry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.type.ErrorCode;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OptimisticLockRetryExecutorTest {
+
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticLockRetryExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new OptimisticLockRetryExecutor(transactionManager, meterRegistry, 3, 1, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void 충돌_후_재시도하여_성공() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = executor.execute("test", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Item", 1L);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, calls.get());
+        assertEquals(2.0, meterRegistry.get("optimistic.lock.conflicts").tag("operation", "test").counter().count());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void 재시도_초과시_CustomError() {
+        AtomicInteger calls = new AtomicInteger();
+
+        CustomError error = assertThrows(CustomError.class, () -> executor.execute("test", () -> {
+            calls.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Item", 1L);
+        }));
+
+        assertEquals(ErrorCode.CONCURRENT_UPDATE_CONFLICT, error.getErrorCode());
+        assertEquals(3, calls.get());
+        assertEquals(1.0, meterRegistry.get("optimistic.lock.exhausted").tag("operation", "test").counter().count());
+    }
+
+    @Test
+    void 다른_예외는_재시도하지_않음() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(DataIntegrityViolationException.class, () -> executor.execute("test", () -> {
+            calls.incrementAndGet();
+            throw new DataIntegrityViolationException("dup");
+        }));
+        assertEquals(1, calls.get());
+
+        // 지정한 경우에만 재시도
+        calls.set(0);
+        String result = executor.execute("test", e -> e instanceof DataIntegrityViolationException, () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new DataIntegrityViolationException("dup");
+            }
+            return "ok";
+        });
+        assertEquals("ok", result);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void 기존_트랜잭션_안에서는_한번만_실행() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> executor.execute("test", () -> {
+            calls.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Item", 1L);
+        }));
+
+        assertEquals(1, calls.get());
+        verifyNoInteractions(transactionManager);
+    }
+}
@@ -0,0 +1,129 @@
+package searching_program.search_product.service.search;
+
+import org.junit.jupiter.api.Test;
+import searching_program.search_product.dto.AutocompleteDto;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutocompleteIndexTest {
+
+    private static final String[] NAMES = {
+            "삼성 갤럭시 S24", "삼성 노트북", "삼다수 생수", "갤럭시 버즈", "애플 맥북 프로", "맥북 에어", "닭가슴살"
+    };
+    private static final int[] SCORES = {50, 10, 30, 40, 20, 60, 5};
+
+    private AutocompleteIndex index() {
+        long[] ids = new long[NAMES.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i + 1;
+        }
+        return AutocompleteIndex.build(ids, NAMES, SCORES, 10, 6, 2);
+    }
+
+    @Test
+    void 접두사_결과는_인기_순() {
+        List<AutocompleteDto> result = index().suggest("삼", 10);
+
+        assertEquals(List.of("삼성 갤럭시 S24", "삼다수 생수", "삼성 노트북"), names(result));
+        assertTrue(result.stream().noneMatch(AutocompleteDto::isCorrected));
+    }
+
+    @Test
+    void 단어_중간부터_입력해도_찾는다() {
+        // 단어 시작 위치 어디든 접두사로 맞으면 후보, 인기 순
+        assertEquals(List.of("삼성 갤럭시 S24", "갤럭시 버즈"), names(index().suggest("갤럭", 10)));
+        assertEquals(List.of("맥북 에어", "애플 맥북 프로"), names(index().suggest("맥북", 10)));
+        assertEquals(List.of("삼성 갤럭시 S24"), names(index().suggest("s2", 10)));
+    }
+
+    @Test
+    void 입력_중인_음절과_겹받침() {
+        assertEquals(List.of("닭가슴살"), names(index().suggest("달", 10)));
+        assertEquals(List.of("삼성 갤럭시 S24", "삼성 노트북"), names(index().suggest("삼서", 10)));
+    }
+
+    @Test
+    void 오타는_보정_후보로_채운다() {
+        // 맥북 -> 멕북 (모음 하나 치환)
+        List<AutocompleteDto> result = index().suggest("멕북", 10);
+        assertEquals(List.of("맥북 에어"), names(result));
+        assertTrue(result.get(0).isCorrected());
+
+        // 글자 순서 바뀜: 갤럭시 -> 걸랙시 는 두 글자 치환
+        assertTrue(names(index().suggest("걸랙시", 10)).contains("갤럭시 버즈"));
+
+        assertTrue(index().suggest("컴퓨터", 10).isEmpty());
+    }
+
+    @Test
+    void limit_과_빈_입력() {
+        assertEquals(1, index().suggest("삼", 1).size());
+        assertTrue(index().suggest("   ", 10).isEmpty());
+        assertTrue(AutocompleteIndex.empty().suggest("삼", 10).isEmpty());
+    }
+
+    @Test
+    void 접두사_편집_거리() {
+        assertEquals(0, TypoIndex.prefixDistance("abc", "abcdef", 2));
+        assertEquals(1, TypoIndex.prefixDistance("abx", "abcdef", 2));
+        assertEquals(1, TypoIndex.prefixDistance("bacd", "abcdef", 2));
+        assertEquals(1, TypoIndex.prefixDistance("acd", "abcdef", 2));
+        assertEquals(3, TypoIndex.prefixDistance("xyz", "abcdef", 2));
+    }
+
+    @Test
+    void 트라이_결과는_전수_비교와_같다() {
+        Random random = new Random(3);
+        int n = 2_000;
+        long[] ids = new long[n];
+        String[] names = new String[n];
+        int[] scores = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i + 1;
+            StringBuilder name = new StringBuilder();
+            int words = 1 + random.nextInt(3);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    name.append(' ');
+                }
+                for (int c = 0, len = 2 + random.nextInt(4); c < len; c++) {
+                    name.append((char) ('a' + random.nextInt(4)));
+                }
+            }
+            names[i] = name.toString();
+            scores[i] = random.nextInt(1000);
+        }
+        AutocompleteIndex index = AutocompleteIndex.build(ids, names, scores, 5, 4, 0);
+
+        for (String prefix : List.of("a", "ab", "abc", "dd", "cab", "bbbb")) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                if (matchesWordStart(names[i], prefix)) {
+                    expected.add(i);
+                }
+            }
+            List<Integer> top = expected.stream()
+                    .sorted(Comparator.comparingInt((Integer i) -> -scores[i]).thenComparingInt(i -> i))
+                    .limit(5).toList();
+
+            List<Long> actual = index.suggest(prefix, 5).stream().map(AutocompleteDto::getItemId).toList();
+            assertEquals(top.stream().map(i -> ids[i]).toList(), actual, prefix);
+        }
+    }
+
+    private static boolean matchesWordStart(String name, String prefix) {
+        for (int start = 0; start < name.length(); start++) {
+            if ((start == 0 || name.charAt(start - 1) == ' ') && name.startsWith(prefix, start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> names(List<AutocompleteDto> result) {
+        return result.stream().map(AutocompleteDto::getItemName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,33 @@
+package searching_program.search_product.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulJamoTest {
+
+    @Test
+    void 음절을_기본_자모로_분해() {
+        assertEquals("ㄱㅐㄹㄹㅓㄱㅅㅣ", HangulJamo.normalize("갤럭시"));
+        // 겹받침, 겹모음, 된소리도 기본 자모로
+        assertEquals("ㄷㅏㄹㄱ", HangulJamo.normalize("닭"));
+        assertEquals("ㄱㅗㅏ", HangulJamo.normalize("과"));
+        assertEquals("ㄱㄱㅏ", HangulJamo.normalize("까"));
+        assertEquals("ㄹㄱ", HangulJamo.normalize("ㄺ"));
+    }
+
+    @Test
+    void 입력_중인_음절도_접두사가_된다() {
+        String full = HangulJamo.normalize("삼성 노트북");
+        assertTrue(full.startsWith(HangulJamo.normalize("사")));
+        assertTrue(full.startsWith(HangulJamo.normalize("삼")));
+        assertTrue(full.startsWith(HangulJamo.normalize("삼서")));
+        assertTrue(HangulJamo.normalize("닭가슴살").startsWith(HangulJamo.normalize("달")));
+    }
+
+    @Test
+    void 영문_소문자와_공백_정리() {
+        assertEquals("macbook pro 14", HangulJamo.normalize("  MacBook   Pro\t14 "));
+        assertEquals("", HangulJamo.normalize(null));
+    }
+}
@@ -0,0 +1,90 @@
+package searching_program.search_product.service.search;
+
+import org.junit.jupiter.api.Test;
+import searching_program.search_product.dto.TermSearchResultDto;
+import searching_program.search_product.type.SearchMode;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TermIndexTest {
+
+    private static final String[] NAMES = {
+            "삼성 노트북 갤럭시북", "LG 그램 노트북", "삼성 모니터", "애플 맥북 에어", "삼성 갤럭시 탭", "맥세이프 충전기"
+    };
+    private static final int[] SCORES = {10, 30, 20, 50, 40, 5};
+
+    private TermIndex index() {
+        long[] ids = idsOf(NAMES.length);
+        return TermIndex.build(ids, NAMES, SCORES);
+    }
+
+    @Test
+    void AND_는_모든_검색어를_포함() {
+        List<TermSearchResultDto> result = index().search(List.of("삼성", "노트북"), SearchMode.AND, 10);
+
+        assertEquals(List.of(1L), ids(result));
+        assertEquals(2, result.get(0).getMatchedTerms());
+    }
+
+    @Test
+    void OR_는_맞은_수_다음_인기_순() {
+        List<TermSearchResultDto> result = index().search(List.of("삼성", "노트북"), SearchMode.OR, 10);
+
+        // 삼성+노트북(1) 먼저, 그 다음 하나만 맞은 것들은 점수 순: 탭(40) LG(30) 모니터(20)
+        assertEquals(List.of(1L, 5L, 2L, 3L), ids(result));
+        assertEquals(List.of(2, 1, 1, 1), result.stream().map(TermSearchResultDto::getMatchedTerms).toList());
+
+        assertEquals(List.of(1L, 5L), ids(index().search(List.of("삼성", "노트북"), SearchMode.OR, 2)));
+    }
+
+    @Test
+    void 검색어는_토큰_접두사로_맞춘다() {
+        // "맥" -> 맥북, 맥세이프 / "갤럭시" -> 갤럭시, 갤럭시북
+        assertEquals(List.of(4L, 6L), ids(index().search(List.of("맥"), SearchMode.OR, 10)));
+        assertEquals(List.of(5L, 1L), ids(index().search(List.of("갤럭시"), SearchMode.AND, 10)));
+        assertEquals(List.of(2L), ids(index().search(List.of("lg"), SearchMode.AND, 10)));
+        assertTrue(index().search(List.of("없는말"), SearchMode.OR, 10).isEmpty());
+    }
+
+    @Test
+    void galloping_교집합은_전수_비교와_같다() {
+        Random random = new Random(5);
+        for (int round = 0; round < 200; round++) {
+            int[] a = randomSorted(random, random.nextInt(50), 1000);
+            int[] b = randomSorted(random, random.nextInt(2000), 1000);
+
+            Set<Integer> inB = new HashSet<>();
+            for (int value : b) {
+                inB.add(value);
+            }
+            int[] expected = Arrays.stream(a).filter(inB::contains).toArray();
+
+            assertArrayEquals(expected, TermIndex.intersect(a, b));
+            assertArrayEquals(expected, TermIndex.intersectAll(new int[][]{b, a}));
+        }
+    }
+
+    @Test
+    void 토큰화() {
+        assertEquals(List.of("삼성", "갤럭시", "s24", "256gb"), TermIndex.tokenize("삼성 갤럭시-S24 (256GB)"));
+    }
+
+    private static int[] randomSorted(Random random, int size, int bound) {
+        return IntStream.generate(() -> random.nextInt(bound)).limit(size).distinct().sorted().toArray();
+    }
+
+    private static long[] idsOf(int n) {
+        long[] ids = new long[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i + 1;
+        }
+        return ids;
+    }
+
+    private static List<Long> ids(List<TermSearchResultDto> result) {
+        return result.stream().map(TermSearchResultDto::getItemId).toList();
+    }
+}
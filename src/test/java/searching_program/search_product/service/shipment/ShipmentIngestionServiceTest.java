@@ -0,0 +1,166 @@
+package searching_program.search_product.service.shipment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import searching_program.search_product.dto.ShipmentIngestResultDto;
+import searching_program.search_product.error.CustomError;
+import searching_program.search_product.repository.ShipmentRepository;
+import searching_program.search_product.service.order.OrderStatusChangedEvent;
+import searching_program.search_product.type.OrderStatus;
+import searching_program.search_product.type.ShipmentStatus;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ShipmentIngestionServiceTest {
+
+    private ShipmentRepository shipmentRepository;
+    private JdbcTemplate jdbcTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private ShipmentIngestionService service;
+
+    @BeforeEach
+    void setUp() {
+        shipmentRepository = mock(ShipmentRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        service = new ShipmentIngestionService(shipmentRepository, jdbcTemplate, new ObjectMapper().findAndRegisterModules(),
+                eventPublisher, transactionManager, 3, 100, 10, 2);
+    }
+
+    @Test
+    void 송장별_최신_이벤트만_배치로_반영하고_주문_상태_변경을_발행한다() throws Exception {
+        String body = """
+                {"trackingNumber":"T1","status":"IN_TRANSIT","location":"HUB","eventTime":"2024-05-02T09:00:00"}
+                {"trackingNumber":"T1","status":"DELIVERED","eventTime":"2024-05-02T19:00:00"}
+                {"trackingNumber":"T2","status":"OUT_FOR_DELIVERY","eventTime":"2024-05-02T10:00:00"}
+
+                {"trackingNumber":"","status":"DELIVERED","eventTime":"2024-05-02T19:00:00"}
+                not json
+                """;
+        ShipmentIngestResultDto result = service.ingest(stream(body));
+        assertEquals(3, result.getAccepted());
+        assertEquals(2, result.getRejected());
+        assertEquals(2, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).startsWith("5:"));
+
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{11L, "T1", 1L, ShipmentStatus.PENDING, null, OrderStatus.ORDERED});
+        // T2 는 이미 더 늦은 이벤트가 반영되어 있다
+        rows.add(new Object[]{12L, "T2", 2L, ShipmentStatus.DELIVERED, LocalDateTime.of(2024, 5, 2, 12, 0), OrderStatus.DELIVERED});
+        when(shipmentRepository.findIngestionRows(anyCollection())).thenReturn(rows);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<?> args = invocation.getArgument(1);
+            int[] counts = new int[args.size()];
+            Arrays.fill(counts, 1);
+            return counts;
+        });
+
+        service.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("update tbl_shipment"), args.capture());
+        assertEquals(1, args.getValue().size());
+        Object[] shipment = args.getValue().get(0);
+        assertEquals(ShipmentStatus.DELIVERED.ordinal(), shipment[0]);
+        assertEquals("HUB", shipment[1]); // 최신 이벤트에 없는 위치는 이전 이벤트 값
+        assertEquals(11L, shipment[4]);
+
+        verify(jdbcTemplate).batchUpdate(startsWith("update tbl_orders"), anyList());
+        verify(jdbcTemplate).batchUpdate(startsWith("insert into tbl_order_status_history"), anyList());
+        verify(eventPublisher).publishEvent(new OrderStatusChangedEvent(1L, OrderStatus.ORDERED, OrderStatus.DELIVERED));
+        assertEquals(0, service.pending());
+    }
+
+    @Test
+    void 큐에_다_들어가지_않으면_통째로_거부한다() {
+        String body = """
+                {"trackingNumber":"T1","status":"IN_TRANSIT","eventTime":"2024-05-02T09:00:00"}
+                {"trackingNumber":"T2","status":"IN_TRANSIT","eventTime":"2024-05-02T09:00:00"}
+                {"trackingNumber":"T3","status":"IN_TRANSIT","eventTime":"2024-05-02T09:00:00"}
+                {"trackingNumber":"T4","status":"IN_TRANSIT","eventTime":"2024-05-02T09:00:00"}
+                """;
+        assertThrows(CustomError.class, () -> service.ingest(stream(body)));
+        assertEquals(0, service.pending());
+    }
+
+    @Test
+    void 실패하는_건만_재시도하다_버리고_나머지는_반영한다() throws Exception {
+        String body = """
+                {"trackingNumber":"T1","status":"IN_TRANSIT","eventTime":"2024-05-02T09:00:00"}
+                {"trackingNumber":"BAD","status":"IN_TRANSIT","eventTime":"2024-05-02T09:00:00"}
+                """;
+        service.ingest(stream(body));
+
+        when(shipmentRepository.findIngestionRows(anyCollection())).thenAnswer(invocation -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (Object trackingNumber : (Collection<?>) invocation.getArgument(0)) {
+                long id = trackingNumber.equals("BAD") ? 99L : 11L;
+                rows.add(new Object[]{id, trackingNumber, null, ShipmentStatus.PENDING, null, null});
+            }
+            return rows;
+        });
+        List<Long> appliedIds = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> args = invocation.getArgument(1);
+            if (args.stream().anyMatch(arg -> Long.valueOf(99L).equals(arg[4]))) {
+                throw new IllegalStateException("data too long");
+            }
+            args.forEach(arg -> appliedIds.add((Long) arg[4]));
+            int[] counts = new int[args.size()];
+            Arrays.fill(counts, 1);
+            return counts;
+        });
+
+        // 배치 실패 -> 한 건씩: T1 반영, BAD 는 다음 주기로
+        service.flush();
+        assertEquals(List.of(11L), appliedIds);
+        assertEquals(1, service.pending());
+
+        // 최대 시도 횟수(2)에 도달하면 버린다
+        service.flush();
+        assertEquals(0, service.pending());
+        assertEquals(List.of(11L), appliedIds);
+    }
+
+    @Test
+    void 컬럼보다_긴_값은_접수하지_않는다() throws Exception {
+        String body = "{\"trackingNumber\":\"T1\",\"status\":\"IN_TRANSIT\",\"location\":\"" + "x".repeat(256)
+                + "\",\"eventTime\":\"2024-05-02T09:00:00\"}\n"
+                + "{\"trackingNumber\":\"" + "9".repeat(65) + "\",\"status\":\"IN_TRANSIT\",\"eventTime\":\"2024-05-02T09:00:00\"}";
+        ShipmentIngestResultDto result = service.ingest(stream(body));
+        assertEquals(0, result.getAccepted());
+        assertEquals(2, result.getRejected());
+    }
+
+    @Test
+    void 배송_상태에_따른_주문_상태_전이() {
+        assertEquals(OrderStatus.SHIPPED, ShipmentIngestionService.orderStatusFor(ShipmentStatus.IN_TRANSIT, OrderStatus.ORDERED));
+        assertNull(ShipmentIngestionService.orderStatusFor(ShipmentStatus.IN_TRANSIT, OrderStatus.SHIPPED));
+        assertEquals(OrderStatus.DELIVERED, ShipmentIngestionService.orderStatusFor(ShipmentStatus.DELIVERED, OrderStatus.SHIPPED));
+        assertNull(ShipmentIngestionService.orderStatusFor(ShipmentStatus.DELIVERED, OrderStatus.CANCELED));
+        assertNull(ShipmentIngestionService.orderStatusFor(ShipmentStatus.FAILED, OrderStatus.SHIPPED));
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
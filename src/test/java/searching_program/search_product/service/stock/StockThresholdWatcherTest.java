@@ -0,0 +1,118 @@
+package searching_program.search_product.service.stock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import searching_program.search_product.repository.ItemRepository;
+import searching_program.search_product.type.ItemStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class StockThresholdWatcherTest {
+
+    private ItemRepository itemRepository;
+    private LowStockAlertSender alertSender;
+    private StockThresholdWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        alertSender = mock(LowStockAlertSender.class);
+        watcher = new StockThresholdWatcher(itemRepository, alertSender, 10, 2);
+    }
+
+    @Test
+    void 기준을_넘을때_한번만_알림() {
+        watcher.stockChanged(1L, "airpods", 11);
+        verifyNoInteractions(alertSender);
+
+        watcher.stockChanged(1L, "airpods", 10);
+        watcher.stockChanged(1L, "airpods", 9);
+        verify(alertSender, times(1)).send(1L, "airpods", 10);
+
+        // 재고 회복 후 다시 내려가면 다시 알림
+        watcher.stockChanged(1L, "airpods", 30);
+        watcher.stockChanged(1L, "airpods", 5);
+        verify(alertSender, times(1)).send(1L, "airpods", 5);
+    }
+
+    @Test
+    void 아이템별_기준값() {
+        watcher.setThreshold(2L, 3);
+        assertEquals(3, watcher.thresholdOf(2L));
+        assertEquals(10, watcher.thresholdOf(3L));
+
+        watcher.stockChanged(2L, "mac", 5);
+        verifyNoInteractions(alertSender);
+        watcher.stockChanged(2L, "mac", 3);
+        verify(alertSender).send(2L, "mac", 3);
+
+        watcher.setThreshold(2L, null);
+        assertEquals(10, watcher.thresholdOf(2L));
+    }
+
+    @Test
+    void 기준값_변경은_커밋_후에만_반영() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertEquals(20, watcher.thresholdChanged(4L, "ipad", 15, 20));
+            // 커밋 전에는 이전 기준 그대로
+            assertEquals(10, watcher.thresholdOf(4L));
+            verifyNoInteractions(alertSender);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(20, watcher.thresholdOf(4L));
+        verify(alertSender).send(4L, "ipad", 15);
+    }
+
+    @Test
+    void 롤백되면_기준값_유지() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            watcher.thresholdChanged(4L, "ipad", 15, 20);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(10, watcher.thresholdOf(4L));
+        verifyNoInteractions(alertSender);
+    }
+
+    @Test
+    void 보정_점검은_keyset_배치로_놓친_알림만_발송() {
+        when(itemRepository.findStockBatchAfter(eq(0L), eq(ItemStatus.AVAILABLE), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, "a", 1, null), row(2L, "b", 50, null)));
+        when(itemRepository.findStockBatchAfter(eq(2L), eq(ItemStatus.AVAILABLE), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(row(5L, "c", 4, 2)));
+
+        // 1번은 이미 알림을 보낸 상태
+        watcher.stockChanged(1L, "a", 1);
+        clearInvocations(alertSender);
+
+        assertEquals(0, watcher.reconcile());
+        verifyNoInteractions(alertSender);
+        assertEquals(2, watcher.thresholdOf(5L));
+
+        // 5번의 기준이 바뀌어 저재고가 되면 다음 점검에서 알림
+        when(itemRepository.findStockBatchAfter(eq(2L), eq(ItemStatus.AVAILABLE), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(row(5L, "c", 4, 4)));
+        assertEquals(1, watcher.reconcile());
+        verify(alertSender).send(5L, "c", 4);
+    }
+
+    private static Object[] row(Long id, String name, Integer stock, Integer threshold) {
+        return new Object[]{id, name, stock, threshold};
+    }
+}
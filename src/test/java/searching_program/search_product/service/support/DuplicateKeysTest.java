@@ -0,0 +1,45 @@
+package searching_program.search_product.service.support;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuplicateKeysTest {
+
+    private static final String CONSTRAINT = "uk_bucket_member_item";
+
+    @Test
+    void MySQL_중복_키_제약_이름_일치() {
+        SQLException sql = new SQLException("Duplicate entry", "23000", 1062);
+        assertTrue(DuplicateKeys.isViolationOf(wrap(sql, "tblBucket.uk_bucket_member_item"), CONSTRAINT));
+    }
+
+    @Test
+    void 다른_유니크_제약은_제외() {
+        SQLException sql = new SQLException("Duplicate entry", "23000", 1062);
+        assertFalse(DuplicateKeys.isViolationOf(wrap(sql, "uk_other"), CONSTRAINT));
+    }
+
+    @Test
+    void 외래_키_위반은_중복_키가_아님() {
+        // MySQL 외래 키 위반도 SQLState 23000
+        SQLException sql = new SQLException("Cannot add or update a child row", "23000", 1452);
+        assertFalse(DuplicateKeys.isViolationOf(wrap(sql, null), CONSTRAINT));
+    }
+
+    @Test
+    void 제약_이름을_모르면_SQL_상태로_판단() {
+        SQLException sql = new SQLException("Unique index or primary key violation", "23505", 23505);
+        assertTrue(DuplicateKeys.isViolationOf(wrap(sql, null), CONSTRAINT));
+        assertFalse(DuplicateKeys.isViolationOf(new DataIntegrityViolationException("no cause"), CONSTRAINT));
+    }
+
+    private DataIntegrityViolationException wrap(SQLException sql, String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sql, constraintName));
+    }
+}
@@ -0,0 +1,74 @@
+package searching_program.search_product.service.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntHashMapTest {
+
+    @Test
+    void 기본_동작() {
+        LongIntHashMap map = new LongIntHashMap(2);
+        map.put(0L, 7);
+        map.put(1L, 1);
+        map.put(-5L, 5);
+
+        assertEquals(7, map.get(0L, -1));
+        assertEquals(5, map.get(-5L, -1));
+        assertEquals(-1, map.get(2L, -1));
+        assertEquals(3, map.size());
+
+        map.put(1L, 10);
+        assertEquals(10, map.get(1L, -1));
+        assertEquals(3, map.size());
+
+        assertTrue(map.remove(0L));
+        assertFalse(map.containsKey(0L));
+        assertFalse(map.remove(0L));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void HashMap과_같은_결과() {
+        LongIntHashMap map = new LongIntHashMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // 좁은 키 범위에서 삽입/삭제를 섞어 탐사 체인 당기기까지 검증
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                int value = random.nextInt();
+                expected.put(key, value);
+                map.put(key, value);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 2_000; key++) {
+            Integer value = expected.get(key);
+            assertEquals(value != null, map.containsKey(key));
+            if (value != null) {
+                assertEquals(value, map.get(key, 0));
+            }
+        }
+    }
+
+    @Test
+    void 누적과_순회() {
+        LongIntHashMap map = new LongIntHashMap();
+        assertEquals(2, map.addTo(0L, 2));
+        assertEquals(3, map.addTo(0L, 1));
+        assertEquals(-1, map.addTo(8L, -1));
+
+        Map<Long, Integer> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertEquals(Map.of(0L, 3, 8L, -1), visited);
+    }
+}
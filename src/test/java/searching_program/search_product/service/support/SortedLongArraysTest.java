@@ -0,0 +1,60 @@
+package searching_program.search_product.service.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedLongArraysTest {
+
+    @Test
+    void 추가_삭제_조회() {
+        long[] set = SortedLongArrays.EMPTY;
+        set = SortedLongArrays.insert(set, 5);
+        set = SortedLongArrays.insert(set, 1);
+        set = SortedLongArrays.insert(set, 9);
+
+        assertArrayEquals(new long[]{1, 5, 9}, set);
+        assertTrue(SortedLongArrays.contains(set, 5));
+        assertFalse(SortedLongArrays.contains(set, 4));
+
+        // 이미 있는 값 추가, 없는 값 삭제는 같은 배열 반환
+        assertSame(set, SortedLongArrays.insert(set, 5));
+        assertSame(set, SortedLongArrays.remove(set, 4));
+
+        long[] removed = SortedLongArrays.remove(set, 5);
+        assertArrayEquals(new long[]{1, 9}, removed);
+        // 원래 배열은 그대로
+        assertArrayEquals(new long[]{1, 5, 9}, set);
+
+        assertSame(SortedLongArrays.EMPTY, SortedLongArrays.remove(new long[]{3}, 3));
+    }
+
+    @Test
+    void 중복_제거_정렬() {
+        assertArrayEquals(new long[]{1, 2, 7}, SortedLongArrays.of(new long[]{7, 2, 1, 7, 2}));
+        assertSame(SortedLongArrays.EMPTY, SortedLongArrays.of(new long[0]));
+    }
+
+    @Test
+    void TreeSet과_같은_결과() {
+        long[] set = SortedLongArrays.EMPTY;
+        TreeSet<Long> expected = new TreeSet<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 5_000; i++) {
+            long value = random.nextInt(300);
+            if (random.nextBoolean()) {
+                set = SortedLongArrays.insert(set, value);
+                expected.add(value);
+            } else {
+                set = SortedLongArrays.remove(set, value);
+                expected.remove(value);
+            }
+        }
+
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), set);
+    }
+}
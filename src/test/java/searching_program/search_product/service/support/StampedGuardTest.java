@@ -0,0 +1,66 @@
+package searching_program.search_product.service.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StampedGuardTest {
+
+    @Test
+    void 읽기_쓰기_교체() {
+        StampedGuard<LongIntHashMap> guard = new StampedGuard<>(new LongIntHashMap());
+
+        assertEquals(-1, guard.read(map -> map.get(1L, -1)));
+        assertEquals(3, guard.write(map -> map.addTo(1L, 3)));
+        assertEquals(3, guard.read(map -> map.get(1L, -1)));
+
+        LongIntHashMap next = new LongIntHashMap();
+        next.put(2L, 5);
+        guard.replace(previous -> next);
+        assertEquals(-1, guard.read(map -> map.get(1L, -1)));
+        assertEquals(5, guard.read(map -> map.get(2L, -1)));
+    }
+
+    @Test
+    void 쓰기와_겹치지_않은_예외는_그대로_전달() {
+        StampedGuard<LongIntHashMap> guard = new StampedGuard<>(new LongIntHashMap());
+        assertThrows(IllegalStateException.class, () -> guard.read(map -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    void 재배치_중에도_읽은_값이_일관됨() throws Exception {
+        StampedGuard<LongIntHashMap> guard = new StampedGuard<>(new LongIntHashMap(4));
+        // 짝수 키만 넣고 항상 key * 2 를 값으로 둔다
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (long key = 2; key <= 200_000; key += 2) {
+                    long k = key;
+                    guard.write(map -> {
+                        map.put(k, (int) (k * 2));
+                        return 0;
+                    });
+                }
+            });
+            while (!writer.isDone()) {
+                for (long key = 2; key <= 2_000; key += 2) {
+                    long k = key;
+                    int value = guard.read(map -> map.get(k, 0));
+                    assertTrue(value == 0 || value == k * 2);
+                    assertEquals(0, guard.read(map -> map.get(k + 1, 0)));
+                }
+            }
+            writer.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(400_000, guard.read(map -> map.get(200_000L, 0)));
+    }
+}
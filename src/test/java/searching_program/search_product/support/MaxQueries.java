@@ -0,0 +1,22 @@
+package searching_program.search_product.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문(@BeforeEach 제외)에서 실행되는 SQL 수 상한
+ * maxRepeats : 같은 SQL(N+1)이 반복될 수 있는 최대 횟수
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryCountExtension.class)
+public @interface MaxQueries {
+
+    int value();
+
+    int maxRepeats() default Integer.MAX_VALUE;
+}
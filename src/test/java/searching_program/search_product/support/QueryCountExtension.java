@@ -0,0 +1,48 @@
+package searching_program.search_product.support;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import searching_program.search_product.config.monitoring.QueryRecorder;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * @MaxQueries 검사. QueryCountInspector가 기록한 SQL 수를 테스트 종료 시 비교한다.
+ */
+public class QueryCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        MaxQueries maxQueries = context.getRequiredTestMethod().getAnnotation(MaxQueries.class);
+        // maxRepeats 기본값(Integer.MAX_VALUE)에 +1 하면 넘치므로 long 으로 계산
+        long threshold = Math.min((long) maxQueries.maxRepeats(), (long) maxQueries.value()) + 1;
+        QueryRecorder.start((int) Math.min(threshold, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryRecorder.Recording recording = QueryRecorder.stop();
+        MaxQueries maxQueries = context.getRequiredTestMethod().getAnnotation(MaxQueries.class);
+        if (recording == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        if (recording.getTotal() > maxQueries.value()) {
+            throw new AssertionError("쿼리 수 초과: 허용 " + maxQueries.value() + "회, 실행 "
+                    + recording.getTotal() + "회\n" + describe(recording.getCounts()));
+        }
+
+        if (recording.getMaxRepeats() > maxQueries.maxRepeats()) {
+            throw new AssertionError("N+1 의심: 같은 쿼리 허용 " + maxQueries.maxRepeats() + "회, 실행 "
+                    + recording.getMaxRepeats() + "회\n" + describe(recording.getRepeatedStatements()));
+        }
+    }
+
+    private String describe(Map<String, ?> statements) {
+        return statements.entrySet().stream()
+                .map(e -> "  " + e.getValue() + " <- " + e.getKey())
+                .collect(Collectors.joining("\n"));
+    }
+}